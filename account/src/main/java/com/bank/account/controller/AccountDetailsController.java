@@ -1,10 +1,15 @@
 package com.bank.account.controller;
 
 import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountMovementDto;
+import com.bank.account.dto.AccountMovementResultDto;
 import com.bank.account.entity.AccountDetailsEntity;
 import com.bank.account.service.AccountDetailsService;
+import com.bank.common.exception.ValidationException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,6 +19,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -63,4 +69,45 @@ public class AccountDetailsController {
     public ResponseEntity<List<AccountDetailsDto>> readAll(@RequestParam List<Long> ids) {
         return ResponseEntity.ok(service.findAllById(ids));
     }
+
+    /**
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount сумма списания
+     * @return {@link ResponseEntity<AccountDetailsDto>} с новым балансом
+     */
+    @PutMapping("/debit/{id}")
+    public ResponseEntity<AccountDetailsDto> debit(@PathVariable Long id,
+                                                   @RequestParam BigDecimal amount) {
+        return ResponseEntity.ok(service.debit(id, amount));
+    }
+
+    /**
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount сумма зачисления
+     * @return {@link ResponseEntity<AccountDetailsDto>} с новым балансом
+     */
+    @PutMapping("/credit/{id}")
+    public ResponseEntity<AccountDetailsDto> credit(@PathVariable Long id,
+                                                    @RequestParam BigDecimal amount) {
+        return ResponseEntity.ok(service.credit(id, amount));
+    }
+
+    /**
+     * @param movements {@link List<AccountMovementDto>}, не больше 1000 за запрос
+     * @return {@link ResponseEntity} c {@link List<AccountMovementResultDto>} в порядке движений
+     */
+    @PostMapping("/movements")
+    public ResponseEntity<List<AccountMovementResultDto>> applyMovements(
+            @RequestBody List<AccountMovementDto> movements) {
+        return ResponseEntity.ok(service.applyMovements(movements));
+    }
+
+    /**
+     * @param ex {@link ValidationException} списания или зачисления
+     * @return {@link ResponseEntity} с текстом ошибки и HttpStatus.UNPROCESSABLE_ENTITY
+     */
+    @ExceptionHandler(ValidationException.class)
+    public ResponseEntity<String> handleValidation(ValidationException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.UNPROCESSABLE_ENTITY);
+    }
 }
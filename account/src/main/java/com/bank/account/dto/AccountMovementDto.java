@@ -0,0 +1,26 @@
+package com.bank.account.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Движение средств: списание со счета accountDetailsId и зачисление на счет с номером accountNumber
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AccountMovementDto implements Serializable {
+    String key;
+    Long accountDetailsId;
+    Long accountNumber;
+    BigDecimal amount;
+}
@@ -0,0 +1,22 @@
+package com.bank.account.dto;
+
+/**
+ * Итог движения средств между счетами
+ */
+public enum AccountMovementStatus {
+
+    /**
+     * Движение исполнено сейчас или раньше с тем же ключом
+     */
+    EXECUTED,
+
+    /**
+     * Движение нарушает правила счета: сумма, совпадение счетов, недостаточно средств
+     */
+    REJECTED,
+
+    /**
+     * Счет списания или зачисления не найден
+     */
+    NOT_FOUND
+}
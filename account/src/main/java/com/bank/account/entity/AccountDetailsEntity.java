@@ -8,6 +8,7 @@ import lombok.Setter;
 import lombok.experimental.FieldDefaults;
 
 import javax.persistence.Entity;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
@@ -29,7 +30,9 @@ import java.util.Objects;
 public class AccountDetailsEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_details_seq")
+    @SequenceGenerator(name = "account_details_seq", sequenceName = "account_details_seq", schema = "account",
+            allocationSize = 50)
     @Column(name = "id")
     Long  id;
 
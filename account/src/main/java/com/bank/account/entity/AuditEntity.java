@@ -10,6 +10,7 @@ import lombok.experimental.FieldDefaults;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import javax.persistence.Column;
 import javax.persistence.GenerationType;
@@ -28,7 +29,9 @@ import java.sql.Timestamp;
 public class AuditEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_seq")
+    @SequenceGenerator(name = "audit_seq", sequenceName = "audit_seq", schema = "account",
+            allocationSize = 50)
     @Column(name = "id")
     Long id;
 
@@ -55,4 +58,10 @@ public class AuditEntity {
 
     @Column(name = "entity_json")
     String entityJson;
+
+    @Column(name = "entity_id")
+    Long entityId;
+
+    @Column(name = "version")
+    Integer version;
 }
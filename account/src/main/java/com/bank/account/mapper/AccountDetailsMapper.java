@@ -34,11 +34,14 @@ public interface AccountDetailsMapper {
     List<AccountDetailsDto> toDtoList(List<AccountDetailsEntity> accountDetailsList);
 
     /**
+     * Баланс не переносится: он меняется только через списание и зачисление.
+     *
      * @param accountDetails    {@link AccountDetailsEntity}
      * @param accountDetailsDto {@link AccountDetailsDto}
      * @return {@link AccountDetailsEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "money", ignore = true)
     AccountDetailsEntity mergeToEntity(@MappingTarget AccountDetailsEntity accountDetails,
                                        AccountDetailsDto accountDetailsDto);
 }
@@ -2,9 +2,41 @@ package com.bank.account.repository;
 
 import com.bank.account.entity.AccountDetailsEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Репозиторий для {@link AccountDetailsEntity}
  */
 public interface AccountDetailsRepository extends JpaRepository<AccountDetailsEntity, Long> {
+
+    /**
+     * @param id технический идентификатор {@link AccountDetailsEntity}
+     * @return {@link AccountDetailsEntity} с блокировкой строки до конца транзакции
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountDetailsEntity a where a.id = :id")
+    Optional<AccountDetailsEntity> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Строки блокируются в порядке id, поэтому две пачки с пересекающимися счетами не ждут друг друга по кругу.
+     *
+     * @param ids технические идентификаторы {@link AccountDetailsEntity}
+     * @return {@link List<AccountDetailsEntity>} с блокировкой строк до конца транзакции
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from AccountDetailsEntity a where a.id in :ids order by a.id")
+    List<AccountDetailsEntity> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * @param accountNumbers номера счетов
+     * @return {@link List<AccountDetailsEntity>}
+     */
+    List<AccountDetailsEntity> findAllByAccountNumberIn(Collection<Long> accountNumbers);
 }
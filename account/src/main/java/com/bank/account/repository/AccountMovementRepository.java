@@ -0,0 +1,60 @@
+package com.bank.account.repository;
+
+import com.bank.account.dto.AccountMovementDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Журнал исполненных {@link AccountMovementDto} по ключу вместе со счетами и суммой,
+ * чтобы повтор ключа с другим движением можно было отклонить.
+ * Ключи не сущность: строковый id не попадает в аудит, а вставка идет одним JDBC batch.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AccountMovementRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param keys ключи движений
+     * @return исполненные движения по ключу со счетами и суммой, с которыми они исполнены
+     */
+    public Map<String, AccountMovementDto> findExecuted(Collection<String> keys) {
+        final Map<String, AccountMovementDto> executed = new HashMap<>();
+
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement statement = connection.prepareStatement("select movement_key, "
+                    + "account_details_id, account_number, amount from account.account_movement "
+                    + "where movement_key = any(?)");
+            statement.setArray(1, connection.createArrayOf("varchar", keys.toArray()));
+            return statement;
+        }, (RowCallbackHandler) resultSet -> executed.put(resultSet.getString("movement_key"),
+                new AccountMovementDto(resultSet.getString("movement_key"), resultSet.getLong("account_details_id"),
+                        resultSet.getLong("account_number"), resultSet.getBigDecimal("amount"))));
+
+        return executed;
+    }
+
+    /**
+     * @param movements исполненные движения
+     */
+    public void markExecuted(List<AccountMovementDto> movements) {
+        final Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        jdbcTemplate.batchUpdate("insert into account.account_movement (movement_key, account_details_id, "
+                        + "account_number, amount, executed_at) values (?, ?, ?, ?, ?)",
+                movements.stream()
+                        .map(movement -> new Object[]{movement.getKey(), movement.getAccountDetailsId(),
+                                movement.getAccountNumber(), movement.getAmount(), now})
+                        .toList());
+    }
+}
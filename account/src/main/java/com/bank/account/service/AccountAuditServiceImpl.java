@@ -5,9 +5,12 @@ import com.bank.account.entity.AuditEntity;
 import com.bank.account.mapper.AccountAuditMapper;
 import com.bank.account.repository.AccountAuditRepository;
 import com.bank.account.service.common.ExceptionReturner;
+import com.bank.common.audit.AuditHistoryReader;
+import com.bank.common.audit.AuditStates;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 /**
@@ -20,6 +23,7 @@ public class AccountAuditServiceImpl implements AccountAuditService {
     AccountAuditRepository repository;
     AccountAuditMapper mapper;
     ExceptionReturner exceptionReturner;
+    ObjectProvider<AuditHistoryReader> historyReader;
 
     /**
      * @param id технический идентификатор {@link AuditEntity}
@@ -27,10 +31,19 @@ public class AccountAuditServiceImpl implements AccountAuditService {
      */
     @Override
     public AuditDto findById(Long id) {
-        return mapper.toDto(repository.findById(id)
+        final AuditEntity audit = repository.findById(id)
                 .orElseThrow(
                         () -> exceptionReturner.getEntityNotFoundException("Не существующий id = " + id)
-                )
-        );
+                );
+        final AuditDto dto = mapper.toDto(audit);
+
+        historyReader.ifAvailable(reader -> {
+            final AuditStates states = reader.restoreStates(audit.getEntityType(), audit.getEntityId(),
+                    audit.getVersion(), audit.getEntityJson(), audit.getNewEntityJson());
+            dto.setEntityJson(states.entityJson());
+            dto.setNewEntityJson(states.newEntityJson());
+        });
+
+        return dto;
     }
 }
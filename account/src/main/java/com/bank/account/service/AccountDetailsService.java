@@ -1,8 +1,11 @@
 package com.bank.account.service;
 
 import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountMovementDto;
+import com.bank.account.dto.AccountMovementResultDto;
 import com.bank.account.entity.AccountDetailsEntity;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -34,4 +37,24 @@ public interface AccountDetailsService {
      * @return {@link AccountDetailsDto}
      */
     AccountDetailsDto update(Long id, AccountDetailsDto accountDetails);
+
+    /**
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount положительная сумма списания
+     * @return {@link AccountDetailsDto} с новым балансом
+     */
+    AccountDetailsDto debit(Long id, BigDecimal amount);
+
+    /**
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount положительная сумма зачисления
+     * @return {@link AccountDetailsDto} с новым балансом
+     */
+    AccountDetailsDto credit(Long id, BigDecimal amount);
+
+    /**
+     * @param movements {@link List<AccountMovementDto>} с уникальными ключами
+     * @return {@link List<AccountMovementResultDto>} в порядке движений
+     */
+    List<AccountMovementResultDto> applyMovements(List<AccountMovementDto> movements);
 }
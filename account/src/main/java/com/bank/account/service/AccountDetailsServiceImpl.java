@@ -1,15 +1,32 @@
 package com.bank.account.service;
 
 import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountMovementDto;
+import com.bank.account.dto.AccountMovementResultDto;
+import com.bank.account.dto.AccountMovementStatus;
 import com.bank.account.entity.AccountDetailsEntity;
 import com.bank.account.mapper.AccountDetailsMapper;
 import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.account.repository.AccountMovementRepository;
+import com.bank.account.service.common.AccountLockStripes;
 import com.bank.account.service.common.ExceptionReturner;
+import com.bank.common.exception.ValidationException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import javax.persistence.EntityNotFoundException;
 import javax.transaction.Transactional;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Реализация {@link AccountDetailsService}
@@ -19,10 +36,20 @@ import java.util.List;
 public class AccountDetailsServiceImpl implements AccountDetailsService {
 
     private static final String MESSAGE_PREFIX = "Не существующий id = ";
+    private static final String INSUFFICIENT_FUNDS_MESSAGE = "Недостаточно средств, id = ";
+    private static final String NOT_POSITIVE_AMOUNT_MESSAGE = "Сумма должна быть больше нуля";
+    private static final String NUMBER_PREFIX = "Не существующий номер счета = ";
+    private static final String SAME_ACCOUNT_MESSAGE = "Счет списания и счет зачисления совпадают";
+    private static final String NO_KEY_MESSAGE = "Не задан ключ движения";
+    private static final String KEY_REUSED_PREFIX = "Ключ движения уже использован с другими счетами или суммой: ";
+    private static final int MAX_MOVEMENTS = 1000;
     private final AccountDetailsMapper mapper;
     private final AccountDetailsRepository repository;
+    private final AccountMovementRepository movementRepository;
 
     private final ExceptionReturner exceptionReturner;
+    private final AccountLockStripes lockStripes;
+    private final TransactionTemplate transactionTemplate;
 
     /**
      * @param id технический идентификатор {@link AccountDetailsEntity}
@@ -65,22 +92,197 @@ public class AccountDetailsServiceImpl implements AccountDetailsService {
     }
 
     /**
+     * Счет обновляется под теми же блокировками, что и баланс в {@link #changeBalance}: сущность
+     * записывается всеми столбцами, и без блокировки вернула бы в money баланс, прочитанный до списания.
+     *
      * @param id                технический идентификатор {@link AccountDetailsEntity}
      * @param accountDetailsDto {@link AccountDetailsDto}
      * @return {@link AccountDetailsDto}
      */
     @Override
-    @Transactional
     public AccountDetailsDto update(Long id, AccountDetailsDto accountDetailsDto) {
+        return lockStripes.withLock(id, () -> transactionTemplate.execute(status -> {
+            final AccountDetailsEntity accountDetails = repository.findByIdForUpdate(id)
+                    .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + id));
 
-        final AccountDetailsEntity accountDetails = repository.findById(id)
-                .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + id));
+            final AccountDetailsEntity updateAccountDetails = repository.save(
+                    mapper.mergeToEntity(accountDetails, accountDetailsDto)
+            );
 
-        final AccountDetailsEntity updateAccountDetails = repository.save(
-                mapper.mergeToEntity(accountDetails, accountDetailsDto)
-        );
+            return mapper.toDto(updateAccountDetails);
+        }));
+    }
 
-        return mapper.toDto(updateAccountDetails);
+    /**
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount положительная сумма списания
+     * @return {@link AccountDetailsDto} с новым балансом
+     */
+    @Override
+    public AccountDetailsDto debit(Long id, BigDecimal amount) {
+        return changeBalance(id, checkPositive(amount).negate());
     }
-}
 
+    /**
+     * @param id     технический идентификатор {@link AccountDetailsEntity}
+     * @param amount положительная сумма зачисления
+     * @return {@link AccountDetailsDto} с новым балансом
+     */
+    @Override
+    public AccountDetailsDto credit(Long id, BigDecimal amount) {
+        return changeBalance(id, checkPositive(amount));
+    }
+
+    /**
+     * Все движения исполняются одной транзакцией под блокировками затронутых счетов: строки блокируются
+     * в порядке id, балансы меняются через сущности, поэтому действуют те же проверки и аудит,
+     * что и у {@link #debit} и {@link #credit}. Движение с уже исполненным ключом не повторяется:
+     * ключи читаются после блокировки строк, поэтому движение другого экземпляра с тем же ключом уже видно.
+     * Ключ, исполненный с другими счетами или суммой, отклоняется.
+     * Отклоненное движение не откатывает остальные.
+     *
+     * @param movements {@link List<AccountMovementDto>} с уникальными ключами
+     * @return {@link List<AccountMovementResultDto>} в порядке движений
+     */
+    @Override
+    public List<AccountMovementResultDto> applyMovements(List<AccountMovementDto> movements) {
+        if (movements.size() > MAX_MOVEMENTS) {
+            throw new ValidationException("Не больше " + MAX_MOVEMENTS + " движений за запрос");
+        }
+
+        final Map<Long, Long> targetIds = repository.findAllByAccountNumberIn(movements.stream()
+                        .map(AccountMovementDto::getAccountNumber)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(AccountDetailsEntity::getAccountNumber, AccountDetailsEntity::getId));
+
+        final Set<Long> accountIds = new TreeSet<>(targetIds.values());
+        movements.stream()
+                .map(AccountMovementDto::getAccountDetailsId)
+                .filter(Objects::nonNull)
+                .forEach(accountIds::add);
+
+        return lockStripes.withLocks(accountIds, () -> transactionTemplate.execute(status ->
+                applyLocked(movements, accountIds, targetIds)));
+    }
+
+    private List<AccountMovementResultDto> applyLocked(List<AccountMovementDto> movements, Set<Long> accountIds,
+                                                       Map<Long, Long> targetIds) {
+        final Map<Long, AccountDetailsEntity> accounts = accountIds.isEmpty() ? Map.of()
+                : repository.findAllByIdForUpdate(accountIds).stream()
+                .collect(Collectors.toMap(AccountDetailsEntity::getId, Function.identity()));
+
+        final Map<String, AccountMovementDto> executed = new HashMap<>(movementRepository.findExecuted(movements
+                .stream()
+                .map(AccountMovementDto::getKey)
+                .toList()));
+
+        final List<AccountMovementDto> applied = new ArrayList<>();
+        final List<AccountMovementResultDto> results = new ArrayList<>(movements.size());
+
+        for (AccountMovementDto movement : movements) {
+            final AccountMovementDto previous = executed.get(movement.getKey());
+
+            if (previous == null) {
+                try {
+                    move(movement, accounts, targetIds);
+                } catch (EntityNotFoundException e) {
+                    results.add(result(movement, AccountMovementStatus.NOT_FOUND, e.getMessage()));
+                    continue;
+                } catch (ValidationException e) {
+                    results.add(result(movement, AccountMovementStatus.REJECTED, e.getMessage()));
+                    continue;
+                }
+
+                executed.put(movement.getKey(), movement);
+                applied.add(movement);
+            } else if (!sameMovement(previous, movement)) {
+                results.add(result(movement, AccountMovementStatus.REJECTED, KEY_REUSED_PREFIX + movement.getKey()));
+                continue;
+            }
+
+            results.add(result(movement, AccountMovementStatus.EXECUTED, null));
+        }
+
+        movementRepository.markExecuted(applied);
+
+        return results;
+    }
+
+    private void move(AccountMovementDto movement, Map<Long, AccountDetailsEntity> accounts,
+                      Map<Long, Long> targetIds) {
+        if (movement.getKey() == null || movement.getKey().isBlank()) {
+            throw new ValidationException(NO_KEY_MESSAGE);
+        }
+
+        final BigDecimal amount = checkPositive(movement.getAmount());
+        final AccountDetailsEntity source = accounts.get(movement.getAccountDetailsId());
+
+        if (source == null) {
+            throw exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + movement.getAccountDetailsId());
+        }
+
+        final Long targetId = targetIds.get(movement.getAccountNumber());
+
+        if (targetId == null) {
+            throw exceptionReturner.getEntityNotFoundException(NUMBER_PREFIX + movement.getAccountNumber());
+        }
+
+        if (targetId.equals(source.getId())) {
+            throw new ValidationException(SAME_ACCOUNT_MESSAGE);
+        }
+
+        applyDelta(source, amount.negate());
+        applyDelta(accounts.get(targetId), amount);
+    }
+
+    private boolean sameMovement(AccountMovementDto executed, AccountMovementDto movement) {
+        return Objects.equals(executed.getAccountDetailsId(), movement.getAccountDetailsId())
+                && Objects.equals(executed.getAccountNumber(), movement.getAccountNumber())
+                && movement.getAmount() != null
+                && executed.getAmount().compareTo(movement.getAmount()) == 0;
+    }
+
+    private AccountMovementResultDto result(AccountMovementDto movement, AccountMovementStatus status,
+                                            String message) {
+        return new AccountMovementResultDto(movement.getKey(), status, message);
+    }
+
+    /**
+     * Изменения одного счета внутри приложения выстраиваются в очередь на блокировке счета,
+     * поэтому строка в БД блокируется без ожидания; блокировка строки нужна для других экземпляров.
+     * Транзакция фиксируется до снятия блокировки счета.
+     */
+    private AccountDetailsDto changeBalance(Long id, BigDecimal delta) {
+        return lockStripes.withLock(id, () -> transactionTemplate.execute(status -> {
+            final AccountDetailsEntity accountDetails = repository.findByIdForUpdate(id)
+                    .orElseThrow(() -> exceptionReturner.getEntityNotFoundException(MESSAGE_PREFIX + id));
+
+            applyDelta(accountDetails, delta);
+
+            return mapper.toDto(accountDetails);
+        }));
+    }
+
+    /**
+     * Уйти в минус можно только списанием и только со счета с negative_balance.
+     * Зачисление на счет, который уже в минусе, не отклоняется.
+     */
+    private void applyDelta(AccountDetailsEntity accountDetails, BigDecimal delta) {
+        final BigDecimal money = accountDetails.getMoney().add(delta);
+
+        if (delta.signum() < 0 && money.signum() < 0 && !Boolean.TRUE.equals(accountDetails.getNegativeBalance())) {
+            throw new ValidationException(INSUFFICIENT_FUNDS_MESSAGE + accountDetails.getId());
+        }
+
+        accountDetails.setMoney(money);
+    }
+
+    private BigDecimal checkPositive(BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new ValidationException(NOT_POSITIVE_AMOUNT_MESSAGE);
+        }
+
+        return amount;
+    }
+}
@@ -0,0 +1,75 @@
+package com.bank.account.service.common;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Фиксированный набор блокировок, между которыми распределяются счета по id.
+ * Операции над одним счетом выполняются последовательно, над разными — почти всегда параллельно.
+ */
+@Component
+public class AccountLockStripes {
+
+    private static final int STRIPES_POWER = 10;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final ReentrantLock[] locks = new ReentrantLock[1 << STRIPES_POWER];
+
+    public AccountLockStripes() {
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * @param accountId технический идентификатор счета
+     * @param action    действие, выполняемое под блокировкой счета
+     * @return результат {@code action}
+     */
+    public <T> T withLock(Long accountId, Supplier<T> action) {
+        final ReentrantLock lock = locks[stripe(accountId)];
+
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Блокировки берутся в порядке номера полосы и снимаются в обратном,
+     * поэтому пересекающиеся наборы счетов не блокируют друг друга по кругу.
+     *
+     * @param accountIds технические идентификаторы счетов
+     * @param action     действие, выполняемое под блокировками всех счетов
+     * @return результат {@code action}
+     */
+    public <T> T withLocks(Collection<Long> accountIds, Supplier<T> action) {
+        final int[] stripes = accountIds.stream()
+                .mapToInt(this::stripe)
+                .distinct()
+                .sorted()
+                .toArray();
+        int locked = 0;
+
+        try {
+            for (int stripe : stripes) {
+                locks[stripe].lock();
+                locked++;
+            }
+            return action.get();
+        } finally {
+            for (int i = locked - 1; i >= 0; i--) {
+                locks[stripes[i]].unlock();
+            }
+        }
+    }
+
+    private int stripe(Long accountId) {
+        return (int) ((accountId * GOLDEN_GAMMA) >>> (Long.SIZE - STRIPES_POWER));
+    }
+}
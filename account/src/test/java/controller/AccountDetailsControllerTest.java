@@ -3,7 +3,11 @@ package controller;
 import com.bank.account.AccountApplication;
 import com.bank.account.controller.AccountDetailsController;
 import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountMovementDto;
+import com.bank.account.dto.AccountMovementResultDto;
+import com.bank.account.dto.AccountMovementStatus;
 import com.bank.account.service.AccountDetailsService;
+import com.bank.common.exception.ValidationException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -17,9 +21,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import  org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.math.BigDecimal;
 import java.util.*;
 
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(SpringExtension.class)
@@ -129,4 +135,77 @@ class AccountDetailsControllerTest {
 
 
     }
-}
\ No newline at end of file
+
+    @Test
+    void debit() throws Exception {
+        Long id = 1L;
+        AccountDetailsDto detailsDto = new AccountDetailsDto();
+        detailsDto.setId(id);
+        detailsDto.setMoney(new BigDecimal("90.00"));
+
+        when(auditService.debit(id, new BigDecimal("10.00"))).thenReturn(detailsDto);
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/details/debit/{id}", id)
+                        .param("amount", "10.00"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.money", is(90.0)));
+    }
+
+    @Test
+    void debitNegativeTest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.put("/details/debit/{id}", 1L)
+                        .param("amount", "ten"))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    void debitInsufficientFundsNegativeTest() throws Exception {
+        when(auditService.debit(1L, new BigDecimal("1000.00")))
+                .thenThrow(new ValidationException("Недостаточно средств, id = 1"));
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/details/debit/{id}", 1L)
+                        .param("amount", "1000.00"))
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.content().string("Недостаточно средств, id = 1"));
+    }
+
+    @Test
+    void credit() throws Exception {
+        Long id = 1L;
+        AccountDetailsDto detailsDto = new AccountDetailsDto();
+        detailsDto.setId(id);
+        detailsDto.setMoney(new BigDecimal("110.00"));
+
+        when(auditService.credit(id, new BigDecimal("10.00"))).thenReturn(detailsDto);
+
+        mockMvc.perform(MockMvcRequestBuilders.put("/details/credit/{id}", id)
+                        .param("amount", "10.00"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.money", is(110.0)));
+    }
+
+    @Test
+    void applyMovements() throws Exception {
+        List<AccountMovementDto> movements = List.of(new AccountMovementDto("a", 1L, 8L, new BigDecimal("10.00")));
+
+        when(auditService.applyMovements(anyList()))
+                .thenReturn(List.of(new AccountMovementResultDto("a", AccountMovementStatus.EXECUTED, null)));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/details/movements")
+                        .content(new ObjectMapper().writeValueAsString(movements))
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].status", is("EXECUTED")));
+    }
+
+    @Test
+    void applyMovementsTooManyNegativeTest() throws Exception {
+        when(auditService.applyMovements(anyList()))
+                .thenThrow(new ValidationException("Не больше 1000 движений за запрос"));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/details/movements")
+                        .content("[]")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+    }
+}
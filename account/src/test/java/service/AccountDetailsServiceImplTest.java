@@ -0,0 +1,299 @@
+package service;
+
+import com.bank.account.dto.AccountDetailsDto;
+import com.bank.account.dto.AccountMovementDto;
+import com.bank.account.dto.AccountMovementResultDto;
+import com.bank.account.dto.AccountMovementStatus;
+import com.bank.account.entity.AccountDetailsEntity;
+import com.bank.account.mapper.AccountDetailsMapperImpl;
+import com.bank.account.repository.AccountDetailsRepository;
+import com.bank.account.repository.AccountMovementRepository;
+import com.bank.account.service.AccountDetailsServiceImpl;
+import com.bank.account.service.common.AccountLockStripes;
+import com.bank.account.service.common.ExceptionReturner;
+import com.bank.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountDetailsServiceImplTest {
+
+    @Spy
+    private AccountDetailsMapperImpl mapper;
+
+    @Mock
+    private AccountDetailsRepository repository;
+
+    @Mock
+    private AccountMovementRepository movementRepository;
+
+    @Spy
+    private ExceptionReturner exceptionReturner;
+
+    @Spy
+    private AccountLockStripes lockStripes;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private AccountDetailsServiceImpl service;
+
+    @Test
+    @DisplayName("списание больше баланса без овердрафта, негативный сценарий")
+    void debitInsufficientFundsNegativeTest() {
+        AccountDetailsEntity account = account(new BigDecimal("100.00"), false);
+        lockedAccount(account);
+
+        ValidationException exception = assertThrows(ValidationException.class,
+                () -> service.debit(1L, new BigDecimal("150.00")));
+
+        assertEquals("Недостаточно средств, id = 1", exception.getMessage());
+        assertEquals(new BigDecimal("100.00"), account.getMoney());
+    }
+
+    @Test
+    @DisplayName("списание больше баланса без признака negative_balance, негативный сценарий")
+    void debitWithoutNegativeBalanceFlagNegativeTest() {
+        AccountDetailsEntity account = account(new BigDecimal("100.00"), null);
+        lockedAccount(account);
+
+        assertThrows(ValidationException.class, () -> service.debit(1L, new BigDecimal("100.01")));
+        assertEquals(new BigDecimal("100.00"), account.getMoney());
+    }
+
+    @Test
+    @DisplayName("списание в минус со включенным negative_balance, позитивный сценарий")
+    void debitNegativeBalanceAllowedPositiveTest() {
+        AccountDetailsEntity account = account(new BigDecimal("100.00"), true);
+        lockedAccount(account);
+
+        AccountDetailsDto actual = service.debit(1L, new BigDecimal("150.00"));
+
+        assertEquals(new BigDecimal("-50.00"), actual.getMoney());
+        assertEquals(new BigDecimal("-50.00"), account.getMoney());
+    }
+
+    @Test
+    @DisplayName("списание всего баланса без овердрафта, позитивный сценарий")
+    void debitWholeBalancePositiveTest() {
+        AccountDetailsEntity account = account(new BigDecimal("100.00"), false);
+        lockedAccount(account);
+
+        AccountDetailsDto actual = service.debit(1L, new BigDecimal("100.00"));
+
+        assertEquals(new BigDecimal("0.00"), actual.getMoney());
+    }
+
+    @Test
+    @DisplayName("списание неположительной суммы, негативный сценарий")
+    void debitNotPositiveAmountNegativeTest() {
+        assertThrows(ValidationException.class, () -> service.debit(1L, BigDecimal.ZERO));
+        assertThrows(ValidationException.class, () -> service.credit(1L, new BigDecimal("-1.00")));
+
+        verifyNoInteractions(repository, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("обновление счета не меняет баланс, позитивный сценарий")
+    void updateIgnoresMoneyPositiveTest() {
+        AccountDetailsEntity account = account(new BigDecimal("100.00"), false);
+        AccountDetailsDto dto = new AccountDetailsDto();
+        dto.setAccountNumber(42L);
+        dto.setMoney(new BigDecimal("1000000.00"));
+        dto.setNegativeBalance(true);
+
+        lockedAccount(account);
+        when(repository.save(account)).thenReturn(account);
+
+        AccountDetailsDto actual = service.update(1L, dto);
+
+        assertEquals(new BigDecimal("100.00"), actual.getMoney());
+        assertEquals(new BigDecimal("100.00"), account.getMoney());
+        assertEquals(42L, account.getAccountNumber());
+        assertEquals(true, account.getNegativeBalance());
+    }
+
+    @Test
+    @DisplayName("обновление счета во время списания не возвращает прежний баланс, позитивный сценарий")
+    void updateConcurrentWithDebitPositiveTest() throws Exception {
+        AtomicReference<AccountDetailsEntity> row = new AtomicReference<>(account(new BigDecimal("100.00"), false));
+        ThreadLocal<AccountDetailsEntity> loaded = new ThreadLocal<>();
+        CountDownLatch updateRead = new CountDownLatch(1);
+
+        when(repository.findByIdForUpdate(1L)).thenAnswer(invocation -> {
+            loaded.set(copy(row.get()));
+            return Optional.of(loaded.get());
+        });
+        when(repository.save(any(AccountDetailsEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            Object result = invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null);
+            row.set(copy(loaded.get()));
+            return result;
+        });
+        doAnswer(invocation -> {
+            updateRead.countDown();
+            Thread.sleep(200);
+            return invocation.callRealMethod();
+        }).when(mapper).mergeToEntity(any(), any());
+
+        AccountDetailsDto dto = new AccountDetailsDto();
+        dto.setAccountNumber(42L);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<AccountDetailsDto> update = executor.submit(() -> service.update(1L, dto));
+            assertTrue(updateRead.await(5, TimeUnit.SECONDS));
+            Future<AccountDetailsDto> debit = executor.submit(() -> service.debit(1L, new BigDecimal("30.00")));
+
+            update.get(5, TimeUnit.SECONDS);
+            debit.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(new BigDecimal("70.00"), row.get().getMoney());
+        assertEquals(42L, row.get().getAccountNumber());
+    }
+
+    @Test
+    @DisplayName("пачка движений проверяется по правилам счета, позитивный сценарий")
+    void applyMovementsPositiveTest() {
+        AccountDetailsEntity source = account(new BigDecimal("100.00"), false);
+        AccountDetailsEntity target = account(2L, 8L, new BigDecimal("0.00"));
+        lockedAccounts(Map.of(), source, target);
+
+        List<AccountMovementResultDto> actual = service.applyMovements(List.of(
+                new AccountMovementDto("a", 1L, 8L, new BigDecimal("60.00")),
+                new AccountMovementDto("b", 1L, 8L, new BigDecimal("60.00")),
+                new AccountMovementDto("c", 1L, 9L, new BigDecimal("10.00")),
+                new AccountMovementDto("d", 1L, 7L, new BigDecimal("10.00")),
+                new AccountMovementDto("e", 1L, 8L, new BigDecimal("40.00"))));
+
+        assertEquals(List.of(AccountMovementStatus.EXECUTED, AccountMovementStatus.REJECTED,
+                AccountMovementStatus.NOT_FOUND, AccountMovementStatus.REJECTED, AccountMovementStatus.EXECUTED),
+                actual.stream().map(AccountMovementResultDto::getStatus).toList());
+        assertEquals("Недостаточно средств, id = 1", actual.get(1).getMessage());
+        assertEquals(new BigDecimal("0.00"), source.getMoney());
+        assertEquals(new BigDecimal("100.00"), target.getMoney());
+        verify(movementRepository).markExecuted(argThat(movements -> keys(movements).equals(List.of("a", "e"))));
+    }
+
+    @Test
+    @DisplayName("повтор движения с исполненным ключом не меняет баланс, позитивный сценарий")
+    void applyMovementsExecutedKeyPositiveTest() {
+        AccountDetailsEntity source = account(new BigDecimal("100.00"), false);
+        AccountDetailsEntity target = account(2L, 8L, new BigDecimal("0.00"));
+        lockedAccounts(Map.of("a", new AccountMovementDto("a", 1L, 8L, new BigDecimal("60.00"))), source, target);
+
+        List<AccountMovementResultDto> actual = service.applyMovements(List.of(
+                new AccountMovementDto("a", 1L, 8L, new BigDecimal("60.0")),
+                new AccountMovementDto("b", 1L, 8L, new BigDecimal("10.00")),
+                new AccountMovementDto("b", 1L, 8L, new BigDecimal("10.00"))));
+
+        assertEquals(List.of(AccountMovementStatus.EXECUTED, AccountMovementStatus.EXECUTED,
+                AccountMovementStatus.EXECUTED), actual.stream().map(AccountMovementResultDto::getStatus).toList());
+        assertEquals(new BigDecimal("90.00"), source.getMoney());
+        assertEquals(new BigDecimal("10.00"), target.getMoney());
+        verify(movementRepository).markExecuted(argThat(movements -> keys(movements).equals(List.of("b"))));
+    }
+
+    @Test
+    @DisplayName("исполненный ключ с другой суммой или счетами отклоняется, негативный сценарий")
+    void applyMovementsReusedKeyNegativeTest() {
+        AccountDetailsEntity source = account(new BigDecimal("100.00"), false);
+        AccountDetailsEntity target = account(2L, 8L, new BigDecimal("0.00"));
+        lockedAccounts(Map.of("a", new AccountMovementDto("a", 1L, 8L, new BigDecimal("60.00"))), source, target);
+
+        List<AccountMovementResultDto> actual = service.applyMovements(List.of(
+                new AccountMovementDto("a", 1L, 8L, new BigDecimal("70.00")),
+                new AccountMovementDto("b", 1L, 8L, new BigDecimal("10.00")),
+                new AccountMovementDto("b", 1L, 9L, new BigDecimal("10.00"))));
+
+        assertEquals(List.of(AccountMovementStatus.REJECTED, AccountMovementStatus.EXECUTED,
+                AccountMovementStatus.REJECTED), actual.stream().map(AccountMovementResultDto::getStatus).toList());
+        assertEquals("Ключ движения уже использован с другими счетами или суммой: a", actual.get(0).getMessage());
+        assertEquals(new BigDecimal("90.00"), source.getMoney());
+        assertEquals(new BigDecimal("10.00"), target.getMoney());
+        verify(movementRepository).markExecuted(argThat(movements -> keys(movements).equals(List.of("b"))));
+    }
+
+    @Test
+    @DisplayName("зачисление на счет в минусе без овердрафта, позитивный сценарий")
+    void creditNegativeAccountPositiveTest() {
+        AccountDetailsEntity account = account(new BigDecimal("-50.00"), false);
+        lockedAccount(account);
+
+        AccountDetailsDto actual = service.credit(1L, new BigDecimal("10.00"));
+
+        assertEquals(new BigDecimal("-40.00"), actual.getMoney());
+    }
+
+    private void lockedAccounts(Map<String, AccountMovementDto> executed, AccountDetailsEntity... accounts) {
+        List<AccountDetailsEntity> all = List.of(accounts);
+        when(repository.findAllByAccountNumberIn(anyCollection())).thenReturn(all);
+        when(repository.findAllByIdForUpdate(anyCollection())).thenReturn(all);
+        when(movementRepository.findExecuted(anyCollection())).thenReturn(executed);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static List<String> keys(List<AccountMovementDto> movements) {
+        return movements.stream().map(AccountMovementDto::getKey).toList();
+    }
+
+    private AccountDetailsEntity account(Long id, Long accountNumber, BigDecimal money) {
+        AccountDetailsEntity account = account(money, false);
+        account.setId(id);
+        account.setAccountNumber(accountNumber);
+        return account;
+    }
+
+    private void lockedAccount(AccountDetailsEntity account) {
+        when(repository.findByIdForUpdate(account.getId())).thenReturn(Optional.of(account));
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private AccountDetailsEntity copy(AccountDetailsEntity account) {
+        return new AccountDetailsEntity(account.getId(), account.getPassportId(), account.getAccountNumber(),
+                account.getBankDetailsId(), account.getMoney(), account.getNegativeBalance(), account.getProfileId());
+    }
+
+    private AccountDetailsEntity account(BigDecimal money, Boolean negativeBalance) {
+        AccountDetailsEntity account = new AccountDetailsEntity();
+        account.setId(1L);
+        account.setAccountNumber(7L);
+        account.setMoney(money);
+        account.setNegativeBalance(negativeBalance);
+        return account;
+    }
+}
@@ -0,0 +1,93 @@
+package service.common;
+
+import com.bank.account.service.common.AccountLockStripes;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AccountLockStripesTest {
+
+    private static final int THREADS = 2000;
+    private static final int OPERATIONS_PER_THREAD = 50;
+    private static final int HOT_ACCOUNTS = 4;
+
+    private final AccountLockStripes lockStripes = new AccountLockStripes();
+
+    @Test
+    @DisplayName("параллельные изменения горячих счетов не теряются")
+    void withLockHotAccountsTest() throws Exception {
+        final long[] balances = new long[HOT_ACCOUNTS];
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            final int account = thread % HOT_ACCOUNTS;
+
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                    lockStripes.withLock((long) account, () -> balances[account]++);
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        final long expected = (long) THREADS / HOT_ACCOUNTS * OPERATIONS_PER_THREAD;
+        assertArrayEquals(new long[]{expected, expected, expected, expected}, balances);
+    }
+
+    @Test
+    @DisplayName("возвращает результат действия")
+    void withLockReturnsResultTest() {
+        assertEquals("ok", lockStripes.withLock(42L, () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("пересекающиеся наборы счетов не блокируют друг друга по кругу")
+    void withLocksOverlappingAccountsTest() throws Exception {
+        final long[] balances = new long[HOT_ACCOUNTS];
+        final ExecutorService executor = Executors.newFixedThreadPool(HOT_ACCOUNTS);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        for (int thread = 0; thread < HOT_ACCOUNTS; thread++) {
+            final int source = thread;
+            final int target = (thread + 1) % HOT_ACCOUNTS;
+
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < OPERATIONS_PER_THREAD * 100; i++) {
+                    lockStripes.withLocks(List.of((long) source, (long) target), () -> {
+                        balances[source]--;
+                        return balances[target]++;
+                    });
+                }
+                return null;
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            future.get(1, TimeUnit.MINUTES);
+        }
+        executor.shutdown();
+
+        assertArrayEquals(new long[HOT_ACCOUNTS], balances);
+    }
+}
@@ -0,0 +1,62 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.RescoringStatusDto;
+import com.bank.antifraud.service.RescoringService;
+import com.bank.antifraud.service.scoring.TransferType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер для {@link RescoringStatusDto}
+ */
+@Tag(name = "Контроллер пересчета оценок",
+        description = "API для пересчета сохраненных подозрительных переводов " +
+                      "по действующим правилам антифрода")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/suspicious/rescoring")
+public class RescoringController {
+
+    private final RescoringService service;
+
+    /**
+     * @param type    {@link TransferType}: ACCOUNT, CARD или PHONE
+     * @param restart true — начать с начала вместо сохраненного прогресса
+     * @return {@link ResponseEntity} {@link RescoringStatusDto}
+     */
+    @Operation(summary = "Запуск пересчета оценок подозрительных переводов")
+    @PostMapping("/{type}")
+    public ResponseEntity<RescoringStatusDto> start(@PathVariable("type") TransferType type,
+                                                    @RequestParam(defaultValue = "false") boolean restart) {
+        return ResponseEntity.ok(service.start(type, restart));
+    }
+
+    /**
+     * @param type {@link TransferType}: ACCOUNT, CARD или PHONE
+     * @return {@link ResponseEntity} {@link RescoringStatusDto}
+     */
+    @Operation(summary = "Получение состояния пересчета оценок")
+    @GetMapping("/{type}")
+    public ResponseEntity<RescoringStatusDto> read(@PathVariable("type") TransferType type) {
+        return ResponseEntity.ok(service.findStatus(type));
+    }
+
+    /**
+     * @param type {@link TransferType}: ACCOUNT, CARD или PHONE
+     * @return {@link ResponseEntity} {@link RescoringStatusDto}
+     */
+    @Operation(summary = "Остановка пересчета оценок с сохранением прогресса")
+    @DeleteMapping("/{type}")
+    public ResponseEntity<RescoringStatusDto> stop(@PathVariable("type") TransferType type) {
+        return ResponseEntity.ok(service.stop(type));
+    }
+}
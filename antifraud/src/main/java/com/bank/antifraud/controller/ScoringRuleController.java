@@ -0,0 +1,46 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.RuleStatsDto;
+import com.bank.antifraud.service.ScoringRuleService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Контроллер для {@link RuleStatsDto}
+ */
+@Tag(name = "Контроллер правил аналитиков",
+        description = "API для просмотра правил антифрода из файла, " +
+                      "их срабатываний и стоимости вычисления")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/suspicious/rules")
+public class ScoringRuleController {
+
+    private final ScoringRuleService service;
+
+    /**
+     * @return {@link ResponseEntity} c листом {@link RuleStatsDto}
+     */
+    @Operation(summary = "Получение действующих правил аналитиков")
+    @GetMapping
+    public ResponseEntity<List<RuleStatsDto>> readAll() {
+        return ResponseEntity.ok(service.findAll());
+    }
+
+    /**
+     * @return {@link ResponseEntity} c листом {@link RuleStatsDto}
+     */
+    @Operation(summary = "Перечитывание файла правил аналитиков")
+    @PostMapping("/reload")
+    public ResponseEntity<List<RuleStatsDto>> reload() {
+        return ResponseEntity.ok(service.reload());
+    }
+}
@@ -1,6 +1,7 @@
 package com.bank.antifraud.controller;
 
 import com.bank.antifraud.dto.SuspiciousCardTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
 import com.bank.antifraud.service.SuspiciousCardTransferService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -77,4 +78,14 @@ public class SuspiciousCardTransferController {
             @PathVariable("id") Long id) {
         return ResponseEntity.ok(service.update(id, suspiciousTransfer));
     }
+
+    /**
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link ResponseEntity} {@link SuspiciousCardTransferDto} с результатом оценки
+     */
+    @Operation(summary = "Оценка перевода правилами антифрода")
+    @PostMapping("/score")
+    public ResponseEntity<SuspiciousCardTransferDto> score(@RequestBody TransferScoringDto transfer) {
+        return ResponseEntity.ok(service.score(transfer));
+    }
 }
@@ -1,6 +1,7 @@
 package com.bank.antifraud.controller;
 
 import com.bank.antifraud.dto.SuspiciousPhoneTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import com.bank.antifraud.entity.SuspiciousPhoneTransferEntity;
 import com.bank.antifraud.service.SuspiciousPhoneTransferService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -77,4 +78,14 @@ public class SuspiciousPhoneTransferController {
             @PathVariable("id") Long id) {
         return ResponseEntity.ok(service.update(id, suspiciousTransfer));
     }
+
+    /**
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link ResponseEntity} {@link SuspiciousPhoneTransferDto} с результатом оценки
+     */
+    @Operation(summary = "Оценка перевода правилами антифрода")
+    @PostMapping("/score")
+    public ResponseEntity<SuspiciousPhoneTransferDto> score(@RequestBody TransferScoringDto transfer) {
+        return ResponseEntity.ok(service.score(transfer));
+    }
 }
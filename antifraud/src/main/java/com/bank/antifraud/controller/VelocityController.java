@@ -0,0 +1,57 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.VelocityDto;
+import com.bank.antifraud.service.VelocityService;
+import com.bank.antifraud.service.scoring.TransferType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер для {@link VelocityDto}
+ */
+@Tag(name = "Контроллер счетчиков переводов",
+        description = "API для получения количества и суммы переводов " +
+                      "на получателя за минуту, час и сутки")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/velocity")
+public class VelocityController {
+
+    private final VelocityService service;
+
+    /**
+     * @param cardNumber номер карты получателя
+     * @return {@link ResponseEntity} {@link VelocityDto}
+     */
+    @Operation(summary = "Получение счетчиков переводов по номеру карты")
+    @GetMapping("/card/{cardNumber}")
+    public ResponseEntity<VelocityDto> readCard(@PathVariable("cardNumber") Long cardNumber) {
+        return ResponseEntity.ok(service.findByTarget(TransferType.CARD, cardNumber));
+    }
+
+    /**
+     * @param phoneNumber номер телефона получателя
+     * @return {@link ResponseEntity} {@link VelocityDto}
+     */
+    @Operation(summary = "Получение счетчиков переводов по номеру телефона")
+    @GetMapping("/phone/{phoneNumber}")
+    public ResponseEntity<VelocityDto> readPhone(@PathVariable("phoneNumber") Long phoneNumber) {
+        return ResponseEntity.ok(service.findByTarget(TransferType.PHONE, phoneNumber));
+    }
+
+    /**
+     * @param accountNumber номер счета получателя
+     * @return {@link ResponseEntity} {@link VelocityDto}
+     */
+    @Operation(summary = "Получение счетчиков переводов по номеру счета")
+    @GetMapping("/account/{accountNumber}")
+    public ResponseEntity<VelocityDto> readAccount(@PathVariable("accountNumber") Long accountNumber) {
+        return ResponseEntity.ok(service.findByTarget(TransferType.ACCOUNT, accountNumber));
+    }
+}
@@ -0,0 +1,31 @@
+package com.bank.antifraud.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+
+/**
+ * Dto состояния пересчета оценок подозрительных переводов одного типа
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class RescoringStatusDto implements Serializable {
+
+    String transferType;
+    Boolean running;
+    Long lastId;
+    Long maxId;
+    Long processed;
+    Long rowsPerSecond;
+    String error;
+}
@@ -0,0 +1,32 @@
+package com.bank.antifraud.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Dto перевода, который нужно оценить антифродом
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferScoringDto implements Serializable {
+
+    Long transferId;
+    BigDecimal amount;
+    String purpose;
+    Long accountDetailsId;
+    Long accountNumber;
+    Long cardNumber;
+    Long phoneNumber;
+}
@@ -0,0 +1,32 @@
+package com.bank.antifraud.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Dto количества и суммы переводов на получателя за минуту, час и сутки
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode(callSuper = false)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class VelocityDto implements Serializable {
+
+    Long key;
+    Long countMinute;
+    BigDecimal sumMinute;
+    Long countHour;
+    BigDecimal sumHour;
+    Long countDay;
+    BigDecimal sumDay;
+}
@@ -12,6 +12,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import java.sql.Timestamp;
 import java.util.Objects;
@@ -30,7 +31,9 @@ public class AuditEntity {
 
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_seq")
+    @SequenceGenerator(name = "audit_seq", sequenceName = "audit_seq", schema = "anti_fraud",
+            allocationSize = 50)
     Long id;
 
     @Column(name = "entity_type")
@@ -57,6 +60,12 @@ public class AuditEntity {
     @Column(name = "entity_json")
     String entityJson;
 
+    @Column(name = "entity_id")
+    Long entityId;
+
+    @Column(name = "version")
+    Integer version;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
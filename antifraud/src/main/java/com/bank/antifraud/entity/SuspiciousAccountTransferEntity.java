@@ -12,7 +12,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import java.math.BigDecimal;
 import java.util.Objects;
 
 /**
@@ -29,7 +31,9 @@ public class SuspiciousAccountTransferEntity {
 
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "suspicious_account_transfer_seq")
+    @SequenceGenerator(name = "suspicious_account_transfer_seq", sequenceName = "suspicious_account_transfer_seq",
+            schema = "anti_fraud", allocationSize = 50)
     Long id;
 
     @Column(name = "account_transfer_id")
@@ -47,6 +51,18 @@ public class SuspiciousAccountTransferEntity {
     @Column(name = "suspicious_reason")
     String suspiciousReason;
 
+    @Column(name = "account_number")
+    Long accountNumber;
+
+    @Column(name = "amount")
+    BigDecimal amount;
+
+    @Column(name = "purpose")
+    String purpose;
+
+    @Column(name = "account_details_id")
+    Long accountDetailsId;
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -62,11 +78,16 @@ public class SuspiciousAccountTransferEntity {
                 Objects.equals(isSuspicious, transfer.isSuspicious) &&
                 Objects.equals(blockedReason, transfer.blockedReason) &&
                 Objects.equals(suspiciousReason, transfer.suspiciousReason) &&
-                Objects.equals(accountTransferId, transfer.accountTransferId);
+                Objects.equals(accountTransferId, transfer.accountTransferId) &&
+                Objects.equals(accountNumber, transfer.accountNumber) &&
+                Objects.equals(amount, transfer.amount) &&
+                Objects.equals(purpose, transfer.purpose) &&
+                Objects.equals(accountDetailsId, transfer.accountDetailsId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, accountTransferId, isBlocked, isSuspicious, blockedReason, suspiciousReason);
+        return Objects.hash(id, accountTransferId, isBlocked, isSuspicious, blockedReason, suspiciousReason,
+                accountNumber, amount, purpose, accountDetailsId);
     }
 }
@@ -12,7 +12,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import java.math.BigDecimal;
 import java.util.Objects;
 
 /**
@@ -29,7 +31,9 @@ public class SuspiciousCardTransferEntity {
 
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "suspicious_card_transfer_seq")
+    @SequenceGenerator(name = "suspicious_card_transfer_seq", sequenceName = "suspicious_card_transfer_seq",
+            schema = "anti_fraud", allocationSize = 50)
     Long id;
 
     @Column(name = "card_transfer_id")
@@ -47,6 +51,21 @@ public class SuspiciousCardTransferEntity {
     @Column(name = "suspicious_reason")
     String suspiciousReason;
 
+    @Column(name = "is_target_blocked")
+    Boolean isTargetBlocked;
+
+    @Column(name = "card_number")
+    Long cardNumber;
+
+    @Column(name = "amount")
+    BigDecimal amount;
+
+    @Column(name = "purpose")
+    String purpose;
+
+    @Column(name = "account_details_id")
+    Long accountDetailsId;
+
     @Override
     public boolean equals(Object o) {
 
@@ -65,11 +84,17 @@ public class SuspiciousCardTransferEntity {
                 Objects.equals(isSuspicious, transfer.isSuspicious) &&
                 Objects.equals(blockedReason, transfer.blockedReason) &&
                 Objects.equals(cardTransferId, transfer.cardTransferId) &&
-                Objects.equals(suspiciousReason, transfer.suspiciousReason);
+                Objects.equals(suspiciousReason, transfer.suspiciousReason) &&
+                Objects.equals(isTargetBlocked, transfer.isTargetBlocked) &&
+                Objects.equals(cardNumber, transfer.cardNumber) &&
+                Objects.equals(amount, transfer.amount) &&
+                Objects.equals(purpose, transfer.purpose) &&
+                Objects.equals(accountDetailsId, transfer.accountDetailsId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, cardTransferId, isBlocked, isSuspicious, blockedReason, suspiciousReason);
+        return Objects.hash(id, cardTransferId, isBlocked, isSuspicious, blockedReason, suspiciousReason,
+                isTargetBlocked, cardNumber, amount, purpose, accountDetailsId);
     }
 }
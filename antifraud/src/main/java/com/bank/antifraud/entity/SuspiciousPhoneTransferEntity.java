@@ -12,7 +12,9 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
+import java.math.BigDecimal;
 import java.util.Objects;
 
 /**
@@ -29,7 +31,9 @@ public class SuspiciousPhoneTransferEntity {
 
     @Id
     @Column(name = "id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "suspicious_phone_transfer_seq")
+    @SequenceGenerator(name = "suspicious_phone_transfer_seq", sequenceName = "suspicious_phone_transfer_seq",
+            schema = "anti_fraud", allocationSize = 50)
     Long id;
 
     @Column(name = "phone_transfer_id")
@@ -47,6 +51,21 @@ public class SuspiciousPhoneTransferEntity {
     @Column(name = "suspicious_reason")
     String suspiciousReason;
 
+    @Column(name = "is_target_blocked")
+    Boolean isTargetBlocked;
+
+    @Column(name = "phone_number")
+    Long phoneNumber;
+
+    @Column(name = "amount")
+    BigDecimal amount;
+
+    @Column(name = "purpose")
+    String purpose;
+
+    @Column(name = "account_details_id")
+    Long accountDetailsId;
+
     @Override
     public boolean equals(Object o) {
 
@@ -65,11 +84,17 @@ public class SuspiciousPhoneTransferEntity {
                 Objects.equals(isSuspicious, transfer.isSuspicious) &&
                 Objects.equals(blockedReason, transfer.blockedReason) &&
                 Objects.equals(phoneTransferId, transfer.phoneTransferId) &&
-                Objects.equals(suspiciousReason, transfer.suspiciousReason);
+                Objects.equals(suspiciousReason, transfer.suspiciousReason) &&
+                Objects.equals(isTargetBlocked, transfer.isTargetBlocked) &&
+                Objects.equals(phoneNumber, transfer.phoneNumber) &&
+                Objects.equals(amount, transfer.amount) &&
+                Objects.equals(purpose, transfer.purpose) &&
+                Objects.equals(accountDetailsId, transfer.accountDetailsId);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, phoneTransferId, isBlocked, isSuspicious, blockedReason, suspiciousReason);
+        return Objects.hash(id, phoneTransferId, isBlocked, isSuspicious, blockedReason, suspiciousReason,
+                isTargetBlocked, phoneNumber, amount, purpose, accountDetailsId);
     }
 }
@@ -25,6 +25,10 @@ public interface SuspiciousAccountTransferMapper {
      * @return {@link SuspiciousAccountTransferDto}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "accountNumber", ignore = true)
+    @Mapping(target = "amount", ignore = true)
+    @Mapping(target = "purpose", ignore = true)
+    @Mapping(target = "accountDetailsId", ignore = true)
     SuspiciousAccountTransferEntity toEntity(SuspiciousAccountTransferDto suspiciousTransfer);
 
     /**
@@ -39,6 +43,10 @@ public interface SuspiciousAccountTransferMapper {
      * @return {@link SuspiciousAccountTransferEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "accountNumber", ignore = true)
+    @Mapping(target = "amount", ignore = true)
+    @Mapping(target = "purpose", ignore = true)
+    @Mapping(target = "accountDetailsId", ignore = true)
     SuspiciousAccountTransferEntity mergeToEntity(SuspiciousAccountTransferDto accountTransfer,
                                                   @MappingTarget SuspiciousAccountTransferEntity suspiciousTransfer
     );
@@ -25,6 +25,10 @@ public interface SuspiciousCardTransferMapper {
      * @return {@link SuspiciousCardTransferEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "isTargetBlocked", ignore = true)
+    @Mapping(target = "amount", ignore = true)
+    @Mapping(target = "purpose", ignore = true)
+    @Mapping(target = "accountDetailsId", ignore = true)
     SuspiciousCardTransferEntity toEntity(SuspiciousCardTransferDto suspiciousTransfer);
 
     /**
@@ -39,6 +43,10 @@ public interface SuspiciousCardTransferMapper {
      * @return {@link SuspiciousCardTransferEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "isTargetBlocked", ignore = true)
+    @Mapping(target = "amount", ignore = true)
+    @Mapping(target = "purpose", ignore = true)
+    @Mapping(target = "accountDetailsId", ignore = true)
     SuspiciousCardTransferEntity mergeToEntity(SuspiciousCardTransferDto cardTransfer,
                                                @MappingTarget SuspiciousCardTransferEntity suspiciousTransfer
     );
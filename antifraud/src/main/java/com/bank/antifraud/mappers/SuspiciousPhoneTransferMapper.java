@@ -25,6 +25,10 @@ public interface SuspiciousPhoneTransferMapper {
      * @return {@link SuspiciousPhoneTransferEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "isTargetBlocked", ignore = true)
+    @Mapping(target = "amount", ignore = true)
+    @Mapping(target = "purpose", ignore = true)
+    @Mapping(target = "accountDetailsId", ignore = true)
     SuspiciousPhoneTransferEntity toEntity(SuspiciousPhoneTransferDto suspiciousTransfer);
 
     /**
@@ -39,6 +43,10 @@ public interface SuspiciousPhoneTransferMapper {
      * @return {@link SuspiciousPhoneTransferEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "isTargetBlocked", ignore = true)
+    @Mapping(target = "amount", ignore = true)
+    @Mapping(target = "purpose", ignore = true)
+    @Mapping(target = "accountDetailsId", ignore = true)
     SuspiciousPhoneTransferEntity mergeToEntity(SuspiciousPhoneTransferDto phoneTransfer,
                                                 @MappingTarget SuspiciousPhoneTransferEntity suspiciousTransfer
     );
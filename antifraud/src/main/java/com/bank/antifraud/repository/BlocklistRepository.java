@@ -0,0 +1,42 @@
+package com.bank.antifraud.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Номера карт и телефонов из переводов с {@code is_target_blocked = true}. Номер получателя сохраняется
+ * в строке подозрительного перевода при оценке, поэтому чтение не выходит за схему anti_fraud.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BlocklistRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return номера карт, заблокированные как получатели
+     */
+    public long[] findBlockedCardNumbers() {
+        return toArray(jdbcTemplate.queryForList("select distinct card_number "
+                + "from anti_fraud.suspicious_card_transfer "
+                + "where is_target_blocked and card_number is not null", Long.class));
+    }
+
+    /**
+     * @return номера телефонов, заблокированные как получатели
+     */
+    public long[] findBlockedPhoneNumbers() {
+        return toArray(jdbcTemplate.queryForList("select distinct phone_number "
+                + "from anti_fraud.suspicious_phone_transfer "
+                + "where is_target_blocked and phone_number is not null", Long.class));
+    }
+
+    private long[] toArray(List<Long> numbers) {
+        return numbers.stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+}
@@ -0,0 +1,145 @@
+package com.bank.antifraud.repository;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.service.scoring.ScoringResult;
+import com.bank.antifraud.service.scoring.TransferType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Чтение подозрительных переводов вместе с сохраненными при оценке данными перевода
+ * и пакетная запись пересчитанных оценок. Схема transfer не читается.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RescoringRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param type {@link TransferType}
+     * @return минимальный и максимальный id подозрительных переводов, пусто если таблица пуста
+     */
+    public Optional<long[]> findIdRange(TransferType type) {
+        final List<long[]> ranges = jdbcTemplate.query("select min(id) min_id, max(id) max_id from "
+                        + suspiciousTable(type) + " having count(*) > 0",
+                (resultSet, rowNum) -> new long[]{resultSet.getLong("min_id"), resultSet.getLong("max_id")});
+
+        return ranges.stream().findFirst();
+    }
+
+    /**
+     * @param type   {@link TransferType}
+     * @param fromId первый id диапазона
+     * @param toId   последний id диапазона, включительно
+     * @return переводы для оценки по id подозрительного перевода; строки, сохраненные без данных
+     * перевода в обход оценки, пропускаются
+     */
+    public Map<Long, TransferScoringDto> findChunk(TransferType type, long fromId, long toId) {
+        final Map<Long, TransferScoringDto> transfers = new LinkedHashMap<>();
+        final String target = targetColumn(type);
+
+        jdbcTemplate.query("select id, " + transferIdColumn(type) + " transfer_id, amount, purpose, "
+                        + "account_details_id, " + target + " target from " + suspiciousTable(type)
+                        + " where id between ? and ? and amount is not null order by id",
+                (RowCallbackHandler) resultSet -> {
+                    final TransferScoringDto transfer = new TransferScoringDto();
+                    transfer.setTransferId(resultSet.getLong("transfer_id"));
+                    transfer.setAmount(resultSet.getBigDecimal("amount"));
+                    transfer.setPurpose(resultSet.getString("purpose"));
+                    transfer.setAccountDetailsId(resultSet.getObject("account_details_id", Long.class));
+
+                    final Long number = resultSet.getObject("target", Long.class);
+                    switch (type) {
+                        case ACCOUNT -> transfer.setAccountNumber(number);
+                        case CARD -> transfer.setCardNumber(number);
+                        case PHONE -> transfer.setPhoneNumber(number);
+                    }
+
+                    transfers.put(resultSet.getLong("id"), transfer);
+                }, fromId, toId);
+
+        return transfers;
+    }
+
+    /**
+     * Строка обновляется, только если новая оценка строже сохраненной: пересчет не видит истории
+     * счетчиков частоты, поэтому не снимает блокировок и подозрений, поставленных по ней или вручную.
+     *
+     * @param type    {@link TransferType}
+     * @param results новые оценки по id подозрительного перевода
+     */
+    public void updateResults(TransferType type, Map<Long, ScoringResult> results) {
+        final List<Object[]> args = new ArrayList<>(results.size());
+
+        results.forEach((id, result) -> args.add(new Object[]{result.isSuspicious(), result.isBlocked(),
+                result.getSuspiciousReason(), result.getBlockedReason(), id, severity(result)}));
+
+        jdbcTemplate.batchUpdate("update " + suspiciousTable(type) + " set is_suspicious = ?, is_blocked = ?, "
+                + "suspicious_reason = ?, blocked_reason = ? where id = ? "
+                + "and case when is_blocked then 2 when is_suspicious then 1 else 0 end < ?", args);
+    }
+
+    /**
+     * @param type {@link TransferType}
+     * @return сохраненный прогресс: последний пересчитанный id и число строк
+     */
+    public Optional<long[]> findCheckpoint(TransferType type) {
+        return jdbcTemplate.query("select last_id, processed from anti_fraud.rescoring_checkpoint "
+                                + "where transfer_type = ?",
+                        (resultSet, rowNum) -> new long[]{resultSet.getLong("last_id"), resultSet.getLong("processed")},
+                        type.name())
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * @param type      {@link TransferType}
+     * @param lastId    id, до которого включительно пересчитаны строки
+     * @param processed сколько строк пересчитано
+     */
+    public void saveCheckpoint(TransferType type, long lastId, long processed) {
+        jdbcTemplate.update("insert into anti_fraud.rescoring_checkpoint "
+                + "(transfer_type, last_id, processed, updated_at) values (?, ?, ?, ?) "
+                + "on conflict (transfer_type) do update set last_id = excluded.last_id, "
+                + "processed = excluded.processed, updated_at = excluded.updated_at",
+                type.name(), lastId, processed, new Timestamp(System.currentTimeMillis()));
+    }
+
+    /**
+     * @param type {@link TransferType}
+     */
+    public void deleteCheckpoint(TransferType type) {
+        jdbcTemplate.update("delete from anti_fraud.rescoring_checkpoint where transfer_type = ?", type.name());
+    }
+
+    private int severity(ScoringResult result) {
+        if (result.isBlocked()) {
+            return 2;
+        }
+
+        return result.isSuspicious() ? 1 : 0;
+    }
+
+    private String suspiciousTable(TransferType type) {
+        return "anti_fraud.suspicious_" + type.name().toLowerCase(Locale.ROOT) + "_transfer";
+    }
+
+    private String transferIdColumn(TransferType type) {
+        return type.name().toLowerCase(Locale.ROOT) + "_transfer_id";
+    }
+
+    private String targetColumn(TransferType type) {
+        return type.name().toLowerCase(Locale.ROOT) + "_number";
+    }
+}
@@ -0,0 +1,30 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.RescoringStatusDto;
+import com.bank.antifraud.service.scoring.TransferType;
+
+public interface RescoringService {
+
+    /**
+     * Запускает пересчет оценок сохраненных подозрительных переводов по действующим правилам.
+     *
+     * @param type    {@link TransferType}
+     * @param restart true — начать с начала, false — продолжить с сохраненного прогресса
+     * @return {@link RescoringStatusDto}
+     */
+    RescoringStatusDto start(TransferType type, boolean restart);
+
+    /**
+     * @param type {@link TransferType}
+     * @return {@link RescoringStatusDto}
+     */
+    RescoringStatusDto findStatus(TransferType type);
+
+    /**
+     * Останавливает пересчет после текущей волны, прогресс сохраняется.
+     *
+     * @param type {@link TransferType}
+     * @return {@link RescoringStatusDto}
+     */
+    RescoringStatusDto stop(TransferType type);
+}
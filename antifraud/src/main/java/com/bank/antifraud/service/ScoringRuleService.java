@@ -0,0 +1,20 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.RuleStatsDto;
+
+import java.util.List;
+
+public interface ScoringRuleService {
+
+    /**
+     * @return список {@link RuleStatsDto} действующих правил аналитиков
+     */
+    List<RuleStatsDto> findAll();
+
+    /**
+     * Перечитывает файл правил аналитиков.
+     *
+     * @return список {@link RuleStatsDto} загруженных правил
+     */
+    List<RuleStatsDto> reload();
+}
@@ -1,6 +1,7 @@
 package com.bank.antifraud.service;
 
 import com.bank.antifraud.dto.SuspiciousAccountTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
 
 import java.util.List;
@@ -34,4 +35,12 @@ public interface SuspiciousAccountTransferService {
      * @return лист {@link SuspiciousAccountTransferDto}
      */
     List<SuspiciousAccountTransferDto> findAllById(List<Long> ids);
+
+    /**
+     * Оценивает перевод правилами антифрода. Подозрительный или заблокированный перевод сохраняется.
+     *
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link SuspiciousAccountTransferDto} с результатом оценки, без id если перевод чистый
+     */
+    SuspiciousAccountTransferDto score(TransferScoringDto transfer);
 }
@@ -1,6 +1,7 @@
 package com.bank.antifraud.service;
 
 import com.bank.antifraud.dto.SuspiciousCardTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
 
 import java.util.List;
@@ -34,4 +35,12 @@ public interface SuspiciousCardTransferService {
      * @return лист {@link SuspiciousCardTransferDto}
      */
     List<SuspiciousCardTransferDto> findAllById(List<Long> ids);
+
+    /**
+     * Оценивает перевод правилами антифрода. Подозрительный или заблокированный перевод сохраняется.
+     *
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link SuspiciousCardTransferDto} с результатом оценки, без id если перевод чистый
+     */
+    SuspiciousCardTransferDto score(TransferScoringDto transfer);
 }
@@ -1,6 +1,7 @@
 package com.bank.antifraud.service;
 
 import com.bank.antifraud.dto.SuspiciousPhoneTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import com.bank.antifraud.entity.SuspiciousPhoneTransferEntity;
 
 import java.util.List;
@@ -34,4 +35,12 @@ public interface SuspiciousPhoneTransferService {
      * @return лист {@link SuspiciousPhoneTransferDto}
      */
     List<SuspiciousPhoneTransferDto> findAllById(List<Long> ids);
+
+    /**
+     * Оценивает перевод правилами антифрода. Подозрительный или заблокированный перевод сохраняется.
+     *
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link SuspiciousPhoneTransferDto} с результатом оценки, без id если перевод чистый
+     */
+    SuspiciousPhoneTransferDto score(TransferScoringDto transfer);
 }
@@ -0,0 +1,14 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.VelocityDto;
+import com.bank.antifraud.service.scoring.TransferType;
+
+public interface VelocityService {
+
+    /**
+     * @param type {@link TransferType}
+     * @param key  номер счета, карты или телефона получателя
+     * @return {@link VelocityDto}
+     */
+    VelocityDto findByTarget(TransferType type, Long key);
+}
@@ -0,0 +1,113 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.RescoringStatusDto;
+import com.bank.antifraud.repository.RescoringRepository;
+import com.bank.antifraud.service.RescoringService;
+import com.bank.antifraud.service.rescoring.RescoringRun;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.TransferType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Реализация {@link RescoringService}. Куски всех запусков обрабатываются в одном
+ * {@link ForkJoinPool} на {@link #PARALLELISM} потоков, чтобы пересчет занимал
+ * не больше этого числа соединений пула.
+ */
+@Service
+@RequiredArgsConstructor
+public class RescoringServiceImpl implements RescoringService {
+
+    private static final int PARALLELISM = 2;
+
+    private final RescoringRepository repository;
+    private final ScoringEngine scoringEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool pool = new ForkJoinPool(PARALLELISM);
+    private final Map<TransferType, RescoringRun> runs = new ConcurrentHashMap<>();
+
+    /**
+     * @param type    {@link TransferType}
+     * @param restart true — начать с начала, false — продолжить с сохраненного прогресса
+     * @return {@link RescoringStatusDto}
+     */
+    @Override
+    public synchronized RescoringStatusDto start(TransferType type, boolean restart) {
+        final RescoringRun current = runs.get(type);
+
+        if (current != null && current.isRunning()) {
+            throw new IllegalStateException("Пересчет " + type + " уже выполняется");
+        }
+
+        if (restart) {
+            repository.deleteCheckpoint(type);
+        }
+
+        final Optional<long[]> range = repository.findIdRange(type);
+        final Optional<long[]> checkpoint = repository.findCheckpoint(type);
+
+        if (range.isEmpty()) {
+            return new RescoringStatusDto(type.name(), false, 0L, 0L, 0L, 0L, null);
+        }
+
+        final long firstId = checkpoint.map(saved -> saved[0] + 1).orElse(range.get()[0]);
+        final long processed = checkpoint.map(saved -> saved[1]).orElse(0L);
+        final RescoringRun run = new RescoringRun(type, repository, scoringEngine, transactionTemplate, pool,
+                firstId, range.get()[1], processed);
+
+        final RescoringStatusDto status = run.getStatus();
+        runs.put(type, run);
+
+        final Thread thread = new Thread(run, "rescoring-" + type.name().toLowerCase(Locale.ROOT));
+        thread.setDaemon(true);
+        thread.start();
+
+        return status;
+    }
+
+    /**
+     * @param type {@link TransferType}
+     * @return {@link RescoringStatusDto}
+     */
+    @Override
+    public RescoringStatusDto findStatus(TransferType type) {
+        final RescoringRun run = runs.get(type);
+
+        if (run != null) {
+            return run.getStatus();
+        }
+
+        return repository.findCheckpoint(type)
+                .map(saved -> new RescoringStatusDto(type.name(), false, saved[0], null, saved[1], 0L, null))
+                .orElseGet(() -> new RescoringStatusDto(type.name(), false, null, null, 0L, 0L, null));
+    }
+
+    /**
+     * @param type {@link TransferType}
+     * @return {@link RescoringStatusDto}
+     */
+    @Override
+    public RescoringStatusDto stop(TransferType type) {
+        final RescoringRun run = runs.get(type);
+
+        if (run != null) {
+            run.stop();
+        }
+
+        return findStatus(type);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runs.values().forEach(RescoringRun::stop);
+        pool.shutdown();
+    }
+}
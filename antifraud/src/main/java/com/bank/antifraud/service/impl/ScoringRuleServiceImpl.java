@@ -0,0 +1,43 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.RuleStatsDto;
+import com.bank.antifraud.service.ScoringRuleService;
+import com.bank.antifraud.service.scoring.dsl.CompiledRule;
+import com.bank.antifraud.service.scoring.dsl.DslRuleRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Реализация {@link ScoringRuleService}
+ */
+@Service
+@RequiredArgsConstructor
+public class ScoringRuleServiceImpl implements ScoringRuleService {
+
+    private final DslRuleRegistry registry;
+
+    /**
+     * @return список {@link RuleStatsDto} действующих правил аналитиков
+     */
+    @Override
+    public List<RuleStatsDto> findAll() {
+        return toDto(registry.getRules());
+    }
+
+    /**
+     * @return список {@link RuleStatsDto} загруженных правил
+     */
+    @Override
+    public List<RuleStatsDto> reload() {
+        return toDto(registry.reload());
+    }
+
+    private List<RuleStatsDto> toDto(List<CompiledRule> rules) {
+        return rules.stream()
+                .map(rule -> new RuleStatsDto(rule.getName(), rule.getVerdict().name(), rule.getExpression(),
+                        rule.getEvaluations(), rule.getMatches(), rule.getAverageNanos()))
+                .toList();
+    }
+}
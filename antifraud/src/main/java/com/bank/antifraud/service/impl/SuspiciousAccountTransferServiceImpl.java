@@ -1,11 +1,16 @@
 package com.bank.antifraud.service.impl;
 
 import com.bank.antifraud.dto.SuspiciousAccountTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
 import com.bank.antifraud.mappers.SuspiciousAccountTransferMapper;
 import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
 import com.bank.antifraud.service.SuspiciousAccountTransferService;
 import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringResult;
+import com.bank.antifraud.service.scoring.TransferType;
+import com.bank.common.service.EntityBatchLoader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +29,8 @@ public class SuspiciousAccountTransferServiceImpl implements SuspiciousAccountTr
     private final SuspiciousAccountTransferRepository repository;
     private final SuspiciousAccountTransferMapper mapper;
     private final ExceptionReturner returner;
+    private final EntityBatchLoader batchLoader;
+    private final ScoringEngine scoringEngine;
 
     /**
      * @param accountTransfer {@link SuspiciousAccountTransferDto}
@@ -76,11 +83,36 @@ public class SuspiciousAccountTransferServiceImpl implements SuspiciousAccountTr
     @Override
     public List<SuspiciousAccountTransferDto> findAllById(List<Long> ids) {
 
-        final List<SuspiciousAccountTransferEntity> suspiciousAccountTransfers = ids.stream()
-                .map(id -> repository.findById(id)
-                        .orElseThrow(() -> returner.getEntityNotFoundException(MESSAGE)))
-                .toList();
+        final List<SuspiciousAccountTransferEntity> suspiciousAccountTransfers = batchLoader.loadAllInOrder(
+                ids, repository::findAllById, SuspiciousAccountTransferEntity::getId, MESSAGE);
 
         return mapper.toListDto(suspiciousAccountTransfers);
     }
+
+    /**
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link SuspiciousAccountTransferDto} с результатом оценки, без id если перевод чистый
+     */
+    @Override
+    @Transactional
+    public SuspiciousAccountTransferDto score(TransferScoringDto transfer) {
+        final ScoringResult result = scoringEngine.score(TransferType.ACCOUNT, transfer);
+
+        final SuspiciousAccountTransferEntity suspiciousTransfer = new SuspiciousAccountTransferEntity();
+        suspiciousTransfer.setAccountTransferId(transfer.getTransferId());
+        suspiciousTransfer.setAccountNumber(transfer.getAccountNumber());
+        suspiciousTransfer.setAmount(transfer.getAmount());
+        suspiciousTransfer.setPurpose(transfer.getPurpose());
+        suspiciousTransfer.setAccountDetailsId(transfer.getAccountDetailsId());
+        suspiciousTransfer.setIsSuspicious(result.isSuspicious());
+        suspiciousTransfer.setIsBlocked(result.isBlocked());
+        suspiciousTransfer.setSuspiciousReason(result.getSuspiciousReason());
+        suspiciousTransfer.setBlockedReason(result.getBlockedReason());
+
+        if (!result.isSuspicious()) {
+            return mapper.toDto(suspiciousTransfer);
+        }
+
+        return mapper.toDto(repository.save(suspiciousTransfer));
+    }
 }
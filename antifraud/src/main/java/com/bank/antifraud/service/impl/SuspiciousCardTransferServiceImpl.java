@@ -1,16 +1,23 @@
 package com.bank.antifraud.service.impl;
 
 import com.bank.antifraud.dto.SuspiciousCardTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
 import com.bank.antifraud.mappers.SuspiciousCardTransferMapper;
 import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
 import com.bank.antifraud.service.SuspiciousCardTransferService;
 import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.scoring.Blocklist;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringResult;
+import com.bank.antifraud.service.scoring.TransferType;
+import com.bank.common.service.EntityBatchLoader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Реализация {@link SuspiciousCardTransferService}
@@ -24,6 +31,9 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
     private final SuspiciousCardTransferRepository repository;
     private final SuspiciousCardTransferMapper mapper;
     private final ExceptionReturner returner;
+    private final EntityBatchLoader batchLoader;
+    private final ScoringEngine scoringEngine;
+    private final Blocklist blocklist;
 
     /**
      * @param cardTransfer {@link SuspiciousCardTransferDto}
@@ -33,9 +43,14 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
     @Transactional
     public SuspiciousCardTransferDto save(SuspiciousCardTransferDto cardTransfer) {
 
-        final SuspiciousCardTransferEntity suspiciousTransfer = repository.save(
-                mapper.toEntity(cardTransfer)
-        );
+        final SuspiciousCardTransferEntity entity = mapper.toEntity(cardTransfer);
+        entity.setIsTargetBlocked(Boolean.TRUE.equals(entity.getIsBlocked()));
+
+        final SuspiciousCardTransferEntity suspiciousTransfer = repository.save(entity);
+
+        if (suspiciousTransfer.getIsTargetBlocked()) {
+            blocklist.block(TransferType.CARD, suspiciousTransfer.getCardNumber());
+        }
 
         return mapper.toDto(suspiciousTransfer);
     }
@@ -53,7 +68,8 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
     }
 
     /**
-     * @param cardTransfer {@link SuspiciousCardTransferDto}
+     * Новая блокировка добавляет номер получателя в {@link Blocklist}, снятие блокировки перестраивает его.
+     *
      * @param id           технический идентификатор {@link SuspiciousCardTransferEntity}
      * @return {@link SuspiciousCardTransferDto}
      */
@@ -64,7 +80,21 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
         final SuspiciousCardTransferEntity suspiciousTransfer = repository.findById(id)
                 .orElseThrow(() -> returner.getEntityNotFoundException(MESSAGE));
 
+        final boolean wasBlocked = Boolean.TRUE.equals(suspiciousTransfer.getIsBlocked());
+        final boolean wasTargetBlocked = Boolean.TRUE.equals(suspiciousTransfer.getIsTargetBlocked());
+        final Long previousCardNumber = suspiciousTransfer.getCardNumber();
+
         final SuspiciousCardTransferEntity transfer = mapper.mergeToEntity(cardTransfer, suspiciousTransfer);
+        final boolean blocked = Boolean.TRUE.equals(transfer.getIsBlocked());
+
+        if (blocked && !wasBlocked) {
+            transfer.setIsTargetBlocked(true);
+            blocklist.block(TransferType.CARD, transfer.getCardNumber());
+        } else if (wasTargetBlocked
+                && (!blocked || !Objects.equals(previousCardNumber, transfer.getCardNumber()))) {
+            transfer.setIsTargetBlocked(blocked);
+            blocklist.unblock();
+        }
 
         return mapper.toDto(repository.save(transfer));
     }
@@ -76,11 +106,41 @@ public class SuspiciousCardTransferServiceImpl implements SuspiciousCardTransfer
     @Override
     public List<SuspiciousCardTransferDto> findAllById(List<Long> ids) {
 
-        final List<SuspiciousCardTransferEntity> suspiciousCardTransfers = ids.stream()
-                .map(id -> repository.findById(id)
-                        .orElseThrow(() -> returner.getEntityNotFoundException(MESSAGE)))
-                .toList();
+        final List<SuspiciousCardTransferEntity> suspiciousCardTransfers = batchLoader.loadAllInOrder(
+                ids, repository::findAllById, SuspiciousCardTransferEntity::getId, MESSAGE);
 
         return mapper.toListDto(suspiciousCardTransfers);
     }
+
+    /**
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link SuspiciousCardTransferDto} с результатом оценки, без id если перевод чистый
+     */
+    @Override
+    @Transactional
+    public SuspiciousCardTransferDto score(TransferScoringDto transfer) {
+        final ScoringResult result = scoringEngine.score(TransferType.CARD, transfer);
+
+        final SuspiciousCardTransferEntity suspiciousTransfer = new SuspiciousCardTransferEntity();
+        suspiciousTransfer.setCardTransferId(transfer.getTransferId());
+        suspiciousTransfer.setCardNumber(transfer.getCardNumber());
+        suspiciousTransfer.setAmount(transfer.getAmount());
+        suspiciousTransfer.setPurpose(transfer.getPurpose());
+        suspiciousTransfer.setAccountDetailsId(transfer.getAccountDetailsId());
+        suspiciousTransfer.setIsSuspicious(result.isSuspicious());
+        suspiciousTransfer.setIsBlocked(result.isBlocked());
+        suspiciousTransfer.setSuspiciousReason(result.getSuspiciousReason());
+        suspiciousTransfer.setBlockedReason(result.getBlockedReason());
+        suspiciousTransfer.setIsTargetBlocked(result.isTargetBlocked());
+
+        if (result.isTargetBlocked()) {
+            blocklist.block(TransferType.CARD, transfer.getCardNumber());
+        }
+
+        if (!result.isSuspicious()) {
+            return mapper.toDto(suspiciousTransfer);
+        }
+
+        return mapper.toDto(repository.save(suspiciousTransfer));
+    }
 }
@@ -1,16 +1,23 @@
 package com.bank.antifraud.service.impl;
 
 import com.bank.antifraud.dto.SuspiciousPhoneTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import com.bank.antifraud.entity.SuspiciousPhoneTransferEntity;
 import com.bank.antifraud.mappers.SuspiciousPhoneTransferMapper;
 import com.bank.antifraud.repository.SuspiciousPhoneTransferRepository;
 import com.bank.antifraud.service.SuspiciousPhoneTransferService;
 import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.scoring.Blocklist;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringResult;
+import com.bank.antifraud.service.scoring.TransferType;
+import com.bank.common.service.EntityBatchLoader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
  * Реализация {@link SuspiciousPhoneTransferService}
@@ -24,6 +31,9 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
     private final SuspiciousPhoneTransferRepository repository;
     private final SuspiciousPhoneTransferMapper mapper;
     private final ExceptionReturner returner;
+    private final EntityBatchLoader batchLoader;
+    private final ScoringEngine scoringEngine;
+    private final Blocklist blocklist;
 
     /**
      * @param phoneTransfer {@link SuspiciousPhoneTransferDto}
@@ -33,9 +43,14 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
     @Transactional
     public SuspiciousPhoneTransferDto save(SuspiciousPhoneTransferDto phoneTransfer) {
 
-        final SuspiciousPhoneTransferEntity suspiciousTransfer = repository.save(
-                mapper.toEntity(phoneTransfer)
-        );
+        final SuspiciousPhoneTransferEntity entity = mapper.toEntity(phoneTransfer);
+        entity.setIsTargetBlocked(Boolean.TRUE.equals(entity.getIsBlocked()));
+
+        final SuspiciousPhoneTransferEntity suspiciousTransfer = repository.save(entity);
+
+        if (suspiciousTransfer.getIsTargetBlocked()) {
+            blocklist.block(TransferType.PHONE, suspiciousTransfer.getPhoneNumber());
+        }
 
         return mapper.toDto(suspiciousTransfer);
     }
@@ -54,7 +69,8 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
     }
 
     /**
-     * @param phoneTransfer {@link SuspiciousPhoneTransferDto}
+     * Новая блокировка добавляет номер получателя в {@link Blocklist}, снятие блокировки перестраивает его.
+     *
      * @param id            технический идентификатор {@link SuspiciousPhoneTransferEntity}
      * @return {@link SuspiciousPhoneTransferDto}
      */
@@ -65,7 +81,21 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
         final SuspiciousPhoneTransferEntity suspiciousTransfer = repository.findById(id)
                 .orElseThrow(() -> returner.getEntityNotFoundException(MESSAGE));
 
+        final boolean wasBlocked = Boolean.TRUE.equals(suspiciousTransfer.getIsBlocked());
+        final boolean wasTargetBlocked = Boolean.TRUE.equals(suspiciousTransfer.getIsTargetBlocked());
+        final Long previousPhoneNumber = suspiciousTransfer.getPhoneNumber();
+
         final SuspiciousPhoneTransferEntity transfer = mapper.mergeToEntity(phoneTransfer, suspiciousTransfer);
+        final boolean blocked = Boolean.TRUE.equals(transfer.getIsBlocked());
+
+        if (blocked && !wasBlocked) {
+            transfer.setIsTargetBlocked(true);
+            blocklist.block(TransferType.PHONE, transfer.getPhoneNumber());
+        } else if (wasTargetBlocked
+                && (!blocked || !Objects.equals(previousPhoneNumber, transfer.getPhoneNumber()))) {
+            transfer.setIsTargetBlocked(blocked);
+            blocklist.unblock();
+        }
 
         return mapper.toDto(repository.save(transfer));
     }
@@ -77,11 +107,41 @@ public class SuspiciousPhoneTransferServiceImpl implements SuspiciousPhoneTransf
     @Override
     public List<SuspiciousPhoneTransferDto> findAllById(List<Long> ids) {
 
-        final List<SuspiciousPhoneTransferEntity> suspiciousPhoneTransfers = ids.stream()
-                .map(id -> repository.findById(id)
-                        .orElseThrow(() -> returner.getEntityNotFoundException(MESSAGE)))
-                .toList();
+        final List<SuspiciousPhoneTransferEntity> suspiciousPhoneTransfers = batchLoader.loadAllInOrder(
+                ids, repository::findAllById, SuspiciousPhoneTransferEntity::getId, MESSAGE);
 
         return mapper.toListDto(suspiciousPhoneTransfers);
     }
+
+    /**
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link SuspiciousPhoneTransferDto} с результатом оценки, без id если перевод чистый
+     */
+    @Override
+    @Transactional
+    public SuspiciousPhoneTransferDto score(TransferScoringDto transfer) {
+        final ScoringResult result = scoringEngine.score(TransferType.PHONE, transfer);
+
+        final SuspiciousPhoneTransferEntity suspiciousTransfer = new SuspiciousPhoneTransferEntity();
+        suspiciousTransfer.setPhoneTransferId(transfer.getTransferId());
+        suspiciousTransfer.setPhoneNumber(transfer.getPhoneNumber());
+        suspiciousTransfer.setAmount(transfer.getAmount());
+        suspiciousTransfer.setPurpose(transfer.getPurpose());
+        suspiciousTransfer.setAccountDetailsId(transfer.getAccountDetailsId());
+        suspiciousTransfer.setIsSuspicious(result.isSuspicious());
+        suspiciousTransfer.setIsBlocked(result.isBlocked());
+        suspiciousTransfer.setSuspiciousReason(result.getSuspiciousReason());
+        suspiciousTransfer.setBlockedReason(result.getBlockedReason());
+        suspiciousTransfer.setIsTargetBlocked(result.isTargetBlocked());
+
+        if (result.isTargetBlocked()) {
+            blocklist.block(TransferType.PHONE, transfer.getPhoneNumber());
+        }
+
+        if (!result.isSuspicious()) {
+            return mapper.toDto(suspiciousTransfer);
+        }
+
+        return mapper.toDto(repository.save(suspiciousTransfer));
+    }
 }
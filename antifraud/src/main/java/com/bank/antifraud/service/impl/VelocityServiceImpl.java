@@ -0,0 +1,47 @@
+package com.bank.antifraud.service.impl;
+
+import com.bank.antifraud.dto.VelocityDto;
+import com.bank.antifraud.service.VelocityService;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.TransferType;
+import com.bank.antifraud.service.scoring.VelocityCounter;
+import com.bank.antifraud.service.scoring.VelocityWindow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+
+/**
+ * Реализация {@link VelocityService}, читает счетчики {@link ScoringEngine} без обращения к БД
+ */
+@Service
+@RequiredArgsConstructor
+public class VelocityServiceImpl implements VelocityService {
+
+    private static final int KOPECKS_SCALE = 2;
+
+    private final ScoringEngine scoringEngine;
+
+    /**
+     * @param type {@link TransferType}
+     * @param key  номер счета, карты или телефона получателя
+     * @return {@link VelocityDto}
+     */
+    @Override
+    public VelocityDto findByTarget(TransferType type, Long key) {
+        final VelocityCounter counter = scoringEngine.getTargetCounter(type);
+        final long now = System.currentTimeMillis();
+
+        return new VelocityDto(key,
+                counter.count(key, VelocityWindow.MINUTE, now),
+                toRubles(counter.sum(key, VelocityWindow.MINUTE, now)),
+                counter.count(key, VelocityWindow.HOUR, now),
+                toRubles(counter.sum(key, VelocityWindow.HOUR, now)),
+                counter.count(key, VelocityWindow.DAY, now),
+                toRubles(counter.sum(key, VelocityWindow.DAY, now)));
+    }
+
+    private BigDecimal toRubles(long kopecks) {
+        return BigDecimal.valueOf(kopecks, KOPECKS_SCALE);
+    }
+}
@@ -0,0 +1,181 @@
+package com.bank.antifraud.service.rescoring;
+
+import com.bank.antifraud.dto.RescoringStatusDto;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.repository.RescoringRepository;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringResult;
+import com.bank.antifraud.service.scoring.TransferType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Один запуск пересчета оценок переводов одного типа.
+ *
+ * <p>Диапазон id делится на куски по {@link #CHUNK_SIZE}; куски одной волны обрабатываются
+ * параллельно в общем {@link ForkJoinPool}, каждый в своей транзакции одним пакетным update.
+ * После волны сохраняется прогресс, поэтому перезапуск продолжает со следующей волны.
+ * Скорость ограничена {@link #MAX_ROWS_PER_SECOND}: после волны поток ждет, пока средняя
+ * скорость не опустится до предела, и не занимает соединения онлайн-запросов.
+ *
+ * <p>Пересчет только ужесточает оценку: чистый результат не записывается, а более мягкий
+ * не заменяет сохраненный, см. {@link RescoringRepository#updateResults}.
+ */
+@Slf4j
+public class RescoringRun implements Runnable {
+
+    /**
+     * число id в одном куске.
+     */
+    public static final int CHUNK_SIZE = 1_000;
+
+    /**
+     * предел скорости пересчета, строк в секунду.
+     */
+    public static final long MAX_ROWS_PER_SECOND = 5_000;
+
+    private final TransferType type;
+    private final RescoringRepository repository;
+    private final ScoringEngine scoringEngine;
+    private final TransactionTemplate transactionTemplate;
+    private final ForkJoinPool pool;
+    private final long maxId;
+    private final AtomicLong lastId;
+    private final AtomicLong processed;
+    private final long processedBefore;
+    private volatile boolean running = true;
+    private volatile boolean stopRequested;
+    private volatile long startedNanos;
+    private volatile String error;
+
+    public RescoringRun(TransferType type, RescoringRepository repository, ScoringEngine scoringEngine,
+                        TransactionTemplate transactionTemplate, ForkJoinPool pool,
+                        long firstId, long maxId, long processedBefore) {
+        this.type = type;
+        this.repository = repository;
+        this.scoringEngine = scoringEngine;
+        this.transactionTemplate = transactionTemplate;
+        this.pool = pool;
+        this.maxId = maxId;
+        this.lastId = new AtomicLong(firstId - 1);
+        this.processed = new AtomicLong(processedBefore);
+        this.processedBefore = processedBefore;
+    }
+
+    @Override
+    public void run() {
+        startedNanos = System.nanoTime();
+
+        try {
+            while (!stopRequested && lastId.get() < maxId) {
+                final long waveStart = lastId.get() + 1;
+                final long waveEnd = Math.min(maxId, waveStart + (long) CHUNK_SIZE * pool.getParallelism() - 1);
+
+                runWave(waveStart, waveEnd);
+                lastId.set(waveEnd);
+                repository.saveCheckpoint(type, waveEnd, processed.get());
+                throttle();
+
+                log.info("Пересчет {}: id {} из {}, {} строк, {} строк/с",
+                        type, waveEnd, maxId, processed.get(), rowsPerSecond());
+            }
+        } catch (RuntimeException e) {
+            error = e.getMessage();
+            log.error("Пересчет {} остановлен на id {}", type, lastId.get(), e);
+        } finally {
+            running = false;
+        }
+    }
+
+    /**
+     * Просит остановиться после текущей волны.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * @return true, пока запуск не завершился
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * @return {@link RescoringStatusDto}
+     */
+    public RescoringStatusDto getStatus() {
+        return new RescoringStatusDto(type.name(), running, lastId.get(), maxId, processed.get(), rowsPerSecond(),
+                error);
+    }
+
+    private void runWave(long waveStart, long waveEnd) {
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+
+        for (long from = waveStart; from <= waveEnd; from += CHUNK_SIZE) {
+            final long chunkStart = from;
+            final long chunkEnd = Math.min(waveEnd, from + CHUNK_SIZE - 1);
+
+            tasks.add(pool.submit(() -> runChunk(chunkStart, chunkEnd)));
+        }
+
+        tasks.forEach(ForkJoinTask::join);
+    }
+
+    private void runChunk(long fromId, long toId) {
+        final Integer rows = transactionTemplate.execute(status -> {
+            final Map<Long, TransferScoringDto> transfers = repository.findChunk(type, fromId, toId);
+            final Map<Long, ScoringResult> results = new LinkedHashMap<>();
+
+            transfers.forEach((id, transfer) -> {
+                final ScoringResult result = scoringEngine.rescore(type, transfer);
+
+                if (result.isSuspicious()) {
+                    results.put(id, result);
+                }
+            });
+
+            if (!results.isEmpty()) {
+                repository.updateResults(type, results);
+            }
+
+            return transfers.size();
+        });
+
+        processed.addAndGet(rows == null ? 0 : rows);
+    }
+
+    private void throttle() {
+        final long done = processed.get() - processedBefore;
+        final long minimumNanos = TimeUnit.SECONDS.toNanos(done) / MAX_ROWS_PER_SECOND;
+        final long aheadNanos = minimumNanos - (System.nanoTime() - startedNanos);
+
+        if (aheadNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(aheadNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopRequested = true;
+            }
+        }
+    }
+
+    private long rowsPerSecond() {
+        final long elapsedNanos = System.nanoTime() - startedNanos;
+
+        if (startedNanos == 0 || elapsedNanos <= 0) {
+            return 0;
+        }
+
+        return (processed.get() - processedBefore) * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+}
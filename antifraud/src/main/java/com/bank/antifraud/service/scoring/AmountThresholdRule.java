@@ -0,0 +1,32 @@
+package com.bank.antifraud.service.scoring;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Крупные переводы: выше одного порога подозрительны, выше другого блокируются.
+ */
+@Component
+public class AmountThresholdRule implements ScoringRule {
+
+    private static final long SUSPICIOUS_AMOUNT = 100_000_00L;
+    private static final long BLOCKED_AMOUNT = 1_000_000_00L;
+
+    @Override
+    public String getName() {
+        return "amount-threshold";
+    }
+
+    @Override
+    public RuleVerdict evaluate(ScoringContext context) {
+        if (context.getAmount() > BLOCKED_AMOUNT) {
+            return RuleVerdict.BLOCKED;
+        }
+
+        return context.getAmount() > SUSPICIOUS_AMOUNT ? RuleVerdict.SUSPICIOUS : RuleVerdict.PASS;
+    }
+
+    @Override
+    public String getReason(ScoringContext context) {
+        return "сумма перевода " + context.getTransfer().getAmount() + " превышает порог";
+    }
+}
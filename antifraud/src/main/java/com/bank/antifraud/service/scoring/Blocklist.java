@@ -0,0 +1,95 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.repository.BlocklistRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Заблокированные номера карт и телефонов в памяти. Строится из строк с {@code is_target_blocked = true}
+ * при старте и дополняется при сохранении новых блокировок после коммита транзакции;
+ * добавление ждет идущей перестройки, чтобы не попасть в заменяемый список.
+ * Удалить номер из фильтра Блума нельзя, поэтому снятая блокировка перестраивает список целиком.
+ * Проверка номера к БД не обращается.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class Blocklist {
+
+    private final BlocklistRepository repository;
+    private volatile NumberBlocklist cards = new NumberBlocklist(0);
+    private volatile NumberBlocklist phones = new NumberBlocklist(0);
+
+    /**
+     * Перестраивает списки целиком, в том числе убирает разблокированные номера.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        cards = NumberBlocklist.of(repository.findBlockedCardNumbers());
+        phones = NumberBlocklist.of(repository.findBlockedPhoneNumbers());
+
+        log.info("Загружены списки блокировок: {} карт, {} телефонов", cards.size(), phones.size());
+    }
+
+    /**
+     * @param type   {@link TransferType}
+     * @param number номер карты или телефона
+     * @return true, если номер заблокирован; переводы по номеру счета не проверяются
+     */
+    public boolean isBlocked(TransferType type, Long number) {
+        if (number == null) {
+            return false;
+        }
+
+        return switch (type) {
+            case CARD -> cards.contains(number);
+            case PHONE -> phones.contains(number);
+            case ACCOUNT -> false;
+        };
+    }
+
+    /**
+     * Добавляет номер после коммита текущей транзакции, чтобы откат не оставил лишней блокировки.
+     *
+     * @param type   {@link TransferType}
+     * @param number номер карты или телефона
+     */
+    public void block(TransferType type, Long number) {
+        if (number == null || type == TransferType.ACCOUNT) {
+            return;
+        }
+
+        afterCommit(() -> add(type, number));
+    }
+
+    /**
+     * Перестраивает списки после коммита текущей транзакции, в которой снята блокировка номера.
+     * Номер остается в списке, если его блокирует другой перевод.
+     */
+    public void unblock() {
+        afterCommit(this::rebuild);
+    }
+
+    private synchronized void add(TransferType type, long number) {
+        (type == TransferType.CARD ? cards : phones).add(number);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
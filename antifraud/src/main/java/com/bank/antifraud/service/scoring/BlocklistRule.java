@@ -0,0 +1,37 @@
+package com.bank.antifraud.service.scoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Перевод на карту или телефон из {@link Blocklist} блокируется сразу.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlocklistRule implements ScoringRule {
+
+    private final Blocklist blocklist;
+
+    @Override
+    public String getName() {
+        return "blocklist";
+    }
+
+    @Override
+    public RuleVerdict evaluate(ScoringContext context) {
+        return blocklist.isBlocked(context.getType(), targetNumber(context)) ? RuleVerdict.BLOCKED : RuleVerdict.PASS;
+    }
+
+    @Override
+    public String getReason(ScoringContext context) {
+        return "получатель " + context.getType() + " в списке блокировок";
+    }
+
+    private Long targetNumber(ScoringContext context) {
+        return switch (context.getType()) {
+            case CARD -> context.getTransfer().getCardNumber();
+            case PHONE -> context.getTransfer().getPhoneNumber();
+            case ACCOUNT -> null;
+        };
+    }
+}
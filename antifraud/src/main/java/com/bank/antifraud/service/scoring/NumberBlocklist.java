@@ -0,0 +1,173 @@
+package com.bank.antifraud.service.scoring;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Множество заблокированных номеров карт или телефонов: фильтр Блума перед точной хеш-таблицей
+ * на {@code long} без упаковки. Большинство номеров не заблокированы, и для них ответ дает
+ * фильтр за {@link #HASHES} чтений памяти; совпадение по фильтру проверяется в таблице.
+ *
+ * <p>Чтение не берет блокировок. Добавление синхронизировано: номер сначала пишется в таблицу,
+ * затем в фильтр, поэтому положительный ответ фильтра всегда подтверждается таблицей.
+ * При заполнении таблицы наполовину таблица и фильтр перестраиваются вдвое большими.
+ */
+public class NumberBlocklist {
+
+    /**
+     * число хеш-функций фильтра, при {@link #BITS_PER_NUMBER} бит на номер ложных срабатываний меньше 1%.
+     */
+    public static final int HASHES = 7;
+
+    private static final int BITS_PER_NUMBER = 10;
+    private static final int MIN_CAPACITY = 1 << 10;
+    private static final long EMPTY = 0;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private volatile State state;
+
+    /**
+     * @param expectedSize ожидаемое число номеров
+     */
+    public NumberBlocklist(int expectedSize) {
+        this.state = new State(capacityFor(expectedSize));
+    }
+
+    /**
+     * @param numbers номера для начального заполнения
+     * @return {@link NumberBlocklist} с этими номерами
+     */
+    public static NumberBlocklist of(long[] numbers) {
+        final NumberBlocklist blocklist = new NumberBlocklist(numbers.length);
+
+        for (long number : numbers) {
+            blocklist.add(number);
+        }
+
+        return blocklist;
+    }
+
+    /**
+     * @param number номер карты или телефона
+     * @return true, если номер заблокирован
+     */
+    public boolean contains(long number) {
+        final State current = state;
+        return number != EMPTY && current.mightContain(number) && current.containsExact(number);
+    }
+
+    /**
+     * @param number номер карты или телефона, 0 игнорируется
+     */
+    public synchronized void add(long number) {
+        if (number == EMPTY || state.containsExact(number)) {
+            return;
+        }
+
+        if ((state.size + 1) * 2L > state.table.length()) {
+            state = state.grow();
+        }
+
+        state.put(number);
+    }
+
+    /**
+     * @return число номеров
+     */
+    public int size() {
+        return state.size;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        final int required = Math.max(MIN_CAPACITY, expectedSize * 2);
+        return Integer.highestOneBit(required - 1) << 1;
+    }
+
+    private static long mix(long number) {
+        long z = number * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 33)) * 0xFF51AFD7ED558CCDL;
+        return z ^ (z >>> 33);
+    }
+
+    /**
+     * Таблица и фильтр одного размера; при росте заменяются целиком.
+     */
+    private static final class State {
+
+        private final AtomicLongArray table;
+        private final AtomicLongArray bloom;
+        private final int tableMask;
+        private final long bloomMask;
+        private volatile int size;
+
+        State(int capacity) {
+            final long bits = Long.highestOneBit((long) capacity * BITS_PER_NUMBER / 2 - 1) << 1;
+
+            this.table = new AtomicLongArray(capacity);
+            this.tableMask = capacity - 1;
+            this.bloom = new AtomicLongArray((int) (bits >>> 6));
+            this.bloomMask = bits - 1;
+        }
+
+        boolean mightContain(long number) {
+            final long hash = mix(number);
+            final long step = (hash >>> 32) | 1;
+
+            for (int i = 0; i < HASHES; i++) {
+                final long bit = (hash + i * step) & bloomMask;
+
+                if ((bloom.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        boolean containsExact(long number) {
+            for (int slot = (int) mix(number) & tableMask; ; slot = (slot + 1) & tableMask) {
+                final long current = table.get(slot);
+
+                if (current == number) {
+                    return true;
+                }
+                if (current == EMPTY) {
+                    return false;
+                }
+            }
+        }
+
+        void put(long number) {
+            int slot = (int) mix(number) & tableMask;
+
+            while (table.get(slot) != EMPTY) {
+                slot = (slot + 1) & tableMask;
+            }
+
+            table.set(slot, number);
+            size++;
+
+            final long hash = mix(number);
+            final long step = (hash >>> 32) | 1;
+
+            for (int i = 0; i < HASHES; i++) {
+                final long bit = (hash + i * step) & bloomMask;
+                final int word = (int) (bit >>> 6);
+                bloom.set(word, bloom.get(word) | (1L << bit));
+            }
+        }
+
+        State grow() {
+            final State grown = new State(table.length() * 2);
+
+            for (int slot = 0; slot < table.length(); slot++) {
+                final long number = table.get(slot);
+
+                if (number != EMPTY) {
+                    grown.put(number);
+                }
+            }
+
+            return grown;
+        }
+    }
+}
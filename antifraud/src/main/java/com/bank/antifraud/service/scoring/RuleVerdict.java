@@ -0,0 +1,10 @@
+package com.bank.antifraud.service.scoring;
+
+/**
+ * Результат одного правила.
+ */
+public enum RuleVerdict {
+    PASS,
+    SUSPICIOUS,
+    BLOCKED
+}
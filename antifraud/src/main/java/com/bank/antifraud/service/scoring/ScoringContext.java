@@ -0,0 +1,29 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Перевод вместе со снимком счетчиков его отправителя и получателя. Текущий перевод
+ * уже учтен в счетчиках. Суммы хранятся в копейках, назначение платежа — в нижнем регистре,
+ * чтобы правила не приводили его к регистру на каждой проверке.
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ScoringContext {
+
+    TransferType type;
+    TransferScoringDto transfer;
+    String purpose;
+    long amount;
+    long sourceCountMinute;
+    long sourceCountHour;
+    long sourceSumHour;
+    long targetCountMinute;
+    long targetCountHour;
+    long targetSumHour;
+}
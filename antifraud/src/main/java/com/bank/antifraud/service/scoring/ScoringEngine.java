@@ -0,0 +1,165 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.service.scoring.dsl.CompiledRule;
+import com.bank.antifraud.service.scoring.dsl.DslRuleRegistry;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Оценка перевода в памяти: учитывает перевод в счетчиках отправителя и получателя
+ * и прогоняет его через все {@link ScoringRule} и правила аналитиков из {@link DslRuleRegistry}.
+ * К БД не обращается.
+ */
+@Component
+public class ScoringEngine {
+
+    private static final int COUNTER_CAPACITY = 1 << 14;
+    private static final String REASON_DELIMITER = "; ";
+
+    private final List<ScoringRule> rules;
+    private final DslRuleRegistry dslRules;
+    private final VelocityCounter sources = new VelocityCounter(COUNTER_CAPACITY);
+    private final VelocityCounter accounts = new VelocityCounter(COUNTER_CAPACITY);
+    private final VelocityCounter cards = new VelocityCounter(COUNTER_CAPACITY);
+    private final VelocityCounter phones = new VelocityCounter(COUNTER_CAPACITY);
+
+    public ScoringEngine(List<ScoringRule> rules, DslRuleRegistry dslRules) {
+        this.rules = rules;
+        this.dslRules = dslRules;
+    }
+
+    /**
+     * @param type     {@link TransferType}
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link ScoringResult}
+     */
+    public ScoringResult score(TransferType type, TransferScoringDto transfer) {
+        return score(type, transfer, System.currentTimeMillis());
+    }
+
+    /**
+     * @param type      {@link TransferType}
+     * @param transfer  {@link TransferScoringDto}
+     * @param nowMillis время перевода
+     * @return {@link ScoringResult}
+     */
+    public ScoringResult score(TransferType type, TransferScoringDto transfer, long nowMillis) {
+        final long amount = toKopecks(transfer.getAmount());
+        final Long source = transfer.getAccountDetailsId();
+        final Long target = targetKey(type, transfer);
+        final VelocityCounter targets = getTargetCounter(type);
+
+        if (source != null) {
+            sources.record(source, amount, nowMillis);
+        }
+        if (target != null) {
+            targets.record(target, amount, nowMillis);
+        }
+
+        final ScoringContext context = new ScoringContext(type, transfer, normalizePurpose(transfer), amount,
+                source == null ? 0 : sources.count(source, VelocityWindow.MINUTE, nowMillis),
+                source == null ? 0 : sources.count(source, VelocityWindow.HOUR, nowMillis),
+                source == null ? 0 : sources.sum(source, VelocityWindow.HOUR, nowMillis),
+                target == null ? 0 : targets.count(target, VelocityWindow.MINUTE, nowMillis),
+                target == null ? 0 : targets.count(target, VelocityWindow.HOUR, nowMillis),
+                target == null ? 0 : targets.sum(target, VelocityWindow.HOUR, nowMillis));
+
+        return evaluate(context);
+    }
+
+    /**
+     * Оценка сохраненного перевода по действующим правилам. Перевод не учитывается в счетчиках,
+     * а счетчики в контексте нулевые: история на момент перевода уже недоступна. Поэтому
+     * результат не может снять оценку, поставленную правилами частоты.
+     *
+     * @param type     {@link TransferType}
+     * @param transfer {@link TransferScoringDto}
+     * @return {@link ScoringResult}
+     */
+    public ScoringResult rescore(TransferType type, TransferScoringDto transfer) {
+        return evaluate(new ScoringContext(type, transfer, normalizePurpose(transfer),
+                toKopecks(transfer.getAmount()), 0, 0, 0, 0, 0, 0));
+    }
+
+    /**
+     * @param type {@link TransferType}
+     * @return счетчик переводов на получателей данного типа
+     */
+    public VelocityCounter getTargetCounter(TransferType type) {
+        return switch (type) {
+            case ACCOUNT -> accounts;
+            case CARD -> cards;
+            case PHONE -> phones;
+        };
+    }
+
+    private ScoringResult evaluate(ScoringContext context) {
+        final StringJoiner suspiciousReasons = new StringJoiner(REASON_DELIMITER);
+        final StringJoiner blockedReasons = new StringJoiner(REASON_DELIMITER);
+        boolean targetBlocked = false;
+
+        for (ScoringRule rule : rules) {
+            targetBlocked |= apply(rule, context, suspiciousReasons, blockedReasons);
+        }
+        for (CompiledRule rule : dslRules.getRules()) {
+            targetBlocked |= apply(rule, context, suspiciousReasons, blockedReasons);
+        }
+
+        final boolean blocked = blockedReasons.length() > 0;
+        final boolean suspicious = blocked || suspiciousReasons.length() > 0;
+
+        return new ScoringResult(suspicious, blocked,
+                suspicious ? merge(suspiciousReasons, blockedReasons) : null,
+                blocked ? blockedReasons.toString() : null, targetBlocked);
+    }
+
+    /**
+     * @return true, если правило заблокировало перевод и блокировка относится к получателю
+     */
+    private boolean apply(ScoringRule rule, ScoringContext context,
+                          StringJoiner suspiciousReasons, StringJoiner blockedReasons) {
+        final RuleVerdict verdict = rule.evaluate(context);
+
+        if (verdict == RuleVerdict.BLOCKED) {
+            blockedReasons.add(rule.getReason(context));
+            return rule.isTargetBlocking();
+        }
+
+        if (verdict == RuleVerdict.SUSPICIOUS) {
+            suspiciousReasons.add(rule.getReason(context));
+        }
+
+        return false;
+    }
+
+    private String merge(StringJoiner suspiciousReasons, StringJoiner blockedReasons) {
+        if (suspiciousReasons.length() == 0) {
+            return blockedReasons.toString();
+        }
+
+        return blockedReasons.length() == 0 ? suspiciousReasons.toString()
+                : blockedReasons + REASON_DELIMITER + suspiciousReasons;
+    }
+
+    private Long targetKey(TransferType type, TransferScoringDto transfer) {
+        return switch (type) {
+            case ACCOUNT -> transfer.getAccountNumber();
+            case CARD -> transfer.getCardNumber();
+            case PHONE -> transfer.getPhoneNumber();
+        };
+    }
+
+    private String normalizePurpose(TransferScoringDto transfer) {
+        return transfer.getPurpose() == null ? null : transfer.getPurpose().toLowerCase(Locale.ROOT);
+    }
+
+    private long toKopecks(BigDecimal amount) {
+        return amount == null ? 0 : amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValue();
+    }
+}
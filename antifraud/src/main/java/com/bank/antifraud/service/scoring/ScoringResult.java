@@ -0,0 +1,22 @@
+package com.bank.antifraud.service.scoring;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Итог оценки перевода всеми правилами. Заблокированный перевод всегда и подозрительный.
+ * {@code targetBlocked} — блокировка относится к получателю, и его номер уходит в {@link Blocklist}.
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ScoringResult {
+
+    boolean suspicious;
+    boolean blocked;
+    String suspiciousReason;
+    String blockedReason;
+    boolean targetBlocked;
+}
@@ -0,0 +1,32 @@
+package com.bank.antifraud.service.scoring;
+
+/**
+ * Правило антифрода. Вызывается на каждый перевод, поэтому не должно обращаться к БД.
+ */
+public interface ScoringRule {
+
+    /**
+     * @return уникальное имя правила
+     */
+    String getName();
+
+    /**
+     * @param context перевод и его история
+     * @return {@link RuleVerdict}
+     */
+    RuleVerdict evaluate(ScoringContext context);
+
+    /**
+     * @param context перевод и его история
+     * @return причина, которая пишется в blocked_reason или suspicious_reason
+     */
+    String getReason(ScoringContext context);
+
+    /**
+     * @return true, если блокировка правилом относится к самому получателю и его номер
+     * попадает в {@link Blocklist}; блокировки по сумме или отправителю номер не блокируют
+     */
+    default boolean isTargetBlocking() {
+        return false;
+    }
+}
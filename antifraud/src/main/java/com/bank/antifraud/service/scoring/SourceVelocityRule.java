@@ -0,0 +1,60 @@
+package com.bank.antifraud.service.scoring;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.StringJoiner;
+
+/**
+ * Частота и объем переводов со счета отправителя.
+ */
+@Component
+public class SourceVelocityRule implements ScoringRule {
+
+    private static final long SUSPICIOUS_COUNT_PER_MINUTE = 10;
+    private static final long BLOCKED_COUNT_PER_MINUTE = 30;
+    private static final long SUSPICIOUS_SUM_PER_HOUR = 1_000_000_00L;
+
+    @Override
+    public String getName() {
+        return "source-velocity";
+    }
+
+    @Override
+    public RuleVerdict evaluate(ScoringContext context) {
+        if (context.getSourceCountMinute() > BLOCKED_COUNT_PER_MINUTE) {
+            return RuleVerdict.BLOCKED;
+        }
+
+        if (context.getSourceCountMinute() > SUSPICIOUS_COUNT_PER_MINUTE
+                || context.getSourceSumHour() > SUSPICIOUS_SUM_PER_HOUR) {
+            return RuleVerdict.SUSPICIOUS;
+        }
+
+        return RuleVerdict.PASS;
+    }
+
+    /**
+     * Причина собирается только из сработавших условий.
+     */
+    @Override
+    public String getReason(ScoringContext context) {
+        final StringJoiner reasons = new StringJoiner(", ",
+                "со счета " + context.getTransfer().getAccountDetailsId() + " ", "");
+
+        if (context.getSourceCountMinute() > BLOCKED_COUNT_PER_MINUTE) {
+            reasons.add(context.getSourceCountMinute() + " переводов за минуту при пороге блокировки "
+                    + BLOCKED_COUNT_PER_MINUTE);
+        } else if (context.getSourceCountMinute() > SUSPICIOUS_COUNT_PER_MINUTE) {
+            reasons.add(context.getSourceCountMinute() + " переводов за минуту при пороге "
+                    + SUSPICIOUS_COUNT_PER_MINUTE);
+        }
+
+        if (context.getSourceSumHour() > SUSPICIOUS_SUM_PER_HOUR) {
+            reasons.add("переведено " + BigDecimal.valueOf(context.getSourceSumHour(), 2)
+                    + " за час при пороге " + BigDecimal.valueOf(SUSPICIOUS_SUM_PER_HOUR, 2));
+        }
+
+        return reasons.toString();
+    }
+}
@@ -0,0 +1,66 @@
+package com.bank.antifraud.service.scoring;
+
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.StringJoiner;
+
+/**
+ * История получателя: номера счета, карты или телефона. Много мелких переводов
+ * на одну карту за минуту — типичная проверка украденных карт.
+ */
+@Component
+public class TargetHistoryRule implements ScoringRule {
+
+    private static final long BLOCKED_COUNT_PER_MINUTE = 5;
+    private static final long SUSPICIOUS_COUNT_PER_HOUR = 20;
+    private static final long SUSPICIOUS_SUM_PER_HOUR = 500_000_00L;
+
+    @Override
+    public String getName() {
+        return "target-history";
+    }
+
+    @Override
+    public boolean isTargetBlocking() {
+        return true;
+    }
+
+    @Override
+    public RuleVerdict evaluate(ScoringContext context) {
+        if (context.getTargetCountMinute() > BLOCKED_COUNT_PER_MINUTE) {
+            return RuleVerdict.BLOCKED;
+        }
+
+        if (context.getTargetCountHour() > SUSPICIOUS_COUNT_PER_HOUR
+                || context.getTargetSumHour() > SUSPICIOUS_SUM_PER_HOUR) {
+            return RuleVerdict.SUSPICIOUS;
+        }
+
+        return RuleVerdict.PASS;
+    }
+
+    /**
+     * Причина собирается только из сработавших условий.
+     */
+    @Override
+    public String getReason(ScoringContext context) {
+        final StringJoiner reasons = new StringJoiner(", ", "получатель " + context.getType() + " получил ", "");
+
+        if (context.getTargetCountMinute() > BLOCKED_COUNT_PER_MINUTE) {
+            reasons.add(context.getTargetCountMinute() + " переводов за минуту при пороге блокировки "
+                    + BLOCKED_COUNT_PER_MINUTE);
+        }
+
+        if (context.getTargetCountHour() > SUSPICIOUS_COUNT_PER_HOUR) {
+            reasons.add(context.getTargetCountHour() + " переводов за час при пороге " + SUSPICIOUS_COUNT_PER_HOUR);
+        }
+
+        if (context.getTargetSumHour() > SUSPICIOUS_SUM_PER_HOUR) {
+            reasons.add(BigDecimal.valueOf(context.getTargetSumHour(), 2) + " за час при пороге "
+                    + BigDecimal.valueOf(SUSPICIOUS_SUM_PER_HOUR, 2));
+        }
+
+        return reasons.toString();
+    }
+}
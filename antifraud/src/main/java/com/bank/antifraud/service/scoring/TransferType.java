@@ -0,0 +1,10 @@
+package com.bank.antifraud.service.scoring;
+
+/**
+ * Вид перевода, от него зависит, чья история используется как история получателя.
+ */
+public enum TransferType {
+    ACCOUNT,
+    CARD,
+    PHONE
+}
@@ -0,0 +1,231 @@
+package com.bank.antifraud.service.scoring;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Количество и сумма событий по ключу {@code long} за окна {@link VelocityWindow}.
+ *
+ * <p>Память ограничена заранее: ключи лежат в наборах по {@link #WAYS} ячеек (как в кеше процессора),
+ * набор выбирается по хешу ключа. Новый ключ занимает свободную ячейку набора или вытесняет
+ * ключ, к которому дольше всех не обращались.
+ *
+ * <p>Учет события и чтение существующего ключа не берут блокировок: каждая корзина — одно
+ * {@code long}, в старших 24 битах номер корзины во времени, в младших 40 битах значение,
+ * и корзина меняется одним CAS, так что устаревшая корзина обнуляется атомарно с первым
+ * событием нового интервала. Опоздавшее событие не затирает корзину более нового интервала.
+ * Только добавление нового ключа в набор захватывает флаг набора.
+ * Событие, пришедшее одновременно с вытеснением холодного ключа, может попасть в счетчик нового ключа.
+ */
+public class VelocityCounter {
+
+    /**
+     * число ячеек в наборе.
+     */
+    public static final int WAYS = 8;
+
+    private static final VelocityWindow[] WINDOWS = VelocityWindow.values();
+    private static final int BUCKETS_PER_KEY;
+    private static final int[] WINDOW_OFFSETS = new int[WINDOWS.length];
+    private static final int EPOCH_SHIFT = 40;
+    private static final long VALUE_MASK = (1L << EPOCH_SHIFT) - 1;
+    private static final long EPOCH_MASK = (1L << (Long.SIZE - EPOCH_SHIFT)) - 1;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    private static final long ACCESS_RESOLUTION_MILLIS = 1_000L;
+
+    static {
+        int offset = 0;
+
+        for (VelocityWindow window : WINDOWS) {
+            WINDOW_OFFSETS[window.ordinal()] = offset;
+            offset += window.getBuckets();
+        }
+
+        BUCKETS_PER_KEY = offset;
+    }
+
+    private final int setMask;
+    private final AtomicLongArray keys;
+    private final AtomicLongArray lastAccess;
+    private final AtomicLongArray counts;
+    private final AtomicLongArray sums;
+    private final AtomicIntegerArray setLocks;
+
+    /**
+     * @param capacity сколько ключей помещается в счетчик, округляется вверх до степени двойки
+     */
+    public VelocityCounter(int capacity) {
+        final int required = (capacity + WAYS - 1) / WAYS;
+        final int sets = required <= 1 ? 1 : Integer.highestOneBit(required - 1) << 1;
+        final int slots = sets * WAYS;
+
+        this.setMask = sets - 1;
+        this.keys = new AtomicLongArray(slots);
+        this.lastAccess = new AtomicLongArray(slots);
+        this.counts = new AtomicLongArray(slots * BUCKETS_PER_KEY);
+        this.sums = new AtomicLongArray(slots * BUCKETS_PER_KEY);
+        this.setLocks = new AtomicIntegerArray(sets);
+    }
+
+    /**
+     * @return сколько ключей помещается в счетчик
+     */
+    public int capacity() {
+        return keys.length();
+    }
+
+    /**
+     * @param key       ключ, например номер карты
+     * @param amount    сумма в копейках
+     * @param nowMillis текущее время
+     */
+    public void record(long key, long amount, long nowMillis) {
+        final int slot = slotFor(key, nowMillis);
+        final int base = slot * BUCKETS_PER_KEY;
+
+        for (VelocityWindow window : WINDOWS) {
+            final long epoch = nowMillis / window.getBucketMillis();
+            final int bucket = base + WINDOW_OFFSETS[window.ordinal()] + (int) (epoch % window.getBuckets());
+
+            add(counts, bucket, epoch, 1);
+            add(sums, bucket, epoch, amount);
+        }
+    }
+
+    /**
+     * @param key       ключ
+     * @param window    {@link VelocityWindow}
+     * @param nowMillis текущее время
+     * @return число событий за окно
+     */
+    public long count(long key, VelocityWindow window, long nowMillis) {
+        return read(counts, key, window, nowMillis);
+    }
+
+    /**
+     * @param key       ключ
+     * @param window    {@link VelocityWindow}
+     * @param nowMillis текущее время
+     * @return сумма событий за окно в копейках
+     */
+    public long sum(long key, VelocityWindow window, long nowMillis) {
+        return read(sums, key, window, nowMillis);
+    }
+
+    private long read(AtomicLongArray cells, long key, VelocityWindow window, long nowMillis) {
+        final int slot = find(key, setOf(key));
+
+        if (slot < 0) {
+            return 0;
+        }
+
+        final long epoch = nowMillis / window.getBucketMillis();
+        final int base = slot * BUCKETS_PER_KEY + WINDOW_OFFSETS[window.ordinal()];
+        long total = 0;
+
+        for (int i = 0; i < window.getBuckets(); i++) {
+            final long cell = cells.get(base + i);
+            final long age = ((epoch & EPOCH_MASK) - (cell >>> EPOCH_SHIFT)) & EPOCH_MASK;
+
+            if (age < window.getBuckets()) {
+                total += cell & VALUE_MASK;
+            }
+        }
+
+        return total;
+    }
+
+    private static void add(AtomicLongArray cells, int bucket, long epoch, long delta) {
+        final long tag = (epoch & EPOCH_MASK) << EPOCH_SHIFT;
+
+        while (true) {
+            final long cell = cells.get(bucket);
+            final long newer = ((cell >>> EPOCH_SHIFT) - (epoch & EPOCH_MASK)) & EPOCH_MASK;
+
+            if (cell != 0 && newer != 0 && newer < EPOCH_MASK >>> 1) {
+                return;
+            }
+
+            final long value = (cell & ~VALUE_MASK) == tag ? cell & VALUE_MASK : 0;
+            final long updated = tag | Math.min(VALUE_MASK, value + delta);
+
+            if (cells.compareAndSet(bucket, cell, updated)) {
+                return;
+            }
+        }
+    }
+
+    private int slotFor(long key, long nowMillis) {
+        final int set = setOf(key);
+        final int slot = find(key, set);
+
+        if (slot >= 0) {
+            touch(slot, nowMillis);
+            return slot;
+        }
+
+        while (!setLocks.compareAndSet(set, 0, 1)) {
+            Thread.onSpinWait();
+        }
+
+        try {
+            final int existing = find(key, set);
+
+            if (existing >= 0) {
+                touch(existing, nowMillis);
+                return existing;
+            }
+
+            final int victim = leastRecentlyUsed(set);
+
+            for (int bucket = victim * BUCKETS_PER_KEY; bucket < (victim + 1) * BUCKETS_PER_KEY; bucket++) {
+                counts.set(bucket, 0);
+                sums.set(bucket, 0);
+            }
+
+            lastAccess.set(victim, 0);
+            keys.set(victim, key);
+            lastAccess.set(victim, Math.max(1, nowMillis));
+
+            return victim;
+        } finally {
+            setLocks.set(set, 0);
+        }
+    }
+
+    /**
+     * @return ячейка ключа или -1; ячейка с нулевым временем обращения свободна
+     */
+    private int find(long key, int set) {
+        for (int slot = set * WAYS; slot < (set + 1) * WAYS; slot++) {
+            if (lastAccess.get(slot) != 0 && keys.get(slot) == key) {
+                return slot;
+            }
+        }
+
+        return -1;
+    }
+
+    private int leastRecentlyUsed(int set) {
+        int victim = set * WAYS;
+
+        for (int slot = set * WAYS; slot < (set + 1) * WAYS; slot++) {
+            if (lastAccess.get(slot) < lastAccess.get(victim)) {
+                victim = slot;
+            }
+        }
+
+        return victim;
+    }
+
+    private void touch(int slot, long nowMillis) {
+        if (nowMillis - lastAccess.get(slot) >= ACCESS_RESOLUTION_MILLIS) {
+            lastAccess.lazySet(slot, nowMillis);
+        }
+    }
+
+    private int setOf(long key) {
+        final long hash = key * GOLDEN_GAMMA;
+        return (int) (hash ^ (hash >>> 32)) & setMask;
+    }
+}
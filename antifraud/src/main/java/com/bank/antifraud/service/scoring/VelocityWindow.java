@@ -0,0 +1,27 @@
+package com.bank.antifraud.service.scoring;
+
+/**
+ * Окно счетчика {@link VelocityCounter}: кольцо корзин фиксированной ширины.
+ * Окно скользит с шагом в одну корзину.
+ */
+public enum VelocityWindow {
+    MINUTE(5_000L, 12),
+    HOUR(300_000L, 12),
+    DAY(3_600_000L, 24);
+
+    private final long bucketMillis;
+    private final int buckets;
+
+    VelocityWindow(long bucketMillis, int buckets) {
+        this.bucketMillis = bucketMillis;
+        this.buckets = buckets;
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    public int getBuckets() {
+        return buckets;
+    }
+}
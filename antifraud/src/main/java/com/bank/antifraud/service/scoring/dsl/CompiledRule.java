@@ -0,0 +1,92 @@
+package com.bank.antifraud.service.scoring.dsl;
+
+import com.bank.antifraud.service.scoring.RuleVerdict;
+import com.bank.antifraud.service.scoring.ScoringContext;
+import com.bank.antifraud.service.scoring.ScoringRule;
+import lombok.Getter;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Правило из {@link DslRuleRegistry}, скомпилированное {@link RuleCompiler}.
+ * Считает вызовы и срабатывания; время вычисления замеряется на каждом
+ * {@link #SAMPLE_RATE}-м вызове, чтобы сам замер не стоил дороже правила.
+ */
+public class CompiledRule implements ScoringRule {
+
+    /**
+     * в среднем один замер времени на столько вызовов.
+     */
+    public static final int SAMPLE_RATE = 64;
+
+    @Getter
+    private final String name;
+    @Getter
+    private final RuleVerdict verdict;
+    @Getter
+    private final String expression;
+    private final Predicate<ScoringContext> predicate;
+    private final LongAdder evaluations = new LongAdder();
+    private final LongAdder matches = new LongAdder();
+    private final LongAdder sampledNanos = new LongAdder();
+    private final LongAdder samples = new LongAdder();
+
+    public CompiledRule(String name, RuleVerdict verdict, String expression, Predicate<ScoringContext> predicate) {
+        this.name = name;
+        this.verdict = verdict;
+        this.expression = expression;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public RuleVerdict evaluate(ScoringContext context) {
+        evaluations.increment();
+
+        final boolean matched;
+
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_RATE) == 0) {
+            final long start = System.nanoTime();
+            matched = predicate.test(context);
+            sampledNanos.add(System.nanoTime() - start);
+            samples.increment();
+        } else {
+            matched = predicate.test(context);
+        }
+
+        if (matched) {
+            matches.increment();
+            return verdict;
+        }
+
+        return RuleVerdict.PASS;
+    }
+
+    @Override
+    public String getReason(ScoringContext context) {
+        return "правило " + name + ": " + expression;
+    }
+
+    /**
+     * @return число вычислений правила
+     */
+    public long getEvaluations() {
+        return evaluations.sum();
+    }
+
+    /**
+     * @return число срабатываний правила
+     */
+    public long getMatches() {
+        return matches.sum();
+    }
+
+    /**
+     * @return среднее время вычисления по замерам, нс
+     */
+    public long getAverageNanos() {
+        final long count = samples.sum();
+        return count == 0 ? 0 : sampledNanos.sum() / count;
+    }
+}
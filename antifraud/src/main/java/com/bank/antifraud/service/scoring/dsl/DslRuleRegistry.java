@@ -0,0 +1,149 @@
+package com.bank.antifraud.service.scoring.dsl;
+
+import com.bank.antifraud.service.scoring.RuleVerdict;
+import com.bank.common.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Правила аналитиков из файла, по одному на строку: {@code имя | SUSPICIOUS | выражение}.
+ * Строки, начинающиеся с {@code #}, и пустые строки пропускаются.
+ *
+ * <p>Файл перечитывается без перезапуска: не чаще раза в секунду {@link #getRules()} сверяет
+ * время изменения файла и компилирует новый набор. Набор с ошибкой не применяется,
+ * продолжает работать предыдущий.
+ */
+@Slf4j
+@Component
+public class DslRuleRegistry {
+
+    private static final long CHECK_INTERVAL_MILLIS = 1_000L;
+    private static final String COLUMN_DELIMITER = "\\|";
+    private static final String COMMENT = "#";
+
+    private final RuleCompiler compiler;
+    private final Path path;
+    private volatile List<CompiledRule> rules = List.of();
+    private volatile long loadedModified = -1;
+    private volatile long nextCheck;
+
+    public DslRuleRegistry(RuleCompiler compiler, @Value("${antifraud.rules-file:rules/antifraud.rules}") String path) {
+        this.compiler = compiler;
+        this.path = Paths.get(path);
+    }
+
+    /**
+     * @return действующий набор правил
+     */
+    public List<CompiledRule> getRules() {
+        return getRules(System.currentTimeMillis());
+    }
+
+    /**
+     * @param nowMillis текущее время
+     * @return действующий набор правил
+     */
+    List<CompiledRule> getRules(long nowMillis) {
+        if (nowMillis >= nextCheck) {
+            nextCheck = nowMillis + CHECK_INTERVAL_MILLIS;
+            reloadIfModified();
+        }
+
+        return rules;
+    }
+
+    /**
+     * Перечитывает файл независимо от времени изменения.
+     *
+     * @return новый набор правил
+     * @throws ValidationException если в файле есть ошибка, набор при этом не меняется
+     */
+    public synchronized List<CompiledRule> reload() {
+        final long modified = lastModified();
+        rules = modified < 0 ? List.of() : parse(readLines());
+        loadedModified = modified;
+
+        log.info("Загружено {} правил антифрода из {}", rules.size(), path);
+
+        return rules;
+    }
+
+    private synchronized void reloadIfModified() {
+        if (lastModified() == loadedModified) {
+            return;
+        }
+
+        try {
+            reload();
+        } catch (ValidationException | UncheckedIOException e) {
+            loadedModified = lastModified();
+            log.error("Правила антифрода из {} не применены, действует предыдущий набор", path, e);
+        }
+    }
+
+    private List<CompiledRule> parse(List<String> lines) {
+        final List<CompiledRule> compiled = new ArrayList<>();
+        final Set<String> names = new HashSet<>();
+
+        for (String line : lines) {
+            final String trimmed = line.trim();
+
+            if (trimmed.isEmpty() || trimmed.startsWith(COMMENT)) {
+                continue;
+            }
+
+            final String[] columns = trimmed.split(COLUMN_DELIMITER, 3);
+
+            if (columns.length != 3) {
+                throw new ValidationException("Ожидалось 'имя | вердикт | выражение', получено: " + trimmed);
+            }
+
+            final String name = columns[0].trim();
+
+            if (!names.add(name)) {
+                throw new ValidationException("Правило " + name + " объявлено дважды");
+            }
+
+            compiled.add(compiler.compile(name, verdict(name, columns[1].trim()), columns[2].trim()));
+        }
+
+        return List.copyOf(compiled);
+    }
+
+    private RuleVerdict verdict(String name, String value) {
+        try {
+            return RuleVerdict.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Неизвестный вердикт " + value + " в правиле " + name);
+        }
+    }
+
+    private List<String> readLines() {
+        try {
+            return Files.readAllLines(path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private long lastModified() {
+        try {
+            return Files.exists(path) ? Files.getLastModifiedTime(path).toMillis() : -1;
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.bank.antifraud.service.scoring.dsl;
+
+import com.bank.antifraud.service.scoring.RuleVerdict;
+import com.bank.antifraud.service.scoring.ScoringContext;
+import com.bank.common.exception.ValidationException;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+/**
+ * Компилирует выражение правила в {@link Predicate} над {@link ScoringContext}.
+ * Разбор выполняется один раз при загрузке, на перевод вызывается только готовая лямбда.
+ *
+ * <pre>
+ * выражение := и ('or' и)*
+ * и         := не ('and' не)*
+ * не        := 'not' не | '(' выражение ')' | сравнение
+ * сравнение := числовое_поле ('&gt;' | '&gt;=' | '&lt;' | '&lt;=' | '=' | '!=') число
+ *            | строковое_поле ('=' | '!=' | 'contains') 'строка'
+ * </pre>
+ *
+ * Суммы (amount, sourceSumHour, targetSumHour) задаются в рублях, строки сравниваются без учета регистра:
+ * {@link ScoringContext#getPurpose()} уже в нижнем регистре, образец приводится к нему при компиляции.
+ */
+@Component
+public class RuleCompiler {
+
+    private static final BigDecimal KOPECKS_IN_RUBLE = BigDecimal.valueOf(100);
+
+    private static final Map<String, ToLongFunction<ScoringContext>> MONEY_FIELDS = Map.of(
+            "amount", ScoringContext::getAmount,
+            "sourcesumhour", ScoringContext::getSourceSumHour,
+            "targetsumhour", ScoringContext::getTargetSumHour);
+
+    private static final Map<String, ToLongFunction<ScoringContext>> COUNT_FIELDS = Map.of(
+            "sourcecountminute", ScoringContext::getSourceCountMinute,
+            "sourcecounthour", ScoringContext::getSourceCountHour,
+            "targetcountminute", ScoringContext::getTargetCountMinute,
+            "targetcounthour", ScoringContext::getTargetCountHour);
+
+    private static final Map<String, Function<ScoringContext, String>> STRING_FIELDS = Map.of(
+            "purpose", ScoringContext::getPurpose,
+            "type", context -> context.getType().name());
+
+    /**
+     * @param name       имя правила
+     * @param verdict    {@link RuleVerdict}, который выставляется при срабатывании
+     * @param expression выражение правила
+     * @return {@link CompiledRule}
+     * @throws ValidationException если выражение не разбирается
+     */
+    public CompiledRule compile(String name, RuleVerdict verdict, String expression) {
+        if (verdict == RuleVerdict.PASS) {
+            throw new ValidationException("Правило " + name + " не может иметь вердикт PASS");
+        }
+
+        final Parser parser = new Parser(name, tokenize(name, expression));
+        final Predicate<ScoringContext> predicate = parser.parseOr();
+        parser.expectEnd();
+
+        return new CompiledRule(name, verdict, expression, predicate);
+    }
+
+    private static List<String> tokenize(String name, String expression) {
+        final List<String> tokens = new ArrayList<>();
+        int i = 0;
+
+        while (i < expression.length()) {
+            final char c = expression.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '\'') {
+                final int end = expression.indexOf('\'', i + 1);
+                if (end < 0) {
+                    throw syntaxError(name, "незакрытая строка");
+                }
+                tokens.add(expression.substring(i, end + 1));
+                i = end + 1;
+            } else if (c == '(' || c == ')') {
+                tokens.add(String.valueOf(c));
+                i++;
+            } else if ("<>=!".indexOf(c) >= 0) {
+                final boolean twoChars = i + 1 < expression.length() && expression.charAt(i + 1) == '=';
+                tokens.add(expression.substring(i, twoChars ? i + 2 : i + 1));
+                i += twoChars ? 2 : 1;
+            } else if (Character.isLetterOrDigit(c) || c == '.' || c == '_') {
+                int end = i;
+                while (end < expression.length() && (Character.isLetterOrDigit(expression.charAt(end))
+                        || expression.charAt(end) == '.' || expression.charAt(end) == '_')) {
+                    end++;
+                }
+                tokens.add(expression.substring(i, end));
+                i = end;
+            } else {
+                throw syntaxError(name, "неожиданный символ '" + c + "'");
+            }
+        }
+
+        return tokens;
+    }
+
+    private static ValidationException syntaxError(String name, String message) {
+        return new ValidationException("Ошибка в правиле " + name + ": " + message);
+    }
+
+    /**
+     * Рекурсивный спуск по списку токенов.
+     */
+    private static final class Parser {
+
+        private final String name;
+        private final List<String> tokens;
+        private int position;
+
+        Parser(String name, List<String> tokens) {
+            this.name = name;
+            this.tokens = tokens;
+        }
+
+        Predicate<ScoringContext> parseOr() {
+            Predicate<ScoringContext> result = parseAnd();
+
+            while (accept("or")) {
+                final Predicate<ScoringContext> left = result;
+                final Predicate<ScoringContext> right = parseAnd();
+                result = context -> left.test(context) || right.test(context);
+            }
+
+            return result;
+        }
+
+        Predicate<ScoringContext> parseAnd() {
+            Predicate<ScoringContext> result = parseNot();
+
+            while (accept("and")) {
+                final Predicate<ScoringContext> left = result;
+                final Predicate<ScoringContext> right = parseNot();
+                result = context -> left.test(context) && right.test(context);
+            }
+
+            return result;
+        }
+
+        Predicate<ScoringContext> parseNot() {
+            if (accept("not")) {
+                final Predicate<ScoringContext> operand = parseNot();
+                return context -> !operand.test(context);
+            }
+
+            if (accept("(")) {
+                final Predicate<ScoringContext> inner = parseOr();
+                expect(")");
+                return inner;
+            }
+
+            return parseComparison();
+        }
+
+        Predicate<ScoringContext> parseComparison() {
+            final String field = next("имя поля").toLowerCase(Locale.ROOT);
+            final String operator = next("оператор").toLowerCase(Locale.ROOT);
+            final String operand = next("значение");
+
+            if (STRING_FIELDS.containsKey(field)) {
+                return compileString(STRING_FIELDS.get(field), operator, unquote(operand));
+            }
+
+            final ToLongFunction<ScoringContext> getter = MONEY_FIELDS.containsKey(field)
+                    ? MONEY_FIELDS.get(field) : COUNT_FIELDS.get(field);
+
+            if (getter == null) {
+                throw syntaxError(name, "неизвестное поле " + field);
+            }
+
+            return compileNumber(getter, operator, toLong(operand, MONEY_FIELDS.containsKey(field)));
+        }
+
+        private Predicate<ScoringContext> compileNumber(ToLongFunction<ScoringContext> getter,
+                                                        String operator, long value) {
+            return switch (operator) {
+                case ">" -> context -> getter.applyAsLong(context) > value;
+                case ">=" -> context -> getter.applyAsLong(context) >= value;
+                case "<" -> context -> getter.applyAsLong(context) < value;
+                case "<=" -> context -> getter.applyAsLong(context) <= value;
+                case "=" -> context -> getter.applyAsLong(context) == value;
+                case "!=" -> context -> getter.applyAsLong(context) != value;
+                default -> throw syntaxError(name, "оператор " + operator + " не применим к числу");
+            };
+        }
+
+        private Predicate<ScoringContext> compileString(Function<ScoringContext, String> getter,
+                                                        String operator, String value) {
+            final String needle = value.toLowerCase(Locale.ROOT);
+
+            return switch (operator) {
+                case "=" -> context -> needle.equalsIgnoreCase(getter.apply(context));
+                case "!=" -> context -> !needle.equalsIgnoreCase(getter.apply(context));
+                case "contains" -> context -> {
+                    final String actual = getter.apply(context);
+                    return actual != null && actual.contains(needle);
+                };
+                default -> throw syntaxError(name, "оператор " + operator + " не применим к строке");
+            };
+        }
+
+        private long toLong(String operand, boolean money) {
+            try {
+                final BigDecimal value = new BigDecimal(operand);
+                return (money ? value.multiply(KOPECKS_IN_RUBLE) : value).longValueExact();
+            } catch (ArithmeticException | NumberFormatException e) {
+                throw syntaxError(name, "ожидалось число, получено " + operand);
+            }
+        }
+
+        private String unquote(String operand) {
+            if (operand.length() < 2 || operand.charAt(0) != '\'') {
+                throw syntaxError(name, "ожидалась строка в кавычках, получено " + operand);
+            }
+
+            return operand.substring(1, operand.length() - 1);
+        }
+
+        private boolean accept(String token) {
+            if (position < tokens.size() && tokens.get(position).equalsIgnoreCase(token)) {
+                position++;
+                return true;
+            }
+
+            return false;
+        }
+
+        private void expect(String token) {
+            if (!accept(token)) {
+                throw syntaxError(name, "ожидалось " + token);
+            }
+        }
+
+        private String next(String expected) {
+            if (position >= tokens.size()) {
+                throw syntaxError(name, "ожидалось " + expected);
+            }
+
+            return tokens.get(position++);
+        }
+
+        void expectEnd() {
+            if (position < tokens.size()) {
+                throw syntaxError(name, "лишний токен " + tokens.get(position));
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.RescoringStatusDto;
+import com.bank.antifraud.service.impl.RescoringServiceImpl;
+import com.bank.antifraud.service.scoring.TransferType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class RescoringControllerTest {
+    @Mock
+    private RescoringServiceImpl service;
+    @InjectMocks
+    private RescoringController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("Запуск пересчета, позитивный сценарий")
+    void startPositiveTest() throws Exception {
+        when(service.start(TransferType.CARD, true))
+                .thenReturn(new RescoringStatusDto("CARD", true, 0L, 2_500L, 0L, 0L, null));
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/suspicious/rescoring/{type}", "CARD")
+                        .param("restart", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.running").value(true))
+                .andExpect(jsonPath("$.maxId").value(2_500));
+    }
+
+    @Test
+    @DisplayName("Чтение состояния пересчета, позитивный сценарий")
+    void readPositiveTest() throws Exception {
+        when(service.findStatus(TransferType.PHONE))
+                .thenReturn(new RescoringStatusDto("PHONE", false, 300L, null, 120L, 0L, null));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/suspicious/rescoring/{type}", "PHONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.processed").value(120));
+    }
+
+    @Test
+    @DisplayName("Неизвестный тип перевода, негативный сценарий")
+    void startNegativeTest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/suspicious/rescoring/{type}", "CRYPTO"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+}
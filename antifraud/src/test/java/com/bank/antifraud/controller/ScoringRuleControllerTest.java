@@ -0,0 +1,59 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.RuleStatsDto;
+import com.bank.antifraud.service.impl.ScoringRuleServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ScoringRuleControllerTest {
+    @Mock
+    private ScoringRuleServiceImpl service;
+    @InjectMocks
+    private ScoringRuleController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("Чтение правил аналитиков, позитивный сценарий")
+    void readAllPositiveTest() throws Exception {
+        when(service.findAll()).thenReturn(List.of(
+                new RuleStatsDto("crypto", "SUSPICIOUS", "purpose contains 'crypto'", 10L, 1L, 25L)));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/suspicious/rules"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name").value("crypto"))
+                .andExpect(jsonPath("$[0].averageNanos").value(25));
+    }
+
+    @Test
+    @DisplayName("Перечитывание правил аналитиков, позитивный сценарий")
+    void reloadPositiveTest() throws Exception {
+        when(service.reload()).thenReturn(List.of());
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/suspicious/rules/reload"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+
+        verify(service).reload();
+    }
+}
@@ -2,6 +2,7 @@ package com.bank.antifraud.controller;
 
 import com.bank.antifraud.service.impl.SuspiciousAccountTransferServiceImpl;
 import com.bank.antifraud.dto.SuspiciousAccountTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -147,4 +148,20 @@ public class SuspiciousAccountTransferControllerTest {
         when(service.update(id, suspiciousTransfer)).thenThrow(new EntityNotFoundException());
         assertThrows(EntityNotFoundException.class, () -> controller.update(suspiciousTransfer, id));
     }
+
+    @Test
+    @DisplayName("Оценка перевода, позитивный сценарий")
+    public void scorePositiveTest() throws Exception {
+        SuspiciousAccountTransferDto suspiciousTransfer = new SuspiciousAccountTransferDto();
+        suspiciousTransfer.setIsSuspicious(true);
+        suspiciousTransfer.setIsBlocked(false);
+        when(service.score(any(TransferScoringDto.class))).thenReturn(suspiciousTransfer);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/suspicious/account/transfer/score")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"transferId\": 7, \"amount\": 150000.00}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuspicious").value(true))
+                .andExpect(jsonPath("$.isBlocked").value(false));
+    }
 }
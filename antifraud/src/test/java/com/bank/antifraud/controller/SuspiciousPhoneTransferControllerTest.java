@@ -2,6 +2,7 @@ package com.bank.antifraud.controller;
 
 import com.bank.antifraud.service.impl.SuspiciousPhoneTransferServiceImpl;
 import com.bank.antifraud.dto.SuspiciousPhoneTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -150,4 +151,20 @@ public class SuspiciousPhoneTransferControllerTest {
         when(service.update(id, suspiciousTransfer)).thenThrow(new EntityNotFoundException());
         assertThrows(EntityNotFoundException.class, () -> controller.update(suspiciousTransfer, id));
     }
+
+    @Test
+    @DisplayName("Оценка перевода, позитивный сценарий")
+    public void scorePositiveTest() throws Exception {
+        SuspiciousPhoneTransferDto suspiciousTransfer = new SuspiciousPhoneTransferDto();
+        suspiciousTransfer.setIsSuspicious(true);
+        suspiciousTransfer.setIsBlocked(false);
+        when(service.score(any(TransferScoringDto.class))).thenReturn(suspiciousTransfer);
+
+        mockMvc.perform(MockMvcRequestBuilders.post("/suspicious/phone/transfer/score")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"transferId\": 7, \"amount\": 150000.00}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.isSuspicious").value(true))
+                .andExpect(jsonPath("$.isBlocked").value(false));
+    }
 }
@@ -0,0 +1,72 @@
+package com.bank.antifraud.controller;
+
+import com.bank.antifraud.dto.VelocityDto;
+import com.bank.antifraud.service.impl.VelocityServiceImpl;
+import com.bank.antifraud.service.scoring.TransferType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.math.BigDecimal;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class VelocityControllerTest {
+    @Mock
+    private VelocityServiceImpl service;
+    @InjectMocks
+    private VelocityController controller;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("Чтение счетчиков по номеру карты, позитивный сценарий")
+    void readCardPositiveTest() throws Exception {
+        Long cardNumber = 4000_0000_0000_0001L;
+        VelocityDto dto = new VelocityDto(cardNumber, 1L, BigDecimal.TEN, 2L, BigDecimal.TEN, 3L, BigDecimal.TEN);
+
+        when(service.findByTarget(TransferType.CARD, cardNumber)).thenReturn(dto);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/velocity/card/{cardNumber}", cardNumber))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.key").value(cardNumber))
+                .andExpect(jsonPath("$.countDay").value(3));
+    }
+
+    @Test
+    @DisplayName("Чтение счетчиков по номеру телефона, позитивный сценарий")
+    void readPhonePositiveTest() throws Exception {
+        Long phoneNumber = 79_001_234_567L;
+        VelocityDto dto = new VelocityDto(phoneNumber, 0L, BigDecimal.ZERO, 1L, BigDecimal.ONE, 1L, BigDecimal.ONE);
+
+        when(service.findByTarget(TransferType.PHONE, phoneNumber)).thenReturn(dto);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/velocity/phone/{phoneNumber}", phoneNumber))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.countHour").value(1));
+    }
+
+    @Test
+    @DisplayName("Чтение счетчиков по нечисловому ключу, негативный сценарий")
+    void readNegativeTest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.get("/velocity/card/{cardNumber}", "abc"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+}
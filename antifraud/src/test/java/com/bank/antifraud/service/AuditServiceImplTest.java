@@ -6,6 +6,7 @@ import com.bank.antifraud.dto.AuditDto;
 import com.bank.antifraud.entity.AuditEntity;
 import com.bank.antifraud.mappers.AuditMapper;
 import com.bank.antifraud.repository.AuditRepository;
+import com.bank.common.audit.AuditHistoryReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
@@ -33,6 +35,8 @@ public class AuditServiceImplTest {
     private AuditRepository repository;
     @Mock
     private AuditMapper mapper;
+    @Mock
+    private ObjectProvider<AuditHistoryReader> historyReader;
     @InjectMocks
     private AuditController controller;
     private MockMvc mockMvc;
@@ -65,7 +69,7 @@ public class AuditServiceImplTest {
         Long id = 1L;
         AuditRepository repository = mock(AuditRepository.class);
         when(repository.findById(id)).thenReturn(Optional.empty());
-        AuditServiceImpl service = new AuditServiceImpl(repository, mapper);
+        AuditServiceImpl service = new AuditServiceImpl(repository, mapper, historyReader);
         try {
             service.findById(id);
         } catch (EntityNotFoundException e) {
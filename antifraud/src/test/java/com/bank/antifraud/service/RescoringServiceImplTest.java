@@ -0,0 +1,77 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.RescoringStatusDto;
+import com.bank.antifraud.repository.RescoringRepository;
+import com.bank.antifraud.service.impl.RescoringServiceImpl;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.TransferType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RescoringServiceImplTest {
+    @Mock
+    private RescoringRepository repository;
+    @Mock
+    private ScoringEngine scoringEngine;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private RescoringServiceImpl service;
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Запуск продолжает с сохраненного прогресса, позитивный сценарий")
+    void startResumePositiveTest() {
+        when(repository.findIdRange(TransferType.CARD)).thenReturn(Optional.of(new long[]{1, 2_500}));
+        when(repository.findCheckpoint(TransferType.CARD)).thenReturn(Optional.of(new long[]{2_000, 6}));
+        when(transactionTemplate.execute(any())).thenReturn(0);
+
+        RescoringStatusDto status = service.start(TransferType.CARD, false);
+
+        assertEquals(2_000L, status.getLastId());
+        assertEquals(6L, status.getProcessed());
+        verify(repository, timeout(5_000)).saveCheckpoint(TransferType.CARD, 2_500, 6);
+    }
+
+    @Test
+    @DisplayName("Пустая таблица не запускает пересчет, негативный сценарий")
+    void startEmptyNegativeTest() {
+        when(repository.findIdRange(TransferType.PHONE)).thenReturn(Optional.empty());
+
+        RescoringStatusDto status = service.start(TransferType.PHONE, true);
+
+        assertFalse(status.getRunning());
+        verify(repository).deleteCheckpoint(TransferType.PHONE);
+    }
+
+    @Test
+    @DisplayName("Состояние без запусков берется из сохраненного прогресса")
+    void findStatusTest() {
+        when(repository.findCheckpoint(TransferType.ACCOUNT)).thenReturn(Optional.of(new long[]{300, 120}));
+
+        RescoringStatusDto status = service.findStatus(TransferType.ACCOUNT);
+
+        assertEquals(300L, status.getLastId());
+        assertEquals(120L, status.getProcessed());
+    }
+}
@@ -0,0 +1,52 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.RuleStatsDto;
+import com.bank.antifraud.service.impl.ScoringRuleServiceImpl;
+import com.bank.antifraud.service.scoring.RuleVerdict;
+import com.bank.antifraud.service.scoring.dsl.CompiledRule;
+import com.bank.antifraud.service.scoring.dsl.DslRuleRegistry;
+import com.bank.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ScoringRuleServiceImplTest {
+    @Mock
+    private DslRuleRegistry registry;
+    @InjectMocks
+    private ScoringRuleServiceImpl service;
+
+    @Test
+    @DisplayName("Поиск правил аналитиков, позитивный сценарий")
+    void findAllPositiveTest() {
+        CompiledRule rule = new CompiledRule("crypto", RuleVerdict.BLOCKED, "purpose contains 'crypto'",
+                context -> true);
+
+        when(registry.getRules()).thenReturn(List.of(rule));
+
+        List<RuleStatsDto> rules = service.findAll();
+
+        assertEquals(1, rules.size());
+        assertEquals("crypto", rules.get(0).getName());
+        assertEquals("BLOCKED", rules.get(0).getVerdict());
+        assertEquals(0L, rules.get(0).getEvaluations());
+    }
+
+    @Test
+    @DisplayName("Перечитывание файла с ошибкой, негативный сценарий")
+    void reloadNegativeTest() {
+        when(registry.reload()).thenThrow(new ValidationException("Ошибка в правиле crypto"));
+
+        assertThrows(ValidationException.class, () -> service.reload());
+    }
+}
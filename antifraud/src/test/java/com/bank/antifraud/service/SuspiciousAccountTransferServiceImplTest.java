@@ -1,11 +1,16 @@
 package com.bank.antifraud.service;
 
-import com.bank.antifraud.service.impl.SuspiciousAccountTransferServiceImpl;
 import com.bank.antifraud.dto.SuspiciousAccountTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import com.bank.antifraud.entity.SuspiciousAccountTransferEntity;
 import com.bank.antifraud.mappers.SuspiciousAccountTransferMapper;
 import com.bank.antifraud.repository.SuspiciousAccountTransferRepository;
 import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.impl.SuspiciousAccountTransferServiceImpl;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringResult;
+import com.bank.antifraud.service.scoring.TransferType;
+import com.bank.common.service.EntityBatchLoader;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,6 +19,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +28,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.anyString;
@@ -37,6 +45,10 @@ class SuspiciousAccountTransferServiceImplTest {
     private SuspiciousAccountTransferMapper mapper;
     @Mock
     private ExceptionReturner returner;
+    @Mock
+    private EntityBatchLoader batchLoader;
+    @Mock
+    private ScoringEngine scoringEngine;
     @InjectMocks
     private SuspiciousAccountTransferServiceImpl service;
 
@@ -146,15 +158,14 @@ class SuspiciousAccountTransferServiceImplTest {
         List<Long> ids = List.of(1L, 2L, 3L);
         List<SuspiciousAccountTransferEntity> entities = new ArrayList<>();
         entities.add(new SuspiciousAccountTransferEntity(1L, 1L, true
-                , true, "Blocked", "Suspicious"));
+                , true, "Blocked", "Suspicious", null, null, null, null));
         entities.add(new SuspiciousAccountTransferEntity(2L, 2L, false
-                , true, null, "Suspicious"));
+                , true, null, "Suspicious", null, null, null, null));
         entities.add(new SuspiciousAccountTransferEntity(3L, 3L, true
-                , false, "Blocked", null));
+                , false, "Blocked", null, null, null, null, null));
 
-        when(repository.findById(1L)).thenReturn(Optional.of(entities.get(0)));
-        when(repository.findById(2L)).thenReturn(Optional.of(entities.get(1)));
-        when(repository.findById(3L)).thenReturn(Optional.of(entities.get(2)));
+        when(batchLoader.<SuspiciousAccountTransferEntity>loadAllInOrder(eq(ids), any(), any(), anyString()))
+                .thenReturn(entities);
 
         List<SuspiciousAccountTransferDto> expectedDtos = new ArrayList<>();
         expectedDtos.add(new SuspiciousAccountTransferDto(1L, 1L, true
@@ -168,10 +179,8 @@ class SuspiciousAccountTransferServiceImplTest {
         List<SuspiciousAccountTransferDto> actualDtos = service.findAllById(ids);
 
         assertEquals(expectedDtos, actualDtos);
-        verify(repository, times(1)).findById(1L);
-        verify(repository, times(1)).findById(2L);
-        verify(repository, times(1)).findById(3L);
-        verifyNoMoreInteractions(repository);
+        verify(batchLoader, times(1)).loadAllInOrder(eq(ids), any(), any(), anyString());
+        verifyNoInteractions(repository);
         verify(mapper, times(1)).toListDto(entities);
         verifyNoMoreInteractions(mapper);
     }
@@ -180,10 +189,54 @@ class SuspiciousAccountTransferServiceImplTest {
     @DisplayName("Поиск всех аккаунтов по id,, негативный сценарий")
     public void findAllByIdNegativeTest() {
         List<Long> ids = List.of(1L, 2L);
-        when(returner.getEntityNotFoundException(anyString()))
-                .thenReturn(new EntityNotFoundException("Entity not found"));
+        when(batchLoader.loadAllInOrder(eq(ids), any(), any(), anyString()))
+                .thenThrow(new EntityNotFoundException("Entity not found"));
 
         assertThrows(EntityNotFoundException.class, () -> service.findAllById(ids));
-        verify(returner).getEntityNotFoundException(anyString());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("Оценка подозрительного перевода, позитивный сценарий")
+    void scoreSuspiciousPositiveTest() {
+        TransferScoringDto transfer = new TransferScoringDto();
+        transfer.setTransferId(7L);
+        transfer.setAmount(new BigDecimal("1000000.00"));
+        transfer.setPurpose("подарок");
+        transfer.setAccountDetailsId(3L);
+        transfer.setAccountNumber(42L);
+        SuspiciousAccountTransferDto expectedDto = new SuspiciousAccountTransferDto();
+
+        when(scoringEngine.score(TransferType.ACCOUNT, transfer))
+                .thenReturn(new ScoringResult(true, false, "сумма перевода превышает порог", null, false));
+        when(repository.save(any(SuspiciousAccountTransferEntity.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toDto(any(SuspiciousAccountTransferEntity.class))).thenReturn(expectedDto);
+
+        SuspiciousAccountTransferDto actualDto = service.score(transfer);
+
+        assertEquals(expectedDto, actualDto);
+        verify(repository).save(argThat(entity -> entity.getAccountTransferId().equals(7L)
+                && entity.getIsSuspicious()
+                && !entity.getIsBlocked()
+                && "сумма перевода превышает порог".equals(entity.getSuspiciousReason())
+                && new BigDecimal("1000000.00").equals(entity.getAmount())
+                && "подарок".equals(entity.getPurpose())
+                && Long.valueOf(3L).equals(entity.getAccountDetailsId())
+                && Long.valueOf(42L).equals(entity.getAccountNumber())));
+    }
+
+    @Test
+    @DisplayName("Оценка чистого перевода, негативный сценарий")
+    void scoreCleanNegativeTest() {
+        TransferScoringDto transfer = new TransferScoringDto();
+        SuspiciousAccountTransferDto expectedDto = new SuspiciousAccountTransferDto();
+
+        when(scoringEngine.score(TransferType.ACCOUNT, transfer))
+                .thenReturn(new ScoringResult(false, false, null, null, false));
+        when(mapper.toDto(any(SuspiciousAccountTransferEntity.class))).thenReturn(expectedDto);
+
+        assertEquals(expectedDto, service.score(transfer));
+        verifyNoInteractions(repository);
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,17 @@
 package com.bank.antifraud.service;
 
-import com.bank.antifraud.service.impl.SuspiciousCardTransferServiceImpl;
 import com.bank.antifraud.dto.SuspiciousCardTransferDto;
+import com.bank.antifraud.dto.TransferScoringDto;
 import com.bank.antifraud.entity.SuspiciousCardTransferEntity;
 import com.bank.antifraud.mappers.SuspiciousCardTransferMapper;
 import com.bank.antifraud.repository.SuspiciousCardTransferRepository;
 import com.bank.antifraud.service.common.ExceptionReturner;
+import com.bank.antifraud.service.impl.SuspiciousCardTransferServiceImpl;
+import com.bank.antifraud.service.scoring.Blocklist;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringResult;
+import com.bank.antifraud.service.scoring.TransferType;
+import com.bank.common.service.EntityBatchLoader;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,14 +20,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.anyString;
@@ -37,6 +48,12 @@ class SuspiciousCardTransferServiceImplTest {
     private SuspiciousCardTransferMapper mapper;
     @Mock
     private ExceptionReturner returner;
+    @Mock
+    private EntityBatchLoader batchLoader;
+    @Mock
+    private ScoringEngine scoringEngine;
+    @Mock
+    private Blocklist blocklist;
     @InjectMocks
     private SuspiciousCardTransferServiceImpl service;
 
@@ -72,6 +89,24 @@ class SuspiciousCardTransferServiceImplTest {
         verifyNoInteractions(repository);
     }
 
+    @Test
+    @DisplayName("Сохранение заблокированного перевода пополняет список блокировок")
+    void saveBlockedPositiveTest() {
+        SuspiciousCardTransferDto inputDto = new SuspiciousCardTransferDto();
+        SuspiciousCardTransferEntity savedEntity = new SuspiciousCardTransferEntity();
+        savedEntity.setCardTransferId(7L);
+        savedEntity.setCardNumber(4000_0000_0000_0001L);
+        savedEntity.setIsBlocked(true);
+
+        when(mapper.toEntity(inputDto)).thenReturn(savedEntity);
+        when(repository.save(savedEntity)).thenReturn(savedEntity);
+
+        service.save(inputDto);
+
+        assertTrue(savedEntity.getIsTargetBlocked());
+        verify(blocklist).block(TransferType.CARD, 4000_0000_0000_0001L);
+    }
+
     @Test
     @DisplayName("Поиск по id, позитивный сценарий")
     void findByIdPositiveTest() {
@@ -146,32 +181,29 @@ class SuspiciousCardTransferServiceImplTest {
         List<Long> ids = List.of(1L, 2L, 3L);
         List<SuspiciousCardTransferEntity> entities = new ArrayList<>();
         entities.add(new SuspiciousCardTransferEntity(1L, 1L, true
-                , true, "Blocked", "Suspicious"));
+                , true, "Blocked", "Suspicious", false, null, null, null, null));
         entities.add(new SuspiciousCardTransferEntity(2L, 2L, false
-                , true, null, "Suspicious"));
+                , true, null, "Suspicious", false, null, null, null, null));
         entities.add(new SuspiciousCardTransferEntity(3L, 3L, true
-                , false, "Blocked", null));
+                , false, "Blocked", null, false, null, null, null, null));
 
-        when(repository.findById(1L)).thenReturn(Optional.of(entities.get(0)));
-        when(repository.findById(2L)).thenReturn(Optional.of(entities.get(1)));
-        when(repository.findById(3L)).thenReturn(Optional.of(entities.get(2)));
+        when(batchLoader.<SuspiciousCardTransferEntity>loadAllInOrder(eq(ids), any(), any(), anyString()))
+                .thenReturn(entities);
 
         List<SuspiciousCardTransferDto> expectedDtos = new ArrayList<>();
         expectedDtos.add(new SuspiciousCardTransferDto(1L, 1L, true
-                , true, "Blocked", "Suspicious"));
+                , true, "Blocked", "Suspicious", null));
         expectedDtos.add(new SuspiciousCardTransferDto(2L, 2L, false
-                , true, null, "Suspicious"));
+                , true, null, "Suspicious", null));
         expectedDtos.add(new SuspiciousCardTransferDto(3L, 3L, true
-                , false, "Blocked", null));
+                , false, "Blocked", null, null));
         when(mapper.toListDto(entities)).thenReturn(expectedDtos);
 
         List<SuspiciousCardTransferDto> actualDtos = service.findAllById(ids);
 
         assertEquals(expectedDtos, actualDtos);
-        verify(repository, times(1)).findById(1L);
-        verify(repository, times(1)).findById(2L);
-        verify(repository, times(1)).findById(3L);
-        verifyNoMoreInteractions(repository);
+        verify(batchLoader, times(1)).loadAllInOrder(eq(ids), any(), any(), anyString());
+        verifyNoInteractions(repository);
         verify(mapper, times(1)).toListDto(entities);
         verifyNoMoreInteractions(mapper);
     }
@@ -180,10 +212,131 @@ class SuspiciousCardTransferServiceImplTest {
     @DisplayName("Поиск всех аккаунтов по id,, негативный сценарий")
     public void findAllByIdNegativeTest() {
         List<Long> ids = List.of(1L, 2L);
-        when(returner.getEntityNotFoundException(anyString()))
-                .thenReturn(new EntityNotFoundException("Entity not found"));
+        when(batchLoader.loadAllInOrder(eq(ids), any(), any(), anyString()))
+                .thenThrow(new EntityNotFoundException("Entity not found"));
 
         assertThrows(EntityNotFoundException.class, () -> service.findAllById(ids));
-        verify(returner).getEntityNotFoundException(anyString());
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("Оценка подозрительного перевода, позитивный сценарий")
+    void scoreSuspiciousPositiveTest() {
+        TransferScoringDto transfer = new TransferScoringDto();
+        transfer.setTransferId(7L);
+        transfer.setAmount(new BigDecimal("1000000.00"));
+        transfer.setPurpose("подарок");
+        transfer.setAccountDetailsId(3L);
+        transfer.setCardNumber(4000_0000_0000_0001L);
+        SuspiciousCardTransferDto expectedDto = new SuspiciousCardTransferDto();
+
+        when(scoringEngine.score(TransferType.CARD, transfer))
+                .thenReturn(new ScoringResult(true, false, "сумма перевода превышает порог", null, false));
+        when(repository.save(any(SuspiciousCardTransferEntity.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(mapper.toDto(any(SuspiciousCardTransferEntity.class))).thenReturn(expectedDto);
+
+        SuspiciousCardTransferDto actualDto = service.score(transfer);
+
+        assertEquals(expectedDto, actualDto);
+        verify(repository).save(argThat(entity -> entity.getCardTransferId().equals(7L)
+                && entity.getIsSuspicious()
+                && !entity.getIsBlocked()
+                && "сумма перевода превышает порог".equals(entity.getSuspiciousReason())
+                && new BigDecimal("1000000.00").equals(entity.getAmount())
+                && "подарок".equals(entity.getPurpose())
+                && Long.valueOf(3L).equals(entity.getAccountDetailsId())
+                && Long.valueOf(4000_0000_0000_0001L).equals(entity.getCardNumber())));
+    }
+
+    @Test
+    @DisplayName("Блокировка по сумме не добавляет получателя в список блокировок")
+    void scoreBlockedByAmountTest() {
+        TransferScoringDto transfer = new TransferScoringDto();
+        transfer.setCardNumber(4000_0000_0000_0001L);
+
+        when(scoringEngine.score(TransferType.CARD, transfer))
+                .thenReturn(new ScoringResult(true, true, "сумма", "сумма", false));
+        when(repository.save(any(SuspiciousCardTransferEntity.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.score(transfer);
+
+        verify(repository).save(argThat(entity -> entity.getIsBlocked() && !entity.getIsTargetBlocked()));
+        verifyNoInteractions(blocklist);
+    }
+
+    @Test
+    @DisplayName("Блокировка получателя добавляет его номер в список блокировок")
+    void scoreTargetBlockedTest() {
+        TransferScoringDto transfer = new TransferScoringDto();
+        transfer.setCardNumber(4000_0000_0000_0001L);
+
+        when(scoringEngine.score(TransferType.CARD, transfer))
+                .thenReturn(new ScoringResult(true, true, "получатель", "получатель", true));
+        when(repository.save(any(SuspiciousCardTransferEntity.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        service.score(transfer);
+
+        verify(repository).save(argThat(entity -> entity.getIsTargetBlocked()
+                && Long.valueOf(4000_0000_0000_0001L).equals(entity.getCardNumber())));
+        verify(blocklist).block(TransferType.CARD, 4000_0000_0000_0001L);
+    }
+
+    @Test
+    @DisplayName("Снятие блокировки убирает номер из списка блокировок")
+    void updateUnblockTest() {
+        SuspiciousCardTransferDto inputDto = new SuspiciousCardTransferDto();
+        SuspiciousCardTransferEntity entity = new SuspiciousCardTransferEntity();
+        entity.setCardTransferId(7L);
+        entity.setIsBlocked(true);
+        entity.setIsTargetBlocked(true);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(entity));
+        when(mapper.mergeToEntity(inputDto, entity)).thenAnswer(invocation -> {
+            entity.setIsBlocked(false);
+            return entity;
+        });
+        when(repository.save(entity)).thenReturn(entity);
+
+        service.update(1L, inputDto);
+
+        assertFalse(entity.getIsTargetBlocked());
+        verify(blocklist).unblock();
+        verifyNoMoreInteractions(blocklist);
+    }
+
+    @Test
+    @DisplayName("Правка уже заблокированного перевода не добавляет получателя в список блокировок")
+    void updateBlockedTest() {
+        SuspiciousCardTransferDto inputDto = new SuspiciousCardTransferDto();
+        SuspiciousCardTransferEntity entity = new SuspiciousCardTransferEntity();
+        entity.setCardTransferId(7L);
+        entity.setIsBlocked(true);
+        entity.setIsTargetBlocked(false);
+
+        when(repository.findById(1L)).thenReturn(Optional.of(entity));
+        when(mapper.mergeToEntity(inputDto, entity)).thenReturn(entity);
+        when(repository.save(entity)).thenReturn(entity);
+
+        service.update(1L, inputDto);
+
+        assertFalse(entity.getIsTargetBlocked());
+        verifyNoInteractions(blocklist);
+    }
+
+    @Test
+    @DisplayName("Оценка чистого перевода, негативный сценарий")
+    void scoreCleanNegativeTest() {
+        TransferScoringDto transfer = new TransferScoringDto();
+        SuspiciousCardTransferDto expectedDto = new SuspiciousCardTransferDto();
+
+        when(scoringEngine.score(TransferType.CARD, transfer))
+                .thenReturn(new ScoringResult(false, false, null, null, false));
+        when(mapper.toDto(any(SuspiciousCardTransferEntity.class))).thenReturn(expectedDto);
+
+        assertEquals(expectedDto, service.score(transfer));
+        verifyNoInteractions(repository);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package com.bank.antifraud.service;
+
+import com.bank.antifraud.dto.VelocityDto;
+import com.bank.antifraud.service.impl.VelocityServiceImpl;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.TransferType;
+import com.bank.antifraud.service.scoring.VelocityCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VelocityServiceImplTest {
+    @Mock
+    private ScoringEngine scoringEngine;
+    @InjectMocks
+    private VelocityServiceImpl service;
+
+    @Test
+    @DisplayName("Чтение счетчиков получателя, позитивный сценарий")
+    void findByTargetPositiveTest() {
+        Long cardNumber = 4000_0000_0000_0001L;
+        VelocityCounter counter = new VelocityCounter(64);
+        counter.record(cardNumber, 150_00, System.currentTimeMillis());
+
+        when(scoringEngine.getTargetCounter(TransferType.CARD)).thenReturn(counter);
+
+        VelocityDto dto = service.findByTarget(TransferType.CARD, cardNumber);
+
+        assertEquals(cardNumber, dto.getKey());
+        assertEquals(1L, dto.getCountDay());
+        assertEquals(new BigDecimal("150.00"), dto.getSumDay());
+    }
+
+    @Test
+    @DisplayName("Чтение счетчиков неизвестного получателя, негативный сценарий")
+    void findByTargetNegativeTest() {
+        when(scoringEngine.getTargetCounter(TransferType.PHONE)).thenReturn(new VelocityCounter(64));
+
+        VelocityDto dto = service.findByTarget(TransferType.PHONE, 1L);
+
+        assertEquals(0L, dto.getCountMinute());
+        assertEquals(new BigDecimal("0.00"), dto.getSumDay());
+    }
+}
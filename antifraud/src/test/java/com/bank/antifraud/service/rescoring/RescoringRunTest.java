@@ -0,0 +1,120 @@
+package com.bank.antifraud.service.rescoring;
+
+import com.bank.antifraud.dto.RescoringStatusDto;
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.repository.RescoringRepository;
+import com.bank.antifraud.service.scoring.ScoringEngine;
+import com.bank.antifraud.service.scoring.ScoringResult;
+import com.bank.antifraud.service.scoring.TransferType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RescoringRunTest {
+    @Mock
+    private RescoringRepository repository;
+    @Mock
+    private ScoringEngine scoringEngine;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(2);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Пересчет проходит весь диапазон кусками и сохраняет прогресс после каждой волны")
+    void runPositiveTest() {
+        when(repository.findChunk(eq(TransferType.CARD), anyLong(), anyLong()))
+                .thenAnswer(invocation -> transfers(invocation.getArgument(1), 3));
+        when(scoringEngine.rescore(eq(TransferType.CARD), any()))
+                .thenReturn(new ScoringResult(true, false, "правило crypto", null, false));
+
+        RescoringRun run = new RescoringRun(TransferType.CARD, repository, scoringEngine, transactionTemplate, pool,
+                1, 2_500, 0);
+        run.run();
+
+        RescoringStatusDto status = run.getStatus();
+        assertFalse(status.getRunning());
+        assertEquals(2_500L, status.getLastId());
+        assertEquals(9L, status.getProcessed());
+        verify(repository, times(3)).updateResults(eq(TransferType.CARD), anyMap());
+        verify(repository).saveCheckpoint(TransferType.CARD, 2_000, 6);
+        verify(repository).saveCheckpoint(TransferType.CARD, 2_500, 9);
+    }
+
+    @Test
+    @DisplayName("Чистая оценка не записывается и не снимает сохраненную")
+    void runCleanResultTest() {
+        when(repository.findChunk(eq(TransferType.CARD), anyLong(), anyLong()))
+                .thenAnswer(invocation -> transfers(invocation.getArgument(1), 3));
+        when(scoringEngine.rescore(eq(TransferType.CARD), any()))
+                .thenReturn(new ScoringResult(false, false, null, null, false));
+
+        RescoringRun run = new RescoringRun(TransferType.CARD, repository, scoringEngine, transactionTemplate, pool,
+                1, 500, 0);
+        run.run();
+
+        assertEquals(3L, run.getStatus().getProcessed());
+        verify(repository, never()).updateResults(any(), anyMap());
+        verify(repository).saveCheckpoint(TransferType.CARD, 500, 3);
+    }
+
+    @Test
+    @DisplayName("Ошибка куска останавливает пересчет без сохранения прогресса волны, негативный сценарий")
+    void runNegativeTest() {
+        when(repository.findChunk(eq(TransferType.PHONE), anyLong(), anyLong()))
+                .thenThrow(new IllegalStateException("connection reset"));
+
+        RescoringRun run = new RescoringRun(TransferType.PHONE, repository, scoringEngine, transactionTemplate, pool,
+                101, 500, 40);
+        run.run();
+
+        RescoringStatusDto status = run.getStatus();
+        assertFalse(status.getRunning());
+        assertEquals(100L, status.getLastId());
+        assertEquals(40L, status.getProcessed());
+        assertNotNull(status.getError());
+        verify(repository, never()).saveCheckpoint(any(), anyLong(), anyLong());
+    }
+
+    private Map<Long, TransferScoringDto> transfers(long fromId, int count) {
+        Map<Long, TransferScoringDto> transfers = new LinkedHashMap<>();
+        for (long id = fromId; id < fromId + count; id++) {
+            transfers.put(id, new TransferScoringDto());
+        }
+        return transfers;
+    }
+}
@@ -0,0 +1,73 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.repository.BlocklistRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BlocklistTest {
+    @Mock
+    private BlocklistRepository repository;
+    @InjectMocks
+    private Blocklist blocklist;
+
+    @Test
+    @DisplayName("Список строится из заблокированных переводов, проверка не обращается к БД")
+    void rebuildPositiveTest() {
+        when(repository.findBlockedCardNumbers()).thenReturn(new long[]{4000_0000_0000_0001L});
+        when(repository.findBlockedPhoneNumbers()).thenReturn(new long[]{79_001_234_567L});
+
+        blocklist.rebuild();
+
+        assertTrue(blocklist.isBlocked(TransferType.CARD, 4000_0000_0000_0001L));
+        assertTrue(blocklist.isBlocked(TransferType.PHONE, 79_001_234_567L));
+        assertFalse(blocklist.isBlocked(TransferType.PHONE, 4000_0000_0000_0001L));
+        assertFalse(blocklist.isBlocked(TransferType.ACCOUNT, 4000_0000_0000_0001L));
+        assertFalse(blocklist.isBlocked(TransferType.CARD, null));
+        verify(repository).findBlockedCardNumbers();
+        verify(repository).findBlockedPhoneNumbers();
+        verifyNoMoreInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Новая блокировка номера карты попадает в список без обращения к БД")
+    void blockCardPositiveTest() {
+        blocklist.block(TransferType.CARD, 4000_0000_0000_0002L);
+
+        assertTrue(blocklist.isBlocked(TransferType.CARD, 4000_0000_0000_0002L));
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("Снятие блокировки перестраивает список")
+    void unblockPositiveTest() {
+        when(repository.findBlockedCardNumbers()).thenReturn(new long[]{4000_0000_0000_0003L}, new long[0]);
+        when(repository.findBlockedPhoneNumbers()).thenReturn(new long[0]);
+
+        blocklist.rebuild();
+        blocklist.unblock();
+
+        assertFalse(blocklist.isBlocked(TransferType.CARD, 4000_0000_0000_0003L));
+    }
+
+    @Test
+    @DisplayName("Блокировка перевода без номера ничего не добавляет, негативный сценарий")
+    void blockPhoneNegativeTest() {
+        blocklist.block(TransferType.PHONE, null);
+        blocklist.block(TransferType.ACCOUNT, 1L);
+
+        assertFalse(blocklist.isBlocked(TransferType.PHONE, 1L));
+        assertFalse(blocklist.isBlocked(TransferType.ACCOUNT, 1L));
+    }
+}
@@ -0,0 +1,46 @@
+package com.bank.antifraud.service.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NumberBlocklistTest {
+
+    @Test
+    @DisplayName("Добавленные номера находятся, в том числе после роста таблицы")
+    void containsPositiveTest() {
+        NumberBlocklist blocklist = NumberBlocklist.of(new long[]{4000_0000_0000_0001L, 79_001_234_567L});
+
+        for (long number = 1; number <= 10_000; number++) {
+            blocklist.add(5000_0000_0000_0000L + number);
+        }
+        blocklist.add(79_001_234_567L);
+
+        assertEquals(10_002, blocklist.size());
+        assertTrue(blocklist.contains(4000_0000_0000_0001L));
+        assertTrue(blocklist.contains(79_001_234_567L));
+        assertTrue(blocklist.contains(5000_0000_0000_5000L));
+    }
+
+    @Test
+    @DisplayName("Отсутствующие номера не находятся, негативный сценарий")
+    void containsNegativeTest() {
+        NumberBlocklist blocklist = new NumberBlocklist(100_000);
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            blocklist.add(random.nextLong(1, Long.MAX_VALUE));
+        }
+        blocklist.add(0L);
+
+        assertFalse(blocklist.contains(0L));
+        for (long number = 1; number <= 100_000; number++) {
+            assertFalse(blocklist.contains(number));
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.bank.antifraud.service.scoring;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.service.scoring.dsl.DslRuleRegistry;
+import com.bank.antifraud.service.scoring.dsl.RuleCompiler;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ScoringEngineTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    private final ScoringEngine engine = new ScoringEngine(
+            List.of(new AmountThresholdRule(), new SourceVelocityRule(), new TargetHistoryRule()),
+            new DslRuleRegistry(new RuleCompiler(), "missing.rules"));
+
+    @Test
+    @DisplayName("Обычный перевод не подозрителен, негативный сценарий")
+    void cleanTransferNegativeTest() {
+        ScoringResult result = engine.score(TransferType.CARD, transfer(1L, 4000_0000_0000_0001L, "100.00"), NOW);
+
+        assertFalse(result.isSuspicious());
+        assertFalse(result.isBlocked());
+        assertNull(result.getSuspiciousReason());
+        assertNull(result.getBlockedReason());
+    }
+
+    @Test
+    @DisplayName("Крупная сумма подозрительна, слишком крупная блокируется")
+    void amountThresholdTest() {
+        ScoringEngine amountEngine = new ScoringEngine(List.of(new AmountThresholdRule()),
+                new DslRuleRegistry(new RuleCompiler(), "missing.rules"));
+
+        ScoringResult suspicious = amountEngine.score(TransferType.CARD, transfer(1L, 1L, "150000.00"), NOW);
+        ScoringResult blocked = amountEngine.score(TransferType.CARD, transfer(2L, 2L, "2000000.00"), NOW);
+
+        assertTrue(suspicious.isSuspicious());
+        assertFalse(suspicious.isBlocked());
+        assertTrue(blocked.isSuspicious());
+        assertTrue(blocked.isBlocked());
+        assertFalse(blocked.isTargetBlocked());
+        assertEquals(blocked.getBlockedReason(), blocked.getSuspiciousReason());
+    }
+
+    @Test
+    @DisplayName("Слишком крупная сумма блокируется и при срабатывании других правил")
+    void amountThresholdWithOtherRulesTest() {
+        ScoringResult blocked = engine.score(TransferType.CARD, transfer(2L, 2L, "2000000.00"), NOW);
+
+        assertTrue(blocked.isBlocked());
+        assertTrue(blocked.getBlockedReason().contains("сумма перевода 2000000.00 превышает порог"));
+        assertTrue(blocked.getSuspiciousReason().contains(blocked.getBlockedReason()));
+    }
+
+    @Test
+    @DisplayName("Причина правил частоты называет только сработавшие условия")
+    void velocityReasonTest() {
+        ScoringResult result = engine.score(TransferType.CARD, transfer(3L, 3L, "2000000.00"), NOW);
+
+        assertEquals("сумма перевода 2000000.00 превышает порог; "
+                        + "со счета 3 переведено 2000000.00 за час при пороге 1000000.00; "
+                        + "получатель CARD получил 2000000.00 за час при пороге 500000.00",
+                result.getSuspiciousReason());
+    }
+
+    @Test
+    @DisplayName("Много мелких переводов на одну карту за минуту блокируются")
+    void cardTestingTest() {
+        ScoringResult result = null;
+
+        for (long source = 1; source <= 6; source++) {
+            result = engine.score(TransferType.CARD, transfer(source, 4000_0000_0000_0002L, "1.00"), NOW);
+        }
+
+        assertTrue(result.isBlocked());
+        assertTrue(result.isTargetBlocked());
+        assertEquals("получатель CARD получил 6 переводов за минуту при пороге блокировки 5",
+                result.getBlockedReason());
+        assertFalse(engine.score(TransferType.PHONE, transfer(9L, 4000_0000_0000_0002L, "1.00"), NOW).isBlocked());
+    }
+
+    @Test
+    @DisplayName("Пересчет не учитывает перевод в счетчиках")
+    void rescoreTest() {
+        for (int i = 0; i < 10; i++) {
+            assertFalse(engine.rescore(TransferType.CARD, transfer(1L, 4000_0000_0000_0003L, "1.00")).isBlocked());
+        }
+
+        assertTrue(engine.rescore(TransferType.CARD, transfer(1L, 1L, "2000000.00")).isBlocked());
+        assertEquals(0, engine.getTargetCounter(TransferType.CARD)
+                .count(4000_0000_0000_0003L, VelocityWindow.MINUTE, System.currentTimeMillis()));
+    }
+
+    @Test
+    @DisplayName("Правило аналитиков из файла участвует в оценке")
+    void dslRuleTest(@TempDir Path directory) throws IOException {
+        Path rules = Files.writeString(directory.resolve("antifraud.rules"),
+                "crypto | BLOCKED | amount > 10 and purpose contains 'crypto'");
+        ScoringEngine dslEngine = new ScoringEngine(List.of(),
+                new DslRuleRegistry(new RuleCompiler(), rules.toString()));
+        TransferScoringDto transfer = transfer(1L, 1L, "50.00");
+        transfer.setPurpose("Покупка Crypto");
+
+        ScoringResult result = dslEngine.score(TransferType.CARD, transfer, NOW);
+
+        assertTrue(result.isBlocked());
+        assertFalse(result.isTargetBlocked());
+        assertEquals("правило crypto: amount > 10 and purpose contains 'crypto'", result.getBlockedReason());
+    }
+
+    private TransferScoringDto transfer(Long source, Long target, String amount) {
+        TransferScoringDto transfer = new TransferScoringDto();
+        transfer.setAccountDetailsId(source);
+        transfer.setCardNumber(target);
+        transfer.setPhoneNumber(target);
+        transfer.setAmount(new BigDecimal(amount));
+        return transfer;
+    }
+}
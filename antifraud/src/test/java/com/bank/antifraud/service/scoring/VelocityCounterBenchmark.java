@@ -0,0 +1,106 @@
+package com.bank.antifraud.service.scoring;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Пропускная способность {@link VelocityCounter} под конкуренцией потоков.
+ * Запускается через {@link #main(String[])} с тестовым classpath, surefire его не выполняет.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VelocityCounterBenchmark {
+
+    private static final int KEY_MASK = (1 << 16) - 1;
+
+    /**
+     * число различных ключей: 16 — горячие ключи и конкуренция за одни корзины,
+     * 65536 — ключей больше емкости, постоянное вытеснение.
+     */
+    @Param({"16", "65536"})
+    private int keys;
+
+    private VelocityCounter counter;
+    private long[] keyPool;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        counter = new VelocityCounter(1 << 14);
+        keyPool = new long[KEY_MASK + 1];
+
+        final SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < keyPool.length; i++) {
+            keyPool[i] = 4_000_000_000_000_000L + random.nextLong(keys);
+        }
+    }
+
+    /**
+     * Состояние потока: свой курсор по ключам, чтобы потоки не делили одно поле.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        private int position;
+
+        int next() {
+            return position++ & KEY_MASK;
+        }
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void record(Cursor cursor) {
+        counter.record(keyPool[cursor.next()], 100_00, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long count(Cursor cursor) {
+        return counter.count(keyPool[cursor.next()], VelocityWindow.HOUR, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(6)
+    public void mixedRecord(Cursor cursor) {
+        counter.record(keyPool[cursor.next()], 100_00, System.currentTimeMillis());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public long mixedQuery(Cursor cursor) {
+        return counter.sum(keyPool[cursor.next()], VelocityWindow.DAY, System.currentTimeMillis());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VelocityCounterBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
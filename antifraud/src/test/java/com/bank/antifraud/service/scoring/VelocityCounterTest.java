@@ -0,0 +1,123 @@
+package com.bank.antifraud.service.scoring;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class VelocityCounterTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long SECOND = 1_000L;
+    private static final long MINUTE = 60 * SECOND;
+    private static final long HOUR = 60 * MINUTE;
+
+    @Test
+    @DisplayName("Подсчет количества и суммы по окнам, позитивный сценарий")
+    void countAndSumPositiveTest() {
+        VelocityCounter counter = new VelocityCounter(1024);
+
+        counter.record(42L, 100, NOW - 5 * HOUR);
+        counter.record(42L, 200, NOW - 30 * MINUTE);
+        counter.record(42L, 300, NOW);
+        counter.record(43L, 1000, NOW);
+
+        assertEquals(1, counter.count(42L, VelocityWindow.MINUTE, NOW));
+        assertEquals(2, counter.count(42L, VelocityWindow.HOUR, NOW));
+        assertEquals(3, counter.count(42L, VelocityWindow.DAY, NOW));
+        assertEquals(300, counter.sum(42L, VelocityWindow.MINUTE, NOW));
+        assertEquals(600, counter.sum(42L, VelocityWindow.DAY, NOW));
+        assertEquals(1000, counter.sum(43L, VelocityWindow.DAY, NOW));
+    }
+
+    @Test
+    @DisplayName("Старые корзины не учитываются, негативный сценарий")
+    void expiredBucketsNegativeTest() {
+        VelocityCounter counter = new VelocityCounter(1024);
+
+        counter.record(42L, 100, NOW - 2 * MINUTE);
+        counter.record(42L, 100, NOW - 2 * HOUR);
+        counter.record(42L, 100, NOW - 25 * HOUR);
+        counter.record(42L, 100, NOW);
+
+        assertEquals(1, counter.count(42L, VelocityWindow.MINUTE, NOW));
+        assertEquals(2, counter.count(42L, VelocityWindow.HOUR, NOW));
+        assertEquals(3, counter.count(42L, VelocityWindow.DAY, NOW));
+        assertEquals(0, counter.count(7L, VelocityWindow.DAY, NOW));
+    }
+
+    @Test
+    @DisplayName("Вытесняется ключ, к которому дольше всех не обращались")
+    void leastRecentlyUsedEvictionTest() {
+        VelocityCounter counter = new VelocityCounter(VelocityCounter.WAYS);
+
+        for (long key = 1; key <= VelocityCounter.WAYS; key++) {
+            counter.record(key, 1, NOW + key * SECOND);
+        }
+        counter.record(1L, 1, NOW + 10 * SECOND);
+        counter.record(100L, 1, NOW + 11 * SECOND);
+
+        assertEquals(VelocityCounter.WAYS, counter.capacity());
+        assertEquals(2, counter.count(1L, VelocityWindow.MINUTE, NOW + 11 * SECOND));
+        assertEquals(0, counter.count(2L, VelocityWindow.MINUTE, NOW + 11 * SECOND));
+        assertEquals(1, counter.count(100L, VelocityWindow.MINUTE, NOW + 11 * SECOND));
+    }
+
+    @Test
+    @DisplayName("Переполнение не ломает счетчик и не увеличивает память")
+    void overflowTest() {
+        VelocityCounter counter = new VelocityCounter(16);
+
+        for (long key = 0; key < 100_000; key++) {
+            counter.record(key, 1, NOW);
+        }
+        counter.record(-1L, 5, NOW);
+
+        assertEquals(16, counter.capacity());
+        assertEquals(1, counter.count(-1L, VelocityWindow.MINUTE, NOW));
+        assertEquals(5, counter.sum(-1L, VelocityWindow.MINUTE, NOW));
+    }
+
+    @Test
+    @DisplayName("Конкурентный учет не теряет событий")
+    void concurrentRecordTest() throws Exception {
+        int threads = 8;
+        int iterations = 50_000;
+        long[] keys = {4_000_000_000_000_001L, 4_000_000_000_000_002L, 9_000_000_001L};
+        VelocityCounter counter = new VelocityCounter(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterations; i++) {
+                    counter.record(keys[i % keys.length], 2, NOW);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        long total = 0;
+        for (long key : keys) {
+            total += counter.count(key, VelocityWindow.MINUTE, NOW);
+        }
+
+        assertEquals((long) threads * iterations, total);
+        assertEquals(2L * threads * iterations, counter.sum(keys[0], VelocityWindow.DAY, NOW)
+                + counter.sum(keys[1], VelocityWindow.DAY, NOW) + counter.sum(keys[2], VelocityWindow.DAY, NOW));
+    }
+}
@@ -0,0 +1,72 @@
+package com.bank.antifraud.service.scoring.dsl;
+
+import com.bank.antifraud.service.scoring.RuleVerdict;
+import com.bank.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DslRuleRegistryTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Правила перечитываются после изменения файла")
+    void hotReloadTest() throws IOException {
+        Path file = write("# комментарий\n\nbig | SUSPICIOUS | amount > 100000\n", NOW);
+        DslRuleRegistry registry = new DslRuleRegistry(new RuleCompiler(), file.toString());
+
+        List<CompiledRule> first = registry.getRules(NOW);
+        write("big | BLOCKED | amount > 100000\ncrypto | suspicious | purpose contains 'crypto'\n", NOW + 5_000);
+        List<CompiledRule> cached = registry.getRules(NOW + 500);
+        List<CompiledRule> reloaded = registry.getRules(NOW + 2_000);
+
+        assertEquals(1, first.size());
+        assertEquals(RuleVerdict.SUSPICIOUS, first.get(0).getVerdict());
+        assertEquals(first, cached);
+        assertEquals(2, reloaded.size());
+        assertEquals(RuleVerdict.BLOCKED, reloaded.get(0).getVerdict());
+    }
+
+    @Test
+    @DisplayName("Файл с ошибкой не заменяет действующие правила, негативный сценарий")
+    void brokenFileNegativeTest() throws IOException {
+        Path file = write("big | SUSPICIOUS | amount > 100000\n", NOW);
+        DslRuleRegistry registry = new DslRuleRegistry(new RuleCompiler(), file.toString());
+        List<CompiledRule> first = registry.getRules(NOW);
+
+        write("big | SUSPICIOUS | amount >>> 1\n", NOW + 5_000);
+
+        assertEquals(first, registry.getRules(NOW + 2_000));
+        assertThrows(ValidationException.class, registry::reload);
+        assertEquals(first, registry.getRules(NOW + 4_000));
+    }
+
+    @Test
+    @DisplayName("Без файла правил набор пуст")
+    void missingFileTest() {
+        DslRuleRegistry registry = new DslRuleRegistry(new RuleCompiler(), directory.resolve("none").toString());
+
+        assertTrue(registry.getRules(NOW).isEmpty());
+    }
+
+    private Path write(String content, long modifiedMillis) throws IOException {
+        Path file = directory.resolve("antifraud.rules");
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.fromMillis(modifiedMillis));
+        return file;
+    }
+}
@@ -0,0 +1,90 @@
+package com.bank.antifraud.service.scoring.dsl;
+
+import com.bank.antifraud.dto.TransferScoringDto;
+import com.bank.antifraud.service.scoring.RuleVerdict;
+import com.bank.antifraud.service.scoring.ScoringContext;
+import com.bank.antifraud.service.scoring.TransferType;
+import com.bank.common.exception.ValidationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RuleCompilerTest {
+
+    private final RuleCompiler compiler = new RuleCompiler();
+
+    @Test
+    @DisplayName("Компиляция выражения с and, or, not и скобками, позитивный сценарий")
+    void compilePositiveTest() {
+        CompiledRule rule = compiler.compile("crypto", RuleVerdict.SUSPICIOUS,
+                "amount > 100000 and (purpose contains 'CRYPTO' or not type = 'card')");
+
+        assertEquals(RuleVerdict.SUSPICIOUS, rule.evaluate(context(TransferType.CARD, 100_001_00L, "buy crypto")));
+        assertEquals(RuleVerdict.SUSPICIOUS, rule.evaluate(context(TransferType.PHONE, 100_001_00L, null)));
+        assertEquals(RuleVerdict.PASS, rule.evaluate(context(TransferType.CARD, 100_001_00L, "rent")));
+        assertEquals(RuleVerdict.PASS, rule.evaluate(context(TransferType.CARD, 100_000_00L, "crypto")));
+        assertEquals(4, rule.getEvaluations());
+        assertEquals(2, rule.getMatches());
+    }
+
+    @Test
+    @DisplayName("Счетчики сравниваются без перевода в копейки")
+    void countFieldTest() {
+        CompiledRule rule = compiler.compile("burst", RuleVerdict.BLOCKED,
+                "targetCountMinute >= 3 and sourceSumHour <= 1.5");
+
+        assertEquals(RuleVerdict.BLOCKED, rule.evaluate(context(TransferType.CARD, 150, "")));
+        assertEquals(RuleVerdict.PASS, rule.evaluate(context(TransferType.CARD, 151, "")));
+    }
+
+    @Test
+    @DisplayName("Ошибки в выражении, негативный сценарий")
+    void compileNegativeTest() {
+        assertThrows(ValidationException.class, () -> compiler.compile("a", RuleVerdict.BLOCKED, "unknown > 1"));
+        assertThrows(ValidationException.class, () -> compiler.compile("b", RuleVerdict.BLOCKED, "amount > 'x'"));
+        assertThrows(ValidationException.class, () -> compiler.compile("c", RuleVerdict.BLOCKED, "amount >"));
+        assertThrows(ValidationException.class, () -> compiler.compile("d", RuleVerdict.BLOCKED, "(amount > 1"));
+        assertThrows(ValidationException.class, () -> compiler.compile("e", RuleVerdict.BLOCKED, "purpose > 'x'"));
+        assertThrows(ValidationException.class, () -> compiler.compile("f", RuleVerdict.BLOCKED, "amount > 1 1"));
+        assertThrows(ValidationException.class, () -> compiler.compile("g", RuleVerdict.PASS, "amount > 1"));
+    }
+
+    @Test
+    @DisplayName("200 правил вычисляются за микросекунды")
+    void manyRulesCostTest() {
+        List<CompiledRule> rules = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            rules.add(compiler.compile("rule-" + i, RuleVerdict.SUSPICIOUS,
+                    "amount > " + i + " and purpose contains 'x" + i + "' or targetCountHour > 1000"));
+        }
+        ScoringContext context = context(TransferType.CARD, 500_00, "обычный перевод");
+
+        for (int warmup = 0; warmup < 20_000; warmup++) {
+            rules.forEach(rule -> rule.evaluate(context));
+        }
+
+        int iterations = 1_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            rules.forEach(rule -> rule.evaluate(context));
+        }
+        long nanosPerTransfer = (System.nanoTime() - start) / iterations;
+
+        assertTrue(nanosPerTransfer < 1_000_000, "200 правил заняли " + nanosPerTransfer + " нс");
+        assertTrue(rules.get(0).getAverageNanos() >= 0);
+    }
+
+    private ScoringContext context(TransferType type, long amount, String purpose) {
+        TransferScoringDto transfer = new TransferScoringDto();
+        transfer.setPurpose(purpose);
+        return new ScoringContext(type, transfer, purpose == null ? null : purpose.toLowerCase(Locale.ROOT),
+                amount, 1, 1, amount, 3, 3, amount);
+    }
+}
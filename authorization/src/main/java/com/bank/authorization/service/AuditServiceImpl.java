@@ -4,7 +4,10 @@ import com.bank.authorization.dto.AuditDto;
 import com.bank.authorization.entity.AuditEntity;
 import com.bank.authorization.mapper.AuditMapper;
 import com.bank.authorization.repository.AuditRepository;
+import com.bank.common.audit.AuditHistoryReader;
+import com.bank.common.audit.AuditStates;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import javax.persistence.EntityNotFoundException;
@@ -17,6 +20,7 @@ import javax.persistence.EntityNotFoundException;
 public class AuditServiceImpl implements AuditService {
     private final AuditRepository repository;
     private final AuditMapper mapper;
+    private final ObjectProvider<AuditHistoryReader> historyReader;
 
     /**
      * @param id технический идентификатор {@link AuditEntity}
@@ -24,11 +28,20 @@ public class AuditServiceImpl implements AuditService {
      */
     @Override
     public AuditDto findById(Long id) {
-        return mapper.toDto(repository.findById(id)
+        final AuditEntity audit = repository.findById(id)
                 .orElseThrow(
                         () -> getException(id)
-                )
-        );
+                );
+        final AuditDto dto = mapper.toDto(audit);
+
+        historyReader.ifAvailable(reader -> {
+            final AuditStates states = reader.restoreStates(audit.getEntityType(), audit.getEntityId(),
+                    audit.getVersion(), audit.getEntityJson(), audit.getNewEntityJson());
+            dto.setEntityJson(states.entityJson());
+            dto.setNewEntityJson(states.newEntityJson());
+        });
+
+        return dto;
     }
 
     private EntityNotFoundException getException(Long id) {
@@ -4,12 +4,14 @@ import com.bank.authorization.dto.AuditDto;
 import com.bank.authorization.entity.AuditEntity;
 import com.bank.authorization.mapper.AuditMapper;
 import com.bank.authorization.repository.AuditRepository;
+import com.bank.common.audit.AuditHistoryReader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.ObjectProvider;
 
 import javax.persistence.EntityNotFoundException;
 
@@ -33,6 +35,9 @@ class AuditServiceImplTest {
     @Mock
     private AuditMapper mapper;
 
+    @Mock
+    private ObjectProvider<AuditHistoryReader> historyReader;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -0,0 +1,171 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.Type;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Слушатель Hibernate, который превращает вставку или изменение сущности в {@link AuditRecord}.
+ * К БД не обращается и исключений не пропускает: ошибка аудита не откатывает изменение сущности.
+ * После коммита запись отдается в {@link WriteBehindAuditQueue}; версию, сжатие и вставку
+ * в таблицу audit выполняет фоновый поток через {@link AuditJdbcWriter}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "audit", name = "enabled", havingValue = "true")
+public class AuditEventListener implements PostInsertEventListener, PostUpdateEventListener {
+
+    private static final String AUDIT_ENTITY = "AuditEntity";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final WriteBehindAuditQueue queue;
+    private final AuditProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public AuditEventListener(EntityManagerFactory entityManagerFactory, WriteBehindAuditQueue queue,
+                              AuditProperties properties, ObjectMapper objectMapper) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.queue = queue;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void register() {
+        final EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        final String entityType = entityType(event.getPersister());
+
+        if (AUDIT_ENTITY.equals(entityType)) {
+            return;
+        }
+
+        try {
+            final Timestamp now = new Timestamp(System.currentTimeMillis());
+
+            submitAfterCommit(event.getSession(), new AuditRecord(
+                    entityType, toEntityId(event.getId()), null, AuditRecord.CREATE,
+                    properties.getUser(), null, now, null, null,
+                    toJson(event.getId(), event.getPersister(), event.getState(), event.getSession())
+            ));
+        } catch (RuntimeException e) {
+            log.error("Не удалось записать аудит создания {}", event.getPersister().getEntityName(), e);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        final String entityType = entityType(event.getPersister());
+
+        if (AUDIT_ENTITY.equals(entityType)) {
+            return;
+        }
+
+        try {
+            final Timestamp now = new Timestamp(System.currentTimeMillis());
+            final String oldJson = event.getOldState() == null ? null
+                    : toJson(event.getId(), event.getPersister(), event.getOldState(), event.getSession());
+
+            submitAfterCommit(event.getSession(), new AuditRecord(
+                    entityType, toEntityId(event.getId()), null, AuditRecord.UPDATE,
+                    properties.getUser(), properties.getUser(), now, now,
+                    toJson(event.getId(), event.getPersister(), event.getState(), event.getSession()),
+                    oldJson
+            ));
+        } catch (RuntimeException e) {
+            log.error("Не удалось записать аудит изменения {}", event.getPersister().getEntityName(), e);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHanding(EntityPersister persister) {
+        return false;
+    }
+
+    private void submitAfterCommit(EventSource session, AuditRecord record) {
+        session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, completed) -> {
+            if (!success) {
+                return;
+            }
+
+            try {
+                queue.submit(record);
+            } catch (RuntimeException e) {
+                log.error("Не удалось записать аудит {} {}", record.getEntityType(), record.getEntityId(), e);
+            }
+        });
+    }
+
+    private String entityType(EntityPersister persister) {
+        return persister.getMappedClass().getSimpleName();
+    }
+
+    private Long toEntityId(Serializable id) {
+        return id instanceof Number number ? number.longValue() : null;
+    }
+
+    private String toJson(Serializable id, EntityPersister persister, Object[] state,
+                          SharedSessionContractImplementor session) {
+        final String[] names = persister.getPropertyNames();
+        final Type[] types = persister.getPropertyTypes();
+        final Map<String, Object> values = new LinkedHashMap<>();
+
+        values.put(persister.getIdentifierPropertyName(), id);
+
+        for (int i = 0; i < names.length; i++) {
+            if (types[i].isCollectionType()) {
+                continue;
+            }
+
+            values.put(names[i], types[i].isEntityType() ? toId(state[i], session) : state[i]);
+        }
+
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Object toId(Object entity, SharedSessionContractImplementor session) {
+        if (entity == null) {
+            return null;
+        }
+
+        if (entity instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getIdentifier();
+        }
+
+        return session.getEntityPersister(null, entity).getIdentifier(entity, session);
+    }
+}
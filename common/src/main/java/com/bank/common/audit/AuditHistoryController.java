@@ -0,0 +1,34 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер истории версий сущностей по таблице audit.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/audit")
+@ConditionalOnProperty(prefix = "audit", name = "enabled", havingValue = "true")
+public class AuditHistoryController {
+
+    private final AuditHistoryReader reader;
+
+    /**
+     * @param entityType простое имя класса сущности
+     * @param entityId   технический идентификатор сущности
+     * @param version    номер версии
+     * @return состояние сущности на версию {@code version}
+     */
+    @GetMapping("/{entityType}/{entityId}/versions/{version}")
+    public JsonNode reconstruct(@PathVariable("entityType") String entityType,
+                                @PathVariable("entityId") Long entityId,
+                                @PathVariable("version") Integer version) {
+        return reader.reconstruct(entityType, entityId, version);
+    }
+}
@@ -0,0 +1,124 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityNotFoundException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Восстанавливает состояние сущности на заданную версию: берет ближайший полный снимок
+ * не новее версии и применяет к нему патчи последующих версий.
+ * Через {@link #restoreStates} им пользуются AuditService модулей, чтобы по-прежнему
+ * отдавать полные entity_json и new_entity_json для строк, сохраненных патчем.
+ */
+@Component
+@ConditionalOnProperty(prefix = "audit", name = "enabled", havingValue = "true")
+public class AuditHistoryReader {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final String historySql;
+
+    public AuditHistoryReader(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, AuditProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+
+        final String table = properties.getSchema() + ".audit";
+
+        this.historySql = "select version, operation_type, entity_json, new_entity_json from " + table
+                + " where entity_type = ? and entity_id = ? and version <= ? and version >= ("
+                + "select max(version) from " + table + " where entity_type = ? and entity_id = ? and version <= ?"
+                + " and (operation_type = '" + AuditRecord.CREATE + "' or new_entity_json is not null))"
+                + " order by version";
+    }
+
+    /**
+     * @param entityType простое имя класса сущности, например {@code PassportEntity}
+     * @param entityId   технический идентификатор сущности
+     * @param version    номер версии
+     * @return состояние сущности на версию {@code version}
+     * @throws EntityNotFoundException если для версии нет полного снимка
+     * @throws IllegalStateException   если между снимком и версией не хватает строк: запись еще лежит
+     *                                  в файле аудита или отклонена БД, и патчи дали бы неверное состояние
+     */
+    public JsonNode reconstruct(String entityType, Long entityId, Integer version) {
+        final List<AuditRecord> rows = jdbcTemplate.query(historySql, (resultSet, rowNum) -> {
+            final AuditRecord record = new AuditRecord();
+            record.setVersion(resultSet.getInt("version"));
+            record.setOperationType(resultSet.getString("operation_type"));
+            record.setEntityJson(resultSet.getString("entity_json"));
+            record.setNewEntityJson(resultSet.getString("new_entity_json"));
+            return record;
+        }, entityType, entityId, version, entityType, entityId, version);
+
+        if (rows.isEmpty()) {
+            throw new EntityNotFoundException("Нет версии " + version + " для " + entityType + " с id " + entityId);
+        }
+
+        checkContiguous(entityType, entityId, version, rows);
+
+        final AuditRecord base = rows.get(0);
+        JsonNode state = read(AuditRecord.CREATE.equals(base.getOperationType())
+                ? base.getEntityJson() : base.getNewEntityJson());
+
+        for (AuditRecord row : rows.subList(1, rows.size())) {
+            state = JsonPatch.apply(state, read(row.getEntityJson()));
+        }
+
+        return state;
+    }
+
+    /**
+     * Для строки UPDATE, у которой в entity_json лежит JSON Patch, восстанавливает полные состояния
+     * до и после изменения. Остальные строки возвращаются как есть.
+     *
+     * @param entityType    entity_type строки audit
+     * @param entityId      entity_id строки audit
+     * @param version       version строки audit
+     * @param entityJson    entity_json строки audit
+     * @param newEntityJson new_entity_json строки audit
+     * @return {@link AuditStates}
+     * @throws EntityNotFoundException если для восстановления не хватает истории
+     */
+    public AuditStates restoreStates(String entityType, Long entityId, Integer version,
+                                     String entityJson, String newEntityJson) {
+        if (entityJson == null || version == null || !read(entityJson).isArray()) {
+            return new AuditStates(entityJson, newEntityJson);
+        }
+
+        final String newState = newEntityJson != null ? newEntityJson
+                : reconstruct(entityType, entityId, version).toString();
+
+        return new AuditStates(reconstruct(entityType, entityId, version - 1).toString(), newState);
+    }
+
+    private void checkContiguous(String entityType, Long entityId, Integer version, List<AuditRecord> rows) {
+        for (int i = 0; i < rows.size(); i++) {
+            final int expected = rows.get(0).getVersion() + i;
+
+            if (rows.get(i).getVersion() != expected) {
+                throw new IllegalStateException("Нет версии " + expected + " для " + entityType + " с id "
+                        + entityId + ", состояние версии " + version + " не восстановить");
+            }
+        }
+
+        if (rows.get(rows.size() - 1).getVersion() != version.intValue()) {
+            throw new IllegalStateException("Нет версии " + version + " для " + entityType + " с id " + entityId
+                    + ", последняя записанная версия " + rows.get(rows.size() - 1).getVersion());
+        }
+    }
+
+    private JsonNode read(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
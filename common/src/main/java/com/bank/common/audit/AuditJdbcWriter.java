@@ -0,0 +1,163 @@
+package com.bank.common.audit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Пакетная вставка {@link AuditRecord} в таблицу audit схемы модуля одним JDBC batch
+ * в одной транзакции. Здесь же записям выдаются версии: счетчик audit_version сдвигается
+ * одним запросом на всю пачку, версии одной сущности идут в порядке записей в пачке,
+ * после чего записи сжимаются {@link AuditVersionCompactor}.
+ */
+@Component
+@ConditionalOnProperty(prefix = "audit", name = "enabled", havingValue = "true")
+public class AuditJdbcWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditVersionCompactor compactor;
+    private final String insertSql;
+    private final String reserveVersionsSql;
+
+    public AuditJdbcWriter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                           AuditVersionCompactor compactor, AuditProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.compactor = compactor;
+        this.insertSql = "insert into " + properties.getSchema() + ".audit (id, entity_type, operation_type, "
+                + "created_by, modified_by, created_at, modified_at, new_entity_json, entity_json, "
+                + "entity_id, version) "
+                + "values (nextval('" + properties.getSchema() + ".audit_seq'), ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        this.reserveVersionsSql = "insert into " + properties.getSchema() + ".audit_version as v "
+                + "(entity_type, entity_id, version) "
+                + "select * from unnest(?::varchar[], ?::bigint[], ?::integer[]) "
+                + "on conflict (entity_type, entity_id) do update set version = v.version + excluded.version "
+                + "returning v.entity_type, v.entity_id, v.version";
+    }
+
+    /**
+     * Пачка записывается целиком или не записывается совсем; при откате выданные версии возвращаются.
+     * Переданные записи не меняются, поэтому отклоненную пачку можно записать повторно или сохранить в файл.
+     *
+     * @param records пачка {@link AuditRecord} в порядке коммитов
+     */
+    public void writeAll(List<AuditRecord> records) {
+        transactionTemplate.executeWithoutResult(status -> {
+            final List<AuditRecord> rows = records.stream()
+                    .map(AuditRecord::copy)
+                    .toList();
+
+            assignVersions(rows);
+            rows.forEach(compactor::compact);
+            insert(rows);
+        });
+    }
+
+    /**
+     * Расходует версию записи, которая не будет записана, чтобы в истории сущности остался
+     * видимый пропуск, а не молча пропавшее изменение.
+     *
+     * @param record {@link AuditRecord}
+     */
+    public void skipVersion(AuditRecord record) {
+        if (record.getEntityId() != null) {
+            transactionTemplate.executeWithoutResult(status -> reserve(Map.of(
+                    new EntityKey(record.getEntityType(), record.getEntityId()), 1)));
+        }
+    }
+
+    private void assignVersions(List<AuditRecord> rows) {
+        final Map<EntityKey, Integer> counts = new TreeMap<>();
+
+        for (AuditRecord row : rows) {
+            if (row.getEntityId() != null) {
+                counts.merge(new EntityKey(row.getEntityType(), row.getEntityId()), 1, Integer::sum);
+            }
+        }
+
+        if (counts.isEmpty()) {
+            return;
+        }
+
+        final Map<EntityKey, Integer> lastVersions = reserve(counts);
+        final Map<EntityKey, Integer> nextVersions = new HashMap<>();
+
+        lastVersions.forEach((key, last) -> nextVersions.put(key, last - counts.get(key) + 1));
+
+        for (AuditRecord row : rows) {
+            if (row.getEntityId() != null) {
+                final EntityKey key = new EntityKey(row.getEntityType(), row.getEntityId());
+                final int version = nextVersions.get(key);
+
+                row.setVersion(version);
+                nextVersions.put(key, version + 1);
+            }
+        }
+    }
+
+    /**
+     * Сдвигает счетчики сущностей в порядке ключа, чтобы писатели разных экземпляров
+     * не блокировали строки audit_version друг друга по кругу.
+     *
+     * @return последняя выданная версия по сущности
+     */
+    private Map<EntityKey, Integer> reserve(Map<EntityKey, Integer> counts) {
+        return jdbcTemplate.execute((ConnectionCallback<Map<EntityKey, Integer>>) connection -> {
+            final Map<EntityKey, Integer> sorted = new TreeMap<>(counts);
+            final Map<EntityKey, Integer> lastVersions = new HashMap<>();
+
+            try (PreparedStatement statement = connection.prepareStatement(reserveVersionsSql)) {
+                statement.setArray(1, connection.createArrayOf("varchar", sorted.keySet().stream()
+                        .map(EntityKey::entityType).toArray()));
+                statement.setArray(2, connection.createArrayOf("bigint", sorted.keySet().stream()
+                        .map(EntityKey::entityId).toArray()));
+                statement.setArray(3, connection.createArrayOf("integer", sorted.values().toArray()));
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        lastVersions.put(new EntityKey(resultSet.getString(1), resultSet.getLong(2)),
+                                resultSet.getInt(3));
+                    }
+                }
+            }
+
+            return lastVersions;
+        });
+    }
+
+    private void insert(List<AuditRecord> records) {
+        jdbcTemplate.batchUpdate(insertSql, records, records.size(), (statement, record) -> {
+            statement.setString(1, record.getEntityType());
+            statement.setString(2, record.getOperationType());
+            statement.setString(3, record.getCreatedBy());
+            statement.setString(4, record.getModifiedBy());
+            statement.setTimestamp(5, record.getCreatedAt());
+            statement.setTimestamp(6, record.getModifiedAt());
+            statement.setString(7, record.getNewEntityJson());
+            statement.setString(8, record.getEntityJson());
+            statement.setObject(9, record.getEntityId(), Types.BIGINT);
+            statement.setObject(10, record.getVersion(), Types.INTEGER);
+        });
+    }
+
+    private record EntityKey(String entityType, Long entityId) implements Comparable<EntityKey> {
+
+        @Override
+        public int compareTo(EntityKey other) {
+            final int byType = entityType.compareTo(other.entityType);
+
+            return byType != 0 ? byType : entityId.compareTo(other.entityId);
+        }
+    }
+}
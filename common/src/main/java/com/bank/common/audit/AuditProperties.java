@@ -0,0 +1,63 @@
+package com.bank.common.audit;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Настройки записи аудита, префикс {@code audit}.
+ */
+@Getter
+@Setter
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "audit")
+@ConditionalOnProperty(prefix = "audit", name = "enabled", havingValue = "true")
+public class AuditProperties {
+
+    /**
+     * схема, в которой лежат таблица audit и sequence audit_seq.
+     */
+    String schema;
+
+    /**
+     * значение created_by / modified_by.
+     */
+    String user = "system";
+
+    /**
+     * емкость очереди записей, ожидающих вставки.
+     */
+    int queueCapacity = 10_000;
+
+    /**
+     * максимальное число записей в одной пачке вставки.
+     */
+    int flushSize = 500;
+
+    /**
+     * максимальное время ожидания неполной пачки.
+     */
+    Duration flushInterval = Duration.ofSeconds(1);
+
+    /**
+     * сколько поток запроса ждет места в заполненной очереди перед сбросом записи в файл.
+     */
+    Duration offerTimeout = Duration.ofMillis(5);
+
+    /**
+     * через сколько версий сущности в new_entity_json пишется полное состояние.
+     */
+    int snapshotEvery = 20;
+
+    /**
+     * файл для записей, которые не удалось записать в БД или поставить в очередь.
+     */
+    String spillFile = "audit-spill.ndjson";
+}
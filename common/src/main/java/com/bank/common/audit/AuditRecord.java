@@ -0,0 +1,44 @@
+package com.bank.common.audit;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+
+/**
+ * Строка таблицы audit, ожидающая записи.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class AuditRecord implements Serializable {
+
+    public static final String CREATE = "CREATE";
+    public static final String UPDATE = "UPDATE";
+
+    String entityType;
+    Long entityId;
+    Integer version;
+    String operationType;
+    String createdBy;
+    String modifiedBy;
+    Timestamp createdAt;
+    Timestamp modifiedAt;
+    String newEntityJson;
+    String entityJson;
+
+    /**
+     * @return копия записи, которую можно менять, не трогая исходную
+     */
+    public AuditRecord copy() {
+        return new AuditRecord(entityType, entityId, version, operationType, createdBy, modifiedBy,
+                createdAt, modifiedAt, newEntityJson, entityJson);
+    }
+}
@@ -0,0 +1,139 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Локальный файл (NDJSON) для записей аудита, которые не удалось поставить в очередь
+ * или записать в БД. Пишется с DSYNC, поэтому переживает падение процесса,
+ * и переигрывается при следующей успешной записи. На время переигрывания файл переименовывается
+ * в {@code <имя>.replaying} и удаляется только после того, как записи из него попали в БД.
+ * Записи, которые БД отклоняет, переносятся в {@code <имя>.dead} и больше не переигрываются.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "audit", name = "enabled", havingValue = "true")
+public class AuditSpillFile {
+
+    private final Path path;
+    private final Path replayingPath;
+    private final Path deadLetterPath;
+    private final ObjectMapper objectMapper;
+
+    public AuditSpillFile(AuditProperties properties, ObjectMapper objectMapper) {
+        this.path = Paths.get(properties.getSpillFile());
+        this.replayingPath = Paths.get(properties.getSpillFile() + ".replaying");
+        this.deadLetterPath = Paths.get(properties.getSpillFile() + ".dead");
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @param records записи, дописываемые в конец файла
+     * @return true, если записи сохранены в файле
+     */
+    public synchronized boolean append(List<AuditRecord> records) {
+        return write(path, records);
+    }
+
+    /**
+     * @param records записи, которые БД отклонила и которые нельзя переигрывать
+     * @return true, если записи сохранены в файле
+     */
+    public synchronized boolean appendDeadLetter(List<AuditRecord> records) {
+        return write(deadLetterPath, records);
+    }
+
+    /**
+     * @return true, если в файле есть записи или прошлое переигрывание не завершено
+     */
+    public boolean hasRecords() {
+        return Files.exists(path) || Files.exists(replayingPath);
+    }
+
+    /**
+     * Переименовывает файл в {@code .replaying} и читает записи из него. Если {@code .replaying}
+     * остался от прерванного переигрывания, читается он, а новый файл ждет следующего раза.
+     * Файл не удаляется, пока не вызван {@link #completeReplay()}.
+     *
+     * @return записи из файла
+     */
+    public synchronized List<AuditRecord> takeAll() {
+        try {
+            if (!Files.exists(replayingPath)) {
+                if (!Files.exists(path)) {
+                    return List.of();
+                }
+
+                Files.move(path, replayingPath, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            final List<AuditRecord> records = new ArrayList<>();
+
+            for (String line : Files.readAllLines(replayingPath, StandardCharsets.UTF_8)) {
+                if (!line.isBlank()) {
+                    records.add(toRecord(line));
+                }
+            }
+
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Удаляет файл {@code .replaying} после того, как его записи записаны в БД
+     * или снова сохранены через {@link #append(List)}.
+     */
+    public synchronized void completeReplay() {
+        try {
+            Files.deleteIfExists(replayingPath);
+        } catch (IOException e) {
+            log.error("Не удалось удалить переигранный файл аудита {}", replayingPath, e);
+        }
+    }
+
+    private boolean write(Path target, List<AuditRecord> records) {
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+
+            try (BufferedWriter writer = Files.newBufferedWriter(target, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.DSYNC)) {
+                for (AuditRecord record : records) {
+                    writer.write(objectMapper.writeValueAsString(record));
+                    writer.newLine();
+                }
+            }
+
+            return true;
+        } catch (IOException e) {
+            log.error("Не удалось сохранить {} записей аудита в {}", records.size(), target, e);
+            return false;
+        }
+    }
+
+    private AuditRecord toRecord(String line) {
+        try {
+            return objectMapper.readValue(line, AuditRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.bank.common.audit;
+
+/**
+ * Полные состояния сущности до и после изменения, как их отдают читатели таблицы audit.
+ *
+ * @param entityJson    состояние до изменения
+ * @param newEntityJson состояние после изменения
+ */
+public record AuditStates(String entityJson, String newEntityJson) {
+}
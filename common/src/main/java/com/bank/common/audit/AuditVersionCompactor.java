@@ -0,0 +1,63 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Сжимает записи изменения перед вставкой.
+ * Для UPDATE в entity_json пишется JSON Patch от предыдущей версии к новой,
+ * а полное состояние в new_entity_json — только на каждой
+ * {@link AuditProperties#getSnapshotEvery()}-й версии. Запись CREATE и первая версия
+ * сущности, созданной до включения аудита, остаются полными.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "audit", name = "enabled", havingValue = "true")
+public class AuditVersionCompactor {
+
+    private final ObjectMapper objectMapper;
+    private final AuditProperties properties;
+
+    /**
+     * Заменяет полные состояния записи UPDATE на патч. Версия уже выдана {@link AuditJdbcWriter}.
+     *
+     * @param record {@link AuditRecord}
+     */
+    public void compact(AuditRecord record) {
+        final Integer version = record.getVersion();
+
+        if (!AuditRecord.UPDATE.equals(record.getOperationType()) || version == null || version == 1) {
+            return;
+        }
+
+        toPatch(record, version % properties.getSnapshotEvery() == 0);
+    }
+
+    private void toPatch(AuditRecord record, boolean snapshot) {
+        final String newJson = record.getNewEntityJson();
+
+        if (record.getEntityJson() == null) {
+            record.setEntityJson("[]");
+            return;
+        }
+
+        final JsonNode patch = JsonPatch.diff(read(record.getEntityJson()), read(newJson));
+
+        record.setEntityJson(patch.toString());
+        record.setNewEntityJson(snapshot ? newJson : null);
+    }
+
+    private JsonNode read(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
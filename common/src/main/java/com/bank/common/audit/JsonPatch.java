@@ -0,0 +1,111 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Минимальная реализация JSON Patch (RFC 6902): операции add, remove и replace.
+ * Объекты сравниваются по полям рекурсивно, массивы и значения заменяются целиком.
+ */
+public final class JsonPatch {
+
+    private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+
+    private JsonPatch() {
+    }
+
+    /**
+     * @param source исходное состояние
+     * @param target новое состояние
+     * @return список операций, переводящий {@code source} в {@code target}
+     */
+    public static ArrayNode diff(JsonNode source, JsonNode target) {
+        final ArrayNode patch = FACTORY.arrayNode();
+        diff("", source, target, patch);
+        return patch;
+    }
+
+    /**
+     * @param document состояние, к которому применяется патч, не изменяется
+     * @param patch    список операций
+     * @return новое состояние
+     */
+    public static JsonNode apply(JsonNode document, JsonNode patch) {
+        JsonNode result = document.deepCopy();
+
+        for (JsonNode operation : patch) {
+            final String path = operation.get("path").asText();
+            final String op = operation.get("op").asText();
+
+            if (path.isEmpty()) {
+                result = "remove".equals(op) ? FACTORY.nullNode() : operation.get("value").deepCopy();
+                continue;
+            }
+
+            final int slash = path.lastIndexOf('/');
+            final ObjectNode parent = (ObjectNode) result.at(path.substring(0, slash));
+            final String field = unescape(path.substring(slash + 1));
+
+            switch (op) {
+                case "add", "replace" -> parent.set(field, operation.get("value").deepCopy());
+                case "remove" -> parent.remove(field);
+                default -> throw new IllegalArgumentException("Неподдерживаемая операция JSON Patch: " + op);
+            }
+        }
+
+        return result;
+    }
+
+    private static void diff(String path, JsonNode source, JsonNode target, ArrayNode patch) {
+        if (source.equals(target)) {
+            return;
+        }
+
+        if (!source.isObject() || !target.isObject()) {
+            patch.add(operation("replace", path).set("value", target));
+            return;
+        }
+
+        final Iterator<Map.Entry<String, JsonNode>> sourceFields = source.fields();
+
+        while (sourceFields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = sourceFields.next();
+            final String fieldPath = path + "/" + escape(field.getKey());
+
+            if (target.has(field.getKey())) {
+                diff(fieldPath, field.getValue(), target.get(field.getKey()), patch);
+            } else {
+                patch.add(operation("remove", fieldPath));
+            }
+        }
+
+        final Iterator<Map.Entry<String, JsonNode>> targetFields = target.fields();
+
+        while (targetFields.hasNext()) {
+            final Map.Entry<String, JsonNode> field = targetFields.next();
+
+            if (!source.has(field.getKey())) {
+                patch.add(operation("add", path + "/" + escape(field.getKey())).set("value", field.getValue()));
+            }
+        }
+    }
+
+    private static ObjectNode operation(String op, String path) {
+        return FACTORY.objectNode()
+                .put("op", op)
+                .put("path", path);
+    }
+
+    private static String escape(String field) {
+        return field.replace("~", "~0").replace("/", "~1");
+    }
+
+    private static String unescape(String field) {
+        return field.replace("~1", "/").replace("~0", "~");
+    }
+}
@@ -0,0 +1,232 @@
+package com.bank.common.audit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.dao.NonTransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ограниченная очередь записей аудита и фоновый поток, который вставляет их пачками.
+ * Поток запроса только кладет запись в очередь; если очередь заполнена дольше
+ * {@link AuditProperties#getOfferTimeout()}, запись уходит в {@link AuditSpillFile}.
+ * Пачка пишется, как только набрано {@link AuditProperties#getFlushSize()} записей
+ * или прошло {@link AuditProperties#getFlushInterval()} с первой записи пачки.
+ * Пачку, которую БД отклоняет из-за данных, поток делит пополам, пока не найдет
+ * отклоненные записи, и переносит их в файл недоставленных записей; версия такой записи
+ * расходуется, чтобы пропуск был виден в истории сущности.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "audit", name = "enabled", havingValue = "true")
+public class WriteBehindAuditQueue {
+
+    private final AuditProperties properties;
+    private final AuditJdbcWriter writer;
+    private final AuditSpillFile spillFile;
+    private final BlockingQueue<AuditRecord> queue;
+    private final Thread writerThread;
+
+    private volatile boolean running = true;
+
+    public WriteBehindAuditQueue(AuditProperties properties, AuditJdbcWriter writer, AuditSpillFile spillFile) {
+        this.properties = properties;
+        this.writer = writer;
+        this.spillFile = spillFile;
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        this.writerThread = new Thread(this::drain, "audit-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerThread.start();
+    }
+
+    /**
+     * @param record {@link AuditRecord}
+     */
+    public void submit(AuditRecord record) {
+        try {
+            if (queue.offer(record, properties.getOfferTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        spillFile.append(List.of(record));
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(properties.getFlushInterval().toMillis() * 2);
+
+        final List<AuditRecord> rest = new ArrayList<>();
+        queue.drainTo(rest);
+
+        if (!rest.isEmpty()) {
+            spillFile.append(rest);
+        }
+    }
+
+    private void drain() {
+        replaySpilled();
+
+        final List<AuditRecord> batch = new ArrayList<>(properties.getFlushSize());
+
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                running = false;
+            }
+
+            flush(batch);
+        }
+
+        queue.drainTo(batch);
+        flush(batch);
+    }
+
+    private void collect(List<AuditRecord> batch) throws InterruptedException {
+        final AuditRecord first = queue.take();
+        batch.add(first);
+
+        final long deadline = System.nanoTime() + properties.getFlushInterval().toNanos();
+
+        while (batch.size() < properties.getFlushSize()) {
+            queue.drainTo(batch, properties.getFlushSize() - batch.size());
+
+            final long remaining = deadline - System.nanoTime();
+
+            if (batch.size() >= properties.getFlushSize() || remaining <= 0) {
+                return;
+            }
+
+            final AuditRecord next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+
+            if (next == null) {
+                return;
+            }
+
+            batch.add(next);
+        }
+    }
+
+    /**
+     * Сначала переигрывает записи из файла: версии выдаются при вставке, поэтому более поздние
+     * записи не должны обгонять сохраненные. Пока файл не переигран, пачка дописывается за ним.
+     */
+    private void flush(List<AuditRecord> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        if (!replaySpilled()) {
+            spillFile.append(batch);
+            batch.clear();
+            return;
+        }
+
+        final int written = write(batch);
+
+        if (written < batch.size()) {
+            spillFile.append(batch.subList(written, batch.size()));
+        }
+
+        batch.clear();
+    }
+
+    /**
+     * @return true, если в файле не осталось записей, которые нужно записать раньше новых
+     */
+    private boolean replaySpilled() {
+        if (!spillFile.hasRecords()) {
+            return true;
+        }
+
+        final List<AuditRecord> spilled;
+
+        try {
+            spilled = spillFile.takeAll();
+        } catch (RuntimeException e) {
+            log.error("Не удалось прочитать файл аудита", e);
+            return true;
+        }
+
+        for (int from = 0; from < spilled.size(); from += properties.getFlushSize()) {
+            final List<AuditRecord> chunk = spilled.subList(from,
+                    Math.min(from + properties.getFlushSize(), spilled.size()));
+            final int written = write(chunk);
+
+            if (written < chunk.size()) {
+                if (spillFile.append(spilled.subList(from + written, spilled.size()))) {
+                    spillFile.completeReplay();
+                }
+
+                return false;
+            }
+        }
+
+        spillFile.completeReplay();
+        return true;
+    }
+
+    /**
+     * Пишет записи по порядку. Если БД отклоняет пачку из-за данных, пишет половины по отдельности,
+     * а отклоненную одиночную запись переносит в файл недоставленных записей.
+     *
+     * @param records записи
+     * @return сколько первых записей записано или перенесено; остальные нужно сохранить и переиграть позже
+     */
+    private int write(List<AuditRecord> records) {
+        try {
+            writer.writeAll(records);
+            return records.size();
+        } catch (RuntimeException e) {
+            if (!isRejected(e)) {
+                log.error("Не удалось записать {} записей аудита, сохраняю в файл", records.size(), e);
+                return 0;
+            }
+
+            if (records.size() == 1) {
+                final AuditRecord record = records.get(0);
+                log.error("БД отклонила запись аудита {} {} версии {}, переношу в файл недоставленных записей",
+                        record.getEntityType(), record.getEntityId(), record.getVersion(), e);
+                spillFile.appendDeadLetter(records);
+                skipVersion(record);
+                return 1;
+            }
+
+            final int middle = records.size() / 2;
+            final int head = write(records.subList(0, middle));
+
+            return head < middle ? head : middle + write(records.subList(middle, records.size()));
+        }
+    }
+
+    private void skipVersion(AuditRecord record) {
+        try {
+            writer.skipVersion(record);
+        } catch (RuntimeException e) {
+            log.error("Не удалось отметить пропуск версии аудита {} {}",
+                    record.getEntityType(), record.getEntityId(), e);
+        }
+    }
+
+    private boolean isRejected(RuntimeException e) {
+        return e instanceof NonTransientDataAccessException
+                && !(e instanceof NonTransientDataAccessResourceException);
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.client.HttpClientErrorException;
@@ -16,9 +17,12 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 import org.webjars.NotFoundException;
 
 import javax.persistence.EntityNotFoundException;
+import javax.validation.ConstraintViolation;
+import javax.validation.ConstraintViolationException;
 import java.nio.file.AccessDeniedException;
 import java.sql.SQLException;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * Глобальный обработчик исключений.
@@ -81,6 +85,31 @@ public class GlobalRestExceptionHandler {
         return new ResponseEntity<>(message, HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * @param ex {@link ConstraintViolationException} проверки параметров метода контроллера.
+     * @return {@link ResponseEntity} с текстом ошибки и HttpStatus.BAD_REQUEST.
+     */
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<String> handleConstraintViolation(ConstraintViolationException ex) {
+        final String message = ex.getConstraintViolations().stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; "));
+
+        log.error(message, ex);
+        return new ResponseEntity<>(message, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * @param ex {@link MissingRequestHeaderException}.
+     * @return {@link ResponseEntity} с текстом ошибки и HttpStatus.BAD_REQUEST.
+     */
+    @ExceptionHandler(MissingRequestHeaderException.class)
+    public ResponseEntity<String> handleMissingRequestHeader(MissingRequestHeaderException ex) {
+        final String message = ex.getMessage();
+        log.error(message, ex);
+        return new ResponseEntity<>(message, HttpStatus.BAD_REQUEST);
+    }
+
     /**
      * @param ex {@link AccessDeniedException}.
      * @return {@link ResponseEntity} с текстом ошибки и HttpStatus.FORBIDDEN.
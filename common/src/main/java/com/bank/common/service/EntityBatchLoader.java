@@ -0,0 +1,59 @@
+package com.bank.common.service;
+
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Загружает сущности по списку технических идентификаторов пачками,
+ * по одному запросу {@code IN} на пачку вместо запроса на каждый идентификатор.
+ */
+@Component
+public class EntityBatchLoader {
+
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * @param ids         список технических идентификаторов, допускаются повторы
+     * @param finder      поиск сущностей по пачке идентификаторов, например {@code repository::findAllById}
+     * @param idExtractor получение технического идентификатора сущности
+     * @param message     текст ошибки, к которому через двоеточие дописываются ненайденные идентификаторы
+     * @return сущности в порядке идентификаторов из {@code ids}
+     * @throws EntityNotFoundException если хотя бы один идентификатор не найден
+     */
+    public <T> List<T> loadAllInOrder(List<Long> ids, Function<List<Long>, List<T>> finder,
+                                      Function<T, Long> idExtractor, String message) {
+        final List<Long> distinctIds = ids.stream()
+                .distinct()
+                .toList();
+
+        final Map<Long, T> entitiesById = new HashMap<>();
+
+        for (int from = 0; from < distinctIds.size(); from += CHUNK_SIZE) {
+            final List<Long> chunk = distinctIds.subList(from, Math.min(from + CHUNK_SIZE, distinctIds.size()));
+
+            for (T entity : finder.apply(chunk)) {
+                entitiesById.put(idExtractor.apply(entity), entity);
+            }
+        }
+
+        final List<Long> missingIds = distinctIds.stream()
+                .filter(id -> !entitiesById.containsKey(id))
+                .toList();
+
+        if (!missingIds.isEmpty()) {
+            throw new EntityNotFoundException(message.strip() + ": " + missingIds.stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", ")));
+        }
+
+        return ids.stream()
+                .map(entitiesById::get)
+                .toList();
+    }
+}
@@ -0,0 +1,98 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class AuditHistoryReaderTest {
+
+    private static final String CREATED = "{\"id\":1,\"money\":10}";
+    private static final String PATCH_2 = "[{\"op\":\"replace\",\"path\":\"/money\",\"value\":20}]";
+    private static final String PATCH_3 = "[{\"op\":\"replace\",\"path\":\"/money\",\"value\":30}]";
+
+    private JdbcTemplate jdbcTemplate;
+    private AuditHistoryReader reader;
+
+    @BeforeEach
+    void init() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+
+        AuditProperties properties = new AuditProperties();
+        properties.setSchema("account");
+
+        reader = new AuditHistoryReader(jdbcTemplate, new ObjectMapper(), properties);
+
+        List<AuditRecord> history = List.of(
+                row(1, AuditRecord.CREATE, CREATED),
+                row(2, AuditRecord.UPDATE, PATCH_2),
+                row(3, AuditRecord.UPDATE, PATCH_3));
+
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> history.subList(0, invocation.<Integer>getArgument(4)));
+    }
+
+    @Test
+    @DisplayName("Изменение, сохраненное патчем, восстанавливается в полные состояния, позитивный сценарий")
+    void restoreStatesPatchedUpdateTest() {
+        AuditStates states = reader.restoreStates("AccountDetailsEntity", 1L, 3, PATCH_3, null);
+
+        assertEquals("{\"id\":1,\"money\":20}", states.entityJson());
+        assertEquals("{\"id\":1,\"money\":30}", states.newEntityJson());
+    }
+
+    @Test
+    @DisplayName("Полные состояния возвращаются как есть, позитивный сценарий")
+    void restoreStatesFullRowTest() {
+        AuditStates states = reader.restoreStates("AccountDetailsEntity", 1L, 1, CREATED, null);
+
+        assertEquals(CREATED, states.entityJson());
+        assertNull(states.newEntityJson());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Пропущенная версия между снимком и целевой версией, негативный сценарий")
+    void reconstructGapNegativeTest() {
+        List<AuditRecord> history = List.of(
+                row(1, AuditRecord.CREATE, CREATED),
+                row(3, AuditRecord.UPDATE, PATCH_3));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any(), any(), any(), any()))
+                .thenReturn(history);
+
+        assertThrows(IllegalStateException.class, () -> reader.reconstruct("AccountDetailsEntity", 1L, 3));
+    }
+
+    @Test
+    @DisplayName("Целевая версия еще не записана, негативный сценарий")
+    void reconstructMissingTargetNegativeTest() {
+        List<AuditRecord> history = List.of(
+                row(1, AuditRecord.CREATE, CREATED),
+                row(2, AuditRecord.UPDATE, PATCH_2));
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(), any(), any(), any(), any(), any()))
+                .thenReturn(history);
+
+        assertThrows(IllegalStateException.class, () -> reader.reconstruct("AccountDetailsEntity", 1L, 3));
+    }
+
+    private AuditRecord row(int version, String operationType, String entityJson) {
+        AuditRecord record = new AuditRecord();
+        record.setVersion(version);
+        record.setOperationType(operationType);
+        record.setEntityJson(entityJson);
+        return record;
+    }
+}
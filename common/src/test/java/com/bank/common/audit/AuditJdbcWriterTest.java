@@ -0,0 +1,97 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuditJdbcWriterTest {
+
+    private static final String STATE_10 = "{\"id\":1,\"money\":10}";
+    private static final String STATE_20 = "{\"id\":1,\"money\":20}";
+    private static final String STATE_30 = "{\"id\":1,\"money\":30}";
+
+    private JdbcTemplate jdbcTemplate;
+    private AuditJdbcWriter writer;
+    private List<AuditRecord> inserted;
+
+    @BeforeEach
+    void init() throws Exception {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        AuditProperties properties = new AuditProperties();
+        properties.setSchema("account");
+
+        writer = new AuditJdbcWriter(jdbcTemplate, transactionTemplate,
+                new AuditVersionCompactor(new ObjectMapper(), properties), properties);
+        inserted = new ArrayList<>();
+
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.next()).thenReturn(true, true, false);
+        when(resultSet.getString(1)).thenReturn("AccountDetailsEntity", "AccountDetailsEntity");
+        when(resultSet.getLong(2)).thenReturn(1L, 2L);
+        when(resultSet.getInt(3)).thenReturn(5, 1);
+
+        PreparedStatement statement = mock(PreparedStatement.class);
+        when(statement.executeQuery()).thenReturn(resultSet);
+
+        Connection connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+
+        when(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class))).thenAnswer(invocation -> {
+                    inserted.addAll(invocation.getArgument(1));
+                    return new int[0][];
+                });
+    }
+
+    @Test
+    @DisplayName("Версии выдаются при вставке по порядку записей сущности, позитивный сценарий")
+    void writeAllAssignsVersionsTest() {
+        AuditRecord first = update(STATE_10, STATE_20);
+        AuditRecord second = update(STATE_20, STATE_30);
+        AuditRecord created = new AuditRecord("AccountDetailsEntity", 2L, null, AuditRecord.CREATE,
+                "system", null, null, null, null, STATE_10);
+
+        writer.writeAll(List.of(first, second, created));
+
+        assertEquals(List.of(4, 5, 1), inserted.stream().map(AuditRecord::getVersion).toList());
+        assertEquals("[{\"op\":\"replace\",\"path\":\"/money\",\"value\":30}]", inserted.get(1).getEntityJson());
+        assertEquals(STATE_10, inserted.get(2).getEntityJson());
+        assertNull(first.getVersion());
+        assertEquals(STATE_10, first.getEntityJson());
+    }
+
+    private AuditRecord update(String oldState, String newState) {
+        return new AuditRecord("AccountDetailsEntity", 1L, null, AuditRecord.UPDATE,
+                "system", "system", null, null, newState, oldState);
+    }
+}
@@ -0,0 +1,80 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuditSpillFileTest {
+
+    @TempDir
+    Path dir;
+
+    private Path path;
+    private AuditSpillFile spillFile;
+
+    @BeforeEach
+    void init() {
+        path = dir.resolve("audit-spill.ndjson");
+
+        AuditProperties properties = new AuditProperties();
+        properties.setSpillFile(path.toString());
+
+        spillFile = new AuditSpillFile(properties, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Файл не удаляется до завершения переигрывания, позитивный сценарий")
+    void takeAllKeepsFileUntilCompletedTest() {
+        spillFile.append(List.of(record(1L), record(2L)));
+
+        List<AuditRecord> records = spillFile.takeAll();
+
+        assertEquals(List.of(1L, 2L), records.stream().map(AuditRecord::getEntityId).toList());
+        assertFalse(Files.exists(path));
+        assertTrue(spillFile.hasRecords());
+
+        spillFile.completeReplay();
+
+        assertFalse(spillFile.hasRecords());
+    }
+
+    @Test
+    @DisplayName("Прерванное переигрывание читается повторно, позитивный сценарий")
+    void takeAllAfterInterruptedReplayTest() {
+        spillFile.append(List.of(record(1L)));
+        spillFile.takeAll();
+        spillFile.append(List.of(record(2L)));
+
+        assertEquals(List.of(1L), spillFile.takeAll().stream().map(AuditRecord::getEntityId).toList());
+
+        spillFile.completeReplay();
+
+        assertEquals(List.of(2L), spillFile.takeAll().stream().map(AuditRecord::getEntityId).toList());
+    }
+
+    @Test
+    @DisplayName("Пустой файл, позитивный сценарий")
+    void takeAllEmptyTest() {
+        assertFalse(spillFile.hasRecords());
+        assertEquals(List.of(), spillFile.takeAll());
+    }
+
+    private AuditRecord record(Long entityId) {
+        AuditRecord record = new AuditRecord();
+        record.setEntityType("Account");
+        record.setEntityId(entityId);
+        record.setOperationType(AuditRecord.CREATE);
+        record.setNewEntityJson("{}");
+        return record;
+    }
+}
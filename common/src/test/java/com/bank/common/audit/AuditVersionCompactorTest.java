@@ -0,0 +1,68 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class AuditVersionCompactorTest {
+
+    private static final String OLD_STATE = "{\"id\":1,\"money\":10}";
+    private static final String NEW_STATE = "{\"id\":1,\"money\":20}";
+    private static final String PATCH = "[{\"op\":\"replace\",\"path\":\"/money\",\"value\":20}]";
+
+    private final AuditVersionCompactor compactor = new AuditVersionCompactor(new ObjectMapper(),
+            new AuditProperties());
+
+    @Test
+    @DisplayName("Изменение сохраняется патчем без снимка, позитивный сценарий")
+    void compactUpdateTest() {
+        AuditRecord record = update(2);
+
+        compactor.compact(record);
+
+        assertEquals(PATCH, record.getEntityJson());
+        assertNull(record.getNewEntityJson());
+    }
+
+    @Test
+    @DisplayName("Каждая snapshotEvery-я версия сохраняет полное новое состояние, позитивный сценарий")
+    void compactSnapshotTest() {
+        AuditRecord record = update(20);
+
+        compactor.compact(record);
+
+        assertEquals(PATCH, record.getEntityJson());
+        assertEquals(NEW_STATE, record.getNewEntityJson());
+    }
+
+    @Test
+    @DisplayName("Первая версия сущности остается полной, позитивный сценарий")
+    void compactFirstVersionTest() {
+        AuditRecord record = update(1);
+
+        compactor.compact(record);
+
+        assertEquals(OLD_STATE, record.getEntityJson());
+        assertEquals(NEW_STATE, record.getNewEntityJson());
+    }
+
+    @Test
+    @DisplayName("Создание не сжимается, позитивный сценарий")
+    void compactCreateTest() {
+        AuditRecord record = new AuditRecord("AccountDetailsEntity", 1L, 1, AuditRecord.CREATE,
+                "system", null, null, null, null, OLD_STATE);
+
+        compactor.compact(record);
+
+        assertEquals(OLD_STATE, record.getEntityJson());
+        assertNull(record.getNewEntityJson());
+    }
+
+    private AuditRecord update(int version) {
+        return new AuditRecord("AccountDetailsEntity", 1L, version, AuditRecord.UPDATE,
+                "system", "system", null, null, NEW_STATE, OLD_STATE);
+    }
+}
@@ -0,0 +1,125 @@
+package com.bank.common.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class WriteBehindAuditQueueTest {
+
+    private static final long POISON_ID = 13L;
+
+    @TempDir
+    Path dir;
+
+    private AuditProperties properties;
+    private AuditSpillFile spillFile;
+    private AuditJdbcWriter writer;
+    private List<Long> written;
+    private AtomicBoolean databaseDown;
+
+    @BeforeEach
+    void init() {
+        properties = new AuditProperties();
+        properties.setSpillFile(dir.resolve("audit-spill.ndjson").toString());
+
+        spillFile = new AuditSpillFile(properties, new ObjectMapper());
+        writer = mock(AuditJdbcWriter.class);
+        written = new ArrayList<>();
+        databaseDown = new AtomicBoolean();
+
+        doAnswer(invocation -> {
+            List<AuditRecord> records = invocation.getArgument(0);
+
+            if (databaseDown.get()) {
+                throw new CannotGetJdbcConnectionException("connection refused");
+            }
+            if (records.stream().anyMatch(record -> record.getEntityId() == POISON_ID)) {
+                throw new DataIntegrityViolationException("null value in column \"entity_json\"");
+            }
+
+            records.forEach(record -> written.add(record.getEntityId()));
+            return null;
+        }).when(writer).writeAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Отклоненная БД запись уходит в файл недоставленных записей, позитивный сценарий")
+    void poisonRecordMovedToDeadLetterTest() throws Exception {
+        run(1L, 2L, POISON_ID, 4L, 5L);
+
+        assertEquals(List.of(1L, 2L, 4L, 5L), written);
+        assertFalse(spillFile.hasRecords());
+        assertEquals(1, Files.readAllLines(dir.resolve("audit-spill.ndjson.dead")).size());
+        verify(writer).skipVersion(argThat(record -> record.getEntityId() == POISON_ID));
+    }
+
+    @Test
+    @DisplayName("Отклоненная запись из файла не переигрывается повторно, позитивный сценарий")
+    void poisonRecordNotReplayedTest() throws Exception {
+        spillFile.append(List.of(record(1L), record(POISON_ID), record(3L)));
+
+        run(4L);
+
+        assertEquals(List.of(1L, 3L, 4L), written);
+        assertFalse(spillFile.hasRecords());
+        assertEquals(1, Files.readAllLines(dir.resolve("audit-spill.ndjson.dead")).size());
+    }
+
+    @Test
+    @DisplayName("Недоступная БД не переносит записи в файл недоставленных записей, негативный сценарий")
+    void databaseDownSpillsRecordsTest() throws Exception {
+        databaseDown.set(true);
+
+        run(1L, 2L);
+
+        assertTrue(written.isEmpty());
+        assertTrue(spillFile.hasRecords());
+        assertFalse(Files.exists(dir.resolve("audit-spill.ndjson.dead")));
+
+        databaseDown.set(false);
+
+        run(3L);
+
+        assertEquals(List.of(1L, 2L, 3L), written);
+        assertFalse(spillFile.hasRecords());
+    }
+
+    private void run(Long... entityIds) throws InterruptedException {
+        WriteBehindAuditQueue queue = new WriteBehindAuditQueue(properties, writer, spillFile);
+
+        for (Long entityId : entityIds) {
+            queue.submit(record(entityId));
+        }
+
+        queue.start();
+        queue.stop();
+    }
+
+    private AuditRecord record(Long entityId) {
+        AuditRecord record = new AuditRecord();
+        record.setEntityType("Account");
+        record.setEntityId(entityId);
+        record.setOperationType(AuditRecord.CREATE);
+        record.setNewEntityJson("{}");
+        return record;
+    }
+}
@@ -0,0 +1,69 @@
+package com.bank.common.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class EntityBatchLoaderTest {
+
+    private final EntityBatchLoader loader = new EntityBatchLoader();
+
+    @Test
+    @DisplayName("Пакетная загрузка сохраняет порядок запроса, позитивный сценарий")
+    void loadAllInOrderPositiveTest() {
+        List<Long> ids = List.of(3L, 1L, 3L, 2L);
+        List<List<Long>> queries = new ArrayList<>();
+
+        List<Item> actual = loader.loadAllInOrder(ids, finder(queries, List.of(1L, 2L, 3L)), Item::id, "Not found");
+
+        assertEquals(List.of(3L, 1L, 3L, 2L), actual.stream().map(Item::id).toList());
+        assertEquals(1, queries.size());
+        assertEquals(List.of(3L, 1L, 2L), queries.get(0));
+    }
+
+    @Test
+    @DisplayName("Пакетная загрузка большого списка разбивается на пачки, позитивный сценарий")
+    void loadAllInOrderChunkedTest() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= 1200; id++) {
+            ids.add(id);
+        }
+        List<List<Long>> queries = new ArrayList<>();
+
+        List<Item> actual = loader.loadAllInOrder(ids, finder(queries, ids), Item::id, "Not found");
+
+        assertEquals(1200, actual.size());
+        assertEquals(3, queries.size());
+    }
+
+    @Test
+    @DisplayName("Пакетная загрузка сообщает обо всех ненайденных id, негативный сценарий")
+    void loadAllInOrderNegativeTest() {
+        List<Long> ids = List.of(1L, 2L, 3L, 4L);
+
+        EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> loader.loadAllInOrder(ids, finder(new ArrayList<>(), List.of(1L, 3L)), Item::id, "Not found"));
+
+        assertEquals("Not found: 2, 4", exception.getMessage());
+    }
+
+    private Function<List<Long>, List<Item>> finder(List<List<Long>> queries, List<Long> existingIds) {
+        return chunk -> {
+            queries.add(List.copyOf(chunk));
+            return chunk.stream()
+                    .filter(existingIds::contains)
+                    .map(Item::new)
+                    .toList();
+        };
+    }
+
+    private record Item(Long id) {
+    }
+}
@@ -2,6 +2,7 @@ package com.bank.profile.controller;
 
 import com.bank.profile.dto.ProfileDto;
 import com.bank.profile.entity.ProfileEntity;
+import com.bank.profile.service.ProfileDepth;
 import com.bank.profile.service.ProfileService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -27,12 +28,14 @@ public class ProfileController {
     private final ProfileService service;
 
     /**
-     * @param id технический идентификатор {@link ProfileEntity}
+     * @param id    технический идентификатор {@link ProfileEntity}
+     * @param depth глубина чтения {@link ProfileDepth}: profile, passport или full
      * @return {@link ResponseEntity<ProfileDto>}
      */
     @GetMapping("/read/{id}")
-    public ResponseEntity<ProfileDto> read(@PathVariable("id") Long id) {
-        return ResponseEntity.ok(service.findById(id));
+    public ResponseEntity<ProfileDto> read(@PathVariable("id") Long id,
+                                           @RequestParam(value = "depth", defaultValue = "full") String depth) {
+        return ResponseEntity.ok(service.findById(id, ProfileDepth.of(depth)));
     }
 
     /**
@@ -55,11 +58,14 @@ public class ProfileController {
     }
 
     /**
-     * @param ids лист технических идентификаторов {@link ProfileEntity}
+     * @param ids   лист технических идентификаторов {@link ProfileEntity}
+     * @param depth глубина чтения {@link ProfileDepth}: profile, passport или full
      * @return {@link ResponseEntity} {@link List<ProfileDto>}
      */
     @GetMapping("read/all")
-    public ResponseEntity<List<ProfileDto>> readAllById(@RequestParam List<Long> ids) {
-        return ResponseEntity.ok(service.findAllById(ids));
+    public ResponseEntity<List<ProfileDto>> readAllById(@RequestParam List<Long> ids,
+                                                        @RequestParam(value = "depth", defaultValue = "full")
+                                                        String depth) {
+        return ResponseEntity.ok(service.findAllById(ids, ProfileDepth.of(depth)));
     }
 }
@@ -0,0 +1,32 @@
+package com.bank.profile.controller;
+
+import com.bank.profile.dto.ProfileViewDto;
+import com.bank.profile.service.ProfileViewService;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Контроллер для чтения {@link ProfileViewDto}: профиль, паспорт и обе регистрации одним запросом к базе.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/profile-view")
+@Tag(name = "Контроллер для ProfileViewDto")
+public class ProfileViewController {
+
+    private final ProfileViewService service;
+
+    /**
+     * @param id технический идентификатор профиля
+     * @return {@link ResponseEntity<ProfileViewDto>}
+     */
+    @GetMapping("/read/{id}")
+    public ResponseEntity<ProfileViewDto> read(@PathVariable("id") Long id) {
+        return ResponseEntity.ok(service.findById(id));
+    }
+}
@@ -0,0 +1,65 @@
+package com.bank.profile.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * ДТО строки profile_view: профиль, паспорт, регистрация и фактическая регистрация одним плоским объектом.
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileViewDto implements Serializable {
+
+    private Long profileId;
+    private Long passportId;
+    private Long registrationId;
+    private Long actualRegistrationId;
+    private Long phoneNumber;
+    private String email;
+    private String nameOnCard;
+    private Long inn;
+    private Long snils;
+    private Integer passportSeries;
+    private Long passportNumber;
+    private String lastName;
+    private String firstName;
+    private String middleName;
+    private String gender;
+    private LocalDate birthDate;
+    private String birthPlace;
+    private String issuedBy;
+    private LocalDate dateOfIssue;
+    private Integer divisionCode;
+    private LocalDate expirationDate;
+    private String registrationCountry;
+    private String registrationRegion;
+    private String registrationCity;
+    private String registrationDistrict;
+    private String registrationLocality;
+    private String registrationStreet;
+    private String registrationHouseNumber;
+    private String registrationHouseBlock;
+    private String registrationFlatNumber;
+    private Long registrationIndex;
+    private String actualRegistrationCountry;
+    private String actualRegistrationRegion;
+    private String actualRegistrationCity;
+    private String actualRegistrationDistrict;
+    private String actualRegistrationLocality;
+    private String actualRegistrationStreet;
+    private String actualRegistrationHouseNumber;
+    private String actualRegistrationHouseBlock;
+    private String actualRegistrationFlatNumber;
+    private Long actualRegistrationIndex;
+}
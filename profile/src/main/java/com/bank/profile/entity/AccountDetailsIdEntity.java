@@ -13,6 +13,7 @@ import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 /**
@@ -29,7 +30,9 @@ import javax.persistence.Table;
 public class AccountDetailsIdEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_details_id_seq")
+    @SequenceGenerator(name = "account_details_id_seq", sequenceName = "account_details_id_seq", schema = "profile",
+            allocationSize = 50)
     private Long id;
 
     @Column(name = "account_id")
@@ -12,6 +12,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 /**
@@ -28,7 +29,9 @@ import javax.persistence.Table;
 public class ActualRegistrationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "actual_registration_seq")
+    @SequenceGenerator(name = "actual_registration_seq", sequenceName = "actual_registration_seq", schema = "profile",
+            allocationSize = 50)
     private Long id;
 
     @Column(name = "country")
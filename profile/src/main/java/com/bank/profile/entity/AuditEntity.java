@@ -12,6 +12,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import java.sql.Timestamp;
 
@@ -29,7 +30,9 @@ import java.sql.Timestamp;
 public class AuditEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_seq")
+    @SequenceGenerator(name = "audit_seq", sequenceName = "audit_seq", schema = "profile",
+            allocationSize = 50)
     private Long id;
 
     @Column(name = "entity_type")
@@ -55,4 +58,10 @@ public class AuditEntity {
 
     @Column(name = "entity_json")
     private String entityJson;
+
+    @Column(name = "entity_id")
+    private Long entityId;
+
+    @Column(name = "version")
+    private Integer version;
 }
@@ -10,11 +10,13 @@ import lombok.ToString;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import java.time.LocalDate;
 
@@ -32,7 +34,9 @@ import java.time.LocalDate;
 public class PassportEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "passport_seq")
+    @SequenceGenerator(name = "passport_seq", sequenceName = "passport_seq", schema = "profile",
+            allocationSize = 50)
     private Long id;
 
     @Column(name = "series")
@@ -71,7 +75,8 @@ public class PassportEntity {
     @Column(name = "expiration_date")
     private LocalDate expirationDate;
 
-    @OneToOne(optional = false,
+    @ToString.Exclude
+    @OneToOne(optional = false, fetch = FetchType.LAZY,
             cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
     @JoinColumn(name = "registration_id")
     private RegistrationEntity registration;
@@ -10,15 +10,23 @@ import lombok.ToString;
 import javax.persistence.CascadeType;
 import javax.persistence.Column;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
+import javax.persistence.NamedAttributeNode;
+import javax.persistence.NamedEntityGraph;
+import javax.persistence.NamedEntityGraphs;
+import javax.persistence.NamedSubgraph;
 import javax.persistence.OneToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 
 /**
- * Entity для таблицы profile
+ * Entity для таблицы profile.
+ * Связи загружаются лениво, нужная глубина выбирается графом при чтении:
+ * {@link #GRAPH_PASSPORT} - паспорт с адресом регистрации, {@link #GRAPH_FULL} - еще и фактический адрес.
  */
 @Getter
 @Setter
@@ -28,10 +36,26 @@ import javax.persistence.Table;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "profile", schema = "profile")
+@NamedEntityGraphs({
+        @NamedEntityGraph(name = ProfileEntity.GRAPH_PASSPORT,
+                attributeNodes = @NamedAttributeNode(value = "passport", subgraph = "passport"),
+                subgraphs = @NamedSubgraph(name = "passport", attributeNodes = @NamedAttributeNode("registration"))),
+        @NamedEntityGraph(name = ProfileEntity.GRAPH_FULL,
+                attributeNodes = {
+                        @NamedAttributeNode(value = "passport", subgraph = "passport"),
+                        @NamedAttributeNode("actualRegistration")
+                },
+                subgraphs = @NamedSubgraph(name = "passport", attributeNodes = @NamedAttributeNode("registration")))
+})
 public class ProfileEntity {
 
+    public static final String GRAPH_PASSPORT = "ProfileEntity.passport";
+    public static final String GRAPH_FULL = "ProfileEntity.full";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "profile_seq")
+    @SequenceGenerator(name = "profile_seq", sequenceName = "profile_seq", schema = "profile",
+            allocationSize = 50)
     private Long id;
 
     @Column(name = "phone_number")
@@ -49,12 +73,15 @@ public class ProfileEntity {
     @Column(name = "snils")
     private Long snils;
 
-    @OneToOne(optional = false,
+    @ToString.Exclude
+    @OneToOne(optional = false, fetch = FetchType.LAZY,
             cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
     @JoinColumn(name = "passport_id")
     private PassportEntity passport;
 
-    @OneToOne(cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
+    @ToString.Exclude
+    @OneToOne(fetch = FetchType.LAZY,
+            cascade = {CascadeType.DETACH, CascadeType.MERGE, CascadeType.PERSIST, CascadeType.REFRESH})
     @JoinColumn(name = "actual_registration_id")
     private ActualRegistrationEntity actualRegistration;
 }
@@ -5,6 +5,7 @@ import com.bank.profile.entity.ProfileEntity;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
 
 import java.util.List;
 
@@ -27,6 +28,25 @@ public interface ProfileMapper {
      */
     ProfileDto toDto(ProfileEntity profile);
 
+    /**
+     * Не обращается к связям, поэтому не подгружает их из непрочитанных ленивых прокси.
+     *
+     * @param profile {@link ProfileEntity}
+     * @return {@link ProfileDto} без паспорта и фактического адреса
+     */
+    @Named("toProfileOnlyDto")
+    @Mapping(target = "passport", ignore = true)
+    @Mapping(target = "actualRegistration", ignore = true)
+    ProfileDto toProfileOnlyDto(ProfileEntity profile);
+
+    /**
+     * @param profile {@link ProfileEntity}
+     * @return {@link ProfileDto} с паспортом, без фактического адреса
+     */
+    @Named("toDtoWithPassport")
+    @Mapping(target = "actualRegistration", ignore = true)
+    ProfileDto toDtoWithPassport(ProfileEntity profile);
+
     /**
      * @param profileDto {@link ProfileDto}
      * @param profile {@link ProfileEntity}
@@ -1,10 +1,23 @@
 package com.bank.profile.repository;
 
 import com.bank.profile.entity.AccountDetailsIdEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
- * Репозиторий для {@link AccountDetailsIdEntity}
+ * Репозиторий для {@link AccountDetailsIdEntity}.
+ * Dto счета содержит профиль целиком, поэтому чтения подтягивают связи профиля тем же запросом.
  */
 public interface AccountDetailsIdRepository extends JpaRepository<AccountDetailsIdEntity, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = {"profile.passport.registration", "profile.actualRegistration"})
+    Optional<AccountDetailsIdEntity> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = {"profile.passport.registration", "profile.actualRegistration"})
+    List<AccountDetailsIdEntity> findAllById(Iterable<Long> ids);
 }
@@ -1,10 +1,23 @@
 package com.bank.profile.repository;
 
 import com.bank.profile.entity.PassportEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
- * Репозиторий для {@link PassportEntity}
+ * Репозиторий для {@link PassportEntity}.
+ * Адрес регистрации загружается лениво, поэтому чтения подтягивают его тем же запросом.
  */
 public interface PassportRepository extends JpaRepository<PassportEntity, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = "registration")
+    Optional<PassportEntity> findById(Long id);
+
+    @Override
+    @EntityGraph(attributePaths = "registration")
+    List<PassportEntity> findAllById(Iterable<Long> ids);
 }
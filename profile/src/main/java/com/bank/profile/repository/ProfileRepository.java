@@ -1,10 +1,45 @@
 package com.bank.profile.repository;
 
 import com.bank.profile.entity.ProfileEntity;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
 /**
- * Репозиторий для {@link ProfileEntity}
+ * Репозиторий для {@link ProfileEntity}.
+ * Методы с графами читают профиль вместе со связями одним запросом с join;
+ * {@link #findById} и {@link #findAllById} читают только профиль.
  */
 public interface ProfileRepository extends JpaRepository<ProfileEntity, Long> {
+
+    /**
+     * @param id технический идентификатор {@link ProfileEntity}
+     * @return профиль с паспортом и адресом регистрации
+     */
+    @EntityGraph(ProfileEntity.GRAPH_PASSPORT)
+    Optional<ProfileEntity> findWithPassportById(Long id);
+
+    /**
+     * @param id технический идентификатор {@link ProfileEntity}
+     * @return профиль со всеми связями
+     */
+    @EntityGraph(ProfileEntity.GRAPH_FULL)
+    Optional<ProfileEntity> findFullById(Long id);
+
+    /**
+     * @param ids технические идентификаторы {@link ProfileEntity}
+     * @return профили с паспортом и адресом регистрации
+     */
+    @EntityGraph(ProfileEntity.GRAPH_PASSPORT)
+    List<ProfileEntity> findAllWithPassportByIdIn(Collection<Long> ids);
+
+    /**
+     * @param ids технические идентификаторы {@link ProfileEntity}
+     * @return профили со всеми связями
+     */
+    @EntityGraph(ProfileEntity.GRAPH_FULL)
+    List<ProfileEntity> findAllFullByIdIn(Collection<Long> ids);
 }
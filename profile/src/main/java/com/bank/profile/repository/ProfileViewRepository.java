@@ -0,0 +1,126 @@
+package com.bank.profile.repository;
+
+import com.bank.profile.dto.ProfileViewDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Денормализованная таблица profile.profile_view: строка на профиль с паспортом и обеими регистрациями.
+ * Строки пересобираются одним upsert из исходных таблиц в транзакции записи.
+ * Строки, затронутые изменением паспорта или регистрации, ищутся по индексам самой profile_view,
+ * поэтому пересборка не просматривает исходные таблицы по внешним ключам.
+ * Перед upsert строки профилей блокируются отдельным запросом: при READ COMMITTED снимок
+ * берется в начале запроса, и upsert, дождавшийся блокировки внутри себя, записал бы столбцы,
+ * прочитанные до коммита параллельной пересборки той же строки.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProfileViewRepository {
+
+    private static final String TABLE = "profile.profile_view";
+
+    private static final List<String> COLUMNS = List.of(
+            "profile_id", "passport_id", "registration_id", "actual_registration_id",
+            "phone_number", "email", "name_on_card", "inn", "snils",
+            "passport_series", "passport_number", "last_name", "first_name", "middle_name", "gender",
+            "birth_date", "birth_place", "issued_by", "date_of_issue", "division_code", "expiration_date",
+            "registration_country", "registration_region", "registration_city", "registration_district",
+            "registration_locality", "registration_street", "registration_house_number",
+            "registration_house_block", "registration_flat_number", "registration_index",
+            "actual_registration_country", "actual_registration_region", "actual_registration_city",
+            "actual_registration_district", "actual_registration_locality", "actual_registration_street",
+            "actual_registration_house_number", "actual_registration_house_block",
+            "actual_registration_flat_number", "actual_registration_index");
+
+    private static final String UPSERT = "insert into " + TABLE + " (" + String.join(", ", COLUMNS) + ") "
+            + "select p.id, pa.id, r.id, ar.id, "
+            + "p.phone_number, p.email, p.name_on_card, p.inn, p.snils, "
+            + "pa.series, pa.number, pa.last_name, pa.first_name, pa.middle_name, pa.gender, "
+            + "pa.birth_date, pa.birth_place, pa.issued_by, pa.date_of_issue, pa.division_code, pa.expiration_date, "
+            + "r.country, r.region, r.city, r.district, r.locality, r.street, "
+            + "r.house_number, r.house_block, r.flat_number, r.index, "
+            + "ar.country, ar.region, ar.city, ar.district, ar.locality, ar.street, "
+            + "ar.house_number, ar.house_block, ar.flat_number, ar.index "
+            + "from profile.profile p "
+            + "left join profile.passport pa on pa.id = p.passport_id "
+            + "left join profile.registration r on r.id = pa.registration_id "
+            + "left join profile.actual_registration ar on ar.id = p.actual_registration_id "
+            + "where %s "
+            + "on conflict (profile_id) do update set " + COLUMNS.stream()
+            .skip(1)
+            .map(column -> column + " = excluded." + column)
+            .collect(Collectors.joining(", "));
+
+    private static final String LOCK = "select p.id from profile.profile p where %s order by p.id for update";
+
+    private static final String BY_PROFILE = UPSERT.formatted("p.id = ?");
+    private static final String BY_PASSPORT = byViewColumn(UPSERT, "passport_id");
+    private static final String BY_REGISTRATION = byViewColumn(UPSERT, "registration_id");
+    private static final String BY_ACTUAL_REGISTRATION = byViewColumn(UPSERT, "actual_registration_id");
+
+    private static final String LOCK_BY_PROFILE = LOCK.formatted("p.id = ?");
+    private static final String LOCK_BY_PASSPORT = byViewColumn(LOCK, "passport_id");
+    private static final String LOCK_BY_REGISTRATION = byViewColumn(LOCK, "registration_id");
+    private static final String LOCK_BY_ACTUAL_REGISTRATION = byViewColumn(LOCK, "actual_registration_id");
+
+    private static final RowMapper<ProfileViewDto> ROW_MAPPER = BeanPropertyRowMapper.newInstance(ProfileViewDto.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Чтение по первичному ключу.
+     *
+     * @param profileId технический идентификатор профиля
+     * @return строка представления, пусто если профиля нет
+     */
+    public Optional<ProfileViewDto> findByProfileId(Long profileId) {
+        return jdbcTemplate.query("select " + String.join(", ", COLUMNS) + " from " + TABLE
+                        + " where profile_id = ?", ROW_MAPPER, profileId)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * @param profileId технический идентификатор профиля
+     */
+    public void refreshByProfileId(Long profileId) {
+        refresh(LOCK_BY_PROFILE, BY_PROFILE, profileId);
+    }
+
+    /**
+     * @param passportId технический идентификатор паспорта
+     */
+    public void refreshByPassportId(Long passportId) {
+        refresh(LOCK_BY_PASSPORT, BY_PASSPORT, passportId);
+    }
+
+    /**
+     * @param registrationId технический идентификатор регистрации
+     */
+    public void refreshByRegistrationId(Long registrationId) {
+        refresh(LOCK_BY_REGISTRATION, BY_REGISTRATION, registrationId);
+    }
+
+    /**
+     * @param actualRegistrationId технический идентификатор фактической регистрации
+     */
+    public void refreshByActualRegistrationId(Long actualRegistrationId) {
+        refresh(LOCK_BY_ACTUAL_REGISTRATION, BY_ACTUAL_REGISTRATION, actualRegistrationId);
+    }
+
+    private void refresh(String lockSql, String upsertSql, Long id) {
+        jdbcTemplate.queryForList(lockSql, Long.class, id);
+        jdbcTemplate.update(upsertSql, id);
+    }
+
+    private static String byViewColumn(String sql, String column) {
+        return sql.formatted("p.id in (select profile_id from " + TABLE + " where " + column + " = ?)");
+    }
+}
@@ -0,0 +1,41 @@
+package com.bank.profile.service;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.profile.entity.ProfileEntity;
+
+import java.util.Locale;
+
+/**
+ * Глубина чтения {@link ProfileEntity}. Каждая глубина читается одним запросом.
+ */
+public enum ProfileDepth {
+
+    /**
+     * только поля профиля, без паспорта и фактического адреса.
+     */
+    PROFILE,
+
+    /**
+     * профиль и паспорт с адресом регистрации.
+     */
+    PASSPORT,
+
+    /**
+     * профиль, паспорт с адресом регистрации и фактический адрес.
+     */
+    FULL;
+
+    /**
+     * @param name имя глубины без учета регистра
+     * @return {@link ProfileDepth}
+     * @throws ValidationException если глубина неизвестна
+     */
+    public static ProfileDepth of(String name) {
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Неизвестная глубина чтения профиля " + name
+                    + ", допустимы: profile, passport, full");
+        }
+    }
+}
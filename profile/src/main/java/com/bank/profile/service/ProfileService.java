@@ -11,16 +11,18 @@ import java.util.List;
 public interface ProfileService {
 
     /**
-     * @param id технический идентификатор {@link ProfileEntity}
+     * @param id    технический идентификатор {@link ProfileEntity}
+     * @param depth {@link ProfileDepth}
      * @return {@link ProfileDto}
      */
-    ProfileDto findById(Long id);
+    ProfileDto findById(Long id, ProfileDepth depth);
 
     /**
-     * @param ids лист технических идентификаторов {@link ProfileEntity}
+     * @param ids   лист технических идентификаторов {@link ProfileEntity}
+     * @param depth {@link ProfileDepth}
      * @return {@link List<ProfileDto>}
      */
-    List<ProfileDto> findAllById(List<Long> ids);
+    List<ProfileDto> findAllById(List<Long> ids, ProfileDepth depth);
 
     /**
      * @param profile {@link ProfileDto}
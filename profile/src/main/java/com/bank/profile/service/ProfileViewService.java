@@ -0,0 +1,36 @@
+package com.bank.profile.service;
+
+import com.bank.profile.dto.ProfileViewDto;
+
+/**
+ * Сервис денормализованного представления профиля {@link ProfileViewDto}.
+ * Методы изменений вызываются сервисами записи в их транзакции, после сохранения сущности.
+ */
+public interface ProfileViewService {
+
+    /**
+     * @param profileId технический идентификатор профиля
+     * @return {@link ProfileViewDto}
+     */
+    ProfileViewDto findById(Long profileId);
+
+    /**
+     * @param profileId технический идентификатор созданного или измененного профиля
+     */
+    void profileChanged(Long profileId);
+
+    /**
+     * @param passportId технический идентификатор измененного паспорта
+     */
+    void passportChanged(Long passportId);
+
+    /**
+     * @param registrationId технический идентификатор измененной регистрации
+     */
+    void registrationChanged(Long registrationId);
+
+    /**
+     * @param actualRegistrationId технический идентификатор измененной фактической регистрации
+     */
+    void actualRegistrationChanged(Long actualRegistrationId);
+}
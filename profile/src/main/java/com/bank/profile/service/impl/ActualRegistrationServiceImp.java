@@ -6,6 +6,7 @@ import com.bank.profile.entity.ActualRegistrationEntity;
 import com.bank.profile.mapper.ActualRegistrationMapper;
 import com.bank.profile.repository.ActualRegistrationRepository;
 import com.bank.profile.service.ActualRegistrationService;
+import com.bank.profile.service.ProfileViewService;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -25,6 +26,7 @@ public class ActualRegistrationServiceImp implements ActualRegistrationService {
 
     ActualRegistrationRepository repository;
     ActualRegistrationMapper mapper;
+    ProfileViewService viewService;
 
     /**
      * @param id технический идентификатор для {@link ActualRegistrationEntity}.
@@ -67,6 +69,7 @@ public class ActualRegistrationServiceImp implements ActualRegistrationService {
         final ActualRegistrationEntity registration = repository.save(
                 mapper.mergeToEntity(actualRegistrationDto, registrationById)
         );
+        viewService.actualRegistrationChanged(id);
 
         return mapper.toDto(registration);
     }
@@ -1,11 +1,14 @@
 package com.bank.profile.service.impl;
 
+import com.bank.common.audit.AuditHistoryReader;
+import com.bank.common.audit.AuditStates;
 import com.bank.profile.dto.AuditDto;
 import com.bank.profile.entity.AuditEntity;
 import com.bank.profile.mapper.AuditMapper;
 import com.bank.profile.repository.AuditRepository;
 import com.bank.profile.service.AuditService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 
 import javax.persistence.EntityNotFoundException;
@@ -18,6 +21,7 @@ import javax.persistence.EntityNotFoundException;
 public class AuditServiceImpl implements AuditService {
     private final AuditRepository repository;
     private final AuditMapper mapper;
+    private final ObjectProvider<AuditHistoryReader> historyReader;
 
 
     /**
@@ -26,11 +30,20 @@ public class AuditServiceImpl implements AuditService {
      */
     @Override
     public AuditDto findById(Long id) {
-        return mapper.toDto(repository.findById(id)
+        final AuditEntity audit = repository.findById(id)
                 .orElseThrow(
                         () -> getException(id)
-                )
-        );
+                );
+        final AuditDto dto = mapper.toDto(audit);
+
+        historyReader.ifAvailable(reader -> {
+            final AuditStates states = reader.restoreStates(audit.getEntityType(), audit.getEntityId(),
+                    audit.getVersion(), audit.getEntityJson(), audit.getNewEntityJson());
+            dto.setEntityJson(states.entityJson());
+            dto.setNewEntityJson(states.newEntityJson());
+        });
+
+        return dto;
     }
 
     private EntityNotFoundException getException(Long id) {
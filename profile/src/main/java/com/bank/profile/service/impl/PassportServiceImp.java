@@ -5,6 +5,7 @@ import com.bank.profile.entity.PassportEntity;
 import com.bank.profile.mapper.PassportMapper;
 import com.bank.profile.repository.PassportRepository;
 import com.bank.profile.service.PassportService;
+import com.bank.profile.service.ProfileViewService;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -24,6 +25,7 @@ public class PassportServiceImp implements PassportService {
 
     PassportRepository repository;
     PassportMapper mapper;
+    ProfileViewService viewService;
 
     /**
      * @param id технический идентификатор для {@link PassportEntity}.
@@ -62,6 +64,7 @@ public class PassportServiceImp implements PassportService {
         final PassportEntity actualRegistration = repository.save(
                 mapper.mergeToEntity(passportDto, passportEntityById)
         );
+        viewService.passportChanged(id);
 
         return mapper.toDto(actualRegistration);
     }
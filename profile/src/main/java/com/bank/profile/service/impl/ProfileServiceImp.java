@@ -4,7 +4,9 @@ import com.bank.profile.dto.ProfileDto;
 import com.bank.profile.entity.ProfileEntity;
 import com.bank.profile.mapper.ProfileMapper;
 import com.bank.profile.repository.ProfileRepository;
+import com.bank.profile.service.ProfileDepth;
 import com.bank.profile.service.ProfileService;
+import com.bank.profile.service.ProfileViewService;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -13,6 +15,7 @@ import org.springframework.stereotype.Service;
 import javax.persistence.EntityNotFoundException;
 import javax.transaction.Transactional;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Реализация для {@link ProfileService}
@@ -24,17 +27,24 @@ public class ProfileServiceImp implements ProfileService {
 
     ProfileRepository repository;
     ProfileMapper mapper;
+    ProfileViewService viewService;
 
     /**
-     * @param id технический идентификатор для {@link ProfileEntity}.
+     * @param id    технический идентификатор для {@link ProfileEntity}.
+     * @param depth {@link ProfileDepth}.
      * @return {@link ProfileDto}.
      */
     @Override
-    public ProfileDto findById(Long id) {
-        final ProfileEntity profile = repository.findById(id).orElseThrow(
+    public ProfileDto findById(Long id, ProfileDepth depth) {
+        final Optional<ProfileEntity> found = switch (depth) {
+            case PROFILE -> repository.findById(id);
+            case PASSPORT -> repository.findWithPassportById(id);
+            case FULL -> repository.findFullById(id);
+        };
+        final ProfileEntity profile = found.orElseThrow(
                 () -> new EntityNotFoundException("profile с данным id не найден!")
         );
-        return mapper.toDto(profile);
+        return toDto(profile, depth);
     }
 
     /**
@@ -45,6 +55,7 @@ public class ProfileServiceImp implements ProfileService {
     @Transactional
     public ProfileDto save(ProfileDto profileDto) {
         final ProfileEntity profile = repository.save(mapper.toEntity(profileDto));
+        viewService.profileChanged(profile.getId());
 
         return mapper.toDto(profile);
     }
@@ -56,25 +67,40 @@ public class ProfileServiceImp implements ProfileService {
     @Override
     @Transactional
     public ProfileDto update(Long id, ProfileDto profileDto) {
-        final ProfileEntity profileEntityById = repository.findById(id).orElseThrow(
+        final ProfileEntity profileEntityById = repository.findFullById(id).orElseThrow(
                 () -> new EntityNotFoundException("Обновление невозможно, profile не найден!")
         );
         final ProfileEntity profile = repository.save(
                 mapper.mergeToEntity(profileDto, profileEntityById)
         );
+        viewService.profileChanged(id);
 
         return mapper.toDto(profile);
     }
 
     /**
-     * @param ids список технических идентификаторов {@link ProfileEntity}.
+     * @param ids   список технических идентификаторов {@link ProfileEntity}.
+     * @param depth {@link ProfileDepth}.
      * @return {@link List<ProfileDto>}.
      */
     @Override
-    public List<ProfileDto> findAllById(List<Long> ids) {
-        final List<ProfileEntity> profileEntities = repository.findAllById(ids);
+    public List<ProfileDto> findAllById(List<Long> ids, ProfileDepth depth) {
+        final List<ProfileEntity> profileEntities = switch (depth) {
+            case PROFILE -> repository.findAllById(ids);
+            case PASSPORT -> repository.findAllWithPassportByIdIn(ids);
+            case FULL -> repository.findAllFullByIdIn(ids);
+        };
 
+        return profileEntities.stream()
+                .map(profile -> toDto(profile, depth))
+                .toList();
+    }
 
-        return mapper.toDtoList(profileEntities);
+    private ProfileDto toDto(ProfileEntity profile, ProfileDepth depth) {
+        return switch (depth) {
+            case PROFILE -> mapper.toProfileOnlyDto(profile);
+            case PASSPORT -> mapper.toDtoWithPassport(profile);
+            case FULL -> mapper.toDto(profile);
+        };
     }
 }
@@ -0,0 +1,67 @@
+package com.bank.profile.service.impl;
+
+import com.bank.profile.dto.ProfileViewDto;
+import com.bank.profile.repository.ProfileViewRepository;
+import com.bank.profile.service.ProfileViewService;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Service;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityNotFoundException;
+import javax.transaction.Transactional;
+
+/**
+ * Реализация для {@link ProfileViewService}.
+ * Перед пересборкой строки изменения сущностей сбрасываются в базу, иначе upsert
+ * прочитал бы исходные таблицы без них. Новые паспорт и регистрации, на которые еще
+ * не ссылается ни один профиль, в представление не попадают до записи профиля.
+ */
+@Service
+@RequiredArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class ProfileViewServiceImp implements ProfileViewService {
+
+    ProfileViewRepository repository;
+    EntityManager entityManager;
+
+    /**
+     * @param profileId технический идентификатор профиля
+     * @return {@link ProfileViewDto}
+     */
+    @Override
+    public ProfileViewDto findById(Long profileId) {
+        return repository.findByProfileId(profileId).orElseThrow(
+                () -> new EntityNotFoundException("profile с данным id не найден!")
+        );
+    }
+
+    @Override
+    @Transactional
+    public void profileChanged(Long profileId) {
+        entityManager.flush();
+        repository.refreshByProfileId(profileId);
+    }
+
+    @Override
+    @Transactional
+    public void passportChanged(Long passportId) {
+        entityManager.flush();
+        repository.refreshByPassportId(passportId);
+    }
+
+    @Override
+    @Transactional
+    public void registrationChanged(Long registrationId) {
+        entityManager.flush();
+        repository.refreshByRegistrationId(registrationId);
+    }
+
+    @Override
+    @Transactional
+    public void actualRegistrationChanged(Long actualRegistrationId) {
+        entityManager.flush();
+        repository.refreshByActualRegistrationId(actualRegistrationId);
+    }
+}
@@ -4,6 +4,7 @@ import com.bank.profile.dto.RegistrationDto;
 import com.bank.profile.entity.RegistrationEntity;
 import com.bank.profile.mapper.RegistrationMapper;
 import com.bank.profile.repository.RegistrationRepository;
+import com.bank.profile.service.ProfileViewService;
 import com.bank.profile.service.RegistrationService;
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +25,7 @@ public class RegistrationServiceImp implements RegistrationService {
 
     RegistrationRepository repository;
     RegistrationMapper mapper;
+    ProfileViewService viewService;
 
     /**
      * @param id технический идентификатор для {@link RegistrationEntity}.
@@ -62,6 +64,7 @@ public class RegistrationServiceImp implements RegistrationService {
         final RegistrationEntity registration = repository.save(
                 mapper.mergeToEntity(registrationDto, registrationEntityById)
         );
+        viewService.registrationChanged(id);
 
         return mapper.toDto(registration);
     }
@@ -3,6 +3,7 @@ package controller;
 import com.bank.profile.ProfileApplication;
 import com.bank.profile.controller.ProfileController;
 import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.service.ProfileDepth;
 import com.bank.profile.service.ProfileService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -42,7 +43,7 @@ class ProfileControllerTest {
         ProfileDto expectedProfileDto = new ProfileDto();
         expectedProfileDto.setId(id);
 
-        when(profileService.findById(id)).thenReturn(expectedProfileDto);
+        when(profileService.findById(id, ProfileDepth.FULL)).thenReturn(expectedProfileDto);
 
         mockMvc.perform(MockMvcRequestBuilders.get("/profile/read/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON))
@@ -50,12 +51,28 @@ class ProfileControllerTest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(id));
     }
 
+    @Test
+    @DisplayName("Чтение по id с глубиной passport, позитивный сценарий")
+    void readByIdWithDepthPositiveTest() throws Exception {
+        Long id = 1L;
+        ProfileDto expectedProfileDto = new ProfileDto();
+        expectedProfileDto.setId(id);
+
+        when(profileService.findById(id, ProfileDepth.PASSPORT)).thenReturn(expectedProfileDto);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/profile/read/{id}", id)
+                        .param("depth", "passport")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id").value(id));
+    }
+
     @Test
     @DisplayName("Чтение по несуществующему id, негативный сценарий")
     void readByNonExistIdNegativeTest () throws Exception  {
         Long id = null;
 
-        when(profileService.findById(id)).thenReturn(null);
+        when(profileService.findById(id, ProfileDepth.FULL)).thenReturn(null);
 
         mockMvc.perform(MockMvcRequestBuilders.get("/profile/read/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON))
@@ -128,7 +145,7 @@ class ProfileControllerTest {
         outputDtoList.add(new ProfileDto());
         outputDtoList.get(1).setId(2L);
 
-        when(profileService.findAllById(ids)).thenReturn(outputDtoList);
+        when(profileService.findAllById(ids, ProfileDepth.FULL)).thenReturn(outputDtoList);
 
         mockMvc.perform(MockMvcRequestBuilders.get("/profile/read/all")
                         .contentType(MediaType.APPLICATION_JSON)
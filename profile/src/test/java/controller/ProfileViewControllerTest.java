@@ -0,0 +1,62 @@
+package controller;
+
+import com.bank.profile.ProfileApplication;
+import com.bank.profile.controller.ProfileViewController;
+import com.bank.profile.dto.ProfileViewDto;
+import com.bank.profile.service.ProfileViewService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import javax.persistence.EntityNotFoundException;
+
+import static org.mockito.Mockito.when;
+
+@WebMvcTest(ProfileViewController.class)
+@ContextConfiguration(classes = ProfileApplication.class)
+class ProfileViewControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProfileViewService profileViewService;
+
+    @Test
+    @DisplayName("Чтение по id профиля, позитивный сценарий")
+    void readByIdPositiveTest() throws Exception {
+        Long id = 1L;
+        ProfileViewDto expectedDto = new ProfileViewDto();
+        expectedDto.setProfileId(id);
+        expectedDto.setPassportSeries(4510);
+        expectedDto.setRegistrationCity("Москва");
+
+        when(profileViewService.findById(id)).thenReturn(expectedDto);
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/profile-view/read/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.profileId").value(id))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.passportSeries").value(4510))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.registrationCity").value("Москва"));
+    }
+
+    @Test
+    @DisplayName("Чтение по несуществующему id профиля, негативный сценарий")
+    void readByNonExistIdNegativeTest() throws Exception {
+        Long id = 1L;
+
+        when(profileViewService.findById(id)).thenThrow(new EntityNotFoundException("profile с данным id не найден!"));
+
+        mockMvc.perform(MockMvcRequestBuilders.get("/profile-view/read/{id}", id)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+}
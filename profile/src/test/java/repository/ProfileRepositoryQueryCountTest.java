@@ -0,0 +1,133 @@
+package repository;
+
+import com.bank.profile.ProfileApplication;
+import com.bank.profile.dto.ProfileDto;
+import com.bank.profile.entity.ActualRegistrationEntity;
+import com.bank.profile.entity.PassportEntity;
+import com.bank.profile.entity.ProfileEntity;
+import com.bank.profile.entity.RegistrationEntity;
+import com.bank.profile.mapper.ProfileMapper;
+import com.bank.profile.mapper.ProfileMapperImpl;
+import com.bank.profile.repository.ProfileRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ContextConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Число SQL-запросов на чтение профилей каждой глубины, включая маппинг в dto.
+ * До графов каждый профиль дочитывал паспорт, адрес регистрации и фактический адрес
+ * отдельными запросами, то есть 1 + 3N запросов на N профилей.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+@ContextConfiguration(classes = ProfileApplication.class)
+class ProfileRepositoryQueryCountTest {
+
+    private static final int PROFILES = 5;
+
+    @Autowired
+    private ProfileRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ProfileMapper mapper = new ProfileMapperImpl();
+    private final List<Long> ids = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < PROFILES; i++) {
+            ids.add(entityManager.persist(profile(i)).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Полная глубина по списку id, один запрос")
+    void findAllFullQueryCountTest() {
+        final List<ProfileDto> profiles = repository.findAllFullByIdIn(ids).stream()
+                .map(mapper::toDto)
+                .toList();
+
+        assertEquals(PROFILES, profiles.size());
+        assertNotNull(profiles.get(0).getPassport().getRegistration().getCity());
+        assertNotNull(profiles.get(0).getActualRegistration().getCity());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Глубина с паспортом по списку id, один запрос")
+    void findAllWithPassportQueryCountTest() {
+        final List<ProfileDto> profiles = repository.findAllWithPassportByIdIn(ids).stream()
+                .map(mapper::toDtoWithPassport)
+                .toList();
+
+        assertEquals(PROFILES, profiles.size());
+        assertNotNull(profiles.get(0).getPassport().getRegistration().getCity());
+        assertNull(profiles.get(0).getActualRegistration());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Только профиль по списку id, один запрос")
+    void findAllProfileOnlyQueryCountTest() {
+        final List<ProfileDto> profiles = repository.findAllById(ids).stream()
+                .map(mapper::toProfileOnlyDto)
+                .toList();
+
+        assertEquals(PROFILES, profiles.size());
+        assertNull(profiles.get(0).getPassport());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Полная глубина по id, один запрос")
+    void findFullByIdQueryCountTest() {
+        final ProfileDto profile = mapper.toDto(repository.findFullById(ids.get(0)).orElseThrow());
+
+        assertNotNull(profile.getPassport().getRegistration());
+        assertNotNull(profile.getActualRegistration());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private static ProfileEntity profile(int number) {
+        final RegistrationEntity registration = new RegistrationEntity();
+        registration.setCity("Москва");
+
+        final PassportEntity passport = new PassportEntity();
+        passport.setNumber(100_000L + number);
+        passport.setRegistration(registration);
+
+        final ActualRegistrationEntity actualRegistration = new ActualRegistrationEntity();
+        actualRegistration.setCity("Казань");
+
+        final ProfileEntity profile = new ProfileEntity();
+        profile.setPhoneNumber(79_000_000_000L + number);
+        profile.setPassport(passport);
+        profile.setActualRegistration(actualRegistration);
+        return profile;
+    }
+}
@@ -0,0 +1,104 @@
+package repository;
+
+import com.bank.profile.repository.ProfileViewRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Две транзакции пересобирают одну строку profile_view: одна после изменения паспорта, другая
+ * после изменения регистрации. JdbcTemplate моделирует READ COMMITTED: upsert видит снимок
+ * закоммиченных данных на момент начала запроса и ждет блокировку строки уже после снимка.
+ */
+class ProfileViewRepositoryTest {
+
+    private final ReentrantLock profileRow = new ReentrantLock();
+    private final Map<String, String> committed = new ConcurrentHashMap<>();
+    private final ThreadLocal<Map<String, String>> pending = ThreadLocal.withInitial(HashMap::new);
+    private final Map<String, String> view = new ConcurrentHashMap<>();
+
+    private ProfileViewRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        committed.put("passport", "old passport");
+        committed.put("registration", "old registration");
+
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyLong())).thenAnswer(invocation -> {
+            lockProfileRow();
+            return List.of(1L);
+        });
+        when(jdbcTemplate.update(anyString(), anyLong())).thenAnswer(invocation -> {
+            final Map<String, String> snapshot = new HashMap<>(committed);
+            snapshot.putAll(pending.get());
+            lockProfileRow();
+            view.putAll(snapshot);
+            return 1;
+        });
+
+        repository = new ProfileViewRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Параллельная пересборка строки не записывает столбцы, прочитанные до чужого коммита")
+    void concurrentRefreshTest() throws Exception {
+        final CompletableFuture<Void> passport = CompletableFuture.runAsync(() -> {
+            pending.get().put("passport", "new passport");
+            repository.refreshByPassportId(2L);
+            awaitQueuedOnProfileRow();
+            commit();
+        });
+
+        while (!profileRow.isLocked()) {
+            Thread.onSpinWait();
+        }
+
+        final CompletableFuture<Void> registration = CompletableFuture.runAsync(() -> {
+            pending.get().put("registration", "new registration");
+            repository.refreshByRegistrationId(3L);
+            commit();
+        });
+
+        passport.get(5, TimeUnit.SECONDS);
+        registration.get(5, TimeUnit.SECONDS);
+
+        assertEquals("new passport", view.get("passport"));
+        assertEquals("new registration", view.get("registration"));
+    }
+
+    private void lockProfileRow() {
+        if (!profileRow.isHeldByCurrentThread()) {
+            profileRow.lock();
+        }
+    }
+
+    private void awaitQueuedOnProfileRow() {
+        while (!profileRow.hasQueuedThreads()) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void commit() {
+        committed.putAll(pending.get());
+        pending.remove();
+        profileRow.unlock();
+    }
+}
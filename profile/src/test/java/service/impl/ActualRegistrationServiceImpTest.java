@@ -4,6 +4,7 @@ import com.bank.profile.dto.ActualRegistrationDto;
 import com.bank.profile.entity.ActualRegistrationEntity;
 import com.bank.profile.mapper.ActualRegistrationMapper;
 import com.bank.profile.repository.ActualRegistrationRepository;
+import com.bank.profile.service.ProfileViewService;
 import com.bank.profile.service.impl.ActualRegistrationServiceImp;
 
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +41,9 @@ class ActualRegistrationServiceImpTest {
     @Mock
     private ActualRegistrationMapper mapper;
 
+    @Mock
+    private ProfileViewService viewService;
+
     @Test
     @DisplayName("поиск по id, позитивный сценарий")
     void findByIdPositiveTest() {
@@ -121,6 +125,7 @@ class ActualRegistrationServiceImpTest {
         verify(mapper, times(1)).mergeToEntity(dto, entity);
         verify(repository, times(1)).save(entity);
         verify(mapper, times(1)).toDto(entity);
+        verify(viewService, times(1)).actualRegistrationChanged(id);
     }
 
     @Test
@@ -1,5 +1,7 @@
 package service.impl;
 
+import com.bank.common.audit.AuditHistoryReader;
+import com.bank.common.audit.AuditStates;
 import com.bank.profile.dto.AuditDto;
 import com.bank.profile.entity.AuditEntity;
 import com.bank.profile.mapper.AuditMapper;
@@ -13,9 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -24,6 +28,9 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.ArgumentMatchers.any;
 
 @ExtendWith(MockitoExtension.class)
 class AuditServiceImplTest {
@@ -37,6 +44,9 @@ class AuditServiceImplTest {
     @Mock
     private AuditMapper mapper;
 
+    @Mock
+    private ObjectProvider<AuditHistoryReader> historyReader;
+
     @Test
     @DisplayName("поиск по id, позитивный сценарий")
     void findByIdPositiveTest() {
@@ -57,6 +67,36 @@ class AuditServiceImplTest {
         verify(mapper, times(1)).toDto(entity);
     }
 
+    @Test
+    @DisplayName("поиск изменения, сохраненного патчем, возвращает полные состояния, позитивный сценарий")
+    void findByIdRestoresPatchedStatesPositiveTest() {
+        Long id = 1L;
+        AuditEntity entity = new AuditEntity();
+        entity.setId(id);
+        entity.setEntityType("PassportEntity");
+        entity.setEntityId(5L);
+        entity.setVersion(3);
+        entity.setEntityJson("[{\"op\":\"replace\",\"path\":\"/series\",\"value\":2}]");
+        AuditDto dto = new AuditDto();
+        dto.setId(id);
+        dto.setEntityJson(entity.getEntityJson());
+        AuditHistoryReader reader = mock(AuditHistoryReader.class);
+
+        when(repository.findById(id)).thenReturn(Optional.of(entity));
+        when(mapper.toDto(entity)).thenReturn(dto);
+        when(reader.restoreStates("PassportEntity", 5L, 3, entity.getEntityJson(), null))
+                .thenReturn(new AuditStates("{\"series\":1}", "{\"series\":2}"));
+        doAnswer(invocation -> {
+            invocation.<Consumer<AuditHistoryReader>>getArgument(0).accept(reader);
+            return null;
+        }).when(historyReader).ifAvailable(any());
+
+        AuditDto actualDto = auditServiceImpl.findById(id);
+
+        assertEquals("{\"series\":1}", actualDto.getEntityJson());
+        assertEquals("{\"series\":2}", actualDto.getNewEntityJson());
+    }
+
     @Test
     @DisplayName("поиск по несуществующему id, негативный сценарий")
     void findByNonExistIdNegativeTest() {
@@ -4,6 +4,7 @@ import com.bank.profile.dto.PassportDto;
 import com.bank.profile.entity.PassportEntity;
 import com.bank.profile.mapper.PassportMapper;
 import com.bank.profile.repository.PassportRepository;
+import com.bank.profile.service.ProfileViewService;
 import com.bank.profile.service.impl.PassportServiceImp;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,6 +40,9 @@ class PassportServiceImpTest {
     @Mock
     private PassportMapper mapper;
 
+    @Mock
+    private ProfileViewService viewService;
+
     @Test
     @DisplayName("поиск по id, позитивный сценарий")
     void findByIdPositiveTest() {
@@ -118,6 +122,7 @@ class PassportServiceImpTest {
         verify(mapper, times(1)).mergeToEntity(dto, entity);
         verify(repository, times(1)).save(entity);
         verify(mapper, times(1)).toDto(entity);
+        verify(viewService, times(1)).passportChanged(id);
     }
 
     @Test
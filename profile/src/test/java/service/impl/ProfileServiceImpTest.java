@@ -4,6 +4,8 @@ import com.bank.profile.dto.ProfileDto;
 import com.bank.profile.entity.ProfileEntity;
 import com.bank.profile.mapper.ProfileMapper;
 import com.bank.profile.repository.ProfileRepository;
+import com.bank.profile.service.ProfileDepth;
+import com.bank.profile.service.ProfileViewService;
 import com.bank.profile.service.impl.ProfileServiceImp;
 
 import org.junit.jupiter.api.DisplayName;
@@ -23,6 +25,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
@@ -39,6 +43,9 @@ class ProfileServiceImpTest {
     @Mock
     private ProfileMapper mapper;
 
+    @Mock
+    private ProfileViewService viewService;
+
     @Test
     @DisplayName("поиск по id, позитивный сценарий")
     void findByIdPositiveTest() {
@@ -48,14 +55,14 @@ class ProfileServiceImpTest {
         entity.setId(id);
         dto.setId(id);
 
-        when(repository.findById(id)).thenReturn(Optional.of(entity));
+        when(repository.findFullById(id)).thenReturn(Optional.of(entity));
         when(mapper.toDto(entity)).thenReturn(dto);
 
-        ProfileDto actualDto = profileServiceImp.findById(id);
+        ProfileDto actualDto = profileServiceImp.findById(id, ProfileDepth.FULL);
 
         assertNotNull(actualDto);
         assertEquals(id, actualDto.getId());
-        verify(repository, times(1)).findById(id);
+        verify(repository, times(1)).findFullById(id);
         verify(mapper, times(1)).toDto(entity);
     }
 
@@ -64,13 +71,13 @@ class ProfileServiceImpTest {
     void findByNonExistIdNegativeTest() {
         Long id = 1L;
 
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(repository.findFullById(id)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> {
-            profileServiceImp.findById(id);
+            profileServiceImp.findById(id, ProfileDepth.FULL);
         });
 
-        verify(repository, times(1)).findById(id);
+        verify(repository, times(1)).findFullById(id);
     }
 
     @Test
@@ -89,14 +96,19 @@ class ProfileServiceImpTest {
         verify(repository, times(1)).save(entity);
         verify(mapper, times(1)).toEntity(dto);
         verify(mapper, times(1)).toDto(entity);
+        verify(viewService, times(1)).profileChanged(entity.getId());
     }
 
     @Test
     @DisplayName("сохранение пользователя c пустыми данными, негативный сценарий")
     void saveUserByEmptyUserDataNegativeTest() {
         ProfileDto dto = null;
-        profileServiceImp.save(dto);
+
+        when(repository.save(null)).thenThrow(IllegalArgumentException.class);
+
+        assertThrows(IllegalArgumentException.class, () -> profileServiceImp.save(dto));
         verify(mapper, times(1)).toEntity(dto);
+        verify(viewService, never()).profileChanged(any());
     }
 
     @Test
@@ -106,7 +118,7 @@ class ProfileServiceImpTest {
         ProfileDto dto = new ProfileDto();
         ProfileEntity entity = new ProfileEntity();
 
-        when(repository.findById(id)).thenReturn(Optional.of(entity));
+        when(repository.findFullById(id)).thenReturn(Optional.of(entity));
         when(mapper.mergeToEntity(dto, entity)).thenReturn(entity);
         when(repository.save(entity)).thenReturn(entity);
         when(mapper.toDto(entity)).thenReturn(dto);
@@ -114,10 +126,11 @@ class ProfileServiceImpTest {
         ProfileDto actualDto = profileServiceImp.update(id, dto);
 
         assertNotNull(actualDto);
-        verify(repository, times(1)).findById(id);
+        verify(repository, times(1)).findFullById(id);
         verify(mapper, times(1)).mergeToEntity(dto, entity);
         verify(repository, times(1)).save(entity);
         verify(mapper, times(1)).toDto(entity);
+        verify(viewService, times(1)).profileChanged(id);
     }
 
     @Test
@@ -126,13 +139,13 @@ class ProfileServiceImpTest {
         Long id = 1L;
         ProfileDto dto = new ProfileDto();
 
-        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(repository.findFullById(id)).thenReturn(Optional.empty());
 
         assertThrows(EntityNotFoundException.class, () -> {
             profileServiceImp.update(id, dto);
         });
 
-        verify(repository, times(1)).findById(id);
+        verify(repository, times(1)).findFullById(id);
     }
 
     @Test
@@ -142,15 +155,43 @@ class ProfileServiceImpTest {
         List<ProfileEntity> entities = Arrays.asList(new ProfileEntity(), new ProfileEntity());
         List<ProfileDto> dtos = Arrays.asList(new ProfileDto(), new ProfileDto());
 
-        when(repository.findAllById(ids)).thenReturn(entities);
-        when(mapper.toDtoList(entities)).thenReturn(dtos);
+        when(repository.findAllFullByIdIn(ids)).thenReturn(entities);
+        when(mapper.toDto(entities.get(0))).thenReturn(dtos.get(0));
 
-        List<ProfileDto> actualDtos = profileServiceImp.findAllById(ids);
+        List<ProfileDto> actualDtos = profileServiceImp.findAllById(ids, ProfileDepth.FULL);
 
         assertNotNull(actualDtos);
         assertEquals(dtos.size(), actualDtos.size());
-        verify(repository, times(1)).findAllById(ids);
-        verify(mapper, times(1)).toDtoList(entities);
+        verify(repository, times(1)).findAllFullByIdIn(ids);
+        verify(mapper, times(2)).toDto(entities.get(0));
+    }
+
+    @Test
+    @DisplayName("поиск пользователей без связей, связи не маппятся")
+    void findAllByIdsProfileDepthTest() {
+        List<Long> ids = Arrays.asList(1L, 2L);
+        ProfileEntity entity = new ProfileEntity();
+        ProfileDto dto = new ProfileDto();
+
+        when(repository.findAllById(ids)).thenReturn(List.of(entity));
+        when(mapper.toProfileOnlyDto(entity)).thenReturn(dto);
+
+        assertEquals(List.of(dto), profileServiceImp.findAllById(ids, ProfileDepth.PROFILE));
+        verify(mapper, never()).toDto(entity);
+    }
+
+    @Test
+    @DisplayName("поиск пользователя с паспортом, читается графом с паспортом")
+    void findByIdPassportDepthTest() {
+        Long id = 1L;
+        ProfileEntity entity = new ProfileEntity();
+        ProfileDto dto = new ProfileDto();
+
+        when(repository.findWithPassportById(id)).thenReturn(Optional.of(entity));
+        when(mapper.toDtoWithPassport(entity)).thenReturn(dto);
+
+        assertEquals(dto, profileServiceImp.findById(id, ProfileDepth.PASSPORT));
+        verify(repository, never()).findFullById(id);
     }
 
     @Test
@@ -158,12 +199,12 @@ class ProfileServiceImpTest {
     void findAllByNonExistIdsNegativeTest() {
         List<Long> ids = Arrays.asList(1L, 2L);
 
-        when(repository.findAllById(ids)).thenReturn(Arrays.asList());
+        when(repository.findAllFullByIdIn(ids)).thenReturn(Arrays.asList());
 
-        List<ProfileDto> actualDtos = profileServiceImp.findAllById(ids);
+        List<ProfileDto> actualDtos = profileServiceImp.findAllById(ids, ProfileDepth.FULL);
 
         assertTrue(actualDtos.isEmpty());
-        verify(repository, times(1)).findAllById(ids);
+        verify(repository, times(1)).findAllFullByIdIn(ids);
     }
 }
 
@@ -0,0 +1,104 @@
+package service.impl;
+
+import com.bank.profile.dto.ProfileViewDto;
+import com.bank.profile.repository.ProfileViewRepository;
+import com.bank.profile.service.impl.ProfileViewServiceImp;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityNotFoundException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProfileViewServiceImpTest {
+
+    @InjectMocks
+    ProfileViewServiceImp profileViewServiceImp;
+
+    @Mock
+    private ProfileViewRepository repository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("поиск по id профиля, позитивный сценарий")
+    void findByIdPositiveTest() {
+        Long id = 1L;
+        ProfileViewDto dto = new ProfileViewDto();
+        dto.setProfileId(id);
+
+        when(repository.findByProfileId(id)).thenReturn(Optional.of(dto));
+
+        assertEquals(dto, profileViewServiceImp.findById(id));
+    }
+
+    @Test
+    @DisplayName("поиск по несуществующему id профиля, негативный сценарий")
+    void findByNonExistIdNegativeTest() {
+        Long id = 1L;
+
+        when(repository.findByProfileId(id)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> profileViewServiceImp.findById(id));
+    }
+
+    @Test
+    @DisplayName("изменение профиля, строка пересобирается после сброса изменений в базу")
+    void profileChangedTest() {
+        Long id = 1L;
+
+        profileViewServiceImp.profileChanged(id);
+
+        InOrder order = inOrder(entityManager, repository);
+        order.verify(entityManager).flush();
+        order.verify(repository).refreshByProfileId(id);
+    }
+
+    @Test
+    @DisplayName("изменение паспорта, строка пересобирается после сброса изменений в базу")
+    void passportChangedTest() {
+        Long id = 2L;
+
+        profileViewServiceImp.passportChanged(id);
+
+        InOrder order = inOrder(entityManager, repository);
+        order.verify(entityManager).flush();
+        order.verify(repository).refreshByPassportId(id);
+    }
+
+    @Test
+    @DisplayName("изменение регистрации, строка пересобирается после сброса изменений в базу")
+    void registrationChangedTest() {
+        Long id = 3L;
+
+        profileViewServiceImp.registrationChanged(id);
+
+        InOrder order = inOrder(entityManager, repository);
+        order.verify(entityManager).flush();
+        order.verify(repository).refreshByRegistrationId(id);
+    }
+
+    @Test
+    @DisplayName("изменение фактической регистрации, строка пересобирается после сброса изменений в базу")
+    void actualRegistrationChangedTest() {
+        Long id = 4L;
+
+        profileViewServiceImp.actualRegistrationChanged(id);
+
+        InOrder order = inOrder(entityManager, repository);
+        order.verify(entityManager).flush();
+        order.verify(repository).refreshByActualRegistrationId(id);
+    }
+}
@@ -4,6 +4,7 @@ import com.bank.profile.dto.RegistrationDto;
 import com.bank.profile.entity.RegistrationEntity;
 import com.bank.profile.mapper.RegistrationMapper;
 import com.bank.profile.repository.RegistrationRepository;
+import com.bank.profile.service.ProfileViewService;
 import com.bank.profile.service.impl.RegistrationServiceImp;
 
 import org.junit.jupiter.api.DisplayName;
@@ -40,6 +41,9 @@ class RegistrationServiceImpTest {
     @Mock
     private RegistrationMapper mapper;
 
+    @Mock
+    private ProfileViewService viewService;
+
     @Test
     @DisplayName("поиск по id, позитивный сценарий")
     void findByIdPositiveTest() {
@@ -119,6 +123,7 @@ class RegistrationServiceImpTest {
         verify(mapper, times(1)).mergeToEntity(dto, entity);
         verify(repository, times(1)).save(entity);
         verify(mapper, times(1)).toDto(entity);
+        verify(viewService, times(1)).registrationChanged(id);
     }
 
     @Test
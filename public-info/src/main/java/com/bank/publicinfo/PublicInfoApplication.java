@@ -2,8 +2,14 @@ package com.bank.publicinfo;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
+import org.springframework.core.Ordered;
 
+/**
+ * Кеширование подключено снаружи транзакций, поэтому кеш обновляется и очищается только после коммита.
+ */
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
 @EnableEurekaClient
 @SpringBootApplication(scanBasePackages = {"com.bank.publicinfo", "com.bank.common"})
 public class PublicInfoApplication {
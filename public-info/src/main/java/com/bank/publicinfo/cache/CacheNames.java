@@ -0,0 +1,21 @@
+package com.bank.publicinfo.cache;
+
+/**
+ * Имена кешей public-info. Для каждой сущности два кеша: по id и по списку id.
+ */
+public final class CacheNames {
+
+    public static final String ATMS = "atms";
+    public static final String ATM_LISTS = "atmLists";
+    public static final String BRANCHES = "branches";
+    public static final String BRANCH_LISTS = "branchLists";
+    public static final String BANK_DETAILS = "bankDetails";
+    public static final String BANK_DETAILS_LISTS = "bankDetailsLists";
+    public static final String LICENSES = "licenses";
+    public static final String LICENSE_LISTS = "licenseLists";
+    public static final String CERTIFICATES = "certificates";
+    public static final String CERTIFICATE_LISTS = "certificateLists";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,37 @@
+package com.bank.publicinfo.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Регистрирует кеши {@link CacheNames} с временем жизни и размером из {@link PublicInfoCacheProperties}.
+ * Кеши собирают статистику, поэтому actuator публикует попадания и промахи в метрике {@code cache.gets}.
+ */
+@Component
+@RequiredArgsConstructor
+public class CaffeineCacheCustomizer implements CacheManagerCustomizer<CaffeineCacheManager> {
+
+    private final PublicInfoCacheProperties properties;
+
+    @Override
+    public void customize(CaffeineCacheManager cacheManager) {
+        register(cacheManager, properties.getAtm(), CacheNames.ATMS, CacheNames.ATM_LISTS);
+        register(cacheManager, properties.getBranch(), CacheNames.BRANCHES, CacheNames.BRANCH_LISTS);
+        register(cacheManager, properties.getBankDetails(), CacheNames.BANK_DETAILS, CacheNames.BANK_DETAILS_LISTS);
+        register(cacheManager, properties.getLicense(), CacheNames.LICENSES, CacheNames.LICENSE_LISTS);
+        register(cacheManager, properties.getCertificate(), CacheNames.CERTIFICATES, CacheNames.CERTIFICATE_LISTS);
+    }
+
+    private void register(CaffeineCacheManager cacheManager, PublicInfoCacheProperties.Spec spec, String... names) {
+        for (String name : names) {
+            cacheManager.registerCustomCache(name, Caffeine.newBuilder()
+                    .expireAfterWrite(spec.getTtl())
+                    .maximumSize(spec.getMaxSize())
+                    .recordStats()
+                    .build());
+        }
+    }
+}
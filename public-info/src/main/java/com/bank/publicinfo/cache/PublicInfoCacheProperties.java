@@ -0,0 +1,58 @@
+package com.bank.publicinfo.cache;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Время жизни и размер кешей по сущностям, префикс {@code public-info.cache}.
+ * Настройки сущности действуют на оба ее кеша из {@link CacheNames}.
+ */
+@Getter
+@Setter
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "public-info.cache")
+public class PublicInfoCacheProperties {
+
+    /**
+     * банкоматы меняются чаще остальных справочников.
+     */
+    Spec atm = new Spec(Duration.ofMinutes(10), 10_000);
+
+    Spec branch = new Spec(Duration.ofMinutes(10), 5_000);
+
+    Spec bankDetails = new Spec(Duration.ofHours(1), 1_000);
+
+    Spec license = new Spec(Duration.ofHours(1), 5_000);
+
+    Spec certificate = new Spec(Duration.ofHours(1), 5_000);
+
+    /**
+     * Настройки кеша одной сущности.
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Spec {
+
+        /**
+         * время жизни записи после записи в кеш.
+         */
+        Duration ttl;
+
+        /**
+         * максимальное число записей в каждом из двух кешей сущности.
+         */
+        long maxSize;
+    }
+}
@@ -4,6 +4,7 @@ import com.bank.publicinfo.dto.AtmDto;
 import com.bank.publicinfo.entity.AtmEntity;
 import com.bank.publicinfo.service.AtmService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -14,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -44,6 +46,34 @@ public class AtmController {
         return ResponseEntity.ok().body(service.findAllById(ids));
     }
 
+    /**
+     * @param latitude  широта в градусах
+     * @param longitude долгота в градусах
+     * @param limit     число объектов в ответе
+     * @param allHours  только круглосуточные или только некруглосуточные, если задан
+     * @param openNow   только открытые сейчас
+     * @return {@link ResponseEntity}, ближайшие {@link AtmDto} и HttpStatus.OK
+     */
+    @GetMapping("/nearest")
+    private ResponseEntity<List<AtmDto>> readNearest(@RequestParam double latitude, @RequestParam double longitude,
+                                                     @RequestParam(defaultValue = "10") int limit,
+                                                     @RequestParam(required = false) Boolean allHours,
+                                                     @RequestParam(defaultValue = "false") boolean openNow) {
+        return ResponseEntity.ok().body(service.findNearest(latitude, longitude, limit, allHours, openNow));
+    }
+
+    /**
+     * @param city город
+     * @param time время суток в формате HH:mm, по умолчанию текущее
+     * @return {@link ResponseEntity}, открытые {@link AtmDto} и HttpStatus.OK
+     */
+    @GetMapping("/open")
+    private ResponseEntity<List<AtmDto>> readOpen(@RequestParam String city,
+                                                  @RequestParam(required = false)
+                                                  @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime time) {
+        return ResponseEntity.ok().body(service.findOpen(city, time));
+    }
+
     /**
      * @param atm {@link AtmDto}
      * @return {@link ResponseEntity}, {@link AtmDto} и HttpStatus.OK
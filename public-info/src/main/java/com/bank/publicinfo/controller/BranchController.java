@@ -5,6 +5,7 @@ import com.bank.publicinfo.dto.BankDetailsDto;
 import com.bank.publicinfo.dto.BranchDto;
 import com.bank.publicinfo.entity.BranchEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -45,6 +47,32 @@ public class BranchController {
         return ResponseEntity.ok().body(service.findAllById(ids));
     }
 
+    /**
+     * @param latitude  широта в градусах
+     * @param longitude долгота в градусах
+     * @param limit     число объектов в ответе
+     * @param openNow   только открытые сейчас
+     * @return {@link ResponseEntity}, ближайшие {@link BranchDto} и HttpStatus.OK
+     */
+    @GetMapping("/nearest")
+    private ResponseEntity<List<BranchDto>> readNearest(@RequestParam double latitude, @RequestParam double longitude,
+                                                        @RequestParam(defaultValue = "10") int limit,
+                                                        @RequestParam(defaultValue = "false") boolean openNow) {
+        return ResponseEntity.ok().body(service.findNearest(latitude, longitude, limit, openNow));
+    }
+
+    /**
+     * @param city город
+     * @param time время суток в формате HH:mm, по умолчанию текущее
+     * @return {@link ResponseEntity}, открытые {@link BranchDto} и HttpStatus.OK
+     */
+    @GetMapping("/open")
+    private ResponseEntity<List<BranchDto>> readOpen(@RequestParam String city,
+                                                     @RequestParam(required = false)
+                                                     @DateTimeFormat(iso = DateTimeFormat.ISO.TIME) LocalTime time) {
+        return ResponseEntity.ok().body(service.findOpen(city, time));
+    }
+
     /**
      * @param branch {@link BranchDto}
      * @return {@link ResponseEntity}, {@link BranchDto} и HttpStatus.OK
@@ -1,19 +1,26 @@
 package com.bank.publicinfo.controller;
 
+import com.bank.publicinfo.photo.PhotoHttpWriter;
+import com.bank.publicinfo.photo.ThumbnailSize;
 import com.bank.publicinfo.service.CertificateService;
 import com.bank.publicinfo.dto.CertificateDto;
 import com.bank.publicinfo.entity.CertificateEntity;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 
 /**
@@ -25,6 +32,7 @@ import java.util.List;
 public class CertificateController {
 
     private final CertificateService service;
+    private final PhotoHttpWriter photoWriter;
 
     /**
      * @param id технический идентификатор {@link CertificateEntity}
@@ -63,4 +71,29 @@ public class CertificateController {
                                                   @RequestBody CertificateDto certificate) {
         return ResponseEntity.ok().body(service.update(id, certificate));
     }
+
+    /**
+     * Отдает фотографию потоком, поддерживает Range, ETag и Last-Modified.
+     *
+     * @param id   технический идентификатор {@link CertificateEntity}
+     * @param size small, medium или large для уменьшенной копии, без параметра отдается исходная фотография
+     */
+    @GetMapping("/{id}/photo")
+    private void readPhoto(@PathVariable("id") Long id, @RequestParam(value = "size", required = false) String size,
+                           HttpServletRequest request, HttpServletResponse response) throws IOException {
+        photoWriter.write(service.findPhoto(id, ThumbnailSize.of(size)), request, response);
+    }
+
+    /**
+     * Принимает фотографию телом запроса без multipart, тип берется из Content-Type.
+     *
+     * @param id технический идентификатор {@link CertificateEntity}
+     * @return {@link ResponseEntity}, {@link CertificateDto} со ссылкой на фотографию и HttpStatus.OK
+     */
+    @PutMapping("/{id}/photo")
+    private ResponseEntity<CertificateDto> uploadPhoto(@PathVariable("id") Long id,
+                                                       @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                       HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok().body(service.uploadPhoto(id, contentType, request.getInputStream()));
+    }
 }
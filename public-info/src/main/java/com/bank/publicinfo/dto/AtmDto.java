@@ -28,4 +28,6 @@ public class AtmDto implements Serializable {
     LocalTime endOfWork;
     Boolean allHours;
     BranchDto branch;
+    Double latitude;
+    Double longitude;
 }
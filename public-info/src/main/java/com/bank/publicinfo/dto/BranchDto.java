@@ -28,4 +28,6 @@ public class BranchDto implements Serializable {
     String city;
     LocalTime startOfWork;
     LocalTime endOfWork;
+    Double latitude;
+    Double longitude;
 }
@@ -22,6 +22,6 @@ import java.io.Serializable;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class CertificateDto implements Serializable {
     Long id;
-    Byte[] photoCertificate;
+    String photoUrl;
     BankDetailsDto bankDetails;
 }
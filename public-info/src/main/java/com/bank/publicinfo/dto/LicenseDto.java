@@ -22,6 +22,6 @@ import java.io.Serializable;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class LicenseDto implements Serializable {
     Long id;
-    Byte[] photoLicense;
+    String photoUrl;
     BankDetailsDto bankDetails;
 }
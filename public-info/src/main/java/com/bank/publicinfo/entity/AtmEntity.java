@@ -15,6 +15,7 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import java.time.LocalTime;
 import java.util.Objects;
@@ -32,7 +33,9 @@ import java.util.Objects;
 public class AtmEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "atm_seq")
+    @SequenceGenerator(name = "atm_seq", sequenceName = "atm_seq", schema = "public_bank_information",
+            allocationSize = 50)
     @Column(name = "id")
     Long id;
 
@@ -52,6 +55,12 @@ public class AtmEntity {
     @JoinColumn(name = "branch_id")
     BranchEntity branch;
 
+    @Column(name = "latitude")
+    Double latitude;
+
+    @Column(name = "longitude")
+    Double longitude;
+
     @Override
     public boolean equals(Object o) {
 
@@ -70,11 +79,13 @@ public class AtmEntity {
                 startOfWork.equals(atm.startOfWork) &&
                 endOfWork.equals(atm.endOfWork) &&
                 allHours.equals(atm.allHours) &&
-                branch.equals(atm.branch);
+                branch.equals(atm.branch) &&
+                Objects.equals(latitude, atm.latitude) &&
+                Objects.equals(longitude, atm.longitude);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, address, startOfWork, endOfWork, allHours, branch);
+        return Objects.hash(id, address, startOfWork, endOfWork, allHours, branch, latitude, longitude);
     }
 }
@@ -12,6 +12,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import java.sql.Timestamp;
 import java.util.Objects;
@@ -29,7 +30,9 @@ import java.util.Objects;
 public class AuditEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_seq")
+    @SequenceGenerator(name = "audit_seq", sequenceName = "audit_seq", schema = "public_bank_information",
+            allocationSize = 50)
     Long id;
 
     @Column(name = "entity_type")
@@ -56,6 +59,12 @@ public class AuditEntity {
     @Column(name = "entity_json")
     String entityJson;
 
+    @Column(name = "entity_id")
+    Long entityId;
+
+    @Column(name = "version")
+    Integer version;
+
     @Override
     public boolean equals(Object o) {
 
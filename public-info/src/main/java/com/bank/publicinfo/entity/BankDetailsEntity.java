@@ -12,6 +12,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import java.math.BigDecimal;
 import java.util.Objects;
@@ -29,7 +30,9 @@ import java.util.Objects;
 public class BankDetailsEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bank_details_seq")
+    @SequenceGenerator(name = "bank_details_seq", sequenceName = "bank_details_seq", schema = "public_bank_information",
+            allocationSize = 50)
     @Column(name = "id")
     Long id;
 
@@ -12,6 +12,7 @@ import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
 import javax.persistence.GenerationType;
 import javax.persistence.Id;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
 import java.time.LocalTime;
 import java.util.Objects;
@@ -29,7 +30,9 @@ import java.util.Objects;
 public class BranchEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "branch_seq")
+    @SequenceGenerator(name = "branch_seq", sequenceName = "branch_seq", schema = "public_bank_information",
+            allocationSize = 50)
     @Column(name = "id")
     Long id;
 
@@ -48,6 +51,12 @@ public class BranchEntity {
     @Column(name = "end_of_work")
     LocalTime endOfWork;
 
+    @Column(name = "latitude")
+    Double latitude;
+
+    @Column(name = "longitude")
+    Double longitude;
+
     @Override
     public boolean equals(Object o) {
 
@@ -66,11 +75,13 @@ public class BranchEntity {
                 phoneNumber.equals(branch.phoneNumber) &&
                 city.equals(branch.city) &&
                 startOfWork.equals(branch.startOfWork) &&
-                endOfWork.equals(branch.endOfWork);
+                endOfWork.equals(branch.endOfWork) &&
+                Objects.equals(latitude, branch.latitude) &&
+                Objects.equals(longitude, branch.longitude);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, address, phoneNumber, city, startOfWork, endOfWork);
+        return Objects.hash(id, address, phoneNumber, city, startOfWork, endOfWork, latitude, longitude);
     }
 }
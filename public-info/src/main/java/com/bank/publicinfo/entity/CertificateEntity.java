@@ -14,8 +14,8 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
-import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -31,12 +31,17 @@ import java.util.Objects;
 public class CertificateEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "certificate_seq")
+    @SequenceGenerator(name = "certificate_seq", sequenceName = "certificate_seq", schema = "public_bank_information",
+            allocationSize = 50)
     @Column(name = "id")
     Long id;
 
-    @Column(name = "photo")
-    Byte[] photoCertificate;
+    /**
+     * хеш фотографии, пишется только {@link com.bank.publicinfo.photo.PhotoStorage}.
+     */
+    @Column(name = "photo_sha256", insertable = false, updatable = false)
+    String photoSha256;
 
     @ManyToOne
     @JoinColumn(name = "bank_details_id")
@@ -56,17 +61,12 @@ public class CertificateEntity {
         final CertificateEntity certificate = (CertificateEntity) o;
 
         return id.equals(certificate.id) &&
-                Arrays.equals(photoCertificate, certificate.photoCertificate) &&
+                Objects.equals(photoSha256, certificate.photoSha256) &&
                 bankDetails.equals(certificate.bankDetails);
     }
 
     @Override
     public int hashCode() {
-
-        int result = Objects.hash(id, bankDetails);
-
-        result = 31 * result + Arrays.hashCode(photoCertificate);
-
-        return result;
+        return Objects.hash(id, photoSha256, bankDetails);
     }
 }
@@ -14,8 +14,8 @@ import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
+import javax.persistence.SequenceGenerator;
 import javax.persistence.Table;
-import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -31,12 +31,17 @@ import java.util.Objects;
 public class LicenseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "license_seq")
+    @SequenceGenerator(name = "license_seq", sequenceName = "license_seq", schema = "public_bank_information",
+            allocationSize = 50)
     @Column(name = "id")
     Long id;
 
-    @Column(name = "photo")
-    Byte[] photoLicense;
+    /**
+     * хеш фотографии, пишется только {@link com.bank.publicinfo.photo.PhotoStorage}.
+     */
+    @Column(name = "photo_sha256", insertable = false, updatable = false)
+    String photoSha256;
 
     @ManyToOne
     @JoinColumn(name = "bank_details_id")
@@ -56,17 +61,12 @@ public class LicenseEntity {
         final LicenseEntity license = (LicenseEntity) o;
 
         return id.equals(license.id) &&
-                Arrays.equals(photoLicense, license.photoLicense) &&
+                Objects.equals(photoSha256, license.photoSha256) &&
                 bankDetails.equals(license.bankDetails);
     }
 
     @Override
     public int hashCode() {
-
-        int result = Objects.hash(id, bankDetails);
-
-        result = 31 * result + Arrays.hashCode(photoLicense);
-
-        return result;
+        return Objects.hash(id, photoSha256, bankDetails);
     }
 }
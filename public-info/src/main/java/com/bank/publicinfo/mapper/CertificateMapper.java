@@ -2,6 +2,7 @@ package com.bank.publicinfo.mapper;
 
 import com.bank.publicinfo.dto.CertificateDto;
 import com.bank.publicinfo.entity.CertificateEntity;
+import com.bank.publicinfo.photo.PhotoOwner;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -11,7 +12,7 @@ import java.util.List;
 /**
  * Mapper для {@link CertificateEntity} и {@link CertificateDto}
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = PhotoOwner.class)
 public interface CertificateMapper {
 
     /**
@@ -19,12 +20,15 @@ public interface CertificateMapper {
      * @return {@link CertificateEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "photoSha256", ignore = true)
     CertificateEntity toEntity(CertificateDto certificate);
 
     /**
      * @param certificate {@link CertificateEntity}
      * @return {@link CertificateDto}
      */
+    @Mapping(target = "photoUrl",
+            expression = "java(PhotoOwner.CERTIFICATE.url(certificate.getId(), certificate.getPhotoSha256()))")
     CertificateDto toDto(CertificateEntity certificate);
 
     /**
@@ -33,6 +37,7 @@ public interface CertificateMapper {
      * @return {@link CertificateEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "photoSha256", ignore = true)
     CertificateEntity mergeToEntity(CertificateDto certificateDto, @MappingTarget CertificateEntity certificate);
 
     /**
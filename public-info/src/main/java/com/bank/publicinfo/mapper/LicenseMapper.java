@@ -2,6 +2,7 @@ package com.bank.publicinfo.mapper;
 
 import com.bank.publicinfo.dto.LicenseDto;
 import com.bank.publicinfo.entity.LicenseEntity;
+import com.bank.publicinfo.photo.PhotoOwner;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
@@ -11,7 +12,7 @@ import java.util.List;
 /**
  * Mapper для {@link LicenseEntity} и {@link LicenseDto}
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", imports = PhotoOwner.class)
 public interface LicenseMapper {
 
     /**
@@ -19,12 +20,15 @@ public interface LicenseMapper {
      * @return {@link LicenseEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "photoSha256", ignore = true)
     LicenseEntity toEntity(LicenseDto license);
 
     /**
      * @param license {@link LicenseEntity}
      * @return {@link LicenseDto}
      */
+    @Mapping(target = "photoUrl",
+            expression = "java(PhotoOwner.LICENSE.url(license.getId(), license.getPhotoSha256()))")
     LicenseDto toDto(LicenseEntity license);
 
     /**
@@ -33,6 +37,7 @@ public interface LicenseMapper {
      * @return {@link LicenseEntity}
      */
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "photoSha256", ignore = true)
     LicenseEntity mergeToEntity(LicenseDto licenseDto, @MappingTarget LicenseEntity license);
 
     /**
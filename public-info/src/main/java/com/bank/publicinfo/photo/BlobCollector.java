@@ -0,0 +1,40 @@
+package com.bank.publicinfo.photo;
+
+import com.bank.publicinfo.repository.PhotoBlobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.transaction.Transactional;
+
+/**
+ * Удаляет файлы хранилища, на которые не осталось ссылок.
+ * Вызывается после завершения транзакции, которая сняла ссылку или откатила новую.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BlobCollector {
+
+    private final PhotoBlobRepository repository;
+    private final BlobStore blobStore;
+
+    /**
+     * Файл удаляется под блокировкой хеша до коммита, поэтому параллельная загрузка того же
+     * содержимого либо увидит ссылку и оставит файл, либо дождется удаления и запишет файл заново.
+     *
+     * @param sha256 хеш содержимого
+     */
+    @Transactional(Transactional.TxType.REQUIRES_NEW)
+    public void collect(String sha256) {
+        repository.lock(sha256);
+
+        if (repository.findRefCount(sha256).orElse(0) > 0) {
+            return;
+        }
+
+        repository.delete(sha256);
+        blobStore.delete(sha256);
+        log.debug("Удален файл фотографии без ссылок {}", sha256);
+    }
+}
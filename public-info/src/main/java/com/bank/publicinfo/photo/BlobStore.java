@@ -0,0 +1,158 @@
+package com.bank.publicinfo.photo;
+
+import com.bank.common.exception.ValidationException;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Локальное файловое хранилище фотографий с адресацией по содержимому.
+ * Файл называется своим SHA-256 и лежит в каталоге {@code ab/cd/} по первым байтам хеша,
+ * поэтому одинаковые загрузки хранятся одним файлом, а каталоги не разрастаются.
+ * Загрузка пишется во временный файл и переносится на место атомарно, читатель никогда
+ * не видит недописанный файл. Учет ссылок на файлы ведет {@link PhotoStorage}.
+ */
+@Component
+@RequiredArgsConstructor
+public class BlobStore {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_DIRECTORY = ".tmp";
+
+    private final PhotoProperties properties;
+
+    /**
+     * Записывает содержимое во временный файл, считая SHA-256.
+     *
+     * @param content содержимое, читается потоком до конца
+     * @return записанный временный файл, его нужно опубликовать или отбросить
+     * @throws ValidationException если содержимое больше {@link PhotoProperties#getMaxSize()}
+     */
+    public Upload stage(InputStream content) {
+        try {
+            final Path directory = Files.createDirectories(properties.getDirectory().resolve(TEMP_DIRECTORY));
+            final Path temp = Files.createTempFile(directory, "upload-", ".tmp");
+
+            try {
+                final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                final long size;
+
+                try (OutputStream out = new DigestOutputStream(Files.newOutputStream(temp), digest)) {
+                    size = copy(content, out, properties.getMaxSize().toBytes());
+                }
+
+                return new Upload(temp, size, HexFormat.of().formatHex(digest.digest()));
+            } catch (RuntimeException | IOException e) {
+                Files.deleteIfExists(temp);
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Переносит временный файл на место по хешу. Если такой файл уже есть, временный удаляется.
+     *
+     * @param upload {@link Upload}
+     */
+    public void publish(Upload upload) {
+        final Path target = path(upload.getSha256());
+
+        try {
+            if (Files.exists(target)) {
+                Files.deleteIfExists(upload.getFile());
+                return;
+            }
+
+            Files.createDirectories(target.getParent());
+            Files.move(upload.getFile(), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            discard(upload);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param upload {@link Upload}, уже опубликованный пропускается
+     */
+    public void discard(Upload upload) {
+        try {
+            Files.deleteIfExists(upload.getFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param sha256 хеш содержимого
+     * @return путь файла на диске
+     */
+    public Path path(String sha256) {
+        return properties.getDirectory()
+                .resolve(sha256.substring(0, 2))
+                .resolve(sha256.substring(2, 4))
+                .resolve(sha256);
+    }
+
+    /**
+     * @param sha256 хеш содержимого, отсутствующий файл пропускается
+     */
+    public void delete(String sha256) {
+        try {
+            Files.deleteIfExists(path(sha256));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long copy(InputStream in, OutputStream out, long limit) throws IOException {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        long total = 0;
+        int read;
+
+        while ((read = in.read(buffer)) != -1) {
+            total += read;
+
+            if (total > limit) {
+                throw new ValidationException("Фотография больше " + limit + " байт");
+            }
+
+            out.write(buffer, 0, read);
+        }
+
+        return total;
+    }
+
+    /**
+     * Записанный, но еще не опубликованный файл: путь, размер и SHA-256.
+     */
+    @Getter
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    public static class Upload {
+
+        Path file;
+        long size;
+        String sha256;
+    }
+}
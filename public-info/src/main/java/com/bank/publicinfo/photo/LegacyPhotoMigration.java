@@ -0,0 +1,53 @@
+package com.bank.publicinfo.photo;
+
+import com.bank.publicinfo.repository.PhotoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Переносит фотографии, сохраненные до появления хранилища, из столбца photo в {@link BlobStore}.
+ * Каждая фотография переносится в своей транзакции; после переноса столбец photo очищается,
+ * поэтому повторный запуск продолжает с оставшихся строк, а ошибочная строка только пропускается.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LegacyPhotoMigration {
+
+    private static final int CHUNK_SIZE = 100;
+
+    private final PhotoRepository repository;
+    private final PhotoStorage storage;
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        for (PhotoOwner owner : PhotoOwner.values()) {
+            long lastId = 0;
+            long migrated = 0;
+            List<Long> ids;
+
+            while (!(ids = repository.findLegacyIds(owner, lastId, CHUNK_SIZE)).isEmpty()) {
+                for (Long id : ids) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> storage.migrateLegacy(owner, id));
+                        migrated++;
+                    } catch (RuntimeException e) {
+                        log.warn("Не удалось перенести фотографию {} с id {}", owner.getTable(), id, e);
+                    }
+                }
+                lastId = ids.get(ids.size() - 1);
+            }
+
+            if (migrated > 0) {
+                log.info("Перенесено фотографий {} в хранилище: {}", owner.getTable(), migrated);
+            }
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.bank.publicinfo.photo;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.util.List;
+
+/**
+ * Отдает фотографию потоком без загрузки в память.
+ * Поддерживает условные запросы по ETag (SHA-256 содержимого) и Last-Modified и один диапазон в Range;
+ * несколько диапазонов в одном запросе игнорируются, и фотография отдается целиком.
+ * Если Tomcat поддерживает sendfile, файл отправляет в сокет сам коннектор без копирования через приложение,
+ * иначе нужный диапазон файла копируется в поток ответа через буфер фиксированного размера.
+ */
+@Component
+public class PhotoHttpWriter {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * @param photo    {@link StoredPhoto}
+     * @param request  запрос с заголовками If-None-Match, If-Modified-Since, Range, If-Range
+     * @param response ответ 200, 206, 304 или 416
+     */
+    public void write(StoredPhoto photo, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        final PhotoMetadata metadata = photo.getMetadata();
+        final String etag = "\"" + metadata.getSha256() + "\"";
+        final long size = metadata.getSize();
+
+        if (new ServletWebRequest(request, response)
+                .checkNotModified(etag, metadata.getUpdatedAt().toEpochMilli())) {
+            return;
+        }
+
+        long start = 0;
+        long end = size - 1;
+        final String range = request.getHeader(HttpHeaders.RANGE);
+        final String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (range != null && (ifRange == null || ifRange.equals(etag))) {
+            final List<HttpRange> ranges;
+
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                sendUnsatisfiable(response, size);
+                return;
+            }
+
+            if (ranges.size() == 1) {
+                start = ranges.get(0).getRangeStart(size);
+                end = ranges.get(0).getRangeEnd(size);
+
+                if (start >= size || start > end) {
+                    sendUnsatisfiable(response, size);
+                    return;
+                }
+
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        final long length = end - start + 1;
+        response.setContentType(metadata.getContentType());
+        response.setContentLengthLong(length);
+
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, photo.getFile().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (InputStream in = Channels.newInputStream(FileChannel.open(photo.getFile()).position(start))) {
+            final OutputStream out = response.getOutputStream();
+            final byte[] buffer = new byte[BUFFER_SIZE];
+            long remaining = length;
+
+            while (remaining > 0) {
+                final int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+
+                if (read == -1) {
+                    throw new IOException("Файл короче описания фотографии: " + photo.getFile());
+                }
+
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+    }
+
+    /**
+     * Диапазон начинается за концом файла или пуст: код 416 с размером файла в Content-Range.
+     */
+    private void sendUnsatisfiable(HttpServletResponse response, long size) throws IOException {
+        response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+        response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+    }
+}
@@ -0,0 +1,22 @@
+package com.bank.publicinfo.photo;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Instant;
+
+/**
+ * Описание сохраненной фотографии из строки сущности.
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class PhotoMetadata {
+
+    String contentType;
+    long size;
+    String sha256;
+    Instant updatedAt;
+}
@@ -0,0 +1,26 @@
+package com.bank.publicinfo.photo;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Сущности с фотографией: имя таблицы совпадает с путем контроллера.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PhotoOwner {
+
+    LICENSE("license"),
+    CERTIFICATE("certificate");
+
+    private final String table;
+
+    /**
+     * @param id     технический идентификатор сущности
+     * @param sha256 хеш фотографии, null если фотографии нет
+     * @return путь для скачивания фотографии относительно context-path сервиса или null
+     */
+    public String url(Long id, String sha256) {
+        return sha256 == null ? null : "/" + table + "/" + id + "/photo";
+    }
+}
@@ -0,0 +1,56 @@
+package com.bank.publicinfo.photo;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * Настройки хранилища фотографий, префикс {@code public-info.photo}.
+ */
+@Getter
+@Setter
+@Component
+@FieldDefaults(level = AccessLevel.PRIVATE)
+@ConfigurationProperties(prefix = "public-info.photo")
+public class PhotoProperties {
+
+    /**
+     * каталог локального хранилища; при нескольких экземплярах сервиса должен быть общим.
+     */
+    Path directory = Path.of("photos");
+
+    /**
+     * максимальный размер загружаемой фотографии.
+     */
+    DataSize maxSize = DataSize.ofMegabytes(10);
+
+    /**
+     * кеш уменьшенных копий фотографий.
+     */
+    Thumbnails thumbnails = new Thumbnails();
+
+    /**
+     * Настройки кеша уменьшенных копий, префикс {@code public-info.photo.thumbnails}.
+     */
+    @Getter
+    @Setter
+    @FieldDefaults(level = AccessLevel.PRIVATE)
+    public static class Thumbnails {
+
+        /**
+         * каталог кеша; содержимое можно удалить в любой момент, копии построятся заново.
+         */
+        Path directory = Path.of("photo-thumbnails");
+
+        /**
+         * предельный суммарный размер копий на диске, при превышении удаляются давно не читанные.
+         */
+        DataSize maxSize = DataSize.ofMegabytes(256);
+    }
+}
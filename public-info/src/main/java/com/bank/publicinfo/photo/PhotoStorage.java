@@ -0,0 +1,140 @@
+package com.bank.publicinfo.photo;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.publicinfo.repository.PhotoBlobRepository;
+import com.bank.publicinfo.repository.PhotoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityNotFoundException;
+import javax.transaction.Transactional;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Фотографии сущностей: содержимое в {@link BlobStore}, описание в строке сущности.
+ * Одинаковые фотографии разных строк хранятся одним файлом, число ссылок на файл ведется
+ * в photo_blob в транзакции вызывающего кода. Файл без ссылок удаляет {@link BlobCollector}
+ * после коммита, поэтому замена не трогает файл, который сейчас отдается.
+ * Загрузка блокирует строку сущности, а затем хеши нового и прежнего файла в порядке хеша,
+ * поэтому параллельные загрузки не снимают ссылку на один файл дважды и не ждут друг друга по кругу.
+ */
+@Component
+@RequiredArgsConstructor
+public class PhotoStorage {
+
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+
+    private final BlobStore blobStore;
+    private final PhotoRepository repository;
+    private final PhotoBlobRepository blobRepository;
+    private final BlobCollector collector;
+    private final ThumbnailService thumbnails;
+
+    /**
+     * @param owner       {@link PhotoOwner}
+     * @param id          технический идентификатор сущности
+     * @param contentType тип содержимого, допускаются только изображения
+     * @param content     содержимое фотографии, читается потоком
+     * @return описание сохраненной фотографии
+     * @throws ValidationException     если тип содержимого не изображение или фотография слишком большая
+     * @throws EntityNotFoundException если сущности нет
+     */
+    @Transactional
+    public PhotoMetadata save(PhotoOwner owner, Long id, String contentType, InputStream content) {
+        if (contentType == null || !contentType.startsWith("image/")) {
+            throw new ValidationException("Фотография должна быть изображением, получено: " + contentType);
+        }
+
+        final PhotoMetadata metadata = store(owner, id, contentType, content);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                thumbnails.precompute(metadata.getSha256());
+            }
+        });
+
+        return metadata;
+    }
+
+    /**
+     * @param owner {@link PhotoOwner}
+     * @param id    технический идентификатор сущности
+     * @return фотография, пусто если ее нет
+     */
+    public Optional<StoredPhoto> find(PhotoOwner owner, Long id) {
+        return repository.findMetadata(owner, id)
+                .map(metadata -> new StoredPhoto(metadata, blobStore.path(metadata.getSha256())));
+    }
+
+    /**
+     * @param owner {@link PhotoOwner}
+     * @param id    технический идентификатор сущности
+     * @param size  {@link ThumbnailSize}, null для исходной фотографии
+     * @return фотография или ее уменьшенная копия, пусто если фотографии нет
+     */
+    public Optional<StoredPhoto> find(PhotoOwner owner, Long id, ThumbnailSize size) {
+        return size == null ? find(owner, id) : find(owner, id).map(photo -> thumbnails.find(photo, size));
+    }
+
+    /**
+     * Переносит фотографию из старого столбца photo в хранилище.
+     *
+     * @param owner {@link PhotoOwner}
+     * @param id    технический идентификатор сущности
+     */
+    @Transactional
+    public void migrateLegacy(PhotoOwner owner, Long id) {
+        repository.readLegacy(owner, id, photo -> store(owner, id, DEFAULT_CONTENT_TYPE, photo));
+    }
+
+    private PhotoMetadata store(PhotoOwner owner, Long id, String contentType, InputStream content) {
+        final String previous = repository.lockMetadata(owner, id)
+                .map(PhotoMetadata::getSha256)
+                .orElse(null);
+
+        final BlobStore.Upload upload = blobStore.stage(content);
+        final String sha256 = upload.getSha256();
+
+        try {
+            Stream.of(sha256, previous)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .sorted()
+                    .forEach(blobRepository::lock);
+            blobRepository.acquire(sha256, upload.getSize());
+            blobStore.publish(upload);
+        } finally {
+            blobStore.discard(upload);
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    collector.collect(sha256);
+                } else if (previous != null && !previous.equals(sha256)) {
+                    collector.collect(previous);
+                }
+            }
+        });
+
+        final PhotoMetadata metadata = new PhotoMetadata(contentType, upload.getSize(), sha256, Instant.now());
+
+        if (repository.updateMetadata(owner, id, metadata) == 0) {
+            throw new EntityNotFoundException("Не найдена строка " + owner.getTable() + " с id " + id);
+        }
+
+        if (previous != null) {
+            blobRepository.release(previous);
+        }
+
+        return metadata;
+    }
+}
@@ -0,0 +1,20 @@
+package com.bank.publicinfo.photo;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.nio.file.Path;
+
+/**
+ * Фотография, готовая к отдаче: описание и файл в хранилище.
+ */
+@Getter
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+public class StoredPhoto {
+
+    PhotoMetadata metadata;
+    Path file;
+}
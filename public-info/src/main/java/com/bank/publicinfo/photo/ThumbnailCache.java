@@ -0,0 +1,168 @@
+package com.bank.publicinfo.photo;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Ограниченный по размеру дисковый LRU-кеш уменьшенных копий фотографий.
+ * Порядок использования и размеры файлов держатся в памяти, поэтому попадание в кеш
+ * не обращается к диску до отдачи файла. При старте индекс восстанавливается по каталогу
+ * в порядке времени изменения файлов. Файл копии называется {@code <ключ>.<расширение>}.
+ */
+@Slf4j
+@Component
+public class ThumbnailCache {
+
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path directory;
+    private final long maxSize;
+    private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(16, 0.75f, true);
+    private long size;
+
+    public ThumbnailCache(PhotoProperties properties) {
+        this.directory = properties.getThumbnails().getDirectory();
+        this.maxSize = properties.getThumbnails().getMaxSize().toBytes();
+    }
+
+    @PostConstruct
+    public void load() {
+        try {
+            Files.createDirectories(directory);
+
+            final List<Path> files;
+            try (Stream<Path> list = Files.list(directory)) {
+                files = list.filter(Files::isRegularFile).toList();
+            }
+
+            final List<Entry> entries = new ArrayList<>();
+            for (Path file : files) {
+                final String name = file.getFileName().toString();
+                final int dot = name.lastIndexOf('.');
+
+                if (dot <= 0 || name.endsWith(TEMP_SUFFIX)) {
+                    Files.deleteIfExists(file);
+                    continue;
+                }
+
+                final BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                entries.add(new Entry(name.substring(0, dot), file, attributes.size(),
+                        attributes.lastModifiedTime().toMillis()));
+            }
+
+            entries.sort(Comparator.comparingLong(Entry::getLoadedAt));
+            synchronized (this) {
+                entries.forEach(this::add);
+                evict();
+                log.info("Загружено уменьшенных копий фотографий: {}, {} байт", index.size(), size);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param key ключ копии
+     * @return копия, пусто если ее нет в кеше
+     */
+    public synchronized Optional<Entry> get(String key) {
+        return Optional.ofNullable(index.get(key));
+    }
+
+    /**
+     * Записывает копию атомарно и вытесняет давно не читанные копии сверх предельного размера.
+     *
+     * @param key       ключ копии
+     * @param extension расширение файла, по нему определяется тип содержимого
+     * @param content   содержимое копии
+     * @return записанная копия
+     */
+    public Entry put(String key, String extension, byte[] content) {
+        final Path file = directory.resolve(key + "." + extension);
+
+        try {
+            final Path temp = Files.createTempFile(directory, key, TEMP_SUFFIX);
+
+            try {
+                Files.write(temp, content);
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final Entry entry = new Entry(key, file, content.length, System.currentTimeMillis());
+        synchronized (this) {
+            add(entry);
+            evict();
+        }
+        return entry;
+    }
+
+    /**
+     * @return суммарный размер копий в байтах
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    private void add(Entry entry) {
+        final Entry previous = index.put(entry.getKey(), entry);
+
+        if (previous != null) {
+            size -= previous.getSize();
+        }
+        size += entry.getSize();
+    }
+
+    private void evict() {
+        final Iterator<Entry> iterator = index.values().iterator();
+
+        while (size > maxSize && index.size() > 1 && iterator.hasNext()) {
+            final Entry eldest = iterator.next();
+            iterator.remove();
+            size -= eldest.getSize();
+
+            try {
+                Files.deleteIfExists(eldest.getFile());
+            } catch (IOException e) {
+                log.warn("Не удалось удалить уменьшенную копию {}", eldest.getFile(), e);
+            }
+        }
+    }
+
+    /**
+     * Копия в кеше: ключ, файл, размер и время записи.
+     */
+    @Getter
+    @AllArgsConstructor
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    public static class Entry {
+
+        String key;
+        Path file;
+        long size;
+        long loadedAt;
+    }
+}
@@ -0,0 +1,195 @@
+package com.bank.publicinfo.photo;
+
+import com.bank.common.exception.ValidationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Уменьшенные копии фотографий. Копия строится при первом запросе и кладется в {@link ThumbnailCache}
+ * по SHA-256 исходной фотографии и ширине, поэтому одинаковые фотографии разных строк делят копии.
+ * Одновременные запросы одной копии ждут одного построения. После загрузки фотографии копии
+ * строятся заранее в фоновом потоке; при переполненной очереди предварительное построение
+ * пропускается, и копия строится при первом запросе.
+ */
+@Slf4j
+@Component
+public class ThumbnailService {
+
+    private static final int QUEUE_CAPACITY = 100;
+
+    private final BlobStore blobStore;
+    private final ThumbnailCache cache;
+    private final Map<String, CompletableFuture<ThumbnailCache.Entry>> building = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                final Thread thread = new Thread(runnable, "thumbnail-precompute");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+
+    public ThumbnailService(BlobStore blobStore, ThumbnailCache cache) {
+        this.blobStore = blobStore;
+        this.cache = cache;
+    }
+
+    /**
+     * @param photo исходная фотография
+     * @param size  {@link ThumbnailSize}
+     * @return уменьшенная копия; ETag копии отличается от исходной, время изменения совпадает
+     * @throws ValidationException если фотография не читается как изображение
+     */
+    public StoredPhoto find(StoredPhoto photo, ThumbnailSize size) {
+        final PhotoMetadata original = photo.getMetadata();
+        final ThumbnailCache.Entry entry = get(original.getSha256(), size);
+        final String name = entry.getFile().getFileName().toString();
+        final String contentType = name.endsWith(".png") ? "image/png" : "image/jpeg";
+
+        return new StoredPhoto(new PhotoMetadata(contentType, entry.getSize(), entry.getKey(),
+                original.getUpdatedAt()), entry.getFile());
+    }
+
+    /**
+     * Ставит построение всех копий фотографии в фоновую очередь.
+     *
+     * @param sha256 хеш исходной фотографии
+     */
+    public void precompute(String sha256) {
+        executor.execute(() -> {
+            for (ThumbnailSize size : ThumbnailSize.values()) {
+                try {
+                    get(sha256, size);
+                } catch (RuntimeException e) {
+                    log.warn("Не удалось построить уменьшенную копию {} фотографии {}", size, sha256, e);
+                    return;
+                }
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private ThumbnailCache.Entry get(String sha256, ThumbnailSize size) {
+        final String key = sha256 + "-" + size.getWidth();
+        final ThumbnailCache.Entry cached = cache.get(key).orElse(null);
+
+        if (cached != null) {
+            return cached;
+        }
+
+        final CompletableFuture<ThumbnailCache.Entry> future = new CompletableFuture<>();
+        final CompletableFuture<ThumbnailCache.Entry> running = building.putIfAbsent(key, future);
+
+        if (running != null) {
+            try {
+                return running.join();
+            } catch (CompletionException e) {
+                throw (RuntimeException) e.getCause();
+            }
+        }
+
+        try {
+            final ThumbnailCache.Entry entry = cache.get(key)
+                    .orElseGet(() -> build(key, blobStore.path(sha256), size.getWidth()));
+            future.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            building.remove(key);
+        }
+    }
+
+    private ThumbnailCache.Entry build(String key, Path source, int width) {
+        try {
+            final BufferedImage image = scale(read(source, width), width);
+            final String format = image.getColorModel().hasAlpha() ? "png" : "jpg";
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            ImageIO.write(image, format, out);
+            return cache.put(key, format, out.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Читает изображение с прореживанием пикселей до примерно двойной целевой ширины,
+     * чтобы большой скан не раскладывался в памяти целиком.
+     */
+    private static BufferedImage read(Path source, int width) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            final Iterator<ImageReader> readers = in == null ? null : ImageIO.getImageReaders(in);
+
+            if (readers == null || !readers.hasNext()) {
+                throw new ValidationException("Фотография не является изображением поддерживаемого формата");
+            }
+
+            final ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                final int step = Math.max(1, reader.getWidth(0) / (2 * width));
+                final ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Уменьшает изображение последовательными половинами с билинейной интерполяцией:
+     * так качество близко к бикубическому уменьшению за один шаг, а время заметно меньше.
+     * Изображение уже меньше целевой ширины только перекодируется.
+     */
+    private static BufferedImage scale(BufferedImage source, int width) {
+        final int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB
+                : BufferedImage.TYPE_INT_RGB;
+        final int targetWidth = Math.min(width, source.getWidth());
+        final int targetHeight = Math.max(1,
+                (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+
+        do {
+            currentWidth = Math.max(targetWidth, currentWidth / 2);
+            currentHeight = Math.max(targetHeight, currentHeight / 2);
+
+            final BufferedImage next = new BufferedImage(currentWidth, currentHeight, type);
+            final Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            graphics.dispose();
+            current = next;
+        } while (currentWidth != targetWidth || currentHeight != targetHeight);
+
+        return current;
+    }
+}
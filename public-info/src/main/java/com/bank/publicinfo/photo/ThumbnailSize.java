@@ -0,0 +1,43 @@
+package com.bank.publicinfo.photo;
+
+import com.bank.common.exception.ValidationException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Размеры уменьшенных копий фотографий по ширине в пикселях.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ThumbnailSize {
+
+    SMALL(160),
+    MEDIUM(480),
+    LARGE(1024);
+
+    private final int width;
+
+    /**
+     * @param name имя размера без учета регистра, null для исходной фотографии
+     * @return {@link ThumbnailSize} или null
+     * @throws ValidationException если размер неизвестен
+     */
+    public static ThumbnailSize of(String name) {
+        if (name == null) {
+            return null;
+        }
+
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Неизвестный размер фотографии " + name + ", допустимы: "
+                    + Arrays.stream(values())
+                    .map(size -> size.name().toLowerCase(Locale.ROOT))
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.bank.publicinfo.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+
+/**
+ * Счетчики ссылок строк license и certificate на файлы хранилища фотографий.
+ * Изменения одного хеша сериализуются транзакционной advisory-блокировкой,
+ * поэтому удаление файла без ссылок не пересекается с новой ссылкой на тот же файл.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PhotoBlobRepository {
+
+    private static final String TABLE = "public_bank_information.photo_blob";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Блокирует хеш до конца текущей транзакции.
+     *
+     * @param sha256 хеш содержимого
+     */
+    public void lock(String sha256) {
+        jdbcTemplate.query("select pg_advisory_xact_lock(?)", resultSet -> null,
+                Long.parseUnsignedLong(sha256.substring(0, 16), 16));
+    }
+
+    /**
+     * @param sha256 хеш содержимого
+     * @param size   размер файла в байтах
+     */
+    public void acquire(String sha256, long size) {
+        jdbcTemplate.update("insert into " + TABLE + " (sha256, size, ref_count, created_at) values (?, ?, 1, ?) "
+                        + "on conflict (sha256) do update set ref_count = photo_blob.ref_count + 1",
+                sha256, size, new Timestamp(System.currentTimeMillis()));
+    }
+
+    /**
+     * @param sha256 хеш содержимого
+     */
+    public void release(String sha256) {
+        jdbcTemplate.update("update " + TABLE + " set ref_count = ref_count - 1 where sha256 = ?", sha256);
+    }
+
+    /**
+     * @param sha256 хеш содержимого
+     * @return число ссылок, пусто если строки нет
+     */
+    public Optional<Integer> findRefCount(String sha256) {
+        return jdbcTemplate.queryForList("select ref_count from " + TABLE + " where sha256 = ?", Integer.class,
+                        sha256)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * @param sha256 хеш содержимого
+     */
+    public void delete(String sha256) {
+        jdbcTemplate.update("delete from " + TABLE + " where sha256 = ?", sha256);
+    }
+}
@@ -0,0 +1,109 @@
+package com.bank.publicinfo.repository;
+
+import com.bank.publicinfo.photo.PhotoMetadata;
+import com.bank.publicinfo.photo.PhotoOwner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Описания фотографий в строках license и certificate и перенос старых фотографий из столбца photo.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PhotoRepository {
+
+    private static final String SCHEMA = "public_bank_information.";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param owner {@link PhotoOwner}
+     * @param id    технический идентификатор сущности
+     * @return описание фотографии, пусто если фотографии нет
+     */
+    public Optional<PhotoMetadata> findMetadata(PhotoOwner owner, Long id) {
+        return jdbcTemplate.query("select photo_content_type, photo_size, photo_sha256, photo_updated_at from "
+                                + SCHEMA + owner.getTable() + " where id = ? and photo_sha256 is not null",
+                        (resultSet, rowNum) -> new PhotoMetadata(resultSet.getString("photo_content_type"),
+                                resultSet.getLong("photo_size"), resultSet.getString("photo_sha256"),
+                                resultSet.getTimestamp("photo_updated_at").toInstant()), id)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * Блокирует строку сущности до конца транзакции и читает описание ее фотографии,
+     * поэтому параллельные загрузки в одну строку видят фотографию друг друга и снимают ссылку
+     * на каждый файл ровно один раз.
+     *
+     * @param owner {@link PhotoOwner}
+     * @param id    технический идентификатор сущности
+     * @return описание фотографии, пусто если фотографии или сущности нет
+     */
+    public Optional<PhotoMetadata> lockMetadata(PhotoOwner owner, Long id) {
+        return jdbcTemplate.query("select photo_content_type, photo_size, photo_sha256, photo_updated_at from "
+                                + SCHEMA + owner.getTable() + " where id = ? for update",
+                        (resultSet, rowNum) -> resultSet.getString("photo_sha256") == null ? null
+                                : new PhotoMetadata(resultSet.getString("photo_content_type"),
+                                resultSet.getLong("photo_size"), resultSet.getString("photo_sha256"),
+                                resultSet.getTimestamp("photo_updated_at").toInstant()), id)
+                .stream()
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    /**
+     * Записывает описание новой фотографии и очищает старый столбец photo.
+     *
+     * @param owner    {@link PhotoOwner}
+     * @param id       технический идентификатор сущности
+     * @param metadata описание фотографии
+     * @return число обновленных строк, 0 если сущности нет
+     */
+    public int updateMetadata(PhotoOwner owner, Long id, PhotoMetadata metadata) {
+        return jdbcTemplate.update("update " + SCHEMA + owner.getTable() + " set photo = null, "
+                        + "photo_content_type = ?, photo_size = ?, photo_sha256 = ?, photo_updated_at = ? where id = ?",
+                metadata.getContentType(), metadata.getSize(), metadata.getSha256(),
+                Timestamp.from(metadata.getUpdatedAt()), id);
+    }
+
+    /**
+     * @param owner   {@link PhotoOwner}
+     * @param afterId id, после которого продолжить
+     * @param limit   размер пачки
+     * @return id строк по возрастанию, фотография которых еще лежит в столбце photo
+     */
+    public List<Long> findLegacyIds(PhotoOwner owner, long afterId, int limit) {
+        return jdbcTemplate.queryForList("select id from " + SCHEMA + owner.getTable()
+                        + " where id > ? and photo is not null and photo_sha256 is null order by id limit ?",
+                Long.class, afterId, limit);
+    }
+
+    /**
+     * @param owner    {@link PhotoOwner}
+     * @param id       технический идентификатор сущности
+     * @param consumer получает содержимое столбца photo потоком
+     */
+    public void readLegacy(PhotoOwner owner, Long id, LegacyPhotoConsumer consumer) {
+        jdbcTemplate.query("select photo from " + SCHEMA + owner.getTable() + " where id = ? and photo is not null",
+                (RowCallbackHandler) resultSet -> consumer.accept(resultSet.getBinaryStream("photo")), id);
+    }
+
+    /**
+     * Обработчик содержимого столбца photo.
+     */
+    @FunctionalInterface
+    public interface LegacyPhotoConsumer {
+
+        void accept(InputStream photo) throws SQLException;
+    }
+}
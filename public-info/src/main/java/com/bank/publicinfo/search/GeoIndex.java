@@ -0,0 +1,274 @@
+package com.bank.publicinfo.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Неизменяемое k-d дерево для поиска ближайших точек на сфере.
+ * Широта и долгота переводятся в точки единичной сферы: расстояние по хорде растет вместе с расстоянием
+ * по поверхности, поэтому поиск не зависит от перехода через 180-й меридиан и не сжимается у полюсов.
+ * Дерево хранится в массивах без узлов-объектов, корень поддиапазона [lo, hi) находится в его середине.
+ *
+ * @param <T> тип объектов с координатами
+ */
+public final class GeoIndex<T> {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000;
+
+    private final double[] points;
+    private final byte[] axes;
+    private final Object[] items;
+
+    private GeoIndex(double[] points, byte[] axes, Object[] items) {
+        this.points = points;
+        this.axes = axes;
+        this.items = items;
+    }
+
+    /**
+     * @param source    объекты, без координат в индекс не попадают
+     * @param latitude  широта в градусах
+     * @param longitude долгота в градусах
+     * @return индекс, построенный за O(n log n)
+     */
+    public static <T> GeoIndex<T> of(Collection<T> source, Function<T, Double> latitude,
+                                     Function<T, Double> longitude) {
+        final List<T> located = new ArrayList<>(source.size());
+        final List<double[]> coordinates = new ArrayList<>(source.size());
+
+        for (T item : source) {
+            final Double lat = latitude.apply(item);
+            final Double lon = longitude.apply(item);
+
+            if (lat != null && lon != null) {
+                located.add(item);
+                coordinates.add(toPoint(lat, lon));
+            }
+        }
+
+        final int size = located.size();
+        final double[] unordered = new double[size * 3];
+        final int[] order = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(coordinates.get(i), 0, unordered, i * 3, 3);
+            order[i] = i;
+        }
+
+        final byte[] axes = new byte[size];
+        build(unordered, order, axes, 0, size);
+
+        final double[] points = new double[size * 3];
+        final Object[] items = new Object[size];
+
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(unordered, order[i] * 3, points, i * 3, 3);
+            items[i] = located.get(order[i]);
+        }
+
+        return new GeoIndex<>(points, axes, items);
+    }
+
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * @param latitude  широта точки поиска в градусах
+     * @param longitude долгота точки поиска в градусах
+     * @param limit     сколько объектов вернуть
+     * @param filter    условие отбора, проверяется только у кандидатов ближе уже найденных
+     * @return до {@code limit} ближайших объектов по возрастанию расстояния
+     */
+    public List<T> nearest(double latitude, double longitude, int limit, Predicate<? super T> filter) {
+        if (limit <= 0) {
+            return List.of();
+        }
+
+        final Search search = new Search(toPoint(latitude, longitude), limit, filter);
+        search.visit(0, items.length);
+        return search.result();
+    }
+
+    /**
+     * @param latitude1  широта первой точки в градусах
+     * @param longitude1 долгота первой точки в градусах
+     * @param latitude2  широта второй точки в градусах
+     * @param longitude2 долгота второй точки в градусах
+     * @return расстояние по поверхности Земли в метрах
+     */
+    public static double distanceMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        final double[] first = toPoint(latitude1, longitude1);
+        final double[] second = toPoint(latitude2, longitude2);
+        final double dx = first[0] - second[0];
+        final double dy = first[1] - second[1];
+        final double dz = first[2] - second[2];
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1, Math.sqrt(dx * dx + dy * dy + dz * dz) / 2));
+    }
+
+    private static double[] toPoint(double latitude, double longitude) {
+        final double lat = Math.toRadians(latitude);
+        final double lon = Math.toRadians(longitude);
+        final double cos = Math.cos(lat);
+        return new double[]{cos * Math.cos(lon), cos * Math.sin(lon), Math.sin(lat)};
+    }
+
+    private static void build(double[] points, int[] order, byte[] axes, int lo, int hi) {
+        if (hi - lo <= 1) {
+            return;
+        }
+
+        final int axis = widestAxis(points, order, lo, hi);
+        final int mid = (lo + hi) >>> 1;
+        select(points, order, axis, lo, hi - 1, mid);
+        axes[mid] = (byte) axis;
+
+        build(points, order, axes, lo, mid);
+        build(points, order, axes, mid + 1, hi);
+    }
+
+    private static int widestAxis(double[] points, int[] order, int lo, int hi) {
+        int widest = 0;
+        double widestSpread = -1;
+
+        for (int axis = 0; axis < 3; axis++) {
+            double min = Double.MAX_VALUE;
+            double max = -Double.MAX_VALUE;
+
+            for (int i = lo; i < hi; i++) {
+                final double value = points[order[i] * 3 + axis];
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+
+            if (max - min > widestSpread) {
+                widestSpread = max - min;
+                widest = axis;
+            }
+        }
+
+        return widest;
+    }
+
+    /**
+     * Quickselect: после вызова в {@code order[k]} стоит медиана, левее не больше, правее не меньше.
+     */
+    private static void select(double[] points, int[] order, int axis, int left, int right, int k) {
+        while (left < right) {
+            final double pivot = points[order[(left + right) >>> 1] * 3 + axis];
+            int i = left;
+            int j = right;
+
+            while (i <= j) {
+                while (points[order[i] * 3 + axis] < pivot) {
+                    i++;
+                }
+                while (points[order[j] * 3 + axis] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    final int swap = order[i];
+                    order[i++] = order[j];
+                    order[j--] = swap;
+                }
+            }
+
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Состояние одного поиска: лучшие кандидаты хранятся отсортированными по расстоянию.
+     */
+    private final class Search {
+
+        private final double[] query;
+        private final Predicate<? super T> filter;
+        private final double[] distances;
+        private final int[] found;
+        private int count;
+
+        private Search(double[] query, int limit, Predicate<? super T> filter) {
+            this.query = query;
+            this.filter = filter;
+            this.distances = new double[limit];
+            this.found = new int[limit];
+        }
+
+        private void visit(int lo, int hi) {
+            if (lo >= hi) {
+                return;
+            }
+
+            final int mid = (lo + hi) >>> 1;
+            final double dx = points[mid * 3] - query[0];
+            final double dy = points[mid * 3 + 1] - query[1];
+            final double dz = points[mid * 3 + 2] - query[2];
+            final double distance = dx * dx + dy * dy + dz * dz;
+
+            if (distance < worst() && filter.test(item(mid))) {
+                offer(mid, distance);
+            }
+
+            if (hi - lo == 1) {
+                return;
+            }
+
+            final int axis = axes[mid];
+            final double diff = query[axis] - points[mid * 3 + axis];
+
+            if (diff < 0) {
+                visit(lo, mid);
+                if (diff * diff < worst()) {
+                    visit(mid + 1, hi);
+                }
+            } else {
+                visit(mid + 1, hi);
+                if (diff * diff < worst()) {
+                    visit(lo, mid);
+                }
+            }
+        }
+
+        private double worst() {
+            return count < distances.length ? Double.MAX_VALUE : distances[count - 1];
+        }
+
+        private void offer(int index, double distance) {
+            int position = count < distances.length ? count++ : count - 1;
+
+            while (position > 0 && distances[position - 1] > distance) {
+                distances[position] = distances[position - 1];
+                found[position] = found[position - 1];
+                position--;
+            }
+
+            distances[position] = distance;
+            found[position] = index;
+        }
+
+        private List<T> result() {
+            final List<T> result = new ArrayList<>(count);
+
+            for (int i = 0; i < count; i++) {
+                result.add(item(found[i]));
+            }
+
+            return result;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private T item(int index) {
+        return (T) items[index];
+    }
+}
@@ -0,0 +1,200 @@
+package com.bank.publicinfo.search;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Неизменяемое дерево интервалов рабочего времени: отвечает, кто открыт в заданное время,
+ * за O(log n + k), где k - размер ответа.
+ * Интервал полуоткрытый [начало, конец). Режим через полночь делится на два интервала,
+ * совпадающие начало и конец означают работу весь день, как и в {@link OpeningHours}.
+ *
+ * @param <T> тип объектов с режимом работы
+ */
+public final class HoursIndex<T> {
+
+    private static final int DAY_SECONDS = 24 * 60 * 60;
+
+    private final List<T> allDay;
+    private final Node root;
+    private final int size;
+
+    private HoursIndex(List<T> allDay, Node root, int size) {
+        this.allDay = allDay;
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * @param source объекты; без начала или конца работы и не круглосуточные в индекс не попадают
+     * @param start  начало работы
+     * @param end    конец работы
+     * @param always признак круглосуточной работы независимо от начала и конца
+     * @return индекс, построенный за O(n log n)
+     */
+    public static <T> HoursIndex<T> of(Collection<T> source, Function<T, LocalTime> start,
+                                       Function<T, LocalTime> end, Predicate<T> always) {
+        final List<T> allDay = new ArrayList<>();
+        final List<T> owners = new ArrayList<>();
+        final List<int[]> intervals = new ArrayList<>();
+        int size = 0;
+
+        for (T item : source) {
+            final LocalTime from = start.apply(item);
+            final LocalTime to = end.apply(item);
+
+            if (always.test(item) || from != null && from.equals(to)) {
+                allDay.add(item);
+                size++;
+            } else if (from != null && to != null) {
+                size++;
+                final int begin = from.toSecondOfDay();
+                final int finish = to.toSecondOfDay();
+
+                if (begin < finish) {
+                    owners.add(item);
+                    intervals.add(new int[]{begin, finish});
+                } else {
+                    owners.add(item);
+                    intervals.add(new int[]{begin, DAY_SECONDS});
+                    if (finish > 0) {
+                        owners.add(item);
+                        intervals.add(new int[]{0, finish});
+                    }
+                }
+            }
+        }
+
+        final int[] begins = new int[intervals.size()];
+        final int[] finishes = new int[intervals.size()];
+        final Integer[] all = new Integer[intervals.size()];
+
+        for (int i = 0; i < all.length; i++) {
+            begins[i] = intervals.get(i)[0];
+            finishes[i] = intervals.get(i)[1];
+            all[i] = i;
+        }
+
+        final Node root = build(all, begins, finishes, owners.toArray());
+        return new HoursIndex<>(List.copyOf(allDay), root, size);
+    }
+
+    /**
+     * @return число объектов в индексе
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param time время суток
+     * @return объекты, открытые в {@code time}: сначала круглосуточные, затем остальные
+     */
+    public List<T> openAt(LocalTime time) {
+        final int second = time.toSecondOfDay();
+        final List<T> result = new ArrayList<>(allDay);
+        Node node = root;
+
+        while (node != null) {
+            if (second < node.center) {
+                for (int i = 0; i < node.byBegin.length && node.begins[i] <= second; i++) {
+                    result.add(cast(node.byBegin[i]));
+                }
+                node = node.left;
+            } else {
+                for (int i = 0; i < node.byFinish.length && node.finishes[i] > second; i++) {
+                    result.add(cast(node.byFinish[i]));
+                }
+                node = node.right;
+            }
+        }
+
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T cast(Object owner) {
+        return (T) owner;
+    }
+
+    /**
+     * Центрированное дерево: в узле интервалы, содержащие центр, левее - закончившиеся до центра,
+     * правее - начавшиеся после него.
+     */
+    private static Node build(Integer[] indexes, int[] begins, int[] finishes, Object[] owners) {
+        if (indexes.length == 0) {
+            return null;
+        }
+
+        final int[] points = new int[indexes.length * 2];
+        for (int i = 0; i < indexes.length; i++) {
+            points[2 * i] = begins[indexes[i]];
+            points[2 * i + 1] = finishes[indexes[i]] - 1;
+        }
+        Arrays.sort(points);
+        final int center = points[points.length / 2];
+
+        final List<Integer> left = new ArrayList<>();
+        final List<Integer> right = new ArrayList<>();
+        final List<Integer> here = new ArrayList<>();
+
+        for (Integer index : indexes) {
+            if (finishes[index] <= center) {
+                left.add(index);
+            } else if (begins[index] > center) {
+                right.add(index);
+            } else {
+                here.add(index);
+            }
+        }
+
+        final Integer[] byBegin = here.stream()
+                .sorted(Comparator.comparingInt(index -> begins[index]))
+                .toArray(Integer[]::new);
+        final Integer[] byFinish = here.stream()
+                .sorted(Comparator.comparingInt((Integer index) -> finishes[index]).reversed())
+                .toArray(Integer[]::new);
+
+        return new Node(center, byBegin, byFinish, begins, finishes, owners,
+                build(left.toArray(Integer[]::new), begins, finishes, owners),
+                build(right.toArray(Integer[]::new), begins, finishes, owners));
+    }
+
+    /**
+     * Узел дерева: начала и концы интервалов лежат рядом с их порядком, чтобы обход шел по массивам.
+     */
+    private static final class Node {
+
+        private final int center;
+        private final Object[] byBegin;
+        private final int[] begins;
+        private final Object[] byFinish;
+        private final int[] finishes;
+        private final Node left;
+        private final Node right;
+
+        private Node(int center, Integer[] byBegin, Integer[] byFinish, int[] allBegins, int[] allFinishes,
+                     Object[] owners, Node left, Node right) {
+            this.center = center;
+            this.byBegin = new Object[byBegin.length];
+            this.begins = new int[byBegin.length];
+            this.byFinish = new Object[byFinish.length];
+            this.finishes = new int[byFinish.length];
+            this.left = left;
+            this.right = right;
+
+            for (int i = 0; i < byBegin.length; i++) {
+                this.byBegin[i] = owners[byBegin[i]];
+                this.begins[i] = allBegins[byBegin[i]];
+                this.byFinish[i] = owners[byFinish[i]];
+                this.finishes[i] = allFinishes[byFinish[i]];
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.bank.publicinfo.search;
+
+import com.bank.common.exception.ValidationException;
+
+/**
+ * Проверка параметров поиска ближайших объектов.
+ */
+public final class NearestQuery {
+
+    public static final int MAX_LIMIT = 100;
+
+    private NearestQuery() {
+    }
+
+    /**
+     * @param latitude  широта в градусах
+     * @param longitude долгота в градусах
+     * @param limit     число объектов в ответе
+     * @throws ValidationException если координаты вне допустимых пределов или limit вне 1..{@value #MAX_LIMIT}
+     */
+    public static void check(double latitude, double longitude, int limit) {
+        if (!(latitude >= -90 && latitude <= 90)) {
+            throw new ValidationException("Широта должна быть от -90 до 90: " + latitude);
+        }
+
+        if (!(longitude >= -180 && longitude <= 180)) {
+            throw new ValidationException("Долгота должна быть от -180 до 180: " + longitude);
+        }
+
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new ValidationException("Число объектов должно быть от 1 до " + MAX_LIMIT + ": " + limit);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.bank.publicinfo.search;
+
+import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.BranchDto;
+
+import java.time.LocalTime;
+
+/**
+ * Проверка режима работы по началу и концу рабочего дня.
+ * Конец раньше начала означает работу через полночь, например с 20:00 до 02:00.
+ */
+public final class OpeningHours {
+
+    private OpeningHours() {
+    }
+
+    /**
+     * @param start начало работы, включительно
+     * @param end   конец работы, не включительно
+     * @param time  проверяемое время
+     * @return true, если в {@code time} объект открыт; без начала или конца считается закрытым
+     */
+    public static boolean isOpen(LocalTime start, LocalTime end, LocalTime time) {
+        if (start == null || end == null) {
+            return false;
+        }
+
+        if (start.isBefore(end)) {
+            return !time.isBefore(start) && time.isBefore(end);
+        }
+
+        return !time.isBefore(start) || time.isBefore(end);
+    }
+
+    public static boolean isOpen(AtmDto atm, LocalTime time) {
+        return Boolean.TRUE.equals(atm.getAllHours()) || isOpen(atm.getStartOfWork(), atm.getEndOfWork(), time);
+    }
+
+    public static boolean isOpen(BranchDto branch, LocalTime time) {
+        return isOpen(branch.getStartOfWork(), branch.getEndOfWork(), time);
+    }
+}
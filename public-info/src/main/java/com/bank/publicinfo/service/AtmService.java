@@ -3,6 +3,7 @@ package com.bank.publicinfo.service;
 import com.bank.publicinfo.dto.AtmDto;
 import com.bank.publicinfo.entity.AtmEntity;
 
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -34,4 +35,21 @@ public interface AtmService {
      * @return {@link AtmDto}
      */
     AtmDto findById(Long id);
+
+    /**
+     * @param latitude  широта в градусах
+     * @param longitude долгота в градусах
+     * @param limit     число банкоматов в ответе
+     * @param allHours  если задан, только круглосуточные ({@code true}) или только некруглосуточные
+     * @param openNow   только открытые сейчас
+     * @return ближайшие {@link AtmDto} с координатами по возрастанию расстояния
+     */
+    List<AtmDto> findNearest(double latitude, double longitude, int limit, Boolean allHours, boolean openNow);
+
+    /**
+     * @param city город без учета регистра
+     * @param time время суток, по умолчанию текущее
+     * @return {@link AtmDto} города, открытые в {@code time}
+     */
+    List<AtmDto> findOpen(String city, LocalTime time);
 }
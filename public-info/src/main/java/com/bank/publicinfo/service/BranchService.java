@@ -3,6 +3,7 @@ package com.bank.publicinfo.service;
 import com.bank.publicinfo.dto.BranchDto;
 import com.bank.publicinfo.entity.BranchEntity;
 
+import java.time.LocalTime;
 import java.util.List;
 
 /**
@@ -34,4 +35,20 @@ public interface BranchService {
      * @return {@link BranchDto}
      */
     BranchDto findById(Long id);
+
+    /**
+     * @param latitude  широта в градусах
+     * @param longitude долгота в градусах
+     * @param limit     число отделений в ответе
+     * @param openNow   только открытые сейчас
+     * @return ближайшие {@link BranchDto} с координатами по возрастанию расстояния
+     */
+    List<BranchDto> findNearest(double latitude, double longitude, int limit, boolean openNow);
+
+    /**
+     * @param city город без учета регистра
+     * @param time время суток, по умолчанию текущее
+     * @return {@link BranchDto} города, открытые в {@code time}
+     */
+    List<BranchDto> findOpen(String city, LocalTime time);
 }
@@ -2,7 +2,10 @@ package com.bank.publicinfo.service;
 
 import com.bank.publicinfo.dto.CertificateDto;
 import com.bank.publicinfo.entity.CertificateEntity;
+import com.bank.publicinfo.photo.StoredPhoto;
+import com.bank.publicinfo.photo.ThumbnailSize;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -34,4 +37,19 @@ public interface CertificateService {
      * @return {@link CertificateDto}
      */
     CertificateDto findById(Long id);
+
+    /**
+     * @param id          технический идентификатор {@link CertificateEntity}
+     * @param contentType тип содержимого фотографии
+     * @param photo       содержимое фотографии, читается потоком
+     * @return {@link CertificateDto} со ссылкой на новую фотографию
+     */
+    CertificateDto uploadPhoto(Long id, String contentType, InputStream photo);
+
+    /**
+     * @param id   технический идентификатор {@link CertificateEntity}
+     * @param size {@link ThumbnailSize}, null для исходной фотографии
+     * @return {@link StoredPhoto}
+     */
+    StoredPhoto findPhoto(Long id, ThumbnailSize size);
 }
@@ -1,8 +1,11 @@
 package com.bank.publicinfo.service;
 
 import com.bank.publicinfo.entity.LicenseEntity;
+import com.bank.publicinfo.photo.StoredPhoto;
+import com.bank.publicinfo.photo.ThumbnailSize;
 import com.bank.publicinfo.dto.LicenseDto;
 
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -34,4 +37,19 @@ public interface LicenseService {
      * @return {@link LicenseDto}
      */
     LicenseDto findById(Long id);
+
+    /**
+     * @param id          технический идентификатор {@link LicenseEntity}
+     * @param contentType тип содержимого фотографии
+     * @param photo       содержимое фотографии, читается потоком
+     * @return {@link LicenseDto} со ссылкой на новую фотографию
+     */
+    LicenseDto uploadPhoto(Long id, String contentType, InputStream photo);
+
+    /**
+     * @param id   технический идентификатор {@link LicenseEntity}
+     * @param size {@link ThumbnailSize}, null для исходной фотографии
+     * @return {@link StoredPhoto}
+     */
+    StoredPhoto findPhoto(Long id, ThumbnailSize size);
 }
@@ -1,16 +1,27 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.common.exception.ValidationException;
+import com.bank.publicinfo.cache.CacheNames;
 import com.bank.publicinfo.dto.AtmDto;
 import com.bank.publicinfo.entity.AtmEntity;
 import com.bank.publicinfo.mapper.AtmMapper;
 import com.bank.publicinfo.repository.AtmRepository;
+import com.bank.publicinfo.search.NearestQuery;
+import com.bank.publicinfo.search.OpeningHours;
 import com.bank.publicinfo.service.AtmService;
+import com.bank.publicinfo.snapshot.SnapshotStore;
 import com.bank.publicinfo.util.EntityNotFoundSupplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Реализация {@link AtmService}
@@ -24,13 +35,21 @@ public class AtmServiceImpl implements AtmService {
     private final AtmRepository repository;
     private final AtmMapper mapper;
     private final EntityNotFoundSupplier supplierNotFound;
+    private final SnapshotStore snapshotStore;
 
     /**
      * @param ids список технических идентификаторов {@link AtmEntity}
      * @return лист {@link AtmDto}
      */
     @Override
+    @Cacheable(CacheNames.ATM_LISTS)
     public List<AtmDto> findAllById(List<Long> ids) {
+        if (snapshotStore.isActive()) {
+            final List<AtmDto> found = snapshotStore.getSnapshot().findAtms(ids);
+            supplierNotFound.checkForSizeAndLogging(MESSAGE, ids, found);
+            return found;
+        }
+
         final List<AtmEntity> atms = repository.findAllById(ids);
         supplierNotFound.checkForSizeAndLogging(MESSAGE, ids, atms);
         return mapper.toDtoList(atms);
@@ -42,9 +61,12 @@ public class AtmServiceImpl implements AtmService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.ATM_LISTS, allEntries = true)
     public AtmDto create(AtmDto atmDto) {
         final AtmEntity atm = repository.save(mapper.toEntity(atmDto));
-        return mapper.toDto(atm);
+        final AtmDto saved = mapper.toDto(atm);
+        snapshotStore.putAtm(saved);
+        return saved;
     }
 
     /**
@@ -53,6 +75,8 @@ public class AtmServiceImpl implements AtmService {
      */
     @Override
     @Transactional
+    @Caching(put = @CachePut(cacheNames = CacheNames.ATMS, key = "#id"),
+            evict = @CacheEvict(cacheNames = CacheNames.ATM_LISTS, allEntries = true))
     public AtmDto update(Long id, AtmDto atm) {
         final AtmEntity entity = repository.findById(id)
                 .orElseThrow(() -> (
@@ -60,7 +84,9 @@ public class AtmServiceImpl implements AtmService {
                 ));
 
         final AtmEntity updatedAtm = mapper.mergeToEntity(atm, entity);
-        return mapper.toDto(updatedAtm);
+        final AtmDto updated = mapper.toDto(updatedAtm);
+        snapshotStore.putAtm(updated);
+        return updated;
     }
 
     /**
@@ -68,8 +94,51 @@ public class AtmServiceImpl implements AtmService {
      * @return объект {@link AtmDto}
      */
     @Override
+    @Cacheable(CacheNames.ATMS)
     public AtmDto findById(Long id) {
+        if (snapshotStore.isActive()) {
+            return Optional.ofNullable(snapshotStore.getSnapshot().findAtm(id))
+                    .orElseThrow(() -> supplierNotFound.getException(MESSAGE, id));
+        }
+
         return mapper.toDto(repository.findById(id)
                 .orElseThrow(() -> supplierNotFound.getException(MESSAGE, id)));
     }
+
+    /**
+     * Ищет по геоиндексу снимка и к БД не обращается.
+     *
+     * @param latitude  широта в градусах
+     * @param longitude долгота в градусах
+     * @param limit     число банкоматов в ответе
+     * @param allHours  если задан, только круглосуточные ({@code true}) или только некруглосуточные
+     * @param openNow   только открытые сейчас
+     * @return ближайшие {@link AtmDto} по возрастанию расстояния
+     */
+    @Override
+    public List<AtmDto> findNearest(double latitude, double longitude, int limit, Boolean allHours, boolean openNow) {
+        NearestQuery.check(latitude, longitude, limit);
+
+        final LocalTime now = LocalTime.now();
+
+        return snapshotStore.getLoadedSnapshot().getAtmIndex().nearest(latitude, longitude, limit, atm ->
+                (allHours == null || allHours.equals(Boolean.TRUE.equals(atm.getAllHours())))
+                        && (!openNow || OpeningHours.isOpen(atm, now)));
+    }
+
+    /**
+     * Ищет по индексу режима работы снимка и к БД не обращается.
+     *
+     * @param city город без учета регистра
+     * @param time время суток, по умолчанию текущее
+     * @return {@link AtmDto} города, открытые в {@code time}
+     */
+    @Override
+    public List<AtmDto> findOpen(String city, LocalTime time) {
+        if (city == null || city.isBlank()) {
+            throw new ValidationException("Не задан город");
+        }
+
+        return snapshotStore.getLoadedSnapshot().findOpenAtms(city, time == null ? LocalTime.now() : time);
+    }
 }
@@ -1,5 +1,6 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.publicinfo.cache.CacheNames;
 import com.bank.publicinfo.dto.BankDetailsDto;
 import com.bank.publicinfo.entity.BankDetailsEntity;
 import com.bank.publicinfo.mapper.BankDetailsMapper;
@@ -7,6 +8,10 @@ import com.bank.publicinfo.repository.BankDetailsRepository;
 import com.bank.publicinfo.service.BankDetailsService;
 import com.bank.publicinfo.util.EntityNotFoundSupplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
@@ -30,6 +35,7 @@ public class BankDetailsServiceImpl implements BankDetailsService {
      * @return лист {@link BankDetailsDto}
      */
     @Override
+    @Cacheable(CacheNames.BANK_DETAILS_LISTS)
     public List<BankDetailsDto> findAllById(List<Long> ids) {
         final List<BankDetailsEntity> bankDetails = repository.findAllById(ids);
         supplierNotFound.checkForSizeAndLogging(MESSAGE, ids, bankDetails);
@@ -42,6 +48,7 @@ public class BankDetailsServiceImpl implements BankDetailsService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.BANK_DETAILS_LISTS, allEntries = true)
     public BankDetailsDto create(BankDetailsDto bankDetailsDto) {
         final BankDetailsEntity bankDetails = repository.save(mapper.toEntity(bankDetailsDto));
         return mapper.toDto(bankDetails);
@@ -53,6 +60,10 @@ public class BankDetailsServiceImpl implements BankDetailsService {
      */
     @Override
     @Transactional
+    @Caching(put = @CachePut(cacheNames = CacheNames.BANK_DETAILS, key = "#id"),
+            evict = @CacheEvict(cacheNames = {CacheNames.BANK_DETAILS_LISTS, CacheNames.LICENSES,
+                    CacheNames.LICENSE_LISTS, CacheNames.CERTIFICATES, CacheNames.CERTIFICATE_LISTS},
+                    allEntries = true))
     public BankDetailsDto update(Long id, BankDetailsDto bankDetails) {
         final BankDetailsEntity entity = repository.findById(id)
                 .orElseThrow(() -> (
@@ -68,6 +79,7 @@ public class BankDetailsServiceImpl implements BankDetailsService {
      * @return {@link BankDetailsDto}
      */
     @Override
+    @Cacheable(CacheNames.BANK_DETAILS)
     public BankDetailsDto findById(Long id) {
         return mapper.toDto(repository.findById(id)
                 .orElseThrow(() -> supplierNotFound.getException(MESSAGE, id)));
@@ -1,16 +1,27 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.common.exception.ValidationException;
+import com.bank.publicinfo.cache.CacheNames;
 import com.bank.publicinfo.dto.BranchDto;
 import com.bank.publicinfo.entity.BranchEntity;
 import com.bank.publicinfo.mapper.BranchMapper;
 import com.bank.publicinfo.repository.BranchRepository;
+import com.bank.publicinfo.search.NearestQuery;
+import com.bank.publicinfo.search.OpeningHours;
 import com.bank.publicinfo.service.BranchService;
+import com.bank.publicinfo.snapshot.SnapshotStore;
 import com.bank.publicinfo.util.EntityNotFoundSupplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
+import java.time.LocalTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Реализация {@link BranchService}
@@ -24,13 +35,21 @@ public class BranchServiceImpl implements BranchService {
     private final BranchRepository repository;
     private final BranchMapper mapper;
     private final EntityNotFoundSupplier supplierNotFound;
+    private final SnapshotStore snapshotStore;
 
     /**
      * @param ids список технических идентификаторов {@link BranchEntity}
      * @return лист {@link BranchDto}
      */
     @Override
+    @Cacheable(CacheNames.BRANCH_LISTS)
     public List<BranchDto> findAllById(List<Long> ids) {
+        if (snapshotStore.isActive()) {
+            final List<BranchDto> found = snapshotStore.getSnapshot().findBranches(ids);
+            supplierNotFound.checkForSizeAndLogging(MESSAGE, ids, found);
+            return found;
+        }
+
         final List<BranchEntity> branches = repository.findAllById(ids);
         supplierNotFound.checkForSizeAndLogging(MESSAGE, ids, branches);
         return mapper.toDtoList(branches);
@@ -42,9 +61,12 @@ public class BranchServiceImpl implements BranchService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.BRANCH_LISTS, allEntries = true)
     public BranchDto create(BranchDto branchDto) {
         final BranchEntity branch = repository.save(mapper.toEntity(branchDto));
-        return mapper.toDto(branch);
+        final BranchDto saved = mapper.toDto(branch);
+        snapshotStore.putBranch(saved);
+        return saved;
     }
 
     /**
@@ -53,6 +75,9 @@ public class BranchServiceImpl implements BranchService {
      */
     @Override
     @Transactional
+    @Caching(put = @CachePut(cacheNames = CacheNames.BRANCHES, key = "#id"),
+            evict = @CacheEvict(cacheNames = {CacheNames.BRANCH_LISTS, CacheNames.ATMS, CacheNames.ATM_LISTS},
+                    allEntries = true))
     public BranchDto update(Long id, BranchDto branch) {
         final BranchEntity entity = repository.findById(id)
                 .orElseThrow(() -> (
@@ -60,7 +85,9 @@ public class BranchServiceImpl implements BranchService {
                 ));
 
         final BranchEntity updatedBranch = mapper.mergeToEntity(branch, entity);
-        return mapper.toDto(updatedBranch);
+        final BranchDto updated = mapper.toDto(updatedBranch);
+        snapshotStore.putBranch(updated);
+        return updated;
     }
 
     /**
@@ -68,8 +95,49 @@ public class BranchServiceImpl implements BranchService {
      * @return {@link BranchDto}
      */
     @Override
+    @Cacheable(CacheNames.BRANCHES)
     public BranchDto findById(Long id) {
+        if (snapshotStore.isActive()) {
+            return Optional.ofNullable(snapshotStore.getSnapshot().findBranch(id))
+                    .orElseThrow(() -> supplierNotFound.getException(MESSAGE, id));
+        }
+
         return mapper.toDto(repository.findById(id)
                 .orElseThrow(() -> supplierNotFound.getException(MESSAGE, id)));
     }
+
+    /**
+     * Ищет по геоиндексу снимка и к БД не обращается.
+     *
+     * @param latitude  широта в градусах
+     * @param longitude долгота в градусах
+     * @param limit     число отделений в ответе
+     * @param openNow   только открытые сейчас
+     * @return ближайшие {@link BranchDto} по возрастанию расстояния
+     */
+    @Override
+    public List<BranchDto> findNearest(double latitude, double longitude, int limit, boolean openNow) {
+        NearestQuery.check(latitude, longitude, limit);
+
+        final LocalTime now = LocalTime.now();
+
+        return snapshotStore.getLoadedSnapshot().getBranchIndex().nearest(latitude, longitude, limit, branch ->
+                !openNow || OpeningHours.isOpen(branch, now));
+    }
+
+    /**
+     * Ищет по индексу режима работы снимка и к БД не обращается.
+     *
+     * @param city город без учета регистра
+     * @param time время суток, по умолчанию текущее
+     * @return {@link BranchDto} города, открытые в {@code time}
+     */
+    @Override
+    public List<BranchDto> findOpen(String city, LocalTime time) {
+        if (city == null || city.isBlank()) {
+            throw new ValidationException("Не задан город");
+        }
+
+        return snapshotStore.getLoadedSnapshot().findOpenBranches(city, time == null ? LocalTime.now() : time);
+    }
 }
@@ -1,15 +1,25 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.publicinfo.cache.CacheNames;
 import com.bank.publicinfo.dto.CertificateDto;
 import com.bank.publicinfo.entity.CertificateEntity;
 import com.bank.publicinfo.mapper.CertificateMapper;
+import com.bank.publicinfo.photo.PhotoOwner;
+import com.bank.publicinfo.photo.PhotoStorage;
+import com.bank.publicinfo.photo.StoredPhoto;
+import com.bank.publicinfo.photo.ThumbnailSize;
 import com.bank.publicinfo.repository.CertificateRepository;
 import com.bank.publicinfo.service.CertificateService;
 import com.bank.publicinfo.util.EntityNotFoundSupplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -20,16 +30,19 @@ import java.util.List;
 public class CertificateServiceImpl implements CertificateService {
 
     private final static String MESSAGE = "Сертификата не найдено с id ";
+    private final static String PHOTO_MESSAGE = " - нет фотографии сертификата с таким id";
 
     private final CertificateRepository repository;
     private final CertificateMapper mapper;
     private final EntityNotFoundSupplier supplierNotFound;
+    private final PhotoStorage photoStorage;
 
     /**
      * @param ids список технических идентификаторов {@link CertificateEntity}
      * @return лист {@link CertificateDto}
      */
     @Override
+    @Cacheable(CacheNames.CERTIFICATE_LISTS)
     public List<CertificateDto> findAllById(List<Long> ids) {
         final List<CertificateEntity> certificates = repository.findAllById(ids);
         supplierNotFound.checkForSizeAndLogging(MESSAGE, ids, certificates);
@@ -42,6 +55,7 @@ public class CertificateServiceImpl implements CertificateService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.CERTIFICATE_LISTS, allEntries = true)
     public CertificateDto create(CertificateDto certificateDto) {
         final CertificateEntity certificate = repository.save(mapper.toEntity(certificateDto));
         return mapper.toDto(certificate);
@@ -53,6 +67,8 @@ public class CertificateServiceImpl implements CertificateService {
      */
     @Override
     @Transactional
+    @Caching(put = @CachePut(cacheNames = CacheNames.CERTIFICATES, key = "#id"),
+            evict = @CacheEvict(cacheNames = CacheNames.CERTIFICATE_LISTS, allEntries = true))
     public CertificateDto update(Long id, CertificateDto certificate) {
         final CertificateEntity entity = repository.findById(id)
                 .orElseThrow(() -> (
@@ -68,8 +84,38 @@ public class CertificateServiceImpl implements CertificateService {
      * @return {@link CertificateDto}
      */
     @Override
+    @Cacheable(CacheNames.CERTIFICATES)
     public CertificateDto findById(Long id) {
         return mapper.toDto(repository.findById(id)
                 .orElseThrow(() -> supplierNotFound.getException(MESSAGE, id)));
     }
+
+    /**
+     * @param id          технический идентификатор {@link CertificateEntity}
+     * @param contentType тип содержимого фотографии
+     * @param photo       содержимое фотографии, читается потоком
+     * @return {@link CertificateDto} со ссылкой на новую фотографию
+     */
+    @Override
+    @Transactional
+    @Caching(put = @CachePut(cacheNames = CacheNames.CERTIFICATES, key = "#id"),
+            evict = @CacheEvict(cacheNames = CacheNames.CERTIFICATE_LISTS, allEntries = true))
+    public CertificateDto uploadPhoto(Long id, String contentType, InputStream photo) {
+        final CertificateEntity entity = repository.findById(id)
+                .orElseThrow(() -> supplierNotFound.getException(MESSAGE, id));
+
+        entity.setPhotoSha256(photoStorage.save(PhotoOwner.CERTIFICATE, id, contentType, photo).getSha256());
+        return mapper.toDto(entity);
+    }
+
+    /**
+     * @param id   технический идентификатор {@link CertificateEntity}
+     * @param size {@link ThumbnailSize}, null для исходной фотографии
+     * @return {@link StoredPhoto}
+     */
+    @Override
+    public StoredPhoto findPhoto(Long id, ThumbnailSize size) {
+        return photoStorage.find(PhotoOwner.CERTIFICATE, id, size)
+                .orElseThrow(() -> supplierNotFound.getException(PHOTO_MESSAGE, id));
+    }
 }
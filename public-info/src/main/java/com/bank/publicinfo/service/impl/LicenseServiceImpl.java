@@ -1,15 +1,25 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.publicinfo.cache.CacheNames;
 import com.bank.publicinfo.dto.LicenseDto;
 import com.bank.publicinfo.entity.LicenseEntity;
 import com.bank.publicinfo.mapper.LicenseMapper;
+import com.bank.publicinfo.photo.PhotoOwner;
+import com.bank.publicinfo.photo.PhotoStorage;
+import com.bank.publicinfo.photo.StoredPhoto;
+import com.bank.publicinfo.photo.ThumbnailSize;
 import com.bank.publicinfo.repository.LicenseRepository;
 import com.bank.publicinfo.service.LicenseService;
 import com.bank.publicinfo.util.EntityNotFoundSupplier;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -20,16 +30,19 @@ import java.util.List;
 public class LicenseServiceImpl implements LicenseService {
 
     private final static String MESSAGE = "Лицензии не найдено с id ";
+    private final static String PHOTO_MESSAGE = " - нет фотографии лицензии с таким id";
 
     private final LicenseRepository repository;
     private final LicenseMapper mapper;
     private final EntityNotFoundSupplier supplierNotFound;
+    private final PhotoStorage photoStorage;
 
     /**
      * @param ids технический идентификатор {@link LicenseEntity}
      * @return лист {@link LicenseDto}
      */
     @Override
+    @Cacheable(CacheNames.LICENSE_LISTS)
     public List<LicenseDto> findAllById(List<Long> ids) {
         final List<LicenseEntity> licenses = repository.findAllById(ids);
         supplierNotFound.checkForSizeAndLogging(MESSAGE, ids, licenses);
@@ -42,6 +55,7 @@ public class LicenseServiceImpl implements LicenseService {
      */
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.LICENSE_LISTS, allEntries = true)
     public LicenseDto create(LicenseDto licenseDto) {
         final LicenseEntity license = repository.save(mapper.toEntity(licenseDto));
         return mapper.toDto(license);
@@ -53,6 +67,8 @@ public class LicenseServiceImpl implements LicenseService {
      */
     @Override
     @Transactional
+    @Caching(put = @CachePut(cacheNames = CacheNames.LICENSES, key = "#id"),
+            evict = @CacheEvict(cacheNames = CacheNames.LICENSE_LISTS, allEntries = true))
     public LicenseDto update(Long id, LicenseDto license) {
         final LicenseEntity entity = repository.findById(id)
                 .orElseThrow(() -> (
@@ -68,8 +84,38 @@ public class LicenseServiceImpl implements LicenseService {
      * @return {@link LicenseDto}
      */
     @Override
+    @Cacheable(CacheNames.LICENSES)
     public LicenseDto findById(Long id) {
         return mapper.toDto(repository.findById(id)
                 .orElseThrow(() -> supplierNotFound.getException(MESSAGE, id)));
     }
+
+    /**
+     * @param id          технический идентификатор {@link LicenseEntity}
+     * @param contentType тип содержимого фотографии
+     * @param photo       содержимое фотографии, читается потоком
+     * @return {@link LicenseDto} со ссылкой на новую фотографию
+     */
+    @Override
+    @Transactional
+    @Caching(put = @CachePut(cacheNames = CacheNames.LICENSES, key = "#id"),
+            evict = @CacheEvict(cacheNames = CacheNames.LICENSE_LISTS, allEntries = true))
+    public LicenseDto uploadPhoto(Long id, String contentType, InputStream photo) {
+        final LicenseEntity entity = repository.findById(id)
+                .orElseThrow(() -> supplierNotFound.getException(MESSAGE, id));
+
+        entity.setPhotoSha256(photoStorage.save(PhotoOwner.LICENSE, id, contentType, photo).getSha256());
+        return mapper.toDto(entity);
+    }
+
+    /**
+     * @param id   технический идентификатор {@link LicenseEntity}
+     * @param size {@link ThumbnailSize}, null для исходной фотографии
+     * @return {@link StoredPhoto}
+     */
+    @Override
+    public StoredPhoto findPhoto(Long id, ThumbnailSize size) {
+        return photoStorage.find(PhotoOwner.LICENSE, id, size)
+                .orElseThrow(() -> supplierNotFound.getException(PHOTO_MESSAGE, id));
+    }
 }
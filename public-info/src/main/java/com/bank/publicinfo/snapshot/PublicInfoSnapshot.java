@@ -0,0 +1,269 @@
+package com.bank.publicinfo.snapshot;
+
+import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.BranchDto;
+import com.bank.publicinfo.search.GeoIndex;
+import com.bank.publicinfo.search.HoursIndex;
+
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Неизменяемый снимок банкоматов и отделений с индексами по id и индексами режима работы по городу.
+ * Изменение возвращает новый снимок, старый продолжает обслуживать уже начатые чтения;
+ * индексы режима работы перестраиваются только для затронутых городов.
+ * Геоиндексы строятся при первом поиске ближайших в этом снимке.
+ * DTO внутри снимка общие для всех читателей и не должны изменяться.
+ * Город банкомата - город его отделения.
+ */
+public final class PublicInfoSnapshot {
+
+    static final PublicInfoSnapshot EMPTY = new PublicInfoSnapshot(Map.of(), Map.of(), Map.of(), Map.of());
+
+    private final Map<Long, AtmDto> atms;
+    private final Map<Long, BranchDto> branches;
+    private final Map<String, HoursIndex<AtmDto>> atmHours;
+    private final Map<String, HoursIndex<BranchDto>> branchHours;
+    private volatile GeoIndex<AtmDto> atmIndex;
+    private volatile GeoIndex<BranchDto> branchIndex;
+
+    private PublicInfoSnapshot(Map<Long, AtmDto> atms, Map<Long, BranchDto> branches,
+                               Map<String, HoursIndex<AtmDto>> atmHours,
+                               Map<String, HoursIndex<BranchDto>> branchHours) {
+        this.atms = atms;
+        this.branches = branches;
+        this.atmHours = atmHours;
+        this.branchHours = branchHours;
+    }
+
+    /**
+     * @param atms     все банкоматы
+     * @param branches все отделения
+     * @return снимок, в котором банкоматы ссылаются на отделения этого же снимка
+     */
+    public static PublicInfoSnapshot of(Collection<AtmDto> atms, Collection<BranchDto> branches) {
+        final Map<Long, BranchDto> branchesById = new HashMap<>(branches.size() * 2);
+        branches.forEach(branch -> branchesById.put(branch.getId(), branch));
+
+        final Map<Long, AtmDto> atmsById = new HashMap<>(atms.size() * 2);
+        atms.forEach(atm -> atmsById.put(atm.getId(), linkBranch(atm, branchesById)));
+
+        return new PublicInfoSnapshot(Collections.unmodifiableMap(atmsById),
+                Collections.unmodifiableMap(branchesById),
+                Collections.unmodifiableMap(indexByCity(atmsById.values(), PublicInfoSnapshot::atmCity,
+                        PublicInfoSnapshot::atmHoursIndex)),
+                Collections.unmodifiableMap(indexByCity(branchesById.values(), PublicInfoSnapshot::branchCity,
+                        PublicInfoSnapshot::branchHoursIndex)));
+    }
+
+    public AtmDto findAtm(Long id) {
+        return atms.get(id);
+    }
+
+    public BranchDto findBranch(Long id) {
+        return branches.get(id);
+    }
+
+    /**
+     * @param ids технические идентификаторы
+     * @return найденные банкоматы в порядке {@code ids}, ненайденные пропускаются
+     */
+    public List<AtmDto> findAtms(List<Long> ids) {
+        return ids.stream()
+                .map(atms::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * @param ids технические идентификаторы
+     * @return найденные отделения в порядке {@code ids}, ненайденные пропускаются
+     */
+    public List<BranchDto> findBranches(List<Long> ids) {
+        return ids.stream()
+                .map(branches::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * @param city город без учета регистра и крайних пробелов
+     * @param time время суток
+     * @return банкоматы города, открытые в {@code time}, сначала круглосуточные
+     */
+    public List<AtmDto> findOpenAtms(String city, LocalTime time) {
+        final HoursIndex<AtmDto> index = atmHours.get(cityKey(city));
+        return index == null ? List.of() : index.openAt(time);
+    }
+
+    /**
+     * @param city город без учета регистра и крайних пробелов
+     * @param time время суток
+     * @return отделения города, открытые в {@code time}
+     */
+    public List<BranchDto> findOpenBranches(String city, LocalTime time) {
+        final HoursIndex<BranchDto> index = branchHours.get(cityKey(city));
+        return index == null ? List.of() : index.openAt(time);
+    }
+
+    public Collection<AtmDto> getAtms() {
+        return atms.values();
+    }
+
+    public Collection<BranchDto> getBranches() {
+        return branches.values();
+    }
+
+    /**
+     * Повторное построение при гонке двух первых поисков безопасно: оба индекса одинаковы.
+     *
+     * @return геоиндекс банкоматов с координатами
+     */
+    public GeoIndex<AtmDto> getAtmIndex() {
+        GeoIndex<AtmDto> index = atmIndex;
+
+        if (index == null) {
+            index = GeoIndex.of(atms.values(), AtmDto::getLatitude, AtmDto::getLongitude);
+            atmIndex = index;
+        }
+
+        return index;
+    }
+
+    /**
+     * @return геоиндекс отделений с координатами
+     */
+    public GeoIndex<BranchDto> getBranchIndex() {
+        GeoIndex<BranchDto> index = branchIndex;
+
+        if (index == null) {
+            index = GeoIndex.of(branches.values(), BranchDto::getLatitude, BranchDto::getLongitude);
+            branchIndex = index;
+        }
+
+        return index;
+    }
+
+    /**
+     * @param atm добавленный или измененный банкомат
+     * @return новый снимок; отделение банкомата берется из снимка, если оно там есть
+     */
+    public PublicInfoSnapshot withAtm(AtmDto atm) {
+        final AtmDto linked = linkBranch(atm, branches);
+        final Set<String> cities = new HashSet<>();
+        cities.add(atmCity(atms.get(atm.getId())));
+        cities.add(atmCity(linked));
+
+        final Map<Long, AtmDto> copy = new HashMap<>(atms);
+        copy.put(atm.getId(), linked);
+
+        return new PublicInfoSnapshot(Collections.unmodifiableMap(copy), branches,
+                reindex(atmHours, cities, copy.values(), PublicInfoSnapshot::atmCity,
+                        PublicInfoSnapshot::atmHoursIndex), branchHours);
+    }
+
+    /**
+     * @param branch добавленное или измененное отделение
+     * @return новый снимок, в котором банкоматы отделения ссылаются на его новую версию
+     */
+    public PublicInfoSnapshot withBranch(BranchDto branch) {
+        final Set<String> cities = new HashSet<>();
+        cities.add(branchCity(branches.get(branch.getId())));
+        cities.add(branchCity(branch));
+
+        final Map<Long, BranchDto> branchesCopy = new HashMap<>(branches);
+        branchesCopy.put(branch.getId(), branch);
+
+        final Map<Long, AtmDto> atmsCopy = new HashMap<>(atms);
+        atms.values().stream()
+                .filter(atm -> atm.getBranch() != null && branch.getId().equals(atm.getBranch().getId()))
+                .forEach(atm -> atmsCopy.put(atm.getId(), copyWithBranch(atm, branch)));
+
+        return new PublicInfoSnapshot(Collections.unmodifiableMap(atmsCopy),
+                Collections.unmodifiableMap(branchesCopy),
+                reindex(atmHours, cities, atmsCopy.values(), PublicInfoSnapshot::atmCity,
+                        PublicInfoSnapshot::atmHoursIndex),
+                reindex(branchHours, cities, branchesCopy.values(), PublicInfoSnapshot::branchCity,
+                        PublicInfoSnapshot::branchHoursIndex));
+    }
+
+    private static AtmDto linkBranch(AtmDto atm, Map<Long, BranchDto> branches) {
+        if (atm.getBranch() == null) {
+            return atm;
+        }
+
+        final BranchDto branch = branches.get(atm.getBranch().getId());
+        return branch == null ? atm : copyWithBranch(atm, branch);
+    }
+
+    private static AtmDto copyWithBranch(AtmDto atm, BranchDto branch) {
+        return new AtmDto(atm.getId(), atm.getAddress(), atm.getStartOfWork(), atm.getEndOfWork(),
+                atm.getAllHours(), branch, atm.getLatitude(), atm.getLongitude());
+    }
+
+    private static String cityKey(String city) {
+        return city == null ? null : city.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String atmCity(AtmDto atm) {
+        return atm == null || atm.getBranch() == null ? null : cityKey(atm.getBranch().getCity());
+    }
+
+    private static String branchCity(BranchDto branch) {
+        return branch == null ? null : cityKey(branch.getCity());
+    }
+
+    private static HoursIndex<AtmDto> atmHoursIndex(Collection<AtmDto> atms) {
+        return HoursIndex.of(atms, AtmDto::getStartOfWork, AtmDto::getEndOfWork,
+                atm -> Boolean.TRUE.equals(atm.getAllHours()));
+    }
+
+    private static HoursIndex<BranchDto> branchHoursIndex(Collection<BranchDto> branches) {
+        return HoursIndex.of(branches, BranchDto::getStartOfWork, BranchDto::getEndOfWork, branch -> false);
+    }
+
+    private static <T> Map<String, HoursIndex<T>> indexByCity(Collection<T> items, Function<T, String> city,
+                                                              Function<Collection<T>, HoursIndex<T>> index) {
+        return items.stream()
+                .filter(item -> city.apply(item) != null)
+                .collect(Collectors.groupingBy(city)).entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> index.apply(entry.getValue())));
+    }
+
+    /**
+     * Перестраивает индексы только перечисленных городов, остальные переходят в новый снимок как есть.
+     */
+    private static <T> Map<String, HoursIndex<T>> reindex(Map<String, HoursIndex<T>> current, Set<String> cities,
+                                                          Collection<T> items, Function<T, String> city,
+                                                          Function<Collection<T>, HoursIndex<T>> index) {
+        final Map<String, HoursIndex<T>> copy = new HashMap<>(current);
+
+        for (String changed : cities) {
+            if (changed == null) {
+                continue;
+            }
+
+            final List<T> inCity = items.stream()
+                    .filter(item -> changed.equals(city.apply(item)))
+                    .toList();
+
+            if (inCity.isEmpty()) {
+                copy.remove(changed);
+            } else {
+                copy.put(changed, index.apply(inCity));
+            }
+        }
+
+        return Collections.unmodifiableMap(copy);
+    }
+}
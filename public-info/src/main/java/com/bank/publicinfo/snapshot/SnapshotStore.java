@@ -0,0 +1,121 @@
+package com.bank.publicinfo.snapshot;
+
+import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.BranchDto;
+import com.bank.publicinfo.mapper.AtmMapper;
+import com.bank.publicinfo.mapper.BranchMapper;
+import com.bank.publicinfo.repository.AtmRepository;
+import com.bank.publicinfo.repository.BranchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Снимок банкоматов и отделений в памяти. Загружается целиком при старте и всегда обслуживает
+ * поиск ближайших; с {@code public-info.snapshot.enabled} из него же читаются банкоматы и отделения по id,
+ * и такие чтения к БД не обращаются.
+ * Записи через сервисы применяются к копии снимка после коммита транзакции, копия заменяет снимок атомарно.
+ * Записи в обход сервиса, в том числе с других экземпляров, видны только после {@link #reload()}.
+ */
+@Slf4j
+@Component
+public class SnapshotStore {
+
+    private final AtmRepository atmRepository;
+    private final BranchRepository branchRepository;
+    private final AtmMapper atmMapper;
+    private final BranchMapper branchMapper;
+    private final boolean enabled;
+    private volatile PublicInfoSnapshot snapshot = PublicInfoSnapshot.EMPTY;
+    private volatile boolean loaded;
+
+    public SnapshotStore(AtmRepository atmRepository, BranchRepository branchRepository, AtmMapper atmMapper,
+                         BranchMapper branchMapper, @Value("${public-info.snapshot.enabled:false}") boolean enabled) {
+        this.atmRepository = atmRepository;
+        this.branchRepository = branchRepository;
+        this.atmMapper = atmMapper;
+        this.branchMapper = branchMapper;
+        this.enabled = enabled;
+    }
+
+    /**
+     * @return true, если режим включен и снимок загружен; до загрузки сервисы читают из БД
+     */
+    public boolean isActive() {
+        return enabled && loaded;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public PublicInfoSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @return загруженный снимок для поисков, которые работают только по памяти
+     * @throws IllegalStateException если снимок еще не загружен
+     */
+    public PublicInfoSnapshot getLoadedSnapshot() {
+        if (!loaded) {
+            throw new IllegalStateException("Снимок банкоматов и отделений еще не загружен");
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Перечитывает банкоматы и отделения из БД и заменяет снимок целиком.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reload() {
+        snapshot = PublicInfoSnapshot.of(atmMapper.toDtoList(atmRepository.findAll()),
+                branchMapper.toDtoList(branchRepository.findAll()));
+        loaded = true;
+
+        log.info("Загружен снимок: {} банкоматов, {} отделений", snapshot.getAtms().size(),
+                snapshot.getBranches().size());
+    }
+
+    /**
+     * @param atm сохраненный банкомат, попадает в снимок после коммита текущей транзакции
+     */
+    public void putAtm(AtmDto atm) {
+        afterCommit(current -> current.withAtm(atm));
+    }
+
+    /**
+     * @param branch сохраненное отделение, попадает в снимок после коммита текущей транзакции
+     */
+    public void putBranch(BranchDto branch) {
+        afterCommit(current -> current.withBranch(branch));
+    }
+
+    /**
+     * Ждет идущей загрузки, поэтому запись, закоммиченная во время {@link #reload()}, не теряется.
+     */
+    private synchronized void apply(UnaryOperator<PublicInfoSnapshot> change) {
+        snapshot = change.apply(snapshot);
+    }
+
+    private void afterCommit(UnaryOperator<PublicInfoSnapshot> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package com.bank.publicinfo.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CaffeineCacheCustomizerTest {
+
+    @Test
+    @DisplayName("Кеши регистрируются с размером из настроек и собирают статистику")
+    void customizeRegistersCachesTest() {
+        final PublicInfoCacheProperties properties = new PublicInfoCacheProperties();
+        properties.setAtm(new PublicInfoCacheProperties.Spec(Duration.ofMinutes(1), 2));
+        final CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        new CaffeineCacheCustomizer(properties).customize(cacheManager);
+
+        assertTrue(cacheManager.getCacheNames().contains(CacheNames.CERTIFICATE_LISTS));
+
+        final Cache<Object, Object> atms = ((CaffeineCache) cacheManager.getCache(CacheNames.ATMS)).getNativeCache();
+        atms.getIfPresent(1L);
+
+        assertEquals(2L, atms.policy().eviction().orElseThrow().getMaximum());
+        assertEquals(1L, atms.stats().missCount());
+    }
+}
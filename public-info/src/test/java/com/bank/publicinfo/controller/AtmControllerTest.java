@@ -225,6 +225,36 @@ class AtmControllerTest {
                 .andExpect(status().is4xxClientError());
     }
 
+    @Test
+    @DisplayName("Поиск ближайших банкоматов, позитивный сценарий")
+    void readNearestPositiveTest() throws Exception {
+        when(atmService.findNearest(55.75, 37.61, 2, true, false)).thenReturn(List.of(getAtmDto()));
+
+        mockMvc.perform(get("/atm/nearest")
+                        .param("latitude", "55.75")
+                        .param("longitude", "37.61")
+                        .param("limit", "2")
+                        .param("allHours", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L));
+
+        verify(atmService, times(1)).findNearest(55.75, 37.61, 2, true, false);
+    }
+
+    @Test
+    @DisplayName("Поиск открытых по городу и времени, позитивный сценарий")
+    void readOpenPositiveTest() throws Exception {
+        when(atmService.findOpen("Москва", LocalTime.of(21, 30))).thenReturn(List.of(getAtmDto()));
+
+        mockMvc.perform(get("/atm/open")
+                        .param("city", "Москва")
+                        .param("time", "21:30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L));
+
+        verify(atmService, times(1)).findOpen("Москва", LocalTime.of(21, 30));
+    }
+
     AtmDto getAtmDto() {
         AtmDto atmDto = new AtmDto();
         atmDto.setId(1L);
@@ -171,6 +171,35 @@ class BranchControllerTest {
                 .andExpect(status().is4xxClientError());
     }
 
+    @Test
+    @DisplayName("Поиск ближайших отделений, позитивный сценарий")
+    void readNearestPositiveTest() throws Exception {
+        when(branchService.findNearest(55.75, 37.61, 10, true)).thenReturn(List.of(getBranchDto()));
+
+        mockMvc.perform(get("/branch/nearest")
+                        .param("latitude", "55.75")
+                        .param("longitude", "37.61")
+                        .param("openNow", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L));
+
+        verify(branchService, times(1)).findNearest(55.75, 37.61, 10, true);
+    }
+
+    @Test
+    @DisplayName("Поиск открытых по городу и времени, позитивный сценарий")
+    void readOpenPositiveTest() throws Exception {
+        when(branchService.findOpen("Москва", LocalTime.of(21, 30))).thenReturn(List.of(getBranchDto()));
+
+        mockMvc.perform(get("/branch/open")
+                        .param("city", "Москва")
+                        .param("time", "21:30"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1L));
+
+        verify(branchService, times(1)).findOpen("Москва", LocalTime.of(21, 30));
+    }
+
     BranchDto getBranchDto() {
         BranchDto branchDto = new BranchDto();
         branchDto.setId(1L);
@@ -49,8 +49,7 @@ class CertificateControllerTest {
         mockMvc.perform(get("/certificate/{id}", 1L))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.photoCertificate[0]").value(51))
-                .andExpect(jsonPath("$.photoCertificate[1]").value(50))
+                .andExpect(jsonPath("$.photoUrl").value("/certificate/1/photo"))
 
                 .andExpect(jsonPath("$.bankDetails.id").value(1L))
                 .andExpect(jsonPath("$.bankDetails.bik").value(2L))
@@ -86,8 +85,7 @@ class CertificateControllerTest {
                 .andExpect(status().isOk())
 
                 .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].photoCertificate[0]").value(51))
-                .andExpect(jsonPath("$[0].photoCertificate[1]").value(50))
+                .andExpect(jsonPath("$[0].photoUrl").value("/certificate/1/photo"))
 
                 .andExpect(jsonPath("$[0].bankDetails.id").value(1L))
                 .andExpect(jsonPath("$[0].bankDetails.bik").value(2L))
@@ -100,8 +98,7 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$[0].bankDetails.name").value("Тест Название"))
 
                 .andExpect(jsonPath("$[1].id").value(2L))
-                .andExpect(jsonPath("$[1].photoCertificate[0]").value(51))
-                .andExpect(jsonPath("$[1].photoCertificate[1]").value(50))
+                .andExpect(jsonPath("$[1].photoUrl").value("/certificate/2/photo"))
 
                 .andExpect(jsonPath("$[1].bankDetails.id").value(1L))
                 .andExpect(jsonPath("$[1].bankDetails.bik").value(2L))
@@ -114,8 +111,7 @@ class CertificateControllerTest {
                 .andExpect(jsonPath("$[1].bankDetails.name").value("Тест Название 2"))
 
                 .andExpect(jsonPath("$[2].id").value(3L))
-                .andExpect(jsonPath("$[2].photoCertificate[0]").value(51))
-                .andExpect(jsonPath("$[2].photoCertificate[1]").value(50))
+                .andExpect(jsonPath("$[2].photoUrl").value("/certificate/3/photo"))
 
                 .andExpect(jsonPath("$[2].bankDetails.id").value(1L))
                 .andExpect(jsonPath("$[2].bankDetails.bik").value(2L))
@@ -172,8 +168,7 @@ class CertificateControllerTest {
                         .content(branchJson))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.photoCertificate[0]").value(51))
-                .andExpect(jsonPath("$.photoCertificate[1]").value(50))
+                .andExpect(jsonPath("$.photoUrl").value("/certificate/1/photo"))
 
                 .andExpect(jsonPath("$.bankDetails.id").value(1L))
                 .andExpect(jsonPath("$.bankDetails.bik").value(2L))
@@ -208,7 +203,7 @@ class CertificateControllerTest {
         bankDetailsDto.setName("Тест Название");
 
         certificateDto.setId(1L);
-        certificateDto.setPhotoCertificate(new Byte[]{51, 50});
+        certificateDto.setPhotoUrl("/certificate/1/photo");
         certificateDto.setBankDetails(bankDetailsDto);
         return certificateDto;
     }
@@ -226,7 +221,7 @@ class CertificateControllerTest {
         bankDetailsDto.setName("Тест Название 2");
 
         certificateDto.setId(2L);
-        certificateDto.setPhotoCertificate(new Byte[]{51, 50});
+        certificateDto.setPhotoUrl("/certificate/2/photo");
         certificateDto.setBankDetails(bankDetailsDto);
         return certificateDto;
     }
@@ -244,7 +239,7 @@ class CertificateControllerTest {
         bankDetailsDto.setName("Тест Название 3");
 
         certificateDto.setId(3L);
-        certificateDto.setPhotoCertificate(new Byte[]{51, 50});
+        certificateDto.setPhotoUrl("/certificate/3/photo");
         certificateDto.setBankDetails(bankDetailsDto);
         return certificateDto;
     }
@@ -49,8 +49,7 @@ class LicenseControllerTest {
         mockMvc.perform(get("/license/{id}", 1L))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.photoLicense[0]").value(51))
-                .andExpect(jsonPath("$.photoLicense[1]").value(50))
+                .andExpect(jsonPath("$.photoUrl").value("/license/1/photo"))
 
                 .andExpect(jsonPath("$.bankDetails.id").value(1L))
                 .andExpect(jsonPath("$.bankDetails.bik").value(2L))
@@ -86,8 +85,7 @@ class LicenseControllerTest {
                 .andExpect(status().isOk())
 
                 .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].photoLicense[0]").value(51))
-                .andExpect(jsonPath("$[0].photoLicense[1]").value(50))
+                .andExpect(jsonPath("$[0].photoUrl").value("/license/1/photo"))
 
                 .andExpect(jsonPath("$[0].bankDetails.id").value(1L))
                 .andExpect(jsonPath("$[0].bankDetails.bik").value(2L))
@@ -100,8 +98,7 @@ class LicenseControllerTest {
                 .andExpect(jsonPath("$[0].bankDetails.name").value("Тест Название"))
 
                 .andExpect(jsonPath("$[1].id").value(2L))
-                .andExpect(jsonPath("$[1].photoLicense[0]").value(51))
-                .andExpect(jsonPath("$[1].photoLicense[1]").value(50))
+                .andExpect(jsonPath("$[1].photoUrl").value("/license/2/photo"))
 
                 .andExpect(jsonPath("$[1].bankDetails.id").value(1L))
                 .andExpect(jsonPath("$[1].bankDetails.bik").value(2L))
@@ -114,8 +111,7 @@ class LicenseControllerTest {
                 .andExpect(jsonPath("$[1].bankDetails.name").value("Тест Название 2"))
 
                 .andExpect(jsonPath("$[2].id").value(3L))
-                .andExpect(jsonPath("$[2].photoLicense[0]").value(51))
-                .andExpect(jsonPath("$[2].photoLicense[1]").value(50))
+                .andExpect(jsonPath("$[2].photoUrl").value("/license/3/photo"))
 
                 .andExpect(jsonPath("$[2].bankDetails.id").value(1L))
                 .andExpect(jsonPath("$[2].bankDetails.bik").value(2L))
@@ -172,8 +168,7 @@ class LicenseControllerTest {
                         .content(branchJson))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(1L))
-                .andExpect(jsonPath("$.photoLicense[0]").value(51))
-                .andExpect(jsonPath("$.photoLicense[1]").value(50))
+                .andExpect(jsonPath("$.photoUrl").value("/license/1/photo"))
 
                 .andExpect(jsonPath("$.bankDetails.id").value(1L))
                 .andExpect(jsonPath("$.bankDetails.bik").value(2L))
@@ -208,7 +203,7 @@ class LicenseControllerTest {
         bankDetailsDto.setName("Тест Название");
 
         licenseDto.setId(1L);
-        licenseDto.setPhotoLicense(new Byte[]{51, 50});
+        licenseDto.setPhotoUrl("/license/1/photo");
         licenseDto.setBankDetails(bankDetailsDto);
         return licenseDto;
     }
@@ -226,7 +221,7 @@ class LicenseControllerTest {
         bankDetailsDto.setName("Тест Название 2");
 
         licenseDto.setId(2L);
-        licenseDto.setPhotoLicense(new Byte[]{51, 50});
+        licenseDto.setPhotoUrl("/license/2/photo");
         licenseDto.setBankDetails(bankDetailsDto);
         return licenseDto;
     }
@@ -244,7 +239,7 @@ class LicenseControllerTest {
         bankDetailsDto.setName("Тест Название 3");
 
         licenseDto.setId(3L);
-        licenseDto.setPhotoLicense(new Byte[]{51, 50});
+        licenseDto.setPhotoUrl("/license/3/photo");
         licenseDto.setBankDetails(bankDetailsDto);
         return licenseDto;
     }
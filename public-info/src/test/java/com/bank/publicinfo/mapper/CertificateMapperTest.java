@@ -12,7 +12,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -35,7 +34,6 @@ class CertificateMapperTest {
     @DisplayName("Маппинг в Entity")
     void toEntityTest() {
         when(dto.getBankDetails()).thenReturn(getBankDetailsDto());
-        when(dto.getPhotoCertificate()).thenReturn(new Byte[]{51, 50});
 
         entity = mapper.toEntity(dto);
 
@@ -48,7 +46,7 @@ class CertificateMapperTest {
         assertEquals("Тест Акционерная Компания", entity.getBankDetails().getJointStockCompany());
         assertEquals("Тест Название",entity.getBankDetails().getName());
         assertNull(entity.getId());
-        assert(Arrays.equals(new Byte[]{51, 50}, entity.getPhotoCertificate()));
+        assertNull(entity.getPhotoSha256());
     }
 
     @Test
@@ -63,7 +61,7 @@ class CertificateMapperTest {
     void toDtoTest() {
         when(entity.getBankDetails()).thenReturn(getBankDetailsEntity());
         when(entity.getId()).thenReturn(1L);
-        when(entity.getPhotoCertificate()).thenReturn(new Byte[]{51, 50});
+        when(entity.getPhotoSha256()).thenReturn("ab");
 
         dto = mapper.toDto(entity);
 
@@ -76,7 +74,7 @@ class CertificateMapperTest {
         assertEquals(dto.getBankDetails().getJointStockCompany(),"Тест Акционерная Компания");
         assertEquals(dto.getBankDetails().getName(),"Тест Название");
         assertEquals(dto.getId(),1L);
-        assert(Arrays.equals(new Byte[]{51, 50}, entity.getPhotoCertificate()));
+        assertEquals("/certificate/1/photo", dto.getPhotoUrl());
     }
 
     @Test
@@ -106,7 +104,7 @@ class CertificateMapperTest {
         assertEquals("Тест Акционерная Компания", entity.getBankDetails().getJointStockCompany());
         assertEquals("Тест Название",entity.getBankDetails().getName());
         assertEquals(1L, entity.getId());
-        assert(Arrays.equals(new Byte[]{51, 50}, entity.getPhotoCertificate()));
+        assertEquals("ab", entity.getPhotoSha256());
     }
 
     @Test
@@ -119,7 +117,7 @@ class CertificateMapperTest {
 
         assertNull(entity.getBankDetails());
         assertNotNull(entity.getId());
-        assertNull(entity.getPhotoCertificate());
+        assertEquals("ab", entity.getPhotoSha256());
     }
 
     @Test
@@ -143,7 +141,7 @@ class CertificateMapperTest {
         BankDetailsDto bankDetailsDto = getBankDetailsDto();
 
         certificateDto.setId(1L);
-        certificateDto.setPhotoCertificate(new Byte[]{51, 50});
+        certificateDto.setPhotoUrl("/certificate/1/photo");
         certificateDto.setBankDetails(bankDetailsDto);
         return certificateDto;
     }
@@ -153,7 +151,7 @@ class CertificateMapperTest {
         BankDetailsDto bankDetailsDto = getBankDetailsDto2();
 
         certificateDto.setId(2L);
-        certificateDto.setPhotoCertificate(new Byte[]{51, 50});
+        certificateDto.setPhotoUrl("/certificate/2/photo");
         certificateDto.setBankDetails(bankDetailsDto);
         return certificateDto;
     }
@@ -163,7 +161,7 @@ class CertificateMapperTest {
         BankDetailsDto bankDetailsDto = getBankDetailsDto3();
 
         certificateDto.setId(3L);
-        certificateDto.setPhotoCertificate(new Byte[]{51, 50});
+        certificateDto.setPhotoUrl("/certificate/3/photo");
         certificateDto.setBankDetails(bankDetailsDto);
         return certificateDto;
     }
@@ -252,7 +250,7 @@ class CertificateMapperTest {
         BankDetailsEntity bankDetailsEntity = getBankDetailsEntity();
 
         certificateEntity.setId(1L);
-        certificateEntity.setPhotoCertificate(new Byte[]{51, 50});
+        certificateEntity.setPhotoSha256("ab");
         certificateEntity.setBankDetails(bankDetailsEntity);
         return certificateEntity;
     }
@@ -262,7 +260,7 @@ class CertificateMapperTest {
         BankDetailsEntity bankDetailsEntity = getBankDetailsEntity2();
 
         certificateEntity.setId(2L);
-        certificateEntity.setPhotoCertificate(new Byte[]{51, 50});
+        certificateEntity.setPhotoSha256("ab");
         certificateEntity.setBankDetails(bankDetailsEntity);
         return certificateEntity;
     }
@@ -272,7 +270,7 @@ class CertificateMapperTest {
         BankDetailsEntity bankDetailsEntity = getBankDetailsEntity3();
 
         certificateEntity.setId(3L);
-        certificateEntity.setPhotoCertificate(new Byte[]{51, 50});
+        certificateEntity.setPhotoSha256("ab");
         certificateEntity.setBankDetails(bankDetailsEntity);
         return certificateEntity;
     }
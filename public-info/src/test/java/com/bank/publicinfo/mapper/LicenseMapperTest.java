@@ -12,7 +12,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -36,7 +35,6 @@ class LicenseMapperTest {
     @DisplayName("Маппинг в Entity")
     void toEntityTest() {
         when(dto.getBankDetails()).thenReturn(getBankDetailsDto());
-        when(dto.getPhotoLicense()).thenReturn(new Byte[]{51, 50});
 
         entity = mapper.toEntity(dto);
 
@@ -49,7 +47,7 @@ class LicenseMapperTest {
         assertEquals("Тест Акционерная Компания", entity.getBankDetails().getJointStockCompany());
         assertEquals("Тест Название",entity.getBankDetails().getName());
         assertNull(entity.getId());
-        assert(Arrays.equals(new Byte[]{51, 50}, entity.getPhotoLicense()));
+        assertNull(entity.getPhotoSha256());
     }
 
     @Test
@@ -64,7 +62,7 @@ class LicenseMapperTest {
     void toDtoTest() {
         when(entity.getBankDetails()).thenReturn(getBankDetailsEntity());
         when(entity.getId()).thenReturn(1L);
-        when(entity.getPhotoLicense()).thenReturn(new Byte[]{51, 50});
+        when(entity.getPhotoSha256()).thenReturn("ab");
 
         dto = mapper.toDto(entity);
 
@@ -77,7 +75,7 @@ class LicenseMapperTest {
         assertEquals(dto.getBankDetails().getJointStockCompany(),"Тест Акционерная Компания");
         assertEquals(dto.getBankDetails().getName(),"Тест Название");
         assertEquals(dto.getId(),1L);
-        assert(Arrays.equals(new Byte[]{51, 50}, entity.getPhotoLicense()));
+        assertEquals("/license/1/photo", dto.getPhotoUrl());
     }
 
     @Test
@@ -107,7 +105,7 @@ class LicenseMapperTest {
         assertEquals("Тест Акционерная Компания", entity.getBankDetails().getJointStockCompany());
         assertEquals("Тест Название",entity.getBankDetails().getName());
         assertEquals(1L, entity.getId());
-        assert(Arrays.equals(new Byte[]{51, 50}, entity.getPhotoLicense()));
+        assertEquals("ab", entity.getPhotoSha256());
     }
 
     @Test
@@ -120,7 +118,7 @@ class LicenseMapperTest {
 
         assertNull(entity.getBankDetails());
         assertNotNull(entity.getId());
-        assertNull(entity.getPhotoLicense());
+        assertEquals("ab", entity.getPhotoSha256());
     }
 
     @Test
@@ -144,7 +142,7 @@ class LicenseMapperTest {
         BankDetailsDto bankDetailsDto = getBankDetailsDto();
 
         licenseDto.setId(1L);
-        licenseDto.setPhotoLicense(new Byte[]{51, 50});
+        licenseDto.setPhotoUrl("/license/1/photo");
         licenseDto.setBankDetails(bankDetailsDto);
         return licenseDto;
     }
@@ -154,7 +152,7 @@ class LicenseMapperTest {
         BankDetailsDto bankDetailsDto = getBankDetailsDto2();
 
         licenseDto.setId(2L);
-        licenseDto.setPhotoLicense(new Byte[]{51, 50});
+        licenseDto.setPhotoUrl("/license/2/photo");
         licenseDto.setBankDetails(bankDetailsDto);
         return licenseDto;
     }
@@ -164,7 +162,7 @@ class LicenseMapperTest {
         BankDetailsDto bankDetailsDto = getBankDetailsDto3();
 
         licenseDto.setId(3L);
-        licenseDto.setPhotoLicense(new Byte[]{51, 50});
+        licenseDto.setPhotoUrl("/license/3/photo");
         licenseDto.setBankDetails(bankDetailsDto);
         return licenseDto;
     }
@@ -174,7 +172,7 @@ class LicenseMapperTest {
         BankDetailsEntity bankDetailsDto = getBankDetailsEntity();
 
         licenseEntity.setId(1L);
-        licenseEntity.setPhotoLicense(new Byte[]{51, 50});
+        licenseEntity.setPhotoSha256("ab");
         licenseEntity.setBankDetails(bankDetailsDto);
         return licenseEntity;
     }
@@ -184,7 +182,7 @@ class LicenseMapperTest {
         BankDetailsEntity bankDetailsDto = getBankDetailsEntity2();
 
         licenseEntity.setId(2L);
-        licenseEntity.setPhotoLicense(new Byte[]{51, 50});
+        licenseEntity.setPhotoSha256("ab");
         licenseEntity.setBankDetails(bankDetailsDto);
         return licenseEntity;
     }
@@ -194,7 +192,7 @@ class LicenseMapperTest {
         BankDetailsEntity bankDetailsDto = getBankDetailsEntity3();
 
         licenseEntity.setId(3L);
-        licenseEntity.setPhotoLicense(new Byte[]{51, 50});
+        licenseEntity.setPhotoSha256("ab");
         licenseEntity.setBankDetails(bankDetailsDto);
         return licenseEntity;
     }
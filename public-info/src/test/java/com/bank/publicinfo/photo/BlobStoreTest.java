@@ -0,0 +1,77 @@
+package com.bank.publicinfo.photo;
+
+import com.bank.common.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BlobStoreTest {
+
+    private static final String SHA256_ABC = "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad";
+
+    @TempDir
+    Path directory;
+
+    private BlobStore store;
+
+    @BeforeEach
+    void setUp() {
+        final PhotoProperties properties = new PhotoProperties();
+        properties.setDirectory(directory);
+        properties.setMaxSize(DataSize.ofBytes(8));
+        store = new BlobStore(properties);
+    }
+
+    @Test
+    @DisplayName("Файл публикуется в каталоге по первым байтам SHA-256 содержимого")
+    void stageAndPublishTest() throws IOException {
+        final byte[] content = "abc".getBytes(StandardCharsets.UTF_8);
+
+        final BlobStore.Upload upload = store.stage(new ByteArrayInputStream(content));
+        store.publish(upload);
+
+        assertEquals(SHA256_ABC, upload.getSha256());
+        assertEquals(3, upload.getSize());
+        assertEquals(directory.resolve("ba/78/" + SHA256_ABC), store.path(upload.getSha256()));
+        assertArrayEquals(content, Files.readAllBytes(store.path(upload.getSha256())));
+        assertFalse(Files.exists(upload.getFile()));
+    }
+
+    @Test
+    @DisplayName("Повторная загрузка того же содержимого не создает второй файл")
+    void publishDuplicateTest() throws IOException {
+        final byte[] content = "abc".getBytes(StandardCharsets.UTF_8);
+        store.publish(store.stage(new ByteArrayInputStream(content)));
+        final BlobStore.Upload duplicate = store.stage(new ByteArrayInputStream(content));
+
+        store.publish(duplicate);
+
+        assertFalse(Files.exists(duplicate.getFile()));
+        try (var files = Files.list(store.path(SHA256_ABC).getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Слишком большой файл отклоняется и не остается в хранилище")
+    void stageTooLargeTest() throws IOException {
+        assertThrows(ValidationException.class, () -> store.stage(new ByteArrayInputStream(new byte[9])));
+
+        try (var files = Files.list(directory.resolve(".tmp"))) {
+            assertEquals(0, files.count());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.bank.publicinfo.photo;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PhotoHttpWriterTest {
+
+    @TempDir
+    Path directory;
+
+    private final PhotoHttpWriter writer = new PhotoHttpWriter();
+    private StoredPhoto photo;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        final Path file = Files.writeString(directory.resolve("ab"), "0123456789", StandardCharsets.UTF_8);
+        photo = new StoredPhoto(new PhotoMetadata("image/png", 10, "ab", Instant.ofEpochSecond(1_700_000_000)),
+                file);
+    }
+
+    @Test
+    @DisplayName("Полная отдача с ETag и Last-Modified")
+    void writeFullTest() throws IOException {
+        final MockHttpServletResponse response = write(new MockHttpServletRequest("GET", "/license/1/photo"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals("\"ab\"", response.getHeader(HttpHeaders.ETAG));
+        assertEquals("image/png", response.getContentType());
+        assertEquals("0123456789", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Диапазон отдается с кодом 206")
+    void writeRangeTest() throws IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/license/1/photo");
+        request.addHeader(HttpHeaders.RANGE, "bytes=2-4");
+
+        final MockHttpServletResponse response = write(request);
+
+        assertEquals(206, response.getStatus());
+        assertEquals("bytes 2-4/10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+        assertEquals("234", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Диапазон за концом файла, код 416")
+    void writeUnsatisfiableRangeTest() throws IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/license/1/photo");
+        request.addHeader(HttpHeaders.RANGE, "bytes=20-");
+
+        final MockHttpServletResponse response = write(request);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    @DisplayName("Пустой суффиксный диапазон, код 416")
+    void writeEmptySuffixRangeTest() throws IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/license/1/photo");
+        request.addHeader(HttpHeaders.RANGE, "bytes=-0");
+
+        final MockHttpServletResponse response = write(request);
+
+        assertEquals(416, response.getStatus());
+        assertEquals("bytes */10", response.getHeader(HttpHeaders.CONTENT_RANGE));
+    }
+
+    @Test
+    @DisplayName("Совпавший If-None-Match, код 304 без тела")
+    void writeNotModifiedTest() throws IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/license/1/photo");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, "\"ab\"");
+
+        final MockHttpServletResponse response = write(request);
+
+        assertEquals(304, response.getStatus());
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("При поддержке sendfile файл передается коннектору")
+    void writeSendfileTest() throws IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/license/1/photo");
+        request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+        final MockHttpServletResponse response = write(request);
+
+        assertEquals(photo.getFile().toAbsolutePath().toString(),
+                request.getAttribute("org.apache.tomcat.sendfile.filename"));
+        assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+        assertEquals("", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Файл короче описания: ошибка ввода-вывода вместо недописанного ответа")
+    void writeTruncatedFileTest() throws IOException {
+        Files.writeString(photo.getFile(), "01234", StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> write(new MockHttpServletRequest("GET", "/license/1/photo")));
+    }
+
+    private MockHttpServletResponse write(MockHttpServletRequest request) throws IOException {
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        writer.write(photo, request, response);
+        return response;
+    }
+}
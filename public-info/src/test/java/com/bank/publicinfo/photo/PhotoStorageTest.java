@@ -0,0 +1,131 @@
+package com.bank.publicinfo.photo;
+
+import com.bank.publicinfo.repository.PhotoBlobRepository;
+import com.bank.publicinfo.repository.PhotoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.persistence.EntityNotFoundException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PhotoStorageTest {
+
+    private static final String NEW_SHA = "b".repeat(64);
+    private static final String OLD_SHA = "a".repeat(64);
+
+    @Mock
+    private BlobStore blobStore;
+    @Mock
+    private PhotoRepository repository;
+    @Mock
+    private PhotoBlobRepository blobRepository;
+    @Mock
+    private BlobCollector collector;
+    @Mock
+    private ThumbnailService thumbnails;
+    @InjectMocks
+    private PhotoStorage storage;
+
+    private final InputStream content = new ByteArrayInputStream(new byte[]{1});
+    private final BlobStore.Upload upload = new BlobStore.Upload(Path.of("upload.tmp"), 1, NEW_SHA);
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("Замена под блокировкой строки и обоих хешей: ссылка переходит на новый файл, старый собирается")
+    void saveReplacesPhotoTest() {
+        when(repository.lockMetadata(PhotoOwner.LICENSE, 1L)).thenReturn(Optional.of(metadata(OLD_SHA)));
+        when(blobStore.stage(content)).thenReturn(upload);
+        when(repository.updateMetadata(eq(PhotoOwner.LICENSE), eq(1L), any())).thenReturn(1);
+
+        storage.save(PhotoOwner.LICENSE, 1L, "image/png", content);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        final InOrder order = inOrder(repository, blobRepository, blobStore);
+        order.verify(repository).lockMetadata(PhotoOwner.LICENSE, 1L);
+        order.verify(blobRepository).lock(OLD_SHA);
+        order.verify(blobRepository).lock(NEW_SHA);
+        order.verify(blobRepository).acquire(NEW_SHA, 1);
+        order.verify(blobStore).publish(upload);
+        order.verify(blobRepository).release(OLD_SHA);
+        verify(collector).collect(OLD_SHA);
+        verify(thumbnails).precompute(NEW_SHA);
+    }
+
+    @Test
+    @DisplayName("Загрузка той же фотографии не собирает файл")
+    void saveSamePhotoTest() {
+        when(repository.lockMetadata(PhotoOwner.LICENSE, 1L)).thenReturn(Optional.of(metadata(NEW_SHA)));
+        when(blobStore.stage(content)).thenReturn(upload);
+        when(repository.updateMetadata(eq(PhotoOwner.LICENSE), eq(1L), any())).thenReturn(1);
+
+        storage.save(PhotoOwner.LICENSE, 1L, "image/png", content);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        verify(blobRepository).lock(NEW_SHA);
+        verify(blobRepository).acquire(NEW_SHA, 1);
+        verify(blobRepository).release(NEW_SHA);
+        verify(collector, never()).collect(anyString());
+    }
+
+    @Test
+    @DisplayName("Нет сущности: исключение, новый файл собирается после отката")
+    void saveNotFoundTest() {
+        when(repository.lockMetadata(PhotoOwner.LICENSE, 1L)).thenReturn(Optional.empty());
+        when(blobStore.stage(content)).thenReturn(upload);
+        when(repository.updateMetadata(eq(PhotoOwner.LICENSE), eq(1L), any())).thenReturn(0);
+
+        assertThrows(EntityNotFoundException.class,
+                () -> storage.save(PhotoOwner.LICENSE, 1L, "image/png", content));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        verify(collector).collect(NEW_SHA);
+        verify(thumbnails, never()).precompute(anyString());
+    }
+
+    private static PhotoMetadata metadata(String sha256) {
+        return new PhotoMetadata("image/png", 1, sha256, Instant.now());
+    }
+
+    private static void complete(int status) {
+        final List<TransactionSynchronization> synchronizations =
+                TransactionSynchronizationManager.getSynchronizations();
+
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
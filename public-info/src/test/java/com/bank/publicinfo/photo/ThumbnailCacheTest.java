@@ -0,0 +1,57 @@
+package com.bank.publicinfo.photo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ThumbnailCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("При превышении размера вытесняется давно не читанная копия")
+    void evictLeastRecentlyUsedTest() {
+        final ThumbnailCache cache = cache(20);
+        final ThumbnailCache.Entry first = cache.put("a-160", "jpg", new byte[8]);
+        final ThumbnailCache.Entry second = cache.put("b-160", "jpg", new byte[8]);
+
+        cache.get("a-160");
+        cache.put("c-160", "jpg", new byte[8]);
+
+        assertTrue(cache.get("a-160").isPresent());
+        assertFalse(cache.get("b-160").isPresent());
+        assertTrue(Files.exists(first.getFile()));
+        assertFalse(Files.exists(second.getFile()));
+        assertEquals(16, cache.getSize());
+    }
+
+    @Test
+    @DisplayName("Индекс восстанавливается по каталогу при старте")
+    void loadTest() {
+        cache(100).put("a-160", "png", new byte[5]);
+
+        final ThumbnailCache reloaded = cache(100);
+
+        assertEquals(directory.resolve("a-160.png"), reloaded.get("a-160").orElseThrow().getFile());
+        assertEquals(5, reloaded.getSize());
+    }
+
+    private ThumbnailCache cache(long maxSize) {
+        final PhotoProperties properties = new PhotoProperties();
+        properties.getThumbnails().setDirectory(directory);
+        properties.getThumbnails().setMaxSize(DataSize.ofBytes(maxSize));
+
+        final ThumbnailCache cache = new ThumbnailCache(properties);
+        cache.load();
+        return cache;
+    }
+}
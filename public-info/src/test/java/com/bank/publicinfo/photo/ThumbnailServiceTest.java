@@ -0,0 +1,91 @@
+package com.bank.publicinfo.photo;
+
+import com.bank.common.exception.ValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ThumbnailServiceTest {
+
+    private static final String SHA256 = "c".repeat(64);
+
+    @TempDir
+    Path directory;
+
+    private BlobStore blobStore;
+    private ThumbnailService service;
+
+    @BeforeEach
+    void setUp() {
+        final PhotoProperties properties = new PhotoProperties();
+        properties.setDirectory(directory.resolve("photos"));
+        properties.getThumbnails().setDirectory(directory.resolve("thumbnails"));
+
+        final ThumbnailCache cache = new ThumbnailCache(properties);
+        cache.load();
+        blobStore = new BlobStore(properties);
+        service = new ThumbnailService(blobStore, cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    @DisplayName("Копия уменьшается до ширины размера с сохранением пропорций и берется из кеша повторно")
+    void findTest() throws IOException {
+        final StoredPhoto photo = photo(new BufferedImage(800, 400, BufferedImage.TYPE_INT_RGB));
+
+        final StoredPhoto thumbnail = service.find(photo, ThumbnailSize.SMALL);
+        final BufferedImage image = ImageIO.read(thumbnail.getFile().toFile());
+
+        assertEquals(160, image.getWidth());
+        assertEquals(80, image.getHeight());
+        assertEquals("image/jpeg", thumbnail.getMetadata().getContentType());
+        assertEquals(SHA256 + "-160", thumbnail.getMetadata().getSha256());
+        assertEquals(Files.size(thumbnail.getFile()), thumbnail.getMetadata().getSize());
+        assertEquals(thumbnail.getFile(), service.find(photo, ThumbnailSize.SMALL).getFile());
+    }
+
+    @Test
+    @DisplayName("Изображение меньше размера не увеличивается, прозрачность сохраняется в PNG")
+    void findSmallImageTest() throws IOException {
+        final StoredPhoto photo = photo(new BufferedImage(100, 50, BufferedImage.TYPE_INT_ARGB));
+
+        final StoredPhoto thumbnail = service.find(photo, ThumbnailSize.MEDIUM);
+
+        assertEquals(100, ImageIO.read(thumbnail.getFile().toFile()).getWidth());
+        assertEquals("image/png", thumbnail.getMetadata().getContentType());
+    }
+
+    @Test
+    @DisplayName("Не изображение, ошибка валидации")
+    void findNotImageTest() throws IOException {
+        final Path file = blobStore.path(SHA256);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "not an image");
+        final StoredPhoto photo = new StoredPhoto(new PhotoMetadata("image/png", 12, SHA256, Instant.now()), file);
+
+        assertThrows(ValidationException.class, () -> service.find(photo, ThumbnailSize.SMALL));
+    }
+
+    private StoredPhoto photo(BufferedImage image) throws IOException {
+        final Path file = blobStore.path(SHA256);
+        Files.createDirectories(file.getParent());
+        ImageIO.write(image, "png", file.toFile());
+        return new StoredPhoto(new PhotoMetadata("image/png", Files.size(file), SHA256, Instant.now()), file);
+    }
+}
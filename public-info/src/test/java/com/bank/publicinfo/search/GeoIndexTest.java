@@ -0,0 +1,67 @@
+package com.bank.publicinfo.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GeoIndexTest {
+
+    @Test
+    @DisplayName("Ближайшие совпадают с полным перебором, в том числе с фильтром")
+    void nearestMatchesBruteForceTest() {
+        final Random random = new Random(7);
+        final List<Point> points = new ArrayList<>();
+
+        for (int i = 0; i < 5_000; i++) {
+            points.add(new Point(random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180, i % 3 == 0));
+        }
+
+        final GeoIndex<Point> index = GeoIndex.of(points, Point::latitude, Point::longitude);
+
+        for (int i = 0; i < 100; i++) {
+            final double latitude = random.nextDouble() * 180 - 90;
+            final double longitude = random.nextDouble() * 360 - 180;
+
+            final List<Point> expected = points.stream()
+                    .filter(Point::open)
+                    .sorted(Comparator.comparingDouble(point ->
+                            GeoIndex.distanceMeters(latitude, longitude, point.latitude(), point.longitude())))
+                    .limit(10)
+                    .toList();
+
+            assertEquals(expected, index.nearest(latitude, longitude, 10, Point::open));
+        }
+    }
+
+    @Test
+    @DisplayName("Поиск через 180-й меридиан и пропуск объектов без координат")
+    void antimeridianTest() {
+        final Point east = new Point(65.0, 179.9, true);
+        final Point west = new Point(65.0, -179.9, true);
+        final Point far = new Point(65.0, 170.0, true);
+        final Point unknown = new Point(null, null, true);
+
+        final GeoIndex<Point> index = GeoIndex.of(List.of(far, east, west, unknown), Point::latitude, Point::longitude);
+
+        assertEquals(3, index.size());
+        assertEquals(List.of(west, east), index.nearest(65.0, -179.95, 2, point -> true));
+    }
+
+    @Test
+    @DisplayName("Расстояние Москва - Санкт-Петербург около 633 км")
+    void distanceTest() {
+        final double distance = GeoIndex.distanceMeters(55.7558, 37.6173, 59.9343, 30.3351);
+
+        assertTrue(Math.abs(distance - 633_000) < 2_000);
+    }
+
+    private record Point(Double latitude, Double longitude, boolean open) {
+    }
+}
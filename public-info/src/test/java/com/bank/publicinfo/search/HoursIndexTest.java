@@ -0,0 +1,60 @@
+package com.bank.publicinfo.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HoursIndexTest {
+
+    @Test
+    @DisplayName("Открытые совпадают с проверкой каждого объекта, включая режим через полночь")
+    void openAtMatchesFullScanTest() {
+        final Random random = new Random(11);
+        final List<Hours> hours = new ArrayList<>();
+
+        for (int i = 0; i < 2_000; i++) {
+            hours.add(new Hours(i, LocalTime.of(random.nextInt(24), random.nextInt(4) * 15),
+                    LocalTime.of(random.nextInt(24), random.nextInt(4) * 15), i % 25 == 0));
+        }
+
+        final HoursIndex<Hours> index = HoursIndex.of(hours, Hours::start, Hours::end, Hours::allDay);
+
+        for (int i = 0; i < 200; i++) {
+            final LocalTime time = LocalTime.ofSecondOfDay(random.nextInt(24 * 60 * 60));
+
+            final Set<Integer> expected = hours.stream()
+                    .filter(item -> item.allDay() || OpeningHours.isOpen(item.start(), item.end(), time))
+                    .map(Hours::id)
+                    .collect(Collectors.toSet());
+            final List<Hours> actual = index.openAt(time);
+
+            assertEquals(expected.size(), actual.size());
+            assertEquals(expected, actual.stream().map(Hours::id).collect(Collectors.toSet()));
+        }
+    }
+
+    @Test
+    @DisplayName("Режим до полуночи и без конца работы")
+    void edgesTest() {
+        final Hours evening = new Hours(1, LocalTime.of(20, 0), LocalTime.MIDNIGHT, false);
+        final Hours unknown = new Hours(2, LocalTime.of(9, 0), null, false);
+
+        final HoursIndex<Hours> index = HoursIndex.of(List.of(evening, unknown), Hours::start, Hours::end,
+                Hours::allDay);
+
+        assertEquals(1, index.size());
+        assertEquals(List.of(evening), index.openAt(LocalTime.of(23, 59)));
+        assertEquals(List.of(), index.openAt(LocalTime.MIDNIGHT));
+    }
+
+    private record Hours(int id, LocalTime start, LocalTime end, boolean allDay) {
+    }
+}
@@ -0,0 +1,26 @@
+package com.bank.publicinfo.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class OpeningHoursTest {
+
+    @Test
+    @DisplayName("Дневной режим: начало включительно, конец не включительно")
+    void dayTest() {
+        assertTrue(OpeningHours.isOpen(LocalTime.of(9, 0), LocalTime.of(18, 0), LocalTime.of(9, 0)));
+        assertFalse(OpeningHours.isOpen(LocalTime.of(9, 0), LocalTime.of(18, 0), LocalTime.of(18, 0)));
+    }
+
+    @Test
+    @DisplayName("Режим через полночь")
+    void overnightTest() {
+        assertTrue(OpeningHours.isOpen(LocalTime.of(20, 0), LocalTime.of(2, 0), LocalTime.of(1, 0)));
+        assertFalse(OpeningHours.isOpen(LocalTime.of(20, 0), LocalTime.of(2, 0), LocalTime.of(12, 0)));
+    }
+}
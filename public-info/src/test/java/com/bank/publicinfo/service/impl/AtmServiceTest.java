@@ -1,9 +1,12 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.common.exception.ValidationException;
 import com.bank.publicinfo.dto.AtmDto;
 import com.bank.publicinfo.entity.AtmEntity;
 import com.bank.publicinfo.mapper.AtmMapper;
 import com.bank.publicinfo.repository.AtmRepository;
+import com.bank.publicinfo.snapshot.PublicInfoSnapshot;
+import com.bank.publicinfo.snapshot.SnapshotStore;
 import com.bank.publicinfo.util.EntityNotFoundSupplier;
 
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +18,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.persistence.EntityNotFoundException;
 
+import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +26,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
@@ -35,6 +40,8 @@ class AtmServiceTest {
     private AtmMapper mapper;
     @Mock
     private EntityNotFoundSupplier supplierNotFound;
+    @Mock
+    private SnapshotStore snapshotStore;
     @InjectMocks
     private AtmServiceImpl service;
 
@@ -168,4 +175,58 @@ class AtmServiceTest {
 
         assertThrows(EntityNotFoundException.class, () -> service.findAllById(Collections.emptyList()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Поиск по id в режиме снимка, БД не читается")
+    void findByIdFromSnapshotTest() {
+        AtmDto dto = new AtmDto();
+        dto.setId(1L);
+
+        when(snapshotStore.isActive()).thenReturn(true);
+        when(snapshotStore.getSnapshot()).thenReturn(PublicInfoSnapshot.of(List.of(dto), List.of()));
+
+        assertEquals(dto, service.findById(1L));
+
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Создание банкомата передает сохраненный DTO в снимок")
+    void createPutsToSnapshotTest() {
+        AtmEntity entity = new AtmEntity();
+        AtmDto dto = new AtmDto();
+
+        when(mapper.toEntity(dto)).thenReturn(entity);
+        when(repository.save(entity)).thenReturn(entity);
+        when(mapper.toDto(entity)).thenReturn(dto);
+
+        service.create(dto);
+
+        verify(snapshotStore, times(1)).putAtm(dto);
+    }
+
+    @Test
+    @DisplayName("Поиск ближайших с фильтром круглосуточных по снимку")
+    void findNearestTest() {
+        AtmDto near = new AtmDto(1L, "Рядом", null, null, false, null, 55.75, 37.61);
+        AtmDto allHours = new AtmDto(2L, "Дальше", null, null, true, null, 55.80, 37.61);
+
+        when(snapshotStore.getLoadedSnapshot())
+                .thenReturn(PublicInfoSnapshot.of(List.of(near, allHours), List.of()));
+
+        assertEquals(List.of(allHours), service.findNearest(55.75, 37.61, 5, true, false));
+        assertEquals(List.of(near, allHours), service.findNearest(55.75, 37.61, 5, null, false));
+    }
+
+    @Test
+    @DisplayName("Поиск ближайших с неверной широтой, негативный сценарий")
+    void findNearestInvalidLatitudeTest() {
+        assertThrows(ValidationException.class, () -> service.findNearest(91, 37.61, 5, null, false));
+    }
+
+    @Test
+    @DisplayName("Поиск открытых без города, негативный сценарий")
+    void findOpenWithoutCityTest() {
+        assertThrows(ValidationException.class, () -> service.findOpen(" ", LocalTime.NOON));
+    }
+}
@@ -1,5 +1,6 @@
 package com.bank.publicinfo.service.impl;
 
+import com.bank.common.audit.AuditHistoryReader;
 import com.bank.publicinfo.dto.AuditDto;
 import com.bank.publicinfo.entity.AuditEntity;
 import com.bank.publicinfo.mapper.AuditMapper;
@@ -10,6 +11,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
 import javax.persistence.EntityNotFoundException;
 import java.util.Optional;
@@ -27,6 +29,8 @@ class AuditServiceImplTest {
     private AuditRepository repository;
     @Mock
     private AuditMapper mapper;
+    @Mock
+    private ObjectProvider<AuditHistoryReader> historyReader;
     @InjectMocks
     private AuditServiceImpl service;
 
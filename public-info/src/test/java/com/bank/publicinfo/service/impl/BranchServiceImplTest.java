@@ -4,6 +4,8 @@ import com.bank.publicinfo.dto.BranchDto;
 import com.bank.publicinfo.entity.BranchEntity;
 import com.bank.publicinfo.mapper.BranchMapper;
 import com.bank.publicinfo.repository.BranchRepository;
+import com.bank.publicinfo.snapshot.PublicInfoSnapshot;
+import com.bank.publicinfo.snapshot.SnapshotStore;
 import com.bank.publicinfo.util.EntityNotFoundSupplier;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.times;
@@ -34,6 +37,8 @@ class BranchServiceImplTest {
     private BranchMapper mapper;
     @Mock
     private EntityNotFoundSupplier supplierNotFound;
+    @Mock
+    private SnapshotStore snapshotStore;
     @InjectMocks
     private BranchServiceImpl service;
 
@@ -167,4 +172,33 @@ class BranchServiceImplTest {
 
         assertThrows(EntityNotFoundException.class, () -> service.findAllById(Collections.emptyList()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Поиск по id в режиме снимка, БД не читается")
+    void findByIdFromSnapshotTest() {
+        BranchDto dto = new BranchDto();
+        dto.setId(1L);
+
+        when(snapshotStore.isActive()).thenReturn(true);
+        when(snapshotStore.getSnapshot()).thenReturn(PublicInfoSnapshot.of(List.of(), List.of(dto)));
+
+        assertEquals(dto, service.findById(1L));
+
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Создание отделения передает сохраненный DTO в снимок")
+    void createPutsToSnapshotTest() {
+        BranchEntity entity = new BranchEntity();
+        BranchDto dto = new BranchDto();
+
+        when(mapper.toEntity(dto)).thenReturn(entity);
+        when(repository.save(entity)).thenReturn(entity);
+        when(mapper.toDto(entity)).thenReturn(dto);
+
+        service.create(dto);
+
+        verify(snapshotStore, times(1)).putBranch(dto);
+    }
+}
@@ -3,6 +3,9 @@ package com.bank.publicinfo.service.impl;
 import com.bank.publicinfo.dto.LicenseDto;
 import com.bank.publicinfo.entity.LicenseEntity;
 import com.bank.publicinfo.mapper.LicenseMapper;
+import com.bank.publicinfo.photo.PhotoMetadata;
+import com.bank.publicinfo.photo.PhotoOwner;
+import com.bank.publicinfo.photo.PhotoStorage;
 import com.bank.publicinfo.repository.LicenseRepository;
 import com.bank.publicinfo.util.EntityNotFoundSupplier;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +16,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.persistence.EntityNotFoundException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -34,6 +40,8 @@ class LicenseServiceImplTest {
     private LicenseMapper mapper;
     @Mock
     private EntityNotFoundSupplier supplierNotFound;
+    @Mock
+    private PhotoStorage photoStorage;
     @InjectMocks
     private LicenseServiceImpl service;
 
@@ -165,4 +173,31 @@ class LicenseServiceImplTest {
 
         assertThrows(EntityNotFoundException.class, () -> service.findAllById(Collections.emptyList()));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Загрузка фотографии сохраняет ее в хранилище и возвращает ссылку")
+    void uploadPhotoPositiveTest() {
+        LicenseEntity entity = new LicenseEntity();
+        entity.setId(1L);
+        LicenseDto dto = new LicenseDto();
+        InputStream photo = new ByteArrayInputStream(new byte[]{1, 2});
+
+        when(repository.findById(1L)).thenReturn(Optional.of(entity));
+        when(photoStorage.save(PhotoOwner.LICENSE, 1L, "image/png", photo))
+                .thenReturn(new PhotoMetadata("image/png", 2, "ab", Instant.now()));
+        when(mapper.toDto(entity)).thenReturn(dto);
+
+        assertEquals(dto, service.uploadPhoto(1L, "image/png", photo));
+        assertEquals("ab", entity.getPhotoSha256());
+    }
+
+    @Test
+    @DisplayName("Чтение фотографии, которой нет, негативный сценарий")
+    void findPhotoNegativeTest() {
+        when(photoStorage.find(PhotoOwner.LICENSE, 1L, null)).thenReturn(Optional.empty());
+        when(supplierNotFound.getException(any(), any()))
+                .thenReturn(new EntityNotFoundException("photo not found"));
+
+        assertThrows(EntityNotFoundException.class, () -> service.findPhoto(1L, null));
+    }
+}
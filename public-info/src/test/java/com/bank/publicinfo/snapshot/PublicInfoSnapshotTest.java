@@ -0,0 +1,87 @@
+package com.bank.publicinfo.snapshot;
+
+import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.BranchDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PublicInfoSnapshotTest {
+
+    @Test
+    @DisplayName("Изменение отделения попадает в его банкоматы нового снимка, старый снимок не меняется")
+    void withBranchRelinksAtmsTest() {
+        final BranchDto branch = branch(1L, "Москва");
+        final PublicInfoSnapshot snapshot = PublicInfoSnapshot.of(List.of(atm(10L, branch(1L, "Москва"))),
+                List.of(branch));
+
+        final BranchDto renamed = branch(1L, "Казань");
+        final PublicInfoSnapshot updated = snapshot.withBranch(renamed);
+
+        assertSame(renamed, updated.findAtm(10L).getBranch());
+        assertSame(branch, snapshot.findAtm(10L).getBranch());
+        assertEquals("Москва", snapshot.findBranch(1L).getCity());
+    }
+
+    @Test
+    @DisplayName("Новый банкомат ссылается на отделение из снимка")
+    void withAtmLinksBranchTest() {
+        final BranchDto branch = branch(1L, "Москва");
+        final PublicInfoSnapshot snapshot = PublicInfoSnapshot.of(List.of(), List.of(branch))
+                .withAtm(atm(10L, branch(1L, null)));
+
+        assertSame(branch, snapshot.findAtm(10L).getBranch());
+    }
+
+    @Test
+    @DisplayName("Поиск по списку id сохраняет порядок и пропускает ненайденные")
+    void findAtmsTest() {
+        final PublicInfoSnapshot snapshot = PublicInfoSnapshot.of(List.of(atm(1L, null), atm(2L, null)), List.of());
+
+        assertEquals(List.of(2L, 1L), snapshot.findAtms(List.of(2L, 3L, 1L)).stream()
+                .map(AtmDto::getId)
+                .toList());
+        assertNull(snapshot.findAtm(3L));
+    }
+
+    @Test
+    @DisplayName("Открытые по городу: изменение города отделения переносит его банкоматы в индекс нового города")
+    void findOpenByCityTest() {
+        final BranchDto branch = branch(1L, "Москва");
+        final AtmDto atm = atm(10L, branch);
+        final AtmDto allHours = new AtmDto(11L, "Адрес", null, null, true, branch, null, null);
+        final PublicInfoSnapshot snapshot = PublicInfoSnapshot.of(List.of(atm, allHours), List.of(branch));
+
+        assertEquals(List.of(11L, 10L), ids(snapshot.findOpenAtms(" москва ", LocalTime.NOON)));
+        assertEquals(List.of(11L), ids(snapshot.findOpenAtms("Москва", LocalTime.of(21, 30))));
+        assertEquals(1, snapshot.findOpenBranches("МОСКВА", LocalTime.NOON).size());
+
+        final PublicInfoSnapshot moved = snapshot.withBranch(branch(1L, "Казань"));
+
+        assertTrue(moved.findOpenAtms("Москва", LocalTime.NOON).isEmpty());
+        assertTrue(moved.findOpenBranches("Москва", LocalTime.NOON).isEmpty());
+        assertEquals(List.of(11L, 10L), ids(moved.findOpenAtms("Казань", LocalTime.NOON)));
+        assertEquals(2, snapshot.findOpenAtms("Москва", LocalTime.NOON).size());
+    }
+
+    private static List<Long> ids(List<AtmDto> atms) {
+        return atms.stream()
+                .map(AtmDto::getId)
+                .toList();
+    }
+
+    private static AtmDto atm(Long id, BranchDto branch) {
+        return new AtmDto(id, "Адрес", LocalTime.of(9, 0), LocalTime.of(18, 0), false, branch, null, null);
+    }
+
+    private static BranchDto branch(Long id, String city) {
+        return new BranchDto(id, "Адрес", 88005553535L, city, LocalTime.of(9, 0), LocalTime.of(18, 0), null, null);
+    }
+}
@@ -0,0 +1,78 @@
+package com.bank.publicinfo.snapshot;
+
+import com.bank.publicinfo.dto.AtmDto;
+import com.bank.publicinfo.dto.BranchDto;
+import com.bank.publicinfo.entity.AtmEntity;
+import com.bank.publicinfo.entity.BranchEntity;
+import com.bank.publicinfo.mapper.AtmMapper;
+import com.bank.publicinfo.mapper.BranchMapper;
+import com.bank.publicinfo.repository.AtmRepository;
+import com.bank.publicinfo.repository.BranchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SnapshotStoreTest {
+
+    @Mock
+    private AtmRepository atmRepository;
+    @Mock
+    private BranchRepository branchRepository;
+    @Mock
+    private AtmMapper atmMapper;
+    @Mock
+    private BranchMapper branchMapper;
+
+    @Test
+    @DisplayName("Выключенный режим загружает снимок для поиска ближайших, но не для чтений по id")
+    void disabledTest() {
+        final SnapshotStore store = store(false);
+
+        store.reload();
+
+        assertTrue(store.isLoaded());
+        assertFalse(store.isActive());
+    }
+
+    @Test
+    @DisplayName("Загрузка при старте и запись без транзакции сразу заменяют снимок")
+    void loadAndPutTest() {
+        final List<AtmEntity> atmEntities = List.of(new AtmEntity());
+        final List<BranchEntity> branchEntities = List.of(new BranchEntity());
+        final AtmDto atm = new AtmDto();
+        atm.setId(1L);
+        final BranchDto branch = new BranchDto();
+        branch.setId(2L);
+
+        when(atmRepository.findAll()).thenReturn(atmEntities);
+        when(branchRepository.findAll()).thenReturn(branchEntities);
+        when(atmMapper.toDtoList(atmEntities)).thenReturn(List.of(atm));
+        when(branchMapper.toDtoList(branchEntities)).thenReturn(List.of(branch));
+
+        final SnapshotStore store = store(true);
+        store.reload();
+
+        final PublicInfoSnapshot loaded = store.getSnapshot();
+        final AtmDto created = new AtmDto();
+        created.setId(3L);
+        store.putAtm(created);
+
+        assertTrue(store.isActive());
+        assertEquals(2, store.getSnapshot().getAtms().size());
+        assertEquals(1, loaded.getAtms().size());
+    }
+
+    private SnapshotStore store(boolean enabled) {
+        return new SnapshotStore(atmRepository, branchRepository, atmMapper, branchMapper, enabled);
+    }
+}
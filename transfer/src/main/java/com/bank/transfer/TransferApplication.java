@@ -3,8 +3,10 @@ package com.bank.transfer;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cloud.netflix.eureka.EnableEurekaClient;
+import org.springframework.cloud.openfeign.EnableFeignClients;
 
 @EnableEurekaClient
+@EnableFeignClients
 @SpringBootApplication(scanBasePackages = {"com.bank.transfer", "com.bank.common"})
 public class TransferApplication {
     public static void main(String[] args) {
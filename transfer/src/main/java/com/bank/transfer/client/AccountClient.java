@@ -0,0 +1,25 @@
+package com.bank.transfer.client;
+
+import com.bank.transfer.dto.AccountMovementDto;
+import com.bank.transfer.dto.AccountMovementResultDto;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+/**
+ * Клиент сервиса счетов. Балансы меняет только сервис счетов: со своими блокировками, проверками и аудитом.
+ */
+@FeignClient(name = "account-app", path = "/api/account/details")
+public interface AccountClient {
+
+    /**
+     * Повтор движения с тем же ключом не меняет балансы повторно, а с другими счетами или суммой отклоняется.
+     *
+     * @param movements {@link List<AccountMovementDto>} с уникальными ключами
+     * @return {@link List<AccountMovementResultDto>} в порядке движений
+     */
+    @PostMapping("/movements")
+    List<AccountMovementResultDto> applyMovements(@RequestBody List<AccountMovementDto> movements);
+}
@@ -1,24 +1,33 @@
 package com.bank.transfer.controller;
 
 import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.KeysetPageDto;
+import com.bank.transfer.dto.TransferFilterDto;
 import com.bank.transfer.entity.AccountTransferEntity;
 import com.bank.transfer.service.AccountTransferService;
+import com.bank.transfer.validation.IdempotencyKey;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 
 /**
  * Контроллер для {@link AccountTransferDto}
  */
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/account")
@@ -35,6 +44,33 @@ public class AccountTransferController {
         return ResponseEntity.ok(service.findAllById(ids));
     }
 
+    /**
+     * @param lastId id последней записи предыдущей страницы, 0 для первой страницы
+     * @param limit  размер страницы
+     * @param filter {@link TransferFilterDto} фильтры по account_details_id, сумме и назначению
+     * @return {@link ResponseEntity} c {@link KeysetPageDto} листа {@link AccountTransferDto}
+     */
+    @GetMapping("/read/page")
+    public ResponseEntity<KeysetPageDto<AccountTransferDto>> readPage(@RequestParam(defaultValue = "0") Long lastId,
+                                                                      @RequestParam(defaultValue = "100") Integer limit,
+                                                                      TransferFilterDto filter) {
+        return ResponseEntity.ok(service.findPage(lastId, limit, filter));
+    }
+
+    /**
+     * Потоковая выгрузка всех {@link AccountTransferDto} в формате NDJSON
+     *
+     * @param lastId   выгружаются записи с id больше lastId, 0 для полной выгрузки
+     * @param response {@link HttpServletResponse}
+     * @throws IOException если поток ответа недоступен
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(@RequestParam(defaultValue = "0") Long lastId,
+                       HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        service.export(lastId, response.getOutputStream());
+    }
+
     /**
      * @param id технический идентификатор {@link AccountTransferEntity}
      * @return {@link ResponseEntity} {@link AccountTransferDto}
@@ -45,12 +81,38 @@ public class AccountTransferController {
     }
 
     /**
+     * @param idempotencyKey заголовок Idempotency-Key, повтор с тем же ключом вернет первый ответ
      * @param accountTransfer {@link AccountTransferDto}
      * @return {@link ResponseEntity } {@link AccountTransferDto}
      */
     @PostMapping("/create")
-    public ResponseEntity<AccountTransferDto> create(@RequestBody AccountTransferDto accountTransfer) {
-        return ResponseEntity.ok(service.save(accountTransfer));
+    public ResponseEntity<AccountTransferDto> create(@RequestHeader(value = "Idempotency-Key", required = false)
+                                                     @IdempotencyKey String idempotencyKey,
+                                                     @RequestBody AccountTransferDto accountTransfer) {
+        return ResponseEntity.ok(service.save(idempotencyKey, accountTransfer));
+    }
+
+    /**
+     * Исполнение перевода: списание со счета account_details_id и зачисление на счет account_number
+     *
+     * @param idempotencyKey  ключ идемпотентности, повтор запроса с тем же ключом вернет тот же перевод
+     * @param accountTransfer {@link AccountTransferDto}
+     * @return {@link ResponseEntity} c исполненным {@link AccountTransferDto}
+     */
+    @PostMapping("/execute")
+    public ResponseEntity<AccountTransferDto> execute(@RequestHeader("Idempotency-Key") @IdempotencyKey
+                                                      String idempotencyKey,
+                                                      @RequestBody AccountTransferDto accountTransfer) {
+        return ResponseEntity.ok(service.execute(idempotencyKey, accountTransfer));
+    }
+
+    /**
+     * @param accountTransfers лист {@link AccountTransferDto}
+     * @return {@link ResponseEntity} c листом сохраненных {@link AccountTransferDto}
+     */
+    @PostMapping("/create/all")
+    public ResponseEntity<List<AccountTransferDto>> createAll(@RequestBody List<AccountTransferDto> accountTransfers) {
+        return ResponseEntity.ok(service.saveAll(accountTransfers));
     }
 
     /**
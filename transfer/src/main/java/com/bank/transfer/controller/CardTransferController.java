@@ -1,24 +1,33 @@
 package com.bank.transfer.controller;
 
 import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.dto.KeysetPageDto;
+import com.bank.transfer.dto.TransferFilterDto;
 import com.bank.transfer.entity.CardTransferEntity;
 import com.bank.transfer.service.CardTransferService;
+import com.bank.transfer.validation.IdempotencyKey;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 
 /**
  * Контроллер для {@link CardTransferDto}
  */
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/card")
@@ -35,6 +44,33 @@ public class CardTransferController {
         return ResponseEntity.ok(service.findAllById(ids));
     }
 
+    /**
+     * @param lastId id последней записи предыдущей страницы, 0 для первой страницы
+     * @param limit  размер страницы
+     * @param filter {@link TransferFilterDto} фильтры по account_details_id, сумме и назначению
+     * @return {@link ResponseEntity} c {@link KeysetPageDto} листа {@link CardTransferDto}
+     */
+    @GetMapping("/read/page")
+    public ResponseEntity<KeysetPageDto<CardTransferDto>> readPage(@RequestParam(defaultValue = "0") Long lastId,
+                                                                   @RequestParam(defaultValue = "100") Integer limit,
+                                                                   TransferFilterDto filter) {
+        return ResponseEntity.ok(service.findPage(lastId, limit, filter));
+    }
+
+    /**
+     * Потоковая выгрузка всех {@link CardTransferDto} в формате NDJSON
+     *
+     * @param lastId   выгружаются записи с id больше lastId, 0 для полной выгрузки
+     * @param response {@link HttpServletResponse}
+     * @throws IOException если поток ответа недоступен
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(@RequestParam(defaultValue = "0") Long lastId,
+                       HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        service.export(lastId, response.getOutputStream());
+    }
+
     /**
      * @param id технический идентификатор {@link CardTransferEntity}
      * @return {@link ResponseEntity} {@link CardTransferDto}
@@ -45,12 +81,24 @@ public class CardTransferController {
     }
 
     /**
+     * @param idempotencyKey заголовок Idempotency-Key, повтор с тем же ключом вернет первый ответ
      * @param cardTransfer {@link CardTransferDto}
      * @return {@link ResponseEntity } {@link CardTransferDto}
      */
     @PostMapping("/create")
-    public ResponseEntity<CardTransferDto> create(@RequestBody CardTransferDto cardTransfer) {
-        return ResponseEntity.ok(service.save(cardTransfer));
+    public ResponseEntity<CardTransferDto> create(@RequestHeader(value = "Idempotency-Key", required = false)
+                                                  @IdempotencyKey String idempotencyKey,
+                                                  @RequestBody CardTransferDto cardTransfer) {
+        return ResponseEntity.ok(service.save(idempotencyKey, cardTransfer));
+    }
+
+    /**
+     * @param cardTransfers лист {@link CardTransferDto}
+     * @return {@link ResponseEntity} c листом сохраненных {@link CardTransferDto}
+     */
+    @PostMapping("/create/all")
+    public ResponseEntity<List<CardTransferDto>> createAll(@RequestBody List<CardTransferDto> cardTransfers) {
+        return ResponseEntity.ok(service.saveAll(cardTransfers));
     }
 
     /**
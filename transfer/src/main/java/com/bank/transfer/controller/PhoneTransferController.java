@@ -1,24 +1,33 @@
 package com.bank.transfer.controller;
 
 import com.bank.transfer.dto.PhoneTransferDto;
+import com.bank.transfer.dto.KeysetPageDto;
+import com.bank.transfer.dto.TransferFilterDto;
 import com.bank.transfer.entity.PhoneTransferEntity;
 import com.bank.transfer.service.PhoneTransferService;
+import com.bank.transfer.validation.IdempotencyKey;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.util.List;
 
 /**
  * Контроллер для {@link PhoneTransferDto}
  */
+@Validated
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/phone")
@@ -35,6 +44,33 @@ public class PhoneTransferController {
         return ResponseEntity.ok(service.findAllById(ids));
     }
 
+    /**
+     * @param lastId id последней записи предыдущей страницы, 0 для первой страницы
+     * @param limit  размер страницы
+     * @param filter {@link TransferFilterDto} фильтры по account_details_id, сумме и назначению
+     * @return {@link ResponseEntity} c {@link KeysetPageDto} листа {@link PhoneTransferDto}
+     */
+    @GetMapping("/read/page")
+    public ResponseEntity<KeysetPageDto<PhoneTransferDto>> readPage(@RequestParam(defaultValue = "0") Long lastId,
+                                                                    @RequestParam(defaultValue = "100") Integer limit,
+                                                                    TransferFilterDto filter) {
+        return ResponseEntity.ok(service.findPage(lastId, limit, filter));
+    }
+
+    /**
+     * Потоковая выгрузка всех {@link PhoneTransferDto} в формате NDJSON
+     *
+     * @param lastId   выгружаются записи с id больше lastId, 0 для полной выгрузки
+     * @param response {@link HttpServletResponse}
+     * @throws IOException если поток ответа недоступен
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public void export(@RequestParam(defaultValue = "0") Long lastId,
+                       HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        service.export(lastId, response.getOutputStream());
+    }
+
     /**
      * @param id технический идентификатор {@link PhoneTransferEntity}
      * @return {@link ResponseEntity} {@link PhoneTransferDto}
@@ -45,12 +81,24 @@ public class PhoneTransferController {
     }
 
     /**
+     * @param idempotencyKey заголовок Idempotency-Key, повтор с тем же ключом вернет первый ответ
      * @param phoneTransfer {@link PhoneTransferDto}
      * @return {@link ResponseEntity } {@link PhoneTransferDto}
      */
     @PostMapping("/create")
-    public ResponseEntity<PhoneTransferDto> create(@RequestBody PhoneTransferDto phoneTransfer) {
-        return ResponseEntity.ok(service.save(phoneTransfer));
+    public ResponseEntity<PhoneTransferDto> create(@RequestHeader(value = "Idempotency-Key", required = false)
+                                                   @IdempotencyKey String idempotencyKey,
+                                                   @RequestBody PhoneTransferDto phoneTransfer) {
+        return ResponseEntity.ok(service.save(idempotencyKey, phoneTransfer));
+    }
+
+    /**
+     * @param phoneTransfers лист {@link PhoneTransferDto}
+     * @return {@link ResponseEntity} c листом сохраненных {@link PhoneTransferDto}
+     */
+    @PostMapping("/create/all")
+    public ResponseEntity<List<PhoneTransferDto>> createAll(@RequestBody List<PhoneTransferDto> phoneTransfers) {
+        return ResponseEntity.ok(service.saveAll(phoneTransfers));
     }
 
     /**
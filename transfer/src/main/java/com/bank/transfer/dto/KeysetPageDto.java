@@ -0,0 +1,31 @@
+package com.bank.transfer.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * ДТО страницы, прочитанной по курсору (id последней записи предыдущей страницы)
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class KeysetPageDto<T> implements Serializable {
+
+    List<T> content;
+
+    /**
+     * значение lastId для следующей страницы, null если страница последняя
+     */
+    Long nextLastId;
+}
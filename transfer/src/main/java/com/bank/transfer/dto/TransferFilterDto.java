@@ -0,0 +1,32 @@
+package com.bank.transfer.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * ДТО фильтров постраничного чтения переводов, незаполненные поля не фильтруют
+ */
+@Getter
+@Setter
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class TransferFilterDto implements Serializable {
+
+    Long accountDetailsId;
+
+    BigDecimal minAmount;
+
+    BigDecimal maxAmount;
+
+    String purpose;
+}
@@ -41,4 +41,10 @@ public interface AccountTransferMapper {
      * @return {@link List<AccountTransferDto>}
      */
     List<AccountTransferDto> toDtoList(List<AccountTransferEntity> transfers);
+
+    /**
+     * @param transfers {@link List<AccountTransferDto>}
+     * @return {@link List<AccountTransferEntity>}
+     */
+    List<AccountTransferEntity> toEntityList(List<AccountTransferDto> transfers);
 }
@@ -43,4 +43,10 @@ public interface CardTransferMapper {
      * @return {@link List<CardTransferDto>}
      */
     List<CardTransferDto> toDtoList(List<CardTransferEntity> transfers);
+
+    /**
+     * @param transfers {@link List<CardTransferDto>}
+     * @return {@link List<CardTransferEntity>}
+     */
+    List<CardTransferEntity> toEntityList(List<CardTransferDto> transfers);
 }
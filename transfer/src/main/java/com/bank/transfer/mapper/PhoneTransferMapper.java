@@ -41,4 +41,10 @@ public interface PhoneTransferMapper {
      * @return {@link List<PhoneTransferDto>}
      */
     List<PhoneTransferDto> toDtoList(List<PhoneTransferEntity> transfers);
+
+    /**
+     * @param transfers {@link List<PhoneTransferDto>}
+     * @return {@link List<PhoneTransferEntity>}
+     */
+    List<PhoneTransferEntity> toEntityList(List<PhoneTransferDto> transfers);
 }
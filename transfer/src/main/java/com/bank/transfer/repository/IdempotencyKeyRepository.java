@@ -0,0 +1,128 @@
+package com.bank.transfer.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Доступ к таблице transfer.idempotency_key.
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyKeyRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Занимает ключ в текущей транзакции. Если ключ занят незавершенной транзакцией,
+     * ждет ее завершения.
+     *
+     * @param scope          вид перевода
+     * @param idempotencyKey ключ идемпотентности
+     * @param requestHash    хеш тела запроса
+     * @param expiredBefore  строка, созданная раньше, считается истекшей и перезаписывается
+     * @return true, если ключ занят этим вызовом
+     */
+    public boolean claim(String scope, String idempotencyKey, String requestHash, Timestamp expiredBefore) {
+        jdbcTemplate.update("delete from transfer.idempotency_key "
+                + "where scope = ? and idempotency_key = ? and created_at < ?", scope, idempotencyKey, expiredBefore);
+
+        return jdbcTemplate.update("insert into transfer.idempotency_key (scope, idempotency_key, request_hash, "
+                        + "created_at) values (?, ?, ?, ?) on conflict do nothing",
+                scope, idempotencyKey, requestHash, new Timestamp(System.currentTimeMillis())) == 1;
+    }
+
+    /**
+     * @param scope          вид перевода
+     * @param idempotencyKey ключ идемпотентности
+     * @param response       json ответа
+     */
+    public void saveResponse(String scope, String idempotencyKey, String response) {
+        jdbcTemplate.update("update transfer.idempotency_key set response = ? where scope = ? and idempotency_key = ?",
+                response, scope, idempotencyKey);
+    }
+
+    /**
+     * Вставляет готовые ответы одним JDBC batch в транзакции вызывающего кода.
+     * Ключ, уже занятый другим запросом, откатывает транзакцию.
+     *
+     * @param scope     вид перевода
+     * @param responses ответы по ключу идемпотентности
+     */
+    public void insertResponses(String scope, Map<String, StoredResponse> responses) {
+        final Timestamp now = new Timestamp(System.currentTimeMillis());
+
+        jdbcTemplate.batchUpdate("insert into transfer.idempotency_key "
+                        + "(scope, idempotency_key, request_hash, response, created_at) values (?, ?, ?, ?, ?)",
+                responses.entrySet().stream()
+                        .map(entry -> new Object[]{scope, entry.getKey(), entry.getValue().requestHash(),
+                                entry.getValue().response(), now})
+                        .toList());
+    }
+
+    /**
+     * @param scope          вид перевода
+     * @param idempotencyKey ключ идемпотентности
+     * @param createdAfter   более старые ответы не возвращаются
+     * @return сохраненный ответ
+     */
+    public Optional<StoredResponse> findResponse(String scope, String idempotencyKey, Timestamp createdAfter) {
+        final List<StoredResponse> responses = jdbcTemplate.query("select request_hash, response "
+                        + "from transfer.idempotency_key where scope = ? and idempotency_key = ? and created_at >= ? "
+                        + "and response is not null",
+                (resultSet, rowNum) -> new StoredResponse(resultSet.getString("request_hash"),
+                        resultSet.getString("response")),
+                scope, idempotencyKey, createdAfter);
+
+        return responses.stream().findFirst();
+    }
+
+    /**
+     * @param scope           вид перевода
+     * @param idempotencyKeys ключи идемпотентности
+     * @param createdAfter    более старые ответы не возвращаются
+     * @return сохраненные ответы по ключу
+     */
+    public Map<String, StoredResponse> findResponses(String scope, Collection<String> idempotencyKeys,
+                                                     Timestamp createdAfter) {
+        final Map<String, StoredResponse> responses = new HashMap<>();
+
+        jdbcTemplate.query(connection -> {
+            final PreparedStatement statement = connection.prepareStatement("select idempotency_key, request_hash, "
+                    + "response from transfer.idempotency_key where scope = ? and idempotency_key = any(?) "
+                    + "and created_at >= ? and response is not null");
+            statement.setString(1, scope);
+            statement.setArray(2, connection.createArrayOf("varchar", idempotencyKeys.toArray()));
+            statement.setTimestamp(3, createdAfter);
+            return statement;
+        }, (RowCallbackHandler) resultSet -> responses.put(resultSet.getString("idempotency_key"),
+                new StoredResponse(resultSet.getString("request_hash"), resultSet.getString("response"))));
+
+        return responses;
+    }
+
+    /**
+     * @param expiredBefore удаляются строки, созданные раньше
+     */
+    public void deleteExpired(Timestamp expiredBefore) {
+        jdbcTemplate.update("delete from transfer.idempotency_key where created_at < ?", expiredBefore);
+    }
+
+    /**
+     * Ответ на запрос с ключом идемпотентности.
+     *
+     * @param requestHash хеш тела первого запроса, пустой у записей до его появления
+     * @param response    json ответа
+     */
+    public record StoredResponse(String requestHash, String response) {
+    }
+}
@@ -1,8 +1,11 @@
 package com.bank.transfer.service;
 
 import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.KeysetPageDto;
+import com.bank.transfer.dto.TransferFilterDto;
 import com.bank.transfer.entity.AccountTransferEntity;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -16,6 +19,20 @@ public interface AccountTransferService {
      */
     List<AccountTransferDto> findAllById(List<Long> ids);
 
+    /**
+     * @param lastId id последней записи предыдущей страницы, 0 для первой страницы
+     * @param limit  размер страницы
+     * @param filter {@link TransferFilterDto}
+     * @return {@link KeysetPageDto} c листом {@link AccountTransferDto}
+     */
+    KeysetPageDto<AccountTransferDto> findPage(Long lastId, Integer limit, TransferFilterDto filter);
+
+    /**
+     * @param lastId       выгружаются записи с id больше lastId, 0 для полной выгрузки
+     * @param outputStream поток, в который пишется NDJSON {@link AccountTransferDto}
+     */
+    void export(Long lastId, OutputStream outputStream);
+
     /**
      * @param id технический идентификатор {@link AccountTransferEntity}
      * @return {@link AccountTransferDto}
@@ -28,10 +45,34 @@ public interface AccountTransferService {
      */
     AccountTransferDto save(AccountTransferDto accountTransfer);
 
+    /**
+     * Повтор запроса с тем же ключом возвращает сохраненный ответ и не создает перевод повторно.
+     *
+     * @param idempotencyKey ключ идемпотентности, может отсутствовать
+     * @param accountTransfer {@link AccountTransferDto}
+     * @return {@link AccountTransferDto}
+     */
+    AccountTransferDto save(String idempotencyKey, AccountTransferDto accountTransfer);
+
+    /**
+     * @param accountTransfers лист {@link AccountTransferDto}
+     * @return лист сохраненных {@link AccountTransferDto}
+     */
+    List<AccountTransferDto> saveAll(List<AccountTransferDto> accountTransfers);
+
     /**
      * @param accountTransfer {@link AccountTransferDto}
      * @param id              технический идентификатор {@link AccountTransferEntity}
      * @return {@link AccountTransferDto}
      */
     AccountTransferDto update(Long id, AccountTransferDto accountTransfer);
+
+    /**
+     * Списывает сумму со счета account_details_id и зачисляет на счет account_number.
+     *
+     * @param idempotencyKey  ключ идемпотентности, повтор с тем же ключом не исполняет перевод второй раз
+     * @param accountTransfer {@link AccountTransferDto}
+     * @return исполненный {@link AccountTransferDto}
+     */
+    AccountTransferDto execute(String idempotencyKey, AccountTransferDto accountTransfer);
 }
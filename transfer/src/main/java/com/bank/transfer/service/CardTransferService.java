@@ -1,8 +1,11 @@
 package com.bank.transfer.service;
 
 import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.dto.KeysetPageDto;
+import com.bank.transfer.dto.TransferFilterDto;
 import com.bank.transfer.entity.CardTransferEntity;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -16,6 +19,20 @@ public interface CardTransferService {
      */
     List<CardTransferDto> findAllById(List<Long> ids);
 
+    /**
+     * @param lastId id последней записи предыдущей страницы, 0 для первой страницы
+     * @param limit  размер страницы
+     * @param filter {@link TransferFilterDto}
+     * @return {@link KeysetPageDto} c листом {@link CardTransferDto}
+     */
+    KeysetPageDto<CardTransferDto> findPage(Long lastId, Integer limit, TransferFilterDto filter);
+
+    /**
+     * @param lastId       выгружаются записи с id больше lastId, 0 для полной выгрузки
+     * @param outputStream поток, в который пишется NDJSON {@link CardTransferDto}
+     */
+    void export(Long lastId, OutputStream outputStream);
+
     /**
      * @param id технический идентификатор {@link CardTransferEntity}
      * @return {@link CardTransferDto}
@@ -28,6 +45,21 @@ public interface CardTransferService {
      */
     CardTransferDto save(CardTransferDto cardTransfer);
 
+    /**
+     * Повтор запроса с тем же ключом возвращает сохраненный ответ и не создает перевод повторно.
+     *
+     * @param idempotencyKey ключ идемпотентности, может отсутствовать
+     * @param cardTransfer {@link CardTransferDto}
+     * @return {@link CardTransferDto}
+     */
+    CardTransferDto save(String idempotencyKey, CardTransferDto cardTransfer);
+
+    /**
+     * @param cardTransfers лист {@link CardTransferDto}
+     * @return лист сохраненных {@link CardTransferDto}
+     */
+    List<CardTransferDto> saveAll(List<CardTransferDto> cardTransfers);
+
     /**
      * @param cardTransfer {@link CardTransferDto}
      * @param id           технический идентификатор {@link CardTransferEntity}
@@ -1,17 +1,25 @@
 package com.bank.transfer.service.Impl;
 
+import com.bank.common.exception.ValidationException;
+import com.bank.common.service.EntityBatchLoader;
 import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.dto.KeysetPageDto;
+import com.bank.transfer.dto.TransferFilterDto;
 import com.bank.transfer.entity.AccountTransferEntity;
 import com.bank.transfer.mapper.AccountTransferMapper;
 import com.bank.transfer.repository.AccountTransferRepository;
-import com.bank.transfer.service.common.EntityNotFoundReturner;
 import com.bank.transfer.service.AccountTransferService;
+import com.bank.transfer.service.common.EntityNotFoundReturner;
+import com.bank.transfer.service.common.IdempotencyStore;
+import com.bank.transfer.service.common.KeysetPageReader;
+import com.bank.transfer.service.common.NdjsonExporter;
+import com.bank.transfer.service.common.TransferExecutionEngine;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -22,11 +30,18 @@ import java.util.List;
 @RequiredArgsConstructor
 public class AccountTransferServiceImpl implements AccountTransferService {
 
+    private final static String IDEMPOTENCY_SCOPE = "account";
     private final static String MESSAGE = "Не найден перевод по номеру счета с ID ";
+    private final static int MAX_BULK_SIZE = 1000;
 
     private final AccountTransferRepository repository;
     private final AccountTransferMapper mapper;
     private final EntityNotFoundReturner notFoundReturner;
+    private final EntityBatchLoader batchLoader;
+    private final KeysetPageReader pageReader;
+    private final NdjsonExporter exporter;
+    private final IdempotencyStore idempotencyStore;
+    private final TransferExecutionEngine executionEngine;
 
     /**
      * @param ids список технических идентификаторов {@link AccountTransferEntity}
@@ -34,13 +49,33 @@ public class AccountTransferServiceImpl implements AccountTransferService {
      */
     @Override
     public List<AccountTransferDto> findAllById(List<Long> ids) {
-        final List<AccountTransferDto> accountTransferDtoList = new ArrayList<>();
+        final List<AccountTransferEntity> transfers = batchLoader.loadAllInOrder(
+                ids, repository::findAllById, AccountTransferEntity::getId, MESSAGE);
 
-        for (Long id : ids) {
-            accountTransferDtoList.add(findById(id));
-        }
+        return mapper.toDtoList(transfers);
+    }
 
-        return accountTransferDtoList;
+    /**
+     * @param lastId id последней записи предыдущей страницы, 0 для первой страницы
+     * @param limit  размер страницы
+     * @param filter {@link TransferFilterDto}
+     * @return {@link KeysetPageDto} c листом {@link AccountTransferDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDto<AccountTransferDto> findPage(Long lastId, Integer limit, TransferFilterDto filter) {
+        return pageReader.readPage(AccountTransferEntity.class, lastId, limit, filter,
+                mapper::toDtoList, AccountTransferEntity::getId);
+    }
+
+    /**
+     * @param lastId       выгружаются записи с id больше lastId, 0 для полной выгрузки
+     * @param outputStream поток, в который пишется NDJSON {@link AccountTransferDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void export(Long lastId, OutputStream outputStream) {
+        exporter.export(AccountTransferEntity.class, lastId, mapper::toDto, outputStream);
     }
 
     /**
@@ -68,6 +103,37 @@ public class AccountTransferServiceImpl implements AccountTransferService {
         return mapper.toDto(transfer);
     }
 
+    /**
+     * @param idempotencyKey ключ идемпотентности, может отсутствовать
+     * @param accountTransfer {@link AccountTransferDto}
+     * @return {@link AccountTransferDto}
+     */
+    @Override
+    public AccountTransferDto save(String idempotencyKey, AccountTransferDto accountTransfer) {
+        return idempotencyStore.execute(IDEMPOTENCY_SCOPE, idempotencyKey, accountTransfer, AccountTransferDto.class,
+                () -> save(accountTransfer));
+    }
+
+    /**
+     * Id выдаются из sequence пачками, поэтому вставки уходят в JDBC batch
+     *
+     * @param accountTransfers лист {@link AccountTransferDto}
+     * @return лист сохраненных {@link AccountTransferDto}
+     * @throws ValidationException если в запросе больше {@value #MAX_BULK_SIZE} переводов
+     */
+    @Override
+    @Transactional
+    public List<AccountTransferDto> saveAll(List<AccountTransferDto> accountTransfers) {
+        if (accountTransfers.size() > MAX_BULK_SIZE) {
+            throw new ValidationException("За один запрос можно создать не больше " + MAX_BULK_SIZE + " переводов");
+        }
+
+        final List<AccountTransferEntity> transfers = repository.saveAll(
+                mapper.toEntityList(accountTransfers));
+
+        return mapper.toDtoList(transfers);
+    }
+
     /**
      * @param accountTransfer {@link AccountTransferDto}
      * @param id              технический идентификатор {@link AccountTransferEntity}
@@ -83,4 +149,16 @@ public class AccountTransferServiceImpl implements AccountTransferService {
 
         return mapper.toDto(repository.save(accountTransferEntity));
     }
+
+    /**
+     * Перевод исполняется в пачке с другими переводами, см. {@link TransferExecutionEngine}
+     *
+     * @param idempotencyKey  ключ идемпотентности
+     * @param accountTransfer {@link AccountTransferDto}
+     * @return исполненный {@link AccountTransferDto}
+     */
+    @Override
+    public AccountTransferDto execute(String idempotencyKey, AccountTransferDto accountTransfer) {
+        return executionEngine.execute(idempotencyKey, accountTransfer);
+    }
 }
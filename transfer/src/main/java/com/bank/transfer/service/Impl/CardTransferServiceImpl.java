@@ -1,17 +1,24 @@
 package com.bank.transfer.service.Impl;
 
+import com.bank.common.exception.ValidationException;
+import com.bank.common.service.EntityBatchLoader;
 import com.bank.transfer.dto.CardTransferDto;
+import com.bank.transfer.dto.KeysetPageDto;
+import com.bank.transfer.dto.TransferFilterDto;
 import com.bank.transfer.entity.CardTransferEntity;
 import com.bank.transfer.mapper.CardTransferMapper;
 import com.bank.transfer.repository.CardTransferRepository;
-import com.bank.transfer.service.common.EntityNotFoundReturner;
 import com.bank.transfer.service.CardTransferService;
+import com.bank.transfer.service.common.EntityNotFoundReturner;
+import com.bank.transfer.service.common.IdempotencyStore;
+import com.bank.transfer.service.common.KeysetPageReader;
+import com.bank.transfer.service.common.NdjsonExporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -22,11 +29,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CardTransferServiceImpl implements CardTransferService {
 
+    private final static String IDEMPOTENCY_SCOPE = "card";
     private final static String MESSAGE = "Не найден перевод по номеру карты с ID ";
+    private final static int MAX_BULK_SIZE = 1000;
 
     private final CardTransferRepository repository;
     private final CardTransferMapper mapper;
     private final EntityNotFoundReturner notFoundReturner;
+    private final EntityBatchLoader batchLoader;
+    private final KeysetPageReader pageReader;
+    private final NdjsonExporter exporter;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * @param ids список технических идентификаторов {@link CardTransferEntity}
@@ -34,13 +47,33 @@ public class CardTransferServiceImpl implements CardTransferService {
      */
     @Override
     public List<CardTransferDto> findAllById(List<Long> ids) {
-        final List<CardTransferDto> cardTransferDtoList = new ArrayList<>();
+        final List<CardTransferEntity> transfers = batchLoader.loadAllInOrder(
+                ids, repository::findAllById, CardTransferEntity::getId, MESSAGE);
 
-        for (Long id : ids) {
-            cardTransferDtoList.add(findById(id));
-        }
+        return mapper.toDtoList(transfers);
+    }
+
+    /**
+     * @param lastId id последней записи предыдущей страницы, 0 для первой страницы
+     * @param limit  размер страницы
+     * @param filter {@link TransferFilterDto}
+     * @return {@link KeysetPageDto} c листом {@link CardTransferDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDto<CardTransferDto> findPage(Long lastId, Integer limit, TransferFilterDto filter) {
+        return pageReader.readPage(CardTransferEntity.class, lastId, limit, filter,
+                mapper::toDtoList, CardTransferEntity::getId);
+    }
 
-        return cardTransferDtoList;
+    /**
+     * @param lastId       выгружаются записи с id больше lastId, 0 для полной выгрузки
+     * @param outputStream поток, в который пишется NDJSON {@link CardTransferDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void export(Long lastId, OutputStream outputStream) {
+        exporter.export(CardTransferEntity.class, lastId, mapper::toDto, outputStream);
     }
 
     /**
@@ -68,6 +101,37 @@ public class CardTransferServiceImpl implements CardTransferService {
         return mapper.toDto(transfer);
     }
 
+    /**
+     * @param idempotencyKey ключ идемпотентности, может отсутствовать
+     * @param cardTransfer {@link CardTransferDto}
+     * @return {@link CardTransferDto}
+     */
+    @Override
+    public CardTransferDto save(String idempotencyKey, CardTransferDto cardTransfer) {
+        return idempotencyStore.execute(IDEMPOTENCY_SCOPE, idempotencyKey, cardTransfer, CardTransferDto.class,
+                () -> save(cardTransfer));
+    }
+
+    /**
+     * Id выдаются из sequence пачками, поэтому вставки уходят в JDBC batch
+     *
+     * @param cardTransfers лист {@link CardTransferDto}
+     * @return лист сохраненных {@link CardTransferDto}
+     * @throws ValidationException если в запросе больше {@value #MAX_BULK_SIZE} переводов
+     */
+    @Override
+    @Transactional
+    public List<CardTransferDto> saveAll(List<CardTransferDto> cardTransfers) {
+        if (cardTransfers.size() > MAX_BULK_SIZE) {
+            throw new ValidationException("За один запрос можно создать не больше " + MAX_BULK_SIZE + " переводов");
+        }
+
+        final List<CardTransferEntity> transfers = repository.saveAll(
+                mapper.toEntityList(cardTransfers));
+
+        return mapper.toDtoList(transfers);
+    }
+
     /**
      * @param cardTransfer {@link CardTransferDto}
      * @param id           технический идентификатор {@link CardTransferEntity}
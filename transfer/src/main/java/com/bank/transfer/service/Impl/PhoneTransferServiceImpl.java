@@ -1,17 +1,24 @@
 package com.bank.transfer.service.Impl;
 
+import com.bank.common.exception.ValidationException;
+import com.bank.common.service.EntityBatchLoader;
+import com.bank.transfer.dto.KeysetPageDto;
 import com.bank.transfer.dto.PhoneTransferDto;
+import com.bank.transfer.dto.TransferFilterDto;
+import com.bank.transfer.entity.PhoneTransferEntity;
 import com.bank.transfer.mapper.PhoneTransferMapper;
 import com.bank.transfer.repository.PhoneTransferRepository;
-import com.bank.transfer.entity.PhoneTransferEntity;
 import com.bank.transfer.service.PhoneTransferService;
 import com.bank.transfer.service.common.EntityNotFoundReturner;
+import com.bank.transfer.service.common.IdempotencyStore;
+import com.bank.transfer.service.common.KeysetPageReader;
+import com.bank.transfer.service.common.NdjsonExporter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -22,11 +29,17 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PhoneTransferServiceImpl implements PhoneTransferService {
 
+    private final static String IDEMPOTENCY_SCOPE = "phone";
     private final static String MESSAGE = "Не найден перевод по номеру телефона с ID ";
+    private final static int MAX_BULK_SIZE = 1000;
 
     private final PhoneTransferRepository repository;
     private final PhoneTransferMapper mapper;
     private final EntityNotFoundReturner notFoundReturner;
+    private final EntityBatchLoader batchLoader;
+    private final KeysetPageReader pageReader;
+    private final NdjsonExporter exporter;
+    private final IdempotencyStore idempotencyStore;
 
     /**
      * @param ids список технических идентификаторов {@link PhoneTransferEntity}
@@ -34,13 +47,33 @@ public class PhoneTransferServiceImpl implements PhoneTransferService {
      */
     @Override
     public List<PhoneTransferDto> findAllById(List<Long> ids) {
-        final List<PhoneTransferDto> phoneTransferDtoList = new ArrayList<>();
+        final List<PhoneTransferEntity> transfers = batchLoader.loadAllInOrder(
+                ids, repository::findAllById, PhoneTransferEntity::getId, MESSAGE);
 
-        for (Long id : ids) {
-            phoneTransferDtoList.add(findById(id));
-        }
+        return mapper.toDtoList(transfers);
+    }
+
+    /**
+     * @param lastId id последней записи предыдущей страницы, 0 для первой страницы
+     * @param limit  размер страницы
+     * @param filter {@link TransferFilterDto}
+     * @return {@link KeysetPageDto} c листом {@link PhoneTransferDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public KeysetPageDto<PhoneTransferDto> findPage(Long lastId, Integer limit, TransferFilterDto filter) {
+        return pageReader.readPage(PhoneTransferEntity.class, lastId, limit, filter,
+                mapper::toDtoList, PhoneTransferEntity::getId);
+    }
 
-        return phoneTransferDtoList;
+    /**
+     * @param lastId       выгружаются записи с id больше lastId, 0 для полной выгрузки
+     * @param outputStream поток, в который пишется NDJSON {@link PhoneTransferDto}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void export(Long lastId, OutputStream outputStream) {
+        exporter.export(PhoneTransferEntity.class, lastId, mapper::toDto, outputStream);
     }
 
     /**
@@ -68,6 +101,37 @@ public class PhoneTransferServiceImpl implements PhoneTransferService {
         return mapper.toDto(transfer);
     }
 
+    /**
+     * @param idempotencyKey ключ идемпотентности, может отсутствовать
+     * @param phoneTransfer {@link PhoneTransferDto}
+     * @return {@link PhoneTransferDto}
+     */
+    @Override
+    public PhoneTransferDto save(String idempotencyKey, PhoneTransferDto phoneTransfer) {
+        return idempotencyStore.execute(IDEMPOTENCY_SCOPE, idempotencyKey, phoneTransfer, PhoneTransferDto.class,
+                () -> save(phoneTransfer));
+    }
+
+    /**
+     * Id выдаются из sequence пачками, поэтому вставки уходят в JDBC batch
+     *
+     * @param phoneTransfers лист {@link PhoneTransferDto}
+     * @return лист сохраненных {@link PhoneTransferDto}
+     * @throws ValidationException если в запросе больше {@value #MAX_BULK_SIZE} переводов
+     */
+    @Override
+    @Transactional
+    public List<PhoneTransferDto> saveAll(List<PhoneTransferDto> phoneTransfers) {
+        if (phoneTransfers.size() > MAX_BULK_SIZE) {
+            throw new ValidationException("За один запрос можно создать не больше " + MAX_BULK_SIZE + " переводов");
+        }
+
+        final List<PhoneTransferEntity> transfers = repository.saveAll(
+                mapper.toEntityList(phoneTransfers));
+
+        return mapper.toDtoList(transfers);
+    }
+
     /**
      * @param phoneTransfer {@link PhoneTransferDto}
      * @param id            технический идентификатор {@link PhoneTransferEntity}
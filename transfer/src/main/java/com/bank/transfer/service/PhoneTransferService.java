@@ -1,8 +1,11 @@
 package com.bank.transfer.service;
 
 import com.bank.transfer.dto.PhoneTransferDto;
+import com.bank.transfer.dto.KeysetPageDto;
+import com.bank.transfer.dto.TransferFilterDto;
 import com.bank.transfer.entity.PhoneTransferEntity;
 
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -16,6 +19,20 @@ public interface PhoneTransferService {
      */
     List<PhoneTransferDto> findAllById(List<Long> ids);
 
+    /**
+     * @param lastId id последней записи предыдущей страницы, 0 для первой страницы
+     * @param limit  размер страницы
+     * @param filter {@link TransferFilterDto}
+     * @return {@link KeysetPageDto} c листом {@link PhoneTransferDto}
+     */
+    KeysetPageDto<PhoneTransferDto> findPage(Long lastId, Integer limit, TransferFilterDto filter);
+
+    /**
+     * @param lastId       выгружаются записи с id больше lastId, 0 для полной выгрузки
+     * @param outputStream поток, в который пишется NDJSON {@link PhoneTransferDto}
+     */
+    void export(Long lastId, OutputStream outputStream);
+
     /**
      * @param id технический идентификатор {@link PhoneTransferEntity}
      * @return {@link PhoneTransferDto}
@@ -28,6 +45,21 @@ public interface PhoneTransferService {
      */
     PhoneTransferDto save(PhoneTransferDto phoneTransfer);
 
+    /**
+     * Повтор запроса с тем же ключом возвращает сохраненный ответ и не создает перевод повторно.
+     *
+     * @param idempotencyKey ключ идемпотентности, может отсутствовать
+     * @param phoneTransfer {@link PhoneTransferDto}
+     * @return {@link PhoneTransferDto}
+     */
+    PhoneTransferDto save(String idempotencyKey, PhoneTransferDto phoneTransfer);
+
+    /**
+     * @param phoneTransfers лист {@link PhoneTransferDto}
+     * @return лист сохраненных {@link PhoneTransferDto}
+     */
+    List<PhoneTransferDto> saveAll(List<PhoneTransferDto> phoneTransfers);
+
     /**
      * @param phoneTransfer {@link PhoneTransferDto}
      * @param id            технический идентификатор {@link PhoneTransferEntity}
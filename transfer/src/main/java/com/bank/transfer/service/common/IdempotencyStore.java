@@ -0,0 +1,280 @@
+package com.bank.transfer.service.common;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.repository.IdempotencyKeyRepository;
+import com.bank.transfer.repository.IdempotencyKeyRepository.StoredResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Хранилище ответов на запросы с заголовком Idempotency-Key.
+ * Недавние ответы лежат в памяти: ключи распределены по сегментам, у каждого сегмента
+ * своя блокировка и свой лимит записей, поэтому поиск не упирается в одну общую блокировку.
+ * Таблица transfer.idempotency_key нужна для повторов после рестарта и между экземплярами:
+ * ключ занимается в той же транзакции, в которой сохраняется перевод.
+ * Вместе с ответом хранится SHA-256 тела запроса: ключ, повторенный с другим телом, отклоняется.
+ */
+@Component
+public class IdempotencyStore {
+
+    private static final int SEGMENTS = 64;
+    private static final int MAX_ENTRIES_PER_SEGMENT = 2048;
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final int PURGE_EVERY_CLAIMS = 10_000;
+
+    private final IdempotencyKeyRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Segment[] segments = new Segment[SEGMENTS];
+    private final AtomicLong claims = new AtomicLong();
+
+    public IdempotencyStore(IdempotencyKeyRepository repository, TransactionTemplate transactionTemplate,
+                            ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * @param scope          вид перевода
+     * @param idempotencyKey ключ идемпотентности, без ключа {@code action} просто выполняется
+     * @param request        тело запроса, повтор ключа с другим телом отклоняется
+     * @param type           тип ответа
+     * @param action         создание перевода, выполняется в транзакции вместе с сохранением ключа
+     * @return ответ первого запроса с этим ключом
+     * @throws ValidationException если ключ уже использован с другим телом запроса
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object request, Class<T> type, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+
+        final String requestHash = hash(request);
+        final String cacheKey = scope + ':' + idempotencyKey;
+        final Segment segment = segment(cacheKey);
+        final StoredResponse cached = segment.get(cacheKey);
+
+        if (cached != null) {
+            return read(idempotencyKey, cached, requestHash, type);
+        }
+
+        final Timestamp expiredBefore = expiredBefore();
+
+        final StoredResponse response = transactionTemplate.execute(status -> {
+            if (!repository.claim(scope, idempotencyKey, requestHash, expiredBefore)) {
+                return repository.findResponse(scope, idempotencyKey, expiredBefore).orElseThrow(() ->
+                        new IllegalStateException("Запрос с ключом " + idempotencyKey + " уже выполняется"));
+            }
+
+            final String json = write(action.get());
+            repository.saveResponse(scope, idempotencyKey, json);
+            return new StoredResponse(requestHash, json);
+        });
+
+        segment.put(cacheKey, response);
+        purgeExpired(expiredBefore);
+
+        return read(idempotencyKey, response, requestHash, type);
+    }
+
+    /**
+     * Пакетный поиск для {@link TransferExecutionEngine}: сначала в памяти, остальное одним запросом.
+     *
+     * @param scope           вид перевода
+     * @param idempotencyKeys ключи идемпотентности
+     * @return сохраненные ответы по ключу
+     */
+    public Map<String, StoredResponse> findResponses(String scope, Collection<String> idempotencyKeys) {
+        final Map<String, StoredResponse> responses = new HashMap<>();
+        final List<String> missing = new ArrayList<>();
+
+        for (String idempotencyKey : idempotencyKeys) {
+            final String cacheKey = scope + ':' + idempotencyKey;
+            final StoredResponse cached = segment(cacheKey).get(cacheKey);
+
+            if (cached != null) {
+                responses.put(idempotencyKey, cached);
+            } else {
+                missing.add(idempotencyKey);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            final Map<String, StoredResponse> stored = repository.findResponses(scope, missing, expiredBefore());
+
+            cache(scope, stored);
+            responses.putAll(stored);
+        }
+
+        return responses;
+    }
+
+    /**
+     * Пакетное сохранение для {@link TransferExecutionEngine} в транзакции вызывающего кода.
+     * Ответы попадают в память только после фиксации транзакции.
+     *
+     * @param scope     вид перевода
+     * @param responses ответы по ключу идемпотентности
+     */
+    public void saveResponses(String scope, Map<String, StoredResponse> responses) {
+        repository.insertResponses(scope, responses);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache(scope, responses);
+                }
+            });
+        } else {
+            cache(scope, responses);
+        }
+
+        purgeExpired(expiredBefore());
+    }
+
+    /**
+     * @param requestHash хеш тела запроса
+     * @param response    ответ
+     * @return {@link StoredResponse} для {@link #saveResponses}
+     */
+    public StoredResponse toStored(String requestHash, Object response) {
+        return new StoredResponse(requestHash, write(response));
+    }
+
+    /**
+     * @param idempotencyKey ключ идемпотентности
+     * @param stored         сохраненный ответ
+     * @param requestHash    хеш тела текущего запроса
+     * @param type           тип ответа
+     * @return сохраненный ответ
+     * @throws ValidationException если ответ сохранен для другого тела запроса
+     */
+    public <T> T read(String idempotencyKey, StoredResponse stored, String requestHash, Class<T> type) {
+        checkSameRequest(idempotencyKey, stored.requestHash(), requestHash);
+
+        return read(stored.response(), type);
+    }
+
+    /**
+     * @param idempotencyKey ключ идемпотентности
+     * @param firstHash      хеш тела первого запроса, пустой у записей до появления хеша
+     * @param requestHash    хеш тела текущего запроса
+     * @throws ValidationException если тела запросов различаются
+     */
+    public void checkSameRequest(String idempotencyKey, String firstHash, String requestHash) {
+        if (firstHash != null && !firstHash.equals(requestHash)) {
+            throw new ValidationException("Ключ идемпотентности " + idempotencyKey
+                    + " уже использован с другим телом запроса");
+        }
+    }
+
+    /**
+     * @param request тело запроса
+     * @return SHA-256 json тела запроса в hex
+     */
+    public String hash(Object request) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256")
+                    .digest(write(request).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void cache(String scope, Map<String, StoredResponse> responses) {
+        responses.forEach((idempotencyKey, response) -> {
+            final String cacheKey = scope + ':' + idempotencyKey;
+            segment(cacheKey).put(cacheKey, response);
+        });
+    }
+
+    private Segment segment(String cacheKey) {
+        return segments[Math.floorMod(cacheKey.hashCode(), SEGMENTS)];
+    }
+
+    private Timestamp expiredBefore() {
+        return new Timestamp(System.currentTimeMillis() - TTL.toMillis());
+    }
+
+    private void purgeExpired(Timestamp expiredBefore) {
+        if (claims.incrementAndGet() % PURGE_EVERY_CLAIMS == 0) {
+            repository.deleteExpired(expiredBefore);
+        }
+    }
+
+    private <T> T read(String json, Class<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Сегмент кеша: записи в порядке добавления, самые старые вытесняются при переполнении.
+     */
+    private static final class Segment {
+
+        private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES_PER_SEGMENT;
+            }
+        };
+
+        synchronized StoredResponse get(String key) {
+            final Entry entry = entries.get(key);
+
+            if (entry == null) {
+                return null;
+            }
+
+            if (entry.expiresAt() < System.currentTimeMillis()) {
+                entries.remove(key);
+                return null;
+            }
+
+            return entry.response();
+        }
+
+        synchronized void put(String key, StoredResponse response) {
+            entries.put(key, new Entry(response, System.currentTimeMillis() + TTL.toMillis()));
+        }
+    }
+
+    private record Entry(StoredResponse response, long expiresAt) {
+    }
+}
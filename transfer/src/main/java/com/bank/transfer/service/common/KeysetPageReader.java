@@ -0,0 +1,89 @@
+package com.bank.transfer.service.common;
+
+import com.bank.transfer.dto.KeysetPageDto;
+import com.bank.transfer.dto.TransferFilterDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Постраничное чтение переводов по курсору {@code id > :lastId order by id} без OFFSET.
+ * Условия строятся только по заполненным фильтрам, чтобы планировщик использовал
+ * индексы (account_details_id, id) и первичный ключ.
+ */
+@Component
+@RequiredArgsConstructor
+public class KeysetPageReader {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private static final String ID = "id";
+
+    private final EntityManager entityManager;
+
+    /**
+     * @param type        класс entity перевода
+     * @param lastId      id последней записи предыдущей страницы, 0 для первой страницы
+     * @param limit       размер страницы, ограничивается значением {@value MAX_LIMIT}
+     * @param filter      {@link TransferFilterDto}
+     * @param toDto       маппинг листа entity в лист ДТО
+     * @param idExtractor получение технического идентификатора entity
+     * @return {@link KeysetPageDto}
+     */
+    public <T, D> KeysetPageDto<D> readPage(Class<T> type, Long lastId, Integer limit, TransferFilterDto filter,
+                                            Function<List<T>, List<D>> toDto, Function<T, Long> idExtractor) {
+        final int pageSize = Math.min(Math.max(limit, 1), MAX_LIMIT);
+
+        final CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<T> query = builder.createQuery(type);
+        final Root<T> root = query.from(type);
+
+        query.select(root)
+                .where(toPredicates(builder, root, lastId, filter))
+                .orderBy(builder.asc(root.get(ID)));
+
+        final List<T> entities = entityManager.createQuery(query)
+                .setMaxResults(pageSize)
+                .getResultList();
+
+        final Long nextLastId = entities.size() < pageSize
+                ? null
+                : idExtractor.apply(entities.get(entities.size() - 1));
+
+        return new KeysetPageDto<>(toDto.apply(entities), nextLastId);
+    }
+
+    private <T> Predicate[] toPredicates(CriteriaBuilder builder, Root<T> root, Long lastId,
+                                         TransferFilterDto filter) {
+        final List<Predicate> predicates = new ArrayList<>();
+
+        predicates.add(builder.greaterThan(root.<Long>get(ID), lastId));
+
+        if (filter.getAccountDetailsId() != null) {
+            predicates.add(builder.equal(root.get("accountDetailsId"), filter.getAccountDetailsId()));
+        }
+
+        if (filter.getMinAmount() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(root.<BigDecimal>get("amount"), filter.getMinAmount()));
+        }
+
+        if (filter.getMaxAmount() != null) {
+            predicates.add(builder.lessThanOrEqualTo(root.<BigDecimal>get("amount"), filter.getMaxAmount()));
+        }
+
+        if (filter.getPurpose() != null) {
+            predicates.add(builder.equal(root.get("purpose"), filter.getPurpose()));
+        }
+
+        return predicates.toArray(new Predicate[0]);
+    }
+}
@@ -0,0 +1,66 @@
+package com.bank.transfer.service.common;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+
+/**
+ * Потоковая выгрузка переводов в NDJSON (один JSON-объект на строку).
+ * Строки читаются курсором JDBC с fetch size, persistence context очищается
+ * после каждой пачки, поэтому расход памяти не зависит от числа строк.
+ * Вызывать внутри транзакции: без неё драйвер Postgres не открывает курсор.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonExporter {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private static final int LINE_SEPARATOR = '\n';
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param type         класс entity перевода
+     * @param lastId       выгружаются записи с id больше lastId, 0 для полной выгрузки
+     * @param toDto        маппинг entity в ДТО
+     * @param outputStream поток ответа
+     */
+    public <T> void export(Class<T> type, Long lastId, Function<T, ?> toDto, OutputStream outputStream) {
+        final Session session = entityManager.unwrap(Session.class);
+
+        try (ScrollableResults results = session
+                .createQuery("select t from " + type.getSimpleName() + " t where t.id > :lastId order by t.id", type)
+                .setParameter("lastId", lastId)
+                .setFetchSize(FETCH_SIZE)
+                .setReadOnly(true)
+                .scroll(ScrollMode.FORWARD_ONLY)) {
+
+            int rows = 0;
+
+            while (results.next()) {
+                outputStream.write(objectMapper.writeValueAsBytes(toDto.apply(type.cast(results.get(0)))));
+                outputStream.write(LINE_SEPARATOR);
+
+                if (++rows % FETCH_SIZE == 0) {
+                    session.clear();
+                    outputStream.flush();
+                }
+            }
+
+            outputStream.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.bank.transfer.service.common;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.client.AccountClient;
+import com.bank.transfer.dto.AccountMovementDto;
+import com.bank.transfer.dto.AccountMovementResultDto;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.mapper.AccountTransferMapper;
+import com.bank.transfer.repository.AccountTransferRepository;
+import com.bank.transfer.repository.IdempotencyKeyRepository.StoredResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Исполняет переводы по номеру счета: списывает сумму со счета account_details_id и зачисляет
+ * на счет с номером account_number. Запросы собираются в пачки (group commit): пачка уходит
+ * в сервис счетов одним вызовом {@link AccountClient#applyMovements}, а исполненные переводы
+ * и их ответы в {@link IdempotencyStore} вставляются одной транзакцией.
+ * Перевод, который нельзя исполнить, отклоняется отдельно и не откатывает остальную пачку.
+ */
+@Slf4j
+@Component
+public class TransferExecutionEngine {
+
+    private static final String IDEMPOTENCY_SCOPE = "account-execute";
+    private static final String MOVEMENT_KEY_PREFIX = "transfer:" + IDEMPOTENCY_SCOPE + ":";
+    private static final int QUEUE_CAPACITY = 10_000;
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final long MAX_BATCH_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long RESULT_TIMEOUT_SECONDS = 30;
+
+    private final AccountClient accountClient;
+    private final IdempotencyStore idempotencyStore;
+    private final AccountTransferRepository repository;
+    private final AccountTransferMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingTransfer> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private final Thread worker = new Thread(this::run, "transfer-executor");
+
+    private volatile boolean running = true;
+
+    public TransferExecutionEngine(AccountClient accountClient, IdempotencyStore idempotencyStore,
+                                   AccountTransferRepository repository, AccountTransferMapper mapper,
+                                   TransactionTemplate transactionTemplate) {
+        this.accountClient = accountClient;
+        this.idempotencyStore = idempotencyStore;
+        this.repository = repository;
+        this.mapper = mapper;
+        this.transactionTemplate = transactionTemplate;
+        this.worker.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        worker.interrupt();
+        worker.join(TimeUnit.SECONDS.toMillis(RESULT_TIMEOUT_SECONDS));
+    }
+
+    /**
+     * Повтор с тем же ключом возвращает уже исполненный перевод и не двигает деньги повторно.
+     *
+     * @param idempotencyKey ключ идемпотентности запроса
+     * @param transfer       перевод без технического идентификатора
+     * @return исполненный {@link AccountTransferDto}
+     * @throws ValidationException     если перевод отклонен сервисом счетов или ключ использован с другим телом
+     * @throws EntityNotFoundException если счет списания или зачисления не найден
+     */
+    public AccountTransferDto execute(String idempotencyKey, AccountTransferDto transfer) {
+        final PendingTransfer pending = new PendingTransfer(idempotencyKey, idempotencyStore.hash(transfer),
+                transfer);
+
+        if (!queue.offer(pending)) {
+            throw new IllegalStateException("Очередь исполнения переводов переполнена");
+        }
+
+        try {
+            return pending.result().get(RESULT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("Перевод не исполнен за отведенное время, повторите с тем же ключом", e);
+        }
+    }
+
+    private void run() {
+        final List<PendingTransfer> batch = new ArrayList<>(MAX_BATCH_SIZE);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                batch.add(queue.take());
+
+                final long deadline = System.nanoTime() + MAX_BATCH_WAIT_NANOS;
+
+                while (batch.size() < MAX_BATCH_SIZE) {
+                    final PendingTransfer next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+
+                    if (next == null) {
+                        break;
+                    }
+
+                    batch.add(next);
+                    queue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+                }
+            } catch (InterruptedException e) {
+                running = false;
+                queue.drainTo(batch);
+            }
+
+            if (!batch.isEmpty()) {
+                executeBatch(new ArrayList<>(batch));
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Если пачка упала целиком (вызов сервиса счетов или транзакция записи), переводы повторяются по одному,
+     * чтобы ошибка досталась только тому запросу, который ее вызвал.
+     */
+    private void executeBatch(List<PendingTransfer> batch) {
+        try {
+            final Map<PendingTransfer, Object> outcomes = apply(batch);
+
+            outcomes.forEach((pending, outcome) -> {
+                if (outcome instanceof RuntimeException error) {
+                    pending.result().completeExceptionally(error);
+                } else {
+                    pending.result().complete((AccountTransferDto) outcome);
+                }
+            });
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("Не удалось исполнить перевод {}", batch.get(0).idempotencyKey(), e);
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+
+            for (PendingTransfer pending : batch) {
+                executeBatch(List.of(pending));
+            }
+        }
+    }
+
+    private Map<PendingTransfer, Object> apply(List<PendingTransfer> batch) {
+        final Map<PendingTransfer, Object> outcomes = new IdentityHashMap<>();
+        final Map<String, StoredResponse> executed = idempotencyStore.findResponses(IDEMPOTENCY_SCOPE,
+                batch.stream().map(PendingTransfer::idempotencyKey).distinct().toList());
+
+        final Map<String, PendingTransfer> moving = new LinkedHashMap<>();
+        final List<PendingTransfer> duplicates = new ArrayList<>();
+
+        for (PendingTransfer pending : batch) {
+            final StoredResponse stored = executed.get(pending.idempotencyKey());
+
+            if (stored != null) {
+                outcomes.put(pending, outcome(() -> idempotencyStore.read(pending.idempotencyKey(), stored,
+                        pending.requestHash(), AccountTransferDto.class)));
+            } else if (moving.containsKey(pending.idempotencyKey())) {
+                duplicates.add(pending);
+            } else {
+                moving.put(pending.idempotencyKey(), pending);
+            }
+        }
+
+        if (!moving.isEmpty()) {
+            move(moving, outcomes);
+        }
+
+        for (PendingTransfer pending : duplicates) {
+            final PendingTransfer first = moving.get(pending.idempotencyKey());
+
+            outcomes.put(pending, outcome(() -> {
+                idempotencyStore.checkSameRequest(pending.idempotencyKey(), first.requestHash(),
+                        pending.requestHash());
+                return outcomes.get(first);
+            }));
+        }
+
+        return outcomes;
+    }
+
+    /**
+     * Сервис счетов исполняет движения идемпотентно по ключу, поэтому если запись перевода
+     * не зафиксировалась, повтор с тем же ключом не спишет деньги второй раз. Ключ движения
+     * дополняется пространством имен, чтобы не совпасть с ключами других вызывающих сервисов,
+     * а повтор ключа с другими счетами или суммой сервис счетов отклоняет.
+     */
+    private void move(Map<String, PendingTransfer> moving, Map<PendingTransfer, Object> outcomes) {
+        final Map<String, AccountTransferEntity> created = new LinkedHashMap<>();
+        final Map<String, PendingTransfer> byMovementKey = new HashMap<>();
+
+        moving.values().forEach(pending -> byMovementKey.put(movementKey(pending.idempotencyKey()), pending));
+
+        final List<AccountMovementResultDto> results = accountClient.applyMovements(moving.values().stream()
+                .map(pending -> new AccountMovementDto(movementKey(pending.idempotencyKey()),
+                        pending.transfer().getAccountDetailsId(), pending.transfer().getAccountNumber(),
+                        pending.transfer().getAmount()))
+                .toList());
+
+        for (AccountMovementResultDto result : results) {
+            final PendingTransfer pending = byMovementKey.get(result.getKey());
+
+            switch (result.getStatus()) {
+                case EXECUTED -> created.put(pending.idempotencyKey(), mapper.toEntity(pending.transfer()));
+                case NOT_FOUND -> outcomes.put(pending, new EntityNotFoundException(result.getMessage()));
+                default -> outcomes.put(pending, new ValidationException(result.getMessage()));
+            }
+        }
+
+        final Map<String, AccountTransferDto> responses = new LinkedHashMap<>();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            repository.saveAllAndFlush(created.values());
+
+            final Map<String, StoredResponse> stored = new HashMap<>();
+            created.forEach((key, transfer) -> {
+                final AccountTransferDto response = mapper.toDto(transfer);
+                responses.put(key, response);
+                stored.put(key, idempotencyStore.toStored(moving.get(key).requestHash(), response));
+            });
+            idempotencyStore.saveResponses(IDEMPOTENCY_SCOPE, stored);
+        });
+
+        responses.forEach((key, response) -> outcomes.put(moving.get(key), response));
+    }
+
+    private static String movementKey(String idempotencyKey) {
+        return MOVEMENT_KEY_PREFIX + idempotencyKey;
+    }
+
+    private Object outcome(Supplier<Object> action) {
+        try {
+            return action.get();
+        } catch (ValidationException e) {
+            return e;
+        }
+    }
+
+    private record PendingTransfer(String idempotencyKey, String requestHash, AccountTransferDto transfer,
+                                   CompletableFuture<AccountTransferDto> result) {
+
+        PendingTransfer(String idempotencyKey, String requestHash, AccountTransferDto transfer) {
+            this(idempotencyKey, requestHash, transfer, new CompletableFuture<>());
+        }
+    }
+}
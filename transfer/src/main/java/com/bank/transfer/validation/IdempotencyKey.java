@@ -0,0 +1,30 @@
+package com.bank.transfer.validation;
+
+import javax.validation.Constraint;
+import javax.validation.Payload;
+import javax.validation.ReportAsSingleViolation;
+import javax.validation.constraints.Pattern;
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Заголовок Idempotency-Key: от 1 до 64 печатных ASCII-символов без пробелов, как колонка
+ * transfer.idempotency_key.idempotency_key. Отсутствующий заголовок проверяется отдельно.
+ */
+@Documented
+@Pattern(regexp = "[\\x21-\\x7E]{1,64}")
+@ReportAsSingleViolation
+@Constraint(validatedBy = {})
+@Target({ElementType.PARAMETER, ElementType.FIELD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface IdempotencyKey {
+
+    String message() default "Idempotency-Key должен содержать от 1 до 64 печатных ASCII-символов без пробелов";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,90 @@
+package com.bank.transfer.controller;
+
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.service.AccountTransferService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@WebMvcTest(AccountTransferController.class)
+class AccountTransferControllerTest {
+
+    private static final String BODY = "{\"accountNumber\":8,\"amount\":10.00,\"accountDetailsId\":1}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private AccountTransferService service;
+
+    @Test
+    @DisplayName("Исполнение с корректным ключом, позитивный сценарий")
+    void executePositiveTest() throws Exception {
+        when(service.execute(anyString(), any())).thenReturn(new AccountTransferDto());
+
+        mockMvc.perform(execute("a".repeat(64)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    @DisplayName("Ключ длиннее 64 символов отклоняется, негативный сценарий")
+    void executeTooLongKeyNegativeTest() throws Exception {
+        mockMvc.perform(execute("a".repeat(65)))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    @DisplayName("Пустой ключ отклоняется, негативный сценарий")
+    void executeBlankKeyNegativeTest() throws Exception {
+        mockMvc.perform(execute(" "))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+        mockMvc.perform(execute(""))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    @DisplayName("Исполнение без ключа отклоняется, негативный сценарий")
+    void executeMissingKeyNegativeTest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/account/execute")
+                        .content(BODY)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+
+    @Test
+    @DisplayName("Создание с ключом длиннее 64 символов отклоняется, негативный сценарий")
+    void createTooLongKeyNegativeTest() throws Exception {
+        mockMvc.perform(MockMvcRequestBuilders.post("/account/create")
+                        .header("Idempotency-Key", "a".repeat(65))
+                        .content(BODY)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.status().isBadRequest());
+
+        verifyNoInteractions(service);
+    }
+
+    private MockHttpServletRequestBuilder execute(String idempotencyKey) {
+        return MockMvcRequestBuilders.post("/account/execute")
+                .header("Idempotency-Key", idempotencyKey)
+                .content(BODY)
+                .contentType(MediaType.APPLICATION_JSON);
+    }
+}
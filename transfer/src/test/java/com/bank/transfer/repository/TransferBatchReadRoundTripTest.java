@@ -0,0 +1,126 @@
+package com.bank.transfer.repository;
+
+import com.bank.common.service.EntityBatchLoader;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.entity.CardTransferEntity;
+import com.bank.transfer.entity.PhoneTransferEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import javax.persistence.EntityNotFoundException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Число обращений к БД при чтении переводов по списку id: по одному запросу на id,
+ * как было до пакетного чтения, и пачками через {@link EntityBatchLoader}.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true"
+})
+class TransferBatchReadRoundTripTest {
+
+    private static final int TRANSFERS = 1200;
+    private static final String MESSAGE = "Не найден перевод с ID";
+
+    @Autowired
+    private AccountTransferRepository accountRepository;
+
+    @Autowired
+    private CardTransferRepository cardRepository;
+
+    @Autowired
+    private PhoneTransferRepository phoneRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final EntityBatchLoader batchLoader = new EntityBatchLoader();
+    private final List<Long> accountIds = new ArrayList<>();
+    private final List<Long> cardIds = new ArrayList<>();
+    private final List<Long> phoneIds = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (long i = 0; i < TRANSFERS; i++) {
+            accountIds.add(entityManager.persist(new AccountTransferEntity(null, i, BigDecimal.TEN, "test", i))
+                    .getId());
+            cardIds.add(entityManager.persist(new CardTransferEntity(null, i, BigDecimal.TEN, "test", i)).getId());
+            phoneIds.add(entityManager.persist(new PhoneTransferEntity(null, i, BigDecimal.TEN, "test", i)).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Collections.reverse(accountIds);
+
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Чтение по одному id: запрос на каждый перевод")
+    void findByIdPerIdRoundTripsTest() {
+        final List<AccountTransferEntity> transfers = accountIds.stream()
+                .map(id -> accountRepository.findById(id).orElseThrow())
+                .toList();
+
+        assertEquals(TRANSFERS, transfers.size());
+        assertEquals(TRANSFERS, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Пакетное чтение переводов по счету: запрос на пачку из 500 id, порядок запроса сохраняется")
+    void accountBatchRoundTripsTest() {
+        final List<AccountTransferEntity> transfers = batchLoader.loadAllInOrder(accountIds,
+                accountRepository::findAllById, AccountTransferEntity::getId, MESSAGE);
+
+        assertEquals(accountIds, transfers.stream().map(AccountTransferEntity::getId).toList());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Пакетное чтение переводов по карте и телефону: запрос на пачку из 500 id")
+    void cardAndPhoneBatchRoundTripsTest() {
+        assertBatchRead(cardIds, cardRepository::findAllById, CardTransferEntity::getId);
+        assertBatchRead(phoneIds, phoneRepository::findAllById, PhoneTransferEntity::getId);
+    }
+
+    @Test
+    @DisplayName("Пакетное чтение с ненайденными id сообщает обо всех, негативный сценарий")
+    void batchReadMissingIdsTest() {
+        final List<Long> ids = List.of(accountIds.get(0), -1L, -2L);
+
+        final EntityNotFoundException exception = assertThrows(EntityNotFoundException.class,
+                () -> batchLoader.loadAllInOrder(ids, accountRepository::findAllById,
+                        AccountTransferEntity::getId, MESSAGE));
+
+        assertEquals(MESSAGE + ": -1, -2", exception.getMessage());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private <T> void assertBatchRead(List<Long> ids, Function<List<Long>, List<T>> finder,
+                                     Function<T, Long> idExtractor) {
+        statistics.clear();
+
+        final List<T> transfers = batchLoader.loadAllInOrder(ids, finder, idExtractor, MESSAGE);
+
+        assertEquals(ids, transfers.stream().map(idExtractor).toList());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+}
@@ -0,0 +1,82 @@
+package com.bank.transfer.repository;
+
+import com.bank.transfer.entity.AccountTransferEntity;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Число подготовленных JDBC-запросов при создании переводов: по одному на строку
+ * и пачкой через saveAll. Id выдаются из sequence пачками по 50 (pooled-lo),
+ * поэтому вставки пачки уходят в JDBC batch размером hibernate.jdbc.batch_size.
+ */
+@DataJpaTest(properties = {
+        "spring.liquibase.enabled=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.hbm2ddl.create_namespaces=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50"
+})
+class TransferBulkInsertRoundTripTest {
+
+    private static final int TRANSFERS = 1000;
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private AccountTransferRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Вставка по одной строке: запрос на каждый перевод")
+    void singleRowInsertTest() {
+        for (AccountTransferEntity transfer : transfers()) {
+            repository.saveAndFlush(transfer);
+        }
+
+        assertEquals(TRANSFERS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() >= TRANSFERS);
+    }
+
+    @Test
+    @DisplayName("Пакетная вставка: запрос на пачку из 50 переводов и на каждые 50 id из sequence")
+    void batchInsertTest() {
+        repository.saveAllAndFlush(transfers());
+
+        assertEquals(TRANSFERS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= 2L * TRANSFERS / BATCH_SIZE + 1,
+                "prepared statements: " + statistics.getPrepareStatementCount());
+    }
+
+    private List<AccountTransferEntity> transfers() {
+        final List<AccountTransferEntity> transfers = new ArrayList<>();
+
+        for (long i = 0; i < TRANSFERS; i++) {
+            transfers.add(new AccountTransferEntity(null, i, BigDecimal.TEN, "test", i));
+        }
+
+        return transfers;
+    }
+}
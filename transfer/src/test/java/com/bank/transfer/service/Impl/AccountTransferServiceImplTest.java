@@ -0,0 +1,82 @@
+package com.bank.transfer.service.Impl;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.common.service.EntityBatchLoader;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.mapper.AccountTransferMapper;
+import com.bank.transfer.repository.AccountTransferRepository;
+import com.bank.transfer.service.common.EntityNotFoundReturner;
+import com.bank.transfer.service.common.IdempotencyStore;
+import com.bank.transfer.service.common.KeysetPageReader;
+import com.bank.transfer.service.common.NdjsonExporter;
+import com.bank.transfer.service.common.TransferExecutionEngine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AccountTransferServiceImplTest {
+
+    @InjectMocks
+    private AccountTransferServiceImpl service;
+
+    @Mock
+    private AccountTransferRepository repository;
+
+    @Mock
+    private AccountTransferMapper mapper;
+
+    @Mock
+    private EntityNotFoundReturner notFoundReturner;
+
+    @Mock
+    private EntityBatchLoader batchLoader;
+
+    @Mock
+    private KeysetPageReader pageReader;
+
+    @Mock
+    private NdjsonExporter exporter;
+
+    @Mock
+    private IdempotencyStore idempotencyStore;
+
+    @Mock
+    private TransferExecutionEngine executionEngine;
+
+    @Test
+    @DisplayName("Пакетное создание в пределах лимита, позитивный сценарий")
+    void saveAllPositiveTest() {
+        List<AccountTransferDto> dtos = Collections.nCopies(1000, new AccountTransferDto());
+        List<AccountTransferEntity> entities = Collections.nCopies(1000, new AccountTransferEntity());
+
+        when(mapper.toEntityList(dtos)).thenReturn(entities);
+        when(repository.saveAll(entities)).thenReturn(entities);
+        when(mapper.toDtoList(entities)).thenReturn(dtos);
+
+        assertEquals(dtos, service.saveAll(dtos));
+    }
+
+    @Test
+    @DisplayName("Пакетное создание сверх лимита отклоняется до обращения к БД, негативный сценарий")
+    void saveAllOverLimitNegativeTest() {
+        List<AccountTransferDto> dtos = Collections.nCopies(1001, new AccountTransferDto());
+
+        assertThrows(ValidationException.class, () -> service.saveAll(dtos));
+        verify(repository, never()).saveAll(any());
+    }
+}
@@ -0,0 +1,95 @@
+package com.bank.transfer.service.common;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.repository.IdempotencyKeyRepository;
+import com.bank.transfer.repository.IdempotencyKeyRepository.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IdempotencyStoreTest {
+
+    private static final String KEY = "8f14e45f-ceea-467f-a8f5-4e0a1c2b3d4e";
+
+    private IdempotencyKeyRepository repository;
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void init() {
+        repository = mock(IdempotencyKeyRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+
+        store = new IdempotencyStore(repository, transactionTemplate, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("Повтор ключа с тем же телом возвращает первый ответ, позитивный сценарий")
+    void executeSameRequestPositiveTest() {
+        when(repository.claim(anyString(), anyString(), anyString(), any())).thenReturn(true);
+
+        AccountTransferDto first = store.execute("account", KEY, transfer("10.00"), AccountTransferDto.class,
+                () -> saved(1L));
+        AccountTransferDto repeated = store.execute("account", KEY, transfer("10.00"), AccountTransferDto.class,
+                () -> saved(2L));
+
+        assertEquals(1L, first.getId());
+        assertEquals(1L, repeated.getId());
+    }
+
+    @Test
+    @DisplayName("Повтор ключа с другим телом отклоняется, негативный сценарий")
+    void executeDifferentRequestNegativeTest() {
+        when(repository.claim(anyString(), anyString(), anyString(), any())).thenReturn(true);
+
+        store.execute("account", KEY, transfer("10.00"), AccountTransferDto.class, () -> saved(1L));
+
+        assertThrows(ValidationException.class, () -> store.execute("account", KEY, transfer("99.00"),
+                AccountTransferDto.class, () -> saved(2L)));
+    }
+
+    @Test
+    @DisplayName("Ключ, сохраненный другим экземпляром с другим телом, отклоняется, негативный сценарий")
+    void executeDifferentRequestFromDatabaseNegativeTest() {
+        String firstHash = store.hash(transfer("10.00"));
+
+        when(repository.claim(anyString(), anyString(), anyString(), any())).thenReturn(false);
+        when(repository.findResponse(anyString(), anyString(), any()))
+                .thenReturn(Optional.of(new StoredResponse(firstHash, "{\"id\":1}")));
+
+        assertThrows(ValidationException.class, () -> store.execute("account", KEY, transfer("99.00"),
+                AccountTransferDto.class, () -> saved(2L)));
+        assertEquals(1L, store.execute("card", KEY, transfer("10.00"), AccountTransferDto.class,
+                () -> saved(2L)).getId());
+    }
+
+    private AccountTransferDto transfer(String amount) {
+        AccountTransferDto transfer = new AccountTransferDto();
+        transfer.setAccountNumber(8L);
+        transfer.setAccountDetailsId(1L);
+        transfer.setAmount(new BigDecimal(amount));
+        return transfer;
+    }
+
+    private AccountTransferDto saved(Long id) {
+        AccountTransferDto transfer = transfer("10.00");
+        transfer.setId(id);
+        return transfer;
+    }
+}
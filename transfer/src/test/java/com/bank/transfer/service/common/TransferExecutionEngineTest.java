@@ -0,0 +1,227 @@
+package com.bank.transfer.service.common;
+
+import com.bank.common.exception.ValidationException;
+import com.bank.transfer.client.AccountClient;
+import com.bank.transfer.dto.AccountMovementDto;
+import com.bank.transfer.dto.AccountMovementResultDto;
+import com.bank.transfer.dto.AccountMovementStatus;
+import com.bank.transfer.dto.AccountTransferDto;
+import com.bank.transfer.entity.AccountTransferEntity;
+import com.bank.transfer.mapper.AccountTransferMapperImpl;
+import com.bank.transfer.repository.AccountTransferRepository;
+import com.bank.transfer.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TransferExecutionEngineTest {
+
+    private static final int ACCOUNTS = 100;
+    private static final int CLIENTS = 200;
+    private static final int TRANSFERS_PER_CLIENT = 50;
+    private static final BigDecimal INITIAL_MONEY = new BigDecimal("1000.00");
+    private static final long ACCOUNT_CALL_MILLIS = 2;
+
+    private FakeAccountClient accountClient;
+    private TransferExecutionEngine engine;
+
+    @BeforeEach
+    void init() {
+        accountClient = new FakeAccountClient();
+
+        AccountTransferRepository repository = mock(AccountTransferRepository.class);
+        AtomicLong ids = new AtomicLong();
+        when(repository.saveAllAndFlush(any())).thenAnswer(invocation -> {
+            List<AccountTransferEntity> transfers = new ArrayList<>();
+            invocation.<Iterable<AccountTransferEntity>>getArgument(0).forEach(transfer -> {
+                transfer.setId(ids.incrementAndGet());
+                transfers.add(transfer);
+            });
+            return transfers;
+        });
+
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        IdempotencyStore idempotencyStore = new IdempotencyStore(mock(IdempotencyKeyRepository.class),
+                transactionTemplate, new ObjectMapper());
+
+        engine = new TransferExecutionEngine(accountClient, idempotencyStore, repository,
+                new AccountTransferMapperImpl(), transactionTemplate);
+        engine.start();
+    }
+
+    @AfterEach
+    void destroy() throws InterruptedException {
+        engine.stop();
+    }
+
+    @Test
+    @DisplayName("Нагрузка: переводы между горячими счетами уходят пачками и не теряют деньги")
+    void executeUnderLoadTest() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        final List<Future<Map<String, AccountTransferDto>>> futures = new ArrayList<>();
+        final long startedAt = System.nanoTime();
+
+        for (int client = 0; client < CLIENTS; client++) {
+            final int clientId = client;
+
+            futures.add(executor.submit(() -> {
+                final Map<String, AccountTransferDto> executed = new HashMap<>();
+
+                for (int i = 0; i < TRANSFERS_PER_CLIENT; i++) {
+                    final String key = clientId + "-" + i;
+                    final AccountTransferDto transfer = transfer(clientId % ACCOUNTS + 1,
+                            (clientId + i + 1) % ACCOUNTS + 1, "7.00");
+
+                    try {
+                        executed.put(key, engine.execute(key, transfer));
+                        assertEquals(executed.get(key).getId(), engine.execute(key, transfer).getId());
+                    } catch (ValidationException e) {
+                        // счет источника опустел или совпал со счетом зачисления
+                    }
+                }
+
+                return executed;
+            }));
+        }
+
+        final Map<String, AccountTransferDto> executed = new HashMap<>();
+        for (Future<Map<String, AccountTransferDto>> future : futures) {
+            executed.putAll(future.get(2, TimeUnit.MINUTES));
+        }
+        executor.shutdown();
+
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        final int requests = CLIENTS * TRANSFERS_PER_CLIENT * 2;
+
+        assertEquals(INITIAL_MONEY.multiply(BigDecimal.valueOf(ACCOUNTS)), accountClient.totalMoney());
+        assertEquals(executed.size(), accountClient.executedKeys());
+        assertTrue(accountClient.calls() * 10 < requests,
+                "вызовов сервиса счетов: " + accountClient.calls() + " на " + requests + " запросов");
+        assertTrue(elapsedMillis < TimeUnit.MINUTES.toMillis(1),
+                requests + " запросов исполнены за " + elapsedMillis + " мс");
+    }
+
+    @Test
+    @DisplayName("Повтор ключа с другим телом отклоняется, негативный сценарий")
+    void executeSameKeyDifferentBodyNegativeTest() {
+        engine.execute("key", transfer(1, 2, "10.00"));
+
+        assertThrows(ValidationException.class, () -> engine.execute("key", transfer(1, 2, "20.00")));
+        assertEquals(1, accountClient.executedKeys());
+    }
+
+    @Test
+    @DisplayName("Ключ движения в сервисе счетов получает пространство имен сервиса переводов")
+    void executeNamespacedMovementKeyTest() {
+        engine.execute("key", transfer(1, 2, "10.00"));
+
+        assertTrue(accountClient.isExecuted("transfer:account-execute:key"));
+        assertFalse(accountClient.isExecuted("key"));
+    }
+
+    private AccountTransferDto transfer(long accountDetailsId, long accountNumber, String amount) {
+        final AccountTransferDto transfer = new AccountTransferDto();
+        transfer.setAccountDetailsId(accountDetailsId);
+        transfer.setAccountNumber(accountNumber);
+        transfer.setAmount(new BigDecimal(amount));
+        return transfer;
+    }
+
+    /**
+     * Сервис счетов в памяти: номер счета совпадает с id, каждый вызов стоит {@value #ACCOUNT_CALL_MILLIS} мс.
+     */
+    private static final class FakeAccountClient implements AccountClient {
+
+        private final Map<Long, BigDecimal> balances = new HashMap<>();
+        private final Set<String> executed = new HashSet<>();
+        private final AtomicInteger calls = new AtomicInteger();
+
+        FakeAccountClient() {
+            for (long id = 1; id <= ACCOUNTS; id++) {
+                balances.put(id, INITIAL_MONEY);
+            }
+        }
+
+        @Override
+        public synchronized List<AccountMovementResultDto> applyMovements(List<AccountMovementDto> movements) {
+            calls.incrementAndGet();
+            sleep();
+
+            return movements.stream().map(this::apply).toList();
+        }
+
+        private AccountMovementResultDto apply(AccountMovementDto movement) {
+            if (!executed.contains(movement.getKey())) {
+                final BigDecimal money = balances.get(movement.getAccountDetailsId()).subtract(movement.getAmount());
+
+                if (money.signum() < 0 || movement.getAccountDetailsId().equals(movement.getAccountNumber())) {
+                    return new AccountMovementResultDto(movement.getKey(), AccountMovementStatus.REJECTED, "отклонено");
+                }
+
+                balances.put(movement.getAccountDetailsId(), money);
+                balances.merge(movement.getAccountNumber(), movement.getAmount(), BigDecimal::add);
+                executed.add(movement.getKey());
+            }
+
+            return new AccountMovementResultDto(movement.getKey(), AccountMovementStatus.EXECUTED, null);
+        }
+
+        synchronized BigDecimal totalMoney() {
+            return balances.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+
+        synchronized boolean isExecuted(String key) {
+            return executed.contains(key);
+        }
+
+        synchronized int executedKeys() {
+            return executed.size();
+        }
+
+        int calls() {
+            return calls.get();
+        }
+
+        private void sleep() {
+            try {
+                Thread.sleep(ACCOUNT_CALL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}